@@ -0,0 +1,34 @@
+package com.landawn.samples.abacus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.landawn.abacus.core.PrimitiveColumn;
+import com.landawn.abacus.parser.KryoParser;
+import com.landawn.abacus.parser.ParserFactory;
+
+public class PrimitiveColumnTest {
+
+    @Test
+    public void test_kryo() {
+        assumeTrue(ParserFactory.isKryoAvailable());
+
+        final KryoParser kryoParser = ParserFactory.createKryoParser();
+
+        for (Class<?> type : new Class<?>[] { int.class, long.class, float.class, double.class }) {
+            final PrimitiveColumn column = PrimitiveColumn.of(type, 3);
+            column.add(type == int.class ? (Object) 1 : type == long.class ? (Object) 2L : type == float.class ? (Object) 3f : (Object) 4d);
+            column.add(null);
+            column.add(type == int.class ? (Object) 5 : type == long.class ? (Object) 6L : type == float.class ? (Object) 7f : (Object) 8d);
+
+            final List<Object> copy = kryoParser.decode(kryoParser.encode(column));
+
+            assertEquals(column.getClass(), copy.getClass());
+            assertEquals(column, copy);
+        }
+    }
+}
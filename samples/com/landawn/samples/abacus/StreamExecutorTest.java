@@ -0,0 +1,66 @@
+package com.landawn.samples.abacus;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.Predicate;
+import com.landawn.abacus.util.stream.BaseStream.Splitor;
+import com.landawn.abacus.util.stream.Stream;
+import com.landawn.abacus.util.stream.StreamExecutor;
+
+public class StreamExecutorTest {
+    static final int SIZE = 100000; // much larger than the queue size of the parallel streams.
+
+    @Test(timeout = 60000)
+    public void test_parallel_with_full_executor() {
+        final List<Integer> list = new ArrayList<>(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(1);
+
+        try {
+            final StreamExecutor executor = StreamExecutor.of(pool, 1);
+
+            for (Splitor splitor : new Splitor[] { Splitor.ITERATOR, Splitor.CHUNKED }) {
+                final List<Integer> result = Stream.of(list.iterator()).parallel(4, splitor, executor).map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer t) {
+                        return t * 2;
+                    }
+                }).filter(new Predicate<Integer>() {
+                    @Override
+                    public boolean test(Integer t) {
+                        return t % 4 == 0;
+                    }
+                }).map(new Function<Integer, Integer>() {
+                    @Override
+                    public Integer apply(Integer t) {
+                        return t / 2;
+                    }
+                }).toList();
+
+                assertEquals(SIZE / 2, result.size());
+
+                long sum = 0;
+
+                for (Integer e : result) {
+                    sum += e;
+                }
+
+                assertEquals((long) (SIZE / 2) * (SIZE / 2 - 1), sum);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
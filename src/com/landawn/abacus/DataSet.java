@@ -2006,6 +2006,15 @@ public interface DataSet {
      */
     DataSet distinct(Collection<String> columnNames, int fromRowIndex, int toRowIndex);
 
+    /**
+     * Parallel version of {@code distinct(columnNames)}: the rows are partitioned by the hash of the values in the specified columns and de-duplicated by multiple threads.
+     * The result is same as {@code distinct(columnNames)}, in the same order.
+     *
+     * @param columnNames
+     * @return a new DataSet
+     */
+    DataSet parallelDistinct(Collection<String> columnNames);
+
     /**
      * Returns a new <code>DataSet</code> with the rows de-duplicated by the value in the specified column from the specified <code>fromRowIndex</code> to <code>toRowIndex</code>
      * 
@@ -2647,6 +2656,29 @@ public interface DataSet {
             Try.Function<? super Object[], ?, E> keyExtractor, String aggregateResultColumnName, Collection<String> aggregateOnColumnNames,
             Try.Function<Stream<Object[]>, ?, E2> func) throws E, E2;
 
+    /**
+     * Parallel version of {@code groupBy(columnNames)}: the rows are partitioned by the hash of the values in the specified columns and grouped by multiple threads.
+     * The result is same as {@code groupBy(columnNames)}, in the same order.
+     *
+     * @param columnNames
+     * @return
+     */
+    DataSet parallelGroupBy(Collection<String> columnNames);
+
+    /**
+     * Parallel version of {@code groupBy(columnNames, aggregateResultColumnName, aggregateOnColumnNames, collector)}.
+     * All the rows of a group are in the same partition, so the collector is never asked to combine partial results.
+     * The result is same as the sequential version, in the same order.
+     *
+     * @param columnNames
+     * @param aggregateResultColumnName
+     * @param aggregateOnColumnNames
+     * @param collector it's called by multiple threads on different groups.
+     * @return
+     */
+    DataSet parallelGroupBy(Collection<String> columnNames, String aggregateResultColumnName, Collection<String> aggregateOnColumnNames,
+            Collector<? super Object[], ?, ?> collector);
+
     /**
      *
      * @param columnNames specifying the column to group by.
@@ -4074,6 +4106,87 @@ public interface DataSet {
      */
     DataSet leftJoin(DataSet right, Map<String, String> onColumnNames);
 
+    /**
+     * Parallel version of {@code innerJoin(right, onColumnNames)}: the rows of both DataSets are partitioned by the hash of the join columns,
+     * then the hash table of each partition is built and probed by a separate thread. The result is same as {@code innerJoin(right, onColumnNames)}, in the same order.
+     *
+     * @param right
+     * @param onColumnNames
+     * @return a new DataSet
+     */
+    DataSet parallelInnerJoin(DataSet right, Map<String, String> onColumnNames);
+
+    /**
+     * Parallel version of {@code leftJoin(right, onColumnNames)}. The result is same as {@code leftJoin(right, onColumnNames)}, in the same order.
+     *
+     * @param right
+     * @param onColumnNames
+     * @return a new DataSet
+     * @see #parallelInnerJoin(DataSet, Map)
+     */
+    DataSet parallelLeftJoin(DataSet right, Map<String, String> onColumnNames);
+
+    /**
+     * Sort-merge version of {@code innerJoin(right, columnName, refColumnName)}, for the DataSets which are already sorted by the join column, e.g. by {@code sortBy} or {@code ORDER BY} in the query.
+     * The rows are merged in one pass without building a hash table, and the result is same as {@code innerJoin}, in the same order.
+     * <br />
+     * The values are compared by {@code N.compare}. {@code IllegalArgumentException} is thrown if any of the DataSets is found not sorted in ascending order.
+     *
+     * @param right
+     * @param columnName
+     * @param refColumnName
+     * @return a new DataSet
+     */
+    DataSet sortedInnerJoin(DataSet right, String columnName, String refColumnName);
+
+    /**
+     * Sort-merge version of {@code innerJoin(right, onColumnNames)}. Both DataSets must be sorted by the join columns in the same order.
+     *
+     * @param right
+     * @param onColumnNames
+     * @return a new DataSet
+     * @see #sortedInnerJoin(DataSet, String, String)
+     */
+    DataSet sortedInnerJoin(DataSet right, Map<String, String> onColumnNames);
+
+    /**
+     * Sort-merge version of {@code leftJoin(right, columnName, refColumnName)}.
+     *
+     * @param right
+     * @param columnName
+     * @param refColumnName
+     * @return a new DataSet
+     * @see #sortedInnerJoin(DataSet, String, String)
+     */
+    DataSet sortedLeftJoin(DataSet right, String columnName, String refColumnName);
+
+    /**
+     * Sort-merge version of {@code leftJoin(right, onColumnNames)}.
+     *
+     * @param right
+     * @param onColumnNames
+     * @return a new DataSet
+     * @see #sortedInnerJoin(DataSet, String, String)
+     */
+    DataSet sortedLeftJoin(DataSet right, Map<String, String> onColumnNames);
+
+    /**
+     * Returns a new <code>DataSet</code> with the rows in this <code>DataSet</code> joined with the rows in the specified <code>right DataSet</code>
+     * if the value of <code>columnName</code> is between the values of <code>fromColumnName</code> and <code>toColumnName</code> (both inclusive):
+     * <code>this.columnName BETWEEN right.fromColumnName AND right.toColumnName</code>.
+     * <br />
+     * This DataSet must be sorted by <code>columnName</code> and the <code>right DataSet</code> must be sorted by <code>fromColumnName</code>.
+     * The rows are joined in one pass, only the right rows whose range contains the current value are kept in memory.
+     * {@code null} values never match.
+     *
+     * @param right
+     * @param columnName
+     * @param fromColumnName
+     * @param toColumnName
+     * @return a new DataSet
+     */
+    DataSet rangeJoin(DataSet right, String columnName, String fromColumnName, String toColumnName);
+
     /**
      * Returns a new <code>DataSet</code> that has all the rows from this <code>DataSet</code> and the rows from the specified <code>right DataSet</code> if they have a match with the rows from the this <code>DataSet</code>.
      *
@@ -4540,6 +4653,15 @@ public interface DataSet {
      */
     PaginatedDataSet paginate(int pageSize);
 
+    /**
+     * Returns a lazy view of this {@code DataSet}. The filter/select/sortBy/distinct/groupBy/limit operations on it are recorded
+     * and executed in one pass by selection vectors (row indexes), without copying the columns between the operations.
+     *
+     * @return
+     * @see LazyDataSet
+     */
+    LazyDataSet lazy();
+
     //    /**
     //     * Returns the elements at: <code>0.01%, 0.1%, 1%, 10%, 20%, 30%, 50%, 70%, 80%, 90%, 99%, 99.9%, 99.99%</code> * length of the specified column after it's sorted.
     //     * The the value of column must implements the <code>Comparable</code> interface.
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.landawn.abacus;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+import com.landawn.abacus.util.function.Predicate;
+import com.landawn.abacus.util.stream.Collector;
+
+/**
+ * A lazy view of a {@code DataSet}, returned by {@code DataSet.lazy()}.
+ * The operations are recorded as a plan and nothing is executed until {@code execute()} or {@code count()} is called.
+ * <br />
+ * The plan is executed on a selection vector ({@code int[]} row indexes) of the source {@code DataSet}:
+ * the consecutive filters are evaluated in one pass, {@code sortBy/limit/distinct} only reorder/cut the selected row indexes,
+ * and {@code select} only changes the visible columns. The values are copied only once, to the result {@code DataSet}.
+ * {@code groupBy} creates a new (usually much smaller) source for the following operations.
+ * <br />
+ * The source {@code DataSet} should not be modified before the plan is executed.
+ * A {@code LazyDataSet} is not thread-safe and can be executed multiple times.
+ *
+ * <pre>
+ * <code>
+ * DataSet result = dataSet.lazy().filter("age", ageFilter).select(N.asList("name", "age")).sortBy("age").limit(10).execute();
+ * </code>
+ * </pre>
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ *
+ * @see DataSet#lazy()
+ */
+public interface LazyDataSet {
+
+    /**
+     *
+     * @param columnName
+     * @param filter
+     * @return this {@code LazyDataSet}.
+     */
+    <T> LazyDataSet filter(String columnName, Predicate<T> filter);
+
+    /**
+     *
+     * @param columnNames
+     * @param filter the array of the values in the specified columns is reused for all the rows. Don't change or keep it.
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet filter(Collection<String> columnNames, Predicate<? super Object[]> filter);
+
+    /**
+     * Only keep the specified columns in the result.
+     *
+     * @param columnNames
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet select(Collection<String> columnNames);
+
+    /**
+     *
+     * @param columnName
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet sortBy(String columnName);
+
+    /**
+     *
+     * @param columnName
+     * @param cmp
+     * @return this {@code LazyDataSet}.
+     */
+    <T> LazyDataSet sortBy(String columnName, Comparator<T> cmp);
+
+    /**
+     *
+     * @param columnNames
+     * @param cmp
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet sortBy(Collection<String> columnNames, Comparator<? super Object[]> cmp);
+
+    /**
+     * De-duplicate the rows by the values in the specified columns. The first row of each key is kept.
+     *
+     * @param columnNames
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet distinct(Collection<String> columnNames);
+
+    /**
+     *
+     * @param columnNames
+     * @param aggregateResultColumnName
+     * @param aggregateOnColumnNames
+     * @param collector
+     * @return this {@code LazyDataSet}.
+     * @see DataSet#groupBy(Collection, String, Collection, Collector)
+     */
+    LazyDataSet groupBy(Collection<String> columnNames, String aggregateResultColumnName, Collection<String> aggregateOnColumnNames,
+            Collector<? super Object[], ?, ?> collector);
+
+    /**
+     *
+     * @param n
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet skip(int n);
+
+    /**
+     *
+     * @param maxSize
+     * @return this {@code LazyDataSet}.
+     */
+    LazyDataSet limit(int maxSize);
+
+    /**
+     * Executes the plan and returns the number of rows in the result, without copying any value.
+     *
+     * @return
+     */
+    int count();
+
+    /**
+     * Executes the plan.
+     *
+     * @return a new {@code DataSet}.
+     */
+    DataSet execute();
+}
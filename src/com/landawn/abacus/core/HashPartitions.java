@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.landawn.abacus.core;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+import com.landawn.abacus.util.ForkJoinPools;
+import com.landawn.abacus.util.IOUtil;
+import com.landawn.abacus.util.Try;
+import com.landawn.abacus.util.Wrapper;
+
+/**
+ * The rows of a {@code DataSet} partitioned by the hash of the key columns, for the parallel join/groupBy/distinct operations.
+ * All the rows with the same key are in the same partition, so each partition can be processed by a separate thread without any lock,
+ * and the results of the partitions are merged by row index to keep the same order as the sequential operations.
+ * The partitions are processed by the threads of the shared {@code ForkJoinPools.commonPool()}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class HashPartitions {
+    /**
+     * There is no benefit to process less than 8192 rows in a separate thread.
+     */
+    static final int MIN_ROWS_PER_PARTITION = 8192;
+
+    /**
+     * The key of each row: the value of the key column, or {@code Wrapper<Object[]>} of the values of the key columns.
+     */
+    final Object[] keys;
+
+    /**
+     * The row indexes in each partition, in ascending order.
+     */
+    final int[][] rowIndexes;
+
+    private HashPartitions(final Object[] keys, final int[][] rowIndexes) {
+        this.keys = keys;
+        this.rowIndexes = rowIndexes;
+    }
+
+    /**
+     *
+     * @param rowCount
+     * @return the number of partitions to process the specified number of rows: between 1 and the number of cpu cores.
+     */
+    static int partitionCount(final int rowCount) {
+        return Math.max(1, Math.min(IOUtil.CPU_CORES, rowCount / MIN_ROWS_PER_PARTITION));
+    }
+
+    /**
+     *
+     * @param keyColumns
+     * @param rowCount
+     * @param partitionCount
+     * @return
+     */
+    static HashPartitions of(final List<List<Object>> keyColumns, final int rowCount, final int partitionCount) {
+        final Object[] keys = new Object[rowCount];
+        final int[] partitionIds = new int[rowCount];
+        final int keyColumnCount = keyColumns.size();
+        final int rowsPerTask = (rowCount + partitionCount - 1) / partitionCount;
+
+        // The keys are created and hashed in parallel. It's the most expensive part for multiple key columns.
+        execute(partitionCount, new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int taskIndex) {
+                Object[] keyRow = null;
+
+                for (int rowIndex = taskIndex * rowsPerTask, toIndex = Math.min(rowCount, rowIndex + rowsPerTask); rowIndex < toIndex; rowIndex++) {
+                    if (keyColumnCount == 1) {
+                        keys[rowIndex] = RowDataSet.getHashKey(keyColumns.get(0).get(rowIndex));
+                    } else {
+                        keyRow = new Object[keyColumnCount];
+
+                        for (int i = 0; i < keyColumnCount; i++) {
+                            keyRow[i] = keyColumns.get(i).get(rowIndex);
+                        }
+
+                        keys[rowIndex] = Wrapper.of(keyRow);
+                    }
+
+                    partitionIds[rowIndex] = partitionOf(keys[rowIndex], partitionCount);
+                }
+            }
+        });
+
+        final int[] partitionSizes = new int[partitionCount];
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            partitionSizes[partitionIds[rowIndex]]++;
+        }
+
+        final int[][] rowIndexes = new int[partitionCount][];
+
+        for (int i = 0; i < partitionCount; i++) {
+            rowIndexes[i] = new int[partitionSizes[i]];
+            partitionSizes[i] = 0;
+        }
+
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            final int partitionId = partitionIds[rowIndex];
+            rowIndexes[partitionId][partitionSizes[partitionId]++] = rowIndex;
+        }
+
+        return new HashPartitions(keys, rowIndexes);
+    }
+
+    int partitionCount() {
+        return rowIndexes.length;
+    }
+
+    static int partitionOf(final Object key, final int partitionCount) {
+        final int h = key == null ? 0 : key.hashCode();
+        return ((h ^ (h >>> 16)) & Integer.MAX_VALUE) % partitionCount;
+    }
+
+    /**
+     * Executes {@code task.accept(0)...task.accept(taskCount - 1)} in parallel and waits until all of them are completed.
+     * The exception thrown by any task is rethrown.
+     *
+     * @param taskCount
+     * @param task
+     */
+    static void execute(final int taskCount, final Try.IntConsumer<? extends RuntimeException> task) {
+        if (taskCount == 1) {
+            task.accept(0);
+            return;
+        }
+
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[taskCount];
+
+        for (int i = 0; i < taskCount; i++) {
+            final int taskIndex = i;
+
+            tasks[i] = ForkJoinTask.adapt(new Runnable() {
+                @Override
+                public void run() {
+                    task.accept(taskIndex);
+                }
+            });
+        }
+
+        ForkJoinPools.commonPool().invoke(ForkJoinTask.adapt(new Runnable() {
+            @Override
+            public void run() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        }));
+    }
+}
@@ -0,0 +1,644 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.landawn.abacus.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.landawn.abacus.DataSet;
+import com.landawn.abacus.LazyDataSet;
+import com.landawn.abacus.util.IntList;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.Wrapper;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.Predicate;
+import com.landawn.abacus.util.function.Supplier;
+import com.landawn.abacus.util.stream.Collector;
+
+/**
+ * The implementation of {@code LazyDataSet} for {@code RowDataSet}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class LazyRowDataSet implements LazyDataSet {
+    private final RowDataSet source;
+    private final List<Step> steps = new ArrayList<>();
+    /**
+     * The visible column names after the recorded steps.
+     */
+    private List<String> columnNames;
+
+    LazyRowDataSet(final RowDataSet source) {
+        this.source = source;
+        this.columnNames = new ArrayList<>(source.columnNameList());
+    }
+
+    @Override
+    public <T> LazyDataSet filter(final String columnName, final Predicate<T> filter) {
+        N.checkArgNotNull(filter, "filter");
+        checkColumnNames(N.asList(columnName));
+
+        filterStep().add(N.asList(columnName), (Predicate<Object>) filter, true);
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet filter(final Collection<String> columnNames, final Predicate<? super Object[]> filter) {
+        N.checkArgNotNull(filter, "filter");
+        checkColumnNames(columnNames);
+
+        filterStep().add(new ArrayList<>(columnNames), (Predicate<Object>) filter, false);
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet select(final Collection<String> columnNames) {
+        checkColumnNames(columnNames);
+
+        this.columnNames = new ArrayList<>(columnNames);
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet sortBy(final String columnName) {
+        return sortBy(columnName, null);
+    }
+
+    @Override
+    public <T> LazyDataSet sortBy(final String columnName, final Comparator<T> cmp) {
+        checkColumnNames(N.asList(columnName));
+
+        steps.add(new SortStep(N.asList(columnName), cmp, true));
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet sortBy(final Collection<String> columnNames, final Comparator<? super Object[]> cmp) {
+        checkColumnNames(columnNames);
+
+        steps.add(new SortStep(new ArrayList<>(columnNames), cmp, false));
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet distinct(final Collection<String> columnNames) {
+        checkColumnNames(columnNames);
+
+        steps.add(new DistinctStep(new ArrayList<>(columnNames)));
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet groupBy(final Collection<String> columnNames, final String aggregateResultColumnName, final Collection<String> aggregateOnColumnNames,
+            final Collector<? super Object[], ?, ?> collector) {
+        N.checkArgNotNullOrEmpty(columnNames, "columnNames");
+        N.checkArgNotNull(collector, "collector");
+        checkColumnNames(columnNames);
+        checkColumnNames(aggregateOnColumnNames);
+
+        if (columnNames.contains(aggregateResultColumnName)) {
+            throw new IllegalArgumentException("Duplicated Property name: " + aggregateResultColumnName);
+        }
+
+        steps.add(new GroupByStep(new ArrayList<>(columnNames), aggregateResultColumnName, new ArrayList<>(aggregateOnColumnNames), collector));
+
+        this.columnNames = new ArrayList<>(columnNames);
+        this.columnNames.add(aggregateResultColumnName);
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet skip(final int n) {
+        N.checkArgument(n >= 0, "'n' can't be negative: %s", n);
+
+        steps.add(new SliceStep(n, Integer.MAX_VALUE));
+
+        return this;
+    }
+
+    @Override
+    public LazyDataSet limit(final int maxSize) {
+        N.checkArgument(maxSize >= 0, "'maxSize' can't be negative: %s", maxSize);
+
+        steps.add(new SliceStep(0, maxSize));
+
+        return this;
+    }
+
+    @Override
+    public int count() {
+        return run().size();
+    }
+
+    @Override
+    public DataSet execute() {
+        final Plan plan = run();
+        final List<List<Object>> newColumnList = new ArrayList<>(columnNames.size());
+
+        for (String columnName : columnNames) {
+            final List<Object> column = plan.column(columnName);
+
+            if (plan.rowIndexes == null) {
+                newColumnList.add(new ArrayList<>(column));
+            } else {
+                final List<Object> newColumn = new ArrayList<>(plan.rowIndexes.length);
+
+                for (int rowIndex : plan.rowIndexes) {
+                    newColumn.add(column.get(rowIndex));
+                }
+
+                newColumnList.add(newColumn);
+            }
+        }
+
+        return new RowDataSet(new ArrayList<>(columnNames), newColumnList);
+    }
+
+    @Override
+    public String toString() {
+        return "{source=" + source.columnNameList() + ", steps=" + steps + ", columnNames=" + columnNames + "}";
+    }
+
+    private Plan run() {
+        final Plan plan = new Plan(source);
+
+        for (Step step : steps) {
+            step.execute(plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * The consecutive filters are merged into one step, which is executed in one pass.
+     *
+     * @return
+     */
+    private FilterStep filterStep() {
+        if (steps.size() > 0 && steps.get(steps.size() - 1) instanceof FilterStep) {
+            return (FilterStep) steps.get(steps.size() - 1);
+        }
+
+        final FilterStep step = new FilterStep();
+        steps.add(step);
+        return step;
+    }
+
+    private void checkColumnNames(final Collection<String> names) {
+        N.checkArgNotNull(names, "columnNames");
+
+        for (String name : names) {
+            if (columnNames.contains(name) == false) {
+                throw new IllegalArgumentException("Column: " + name + " is not included in: " + columnNames);
+            }
+        }
+    }
+
+    private static Object[] row(final List<List<Object>> columns, final int rowIndex, Object[] output) {
+        output = output == null ? new Object[columns.size()] : output;
+
+        for (int i = 0, len = columns.size(); i < len; i++) {
+            output[i] = columns.get(i).get(rowIndex);
+        }
+
+        return output;
+    }
+
+    /**
+     * The state of the plan during execution: the current source and the selected row indexes in it.
+     */
+    static final class Plan {
+        DataSet dataSet;
+        /**
+         * {@code null} means all the rows.
+         */
+        int[] rowIndexes;
+
+        Plan(final DataSet dataSet) {
+            this.dataSet = dataSet;
+        }
+
+        int size() {
+            return rowIndexes == null ? dataSet.size() : rowIndexes.length;
+        }
+
+        int rowIndex(final int i) {
+            return rowIndexes == null ? i : rowIndexes[i];
+        }
+
+        List<Object> column(final String columnName) {
+            return dataSet.getColumn(columnName);
+        }
+
+        List<List<Object>> columns(final List<String> columnNames) {
+            final List<List<Object>> columns = new ArrayList<>(columnNames.size());
+
+            for (String columnName : columnNames) {
+                columns.add(column(columnName));
+            }
+
+            return columns;
+        }
+    }
+
+    static abstract class Step {
+        abstract void execute(Plan plan);
+    }
+
+    static final class FilterStep extends Step {
+        private final List<List<String>> columnNamesList = new ArrayList<>();
+        private final List<Predicate<Object>> filters = new ArrayList<>();
+        private final List<Boolean> isSingleColumnList = new ArrayList<>();
+
+        void add(final List<String> columnNames, final Predicate<Object> filter, final boolean isSingleColumn) {
+            columnNamesList.add(columnNames);
+            filters.add(filter);
+            isSingleColumnList.add(isSingleColumn);
+        }
+
+        @Override
+        void execute(final Plan plan) {
+            final int filterCount = filters.size();
+            final List<List<List<Object>>> columnsList = new ArrayList<>(filterCount);
+            final Object[][] rows = new Object[filterCount][];
+            final boolean[] isSingleColumn = new boolean[filterCount];
+
+            for (int i = 0; i < filterCount; i++) {
+                columnsList.add(plan.columns(columnNamesList.get(i)));
+                isSingleColumn[i] = isSingleColumnList.get(i);
+            }
+
+            final int size = plan.size();
+            final IntList rowIndexes = new IntList(size);
+            int rowIndex = 0;
+            boolean isSelected = true;
+
+            for (int k = 0; k < size; k++) {
+                rowIndex = plan.rowIndex(k);
+                isSelected = true;
+
+                for (int i = 0; i < filterCount; i++) {
+                    if (isSingleColumn[i]) {
+                        isSelected = filters.get(i).test(columnsList.get(i).get(0).get(rowIndex));
+                    } else {
+                        rows[i] = row(columnsList.get(i), rowIndex, rows[i]);
+                        isSelected = filters.get(i).test(rows[i]);
+                    }
+
+                    if (isSelected == false) {
+                        break;
+                    }
+                }
+
+                if (isSelected) {
+                    rowIndexes.add(rowIndex);
+                }
+            }
+
+            plan.rowIndexes = rowIndexes.trimToSize().array();
+        }
+
+        @Override
+        public String toString() {
+            return "filter" + columnNamesList;
+        }
+    }
+
+    static final class SortStep extends Step {
+        private static final int INSERTION_SORT_THRESHOLD = 8;
+
+        private final List<String> columnNames;
+        private final Comparator<Object> cmp;
+        private final boolean isSingleColumn;
+
+        SortStep(final List<String> columnNames, final Comparator<?> cmp, final boolean isSingleColumn) {
+            this.columnNames = columnNames;
+            this.cmp = (Comparator<Object>) cmp;
+            this.isSingleColumn = isSingleColumn;
+        }
+
+        /**
+         * The rows are sorted by the positions in the selection vector: the sort keys are read into an array by position,
+         * and the positions are sorted by a stable merge sort, or by radix sort if the key is one column of {@code Integer/Long} values.
+         */
+        @Override
+        void execute(final Plan plan) {
+            final int size = plan.size();
+            final List<List<Object>> columns = plan.columns(columnNames);
+            final int[] positions;
+
+            if (isSingleColumn) {
+                final List<Object> column = columns.get(0);
+                final Object[] keys = new Object[size];
+                Class<?> keyClass = null;
+                boolean isIntegral = cmp == null;
+
+                for (int k = 0; k < size; k++) {
+                    keys[k] = column.get(plan.rowIndex(k));
+
+                    if (isIntegral) {
+                        if (keys[k] == null || (keyClass != null && keys[k].getClass() != keyClass)) {
+                            isIntegral = false;
+                        } else if (keyClass == null) {
+                            keyClass = keys[k].getClass();
+                            isIntegral = keyClass == Integer.class || keyClass == Long.class;
+                        }
+                    }
+                }
+
+                if (isIntegral) {
+                    final long[] longKeys = new long[size];
+
+                    for (int k = 0; k < size; k++) {
+                        longKeys[k] = ((Number) keys[k]).longValue();
+                    }
+
+                    positions = N.sortIndexes(longKeys);
+                } else {
+                    positions = sort(size, new PositionComparator() {
+                        @SuppressWarnings("rawtypes")
+                        @Override
+                        int compare(final int a, final int b) {
+                            return cmp == null ? N.compare((Comparable) keys[a], (Comparable) keys[b]) : cmp.compare(keys[a], keys[b]);
+                        }
+                    });
+                }
+            } else {
+                final Object[][] keys = new Object[size][];
+
+                for (int k = 0; k < size; k++) {
+                    keys[k] = row(columns, plan.rowIndex(k), null);
+                }
+
+                positions = sort(size, new PositionComparator() {
+                    @SuppressWarnings("rawtypes")
+                    @Override
+                    int compare(final int a, final int b) {
+                        final Object[] rowA = keys[a];
+                        final Object[] rowB = keys[b];
+
+                        if (cmp != null) {
+                            return cmp.compare(rowA, rowB);
+                        }
+
+                        int result = 0;
+
+                        for (int i = 0, len = rowA.length; i < len; i++) {
+                            if ((result = N.compare((Comparable) rowA[i], (Comparable) rowB[i])) != 0) {
+                                return result;
+                            }
+                        }
+
+                        return result;
+                    }
+                });
+            }
+
+            final int[] rowIndexes = new int[size];
+
+            for (int k = 0; k < size; k++) {
+                rowIndexes[k] = plan.rowIndex(positions[k]);
+            }
+
+            plan.rowIndexes = rowIndexes;
+        }
+
+        /**
+         * Stable merge sort of the positions {@code 0...size - 1}.
+         *
+         * @param size
+         * @param cmp
+         * @return
+         */
+        private static int[] sort(final int size, final PositionComparator cmp) {
+            final int[] positions = new int[size];
+
+            for (int k = 0; k < size; k++) {
+                positions[k] = k;
+            }
+
+            if (size > 1) {
+                mergeSort(positions.clone(), positions, 0, size, cmp);
+            }
+
+            return positions;
+        }
+
+        /**
+         * Sorts {@code src[low, high)} into {@code dest[low, high)}. The two arrays have the same elements in the range when it's called.
+         */
+        private static void mergeSort(final int[] src, final int[] dest, final int low, final int high, final PositionComparator cmp) {
+            if (high - low < INSERTION_SORT_THRESHOLD) {
+                for (int i = low + 1; i < high; i++) {
+                    final int p = dest[i];
+                    int j = i;
+
+                    for (; j > low && cmp.compare(dest[j - 1], p) > 0; j--) {
+                        dest[j] = dest[j - 1];
+                    }
+
+                    dest[j] = p;
+                }
+
+                return;
+            }
+
+            final int mid = (low + high) >>> 1;
+            mergeSort(dest, src, low, mid, cmp);
+            mergeSort(dest, src, mid, high, cmp);
+
+            if (cmp.compare(src[mid - 1], src[mid]) <= 0) {
+                System.arraycopy(src, low, dest, low, high - low);
+                return;
+            }
+
+            for (int i = low, p = low, q = mid; i < high; i++) {
+                if (q >= high || (p < mid && cmp.compare(src[p], src[q]) <= 0)) {
+                    dest[i] = src[p++];
+                } else {
+                    dest[i] = src[q++];
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "sortBy" + columnNames;
+        }
+    }
+
+    /**
+     * Compares the rows at two positions of the selection vector.
+     */
+    static abstract class PositionComparator {
+        abstract int compare(int a, int b);
+    }
+
+    static final class DistinctStep extends Step {
+        private final List<String> columnNames;
+
+        DistinctStep(final List<String> columnNames) {
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        void execute(final Plan plan) {
+            final int size = plan.size();
+            final List<List<Object>> columns = plan.columns(columnNames);
+            final Set<Object> keySet = new HashSet<>();
+            final IntList rowIndexes = new IntList();
+            int rowIndex = 0;
+
+            for (int k = 0; k < size; k++) {
+                rowIndex = plan.rowIndex(k);
+
+                if (keySet.add(key(columns, rowIndex))) {
+                    rowIndexes.add(rowIndex);
+                }
+            }
+
+            plan.rowIndexes = rowIndexes.trimToSize().array();
+        }
+
+        @Override
+        public String toString() {
+            return "distinct" + columnNames;
+        }
+    }
+
+    static final class GroupByStep extends Step {
+        private final List<String> columnNames;
+        private final String aggregateResultColumnName;
+        private final List<String> aggregateOnColumnNames;
+        private final Collector<? super Object[], ?, ?> collector;
+
+        GroupByStep(final List<String> columnNames, final String aggregateResultColumnName, final List<String> aggregateOnColumnNames,
+                final Collector<? super Object[], ?, ?> collector) {
+            this.columnNames = columnNames;
+            this.aggregateResultColumnName = aggregateResultColumnName;
+            this.aggregateOnColumnNames = aggregateOnColumnNames;
+            this.collector = collector;
+        }
+
+        @Override
+        void execute(final Plan plan) {
+            final int size = plan.size();
+            final List<List<Object>> keyColumns = plan.columns(columnNames);
+            final List<List<Object>> aggColumns = plan.columns(aggregateOnColumnNames);
+            final Supplier<Object> supplier = (Supplier<Object>) collector.supplier();
+            final BiConsumer<Object, Object> accumulator = (BiConsumer<Object, Object>) collector.accumulator();
+            final Function<Object, Object> finisher = (Function<Object, Object>) collector.finisher();
+
+            final List<List<Object>> newColumnList = new ArrayList<>(columnNames.size() + 1);
+
+            for (int i = 0, len = columnNames.size() + 1; i < len; i++) {
+                newColumnList.add(new ArrayList<>());
+            }
+
+            final List<Object> aggColumn = newColumnList.get(columnNames.size());
+            final Map<Object, Integer> keyMap = new HashMap<>();
+            Integer groupIndex = null;
+            Object key = null;
+            int rowIndex = 0;
+
+            for (int k = 0; k < size; k++) {
+                rowIndex = plan.rowIndex(k);
+                key = key(keyColumns, rowIndex);
+                groupIndex = keyMap.get(key);
+
+                if (groupIndex == null) {
+                    groupIndex = aggColumn.size();
+                    keyMap.put(key, groupIndex);
+                    aggColumn.add(supplier.get());
+
+                    for (int i = 0, len = keyColumns.size(); i < len; i++) {
+                        newColumnList.get(i).add(keyColumns.get(i).get(rowIndex));
+                    }
+                }
+
+                accumulator.accept(aggColumn.get(groupIndex), row(aggColumns, rowIndex, null));
+            }
+
+            for (int i = 0, len = aggColumn.size(); i < len; i++) {
+                aggColumn.set(i, finisher.apply(aggColumn.get(i)));
+            }
+
+            final List<String> newColumnNameList = new ArrayList<>(columnNames);
+            newColumnNameList.add(aggregateResultColumnName);
+
+            plan.dataSet = new RowDataSet(newColumnNameList, newColumnList);
+            plan.rowIndexes = null;
+        }
+
+        @Override
+        public String toString() {
+            return "groupBy" + columnNames;
+        }
+    }
+
+    static final class SliceStep extends Step {
+        private final int offset;
+        private final int maxSize;
+
+        SliceStep(final int offset, final int maxSize) {
+            this.offset = offset;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        void execute(final Plan plan) {
+            final int size = plan.size();
+            final int fromIndex = Math.min(offset, size);
+            final int toIndex = fromIndex + Math.min(maxSize, size - fromIndex);
+            final int[] rowIndexes = new int[toIndex - fromIndex];
+
+            for (int k = fromIndex; k < toIndex; k++) {
+                rowIndexes[k - fromIndex] = plan.rowIndex(k);
+            }
+
+            plan.rowIndexes = rowIndexes;
+        }
+
+        @Override
+        public String toString() {
+            return offset > 0 ? "skip(" + offset + ")" : "limit(" + maxSize + ")";
+        }
+    }
+
+    /**
+     * Same key as {@code RowDataSet.groupBy/distinct}: the value for one column, or {@code Wrapper} of the values for multiple columns.
+     */
+    static Object key(final List<List<Object>> columns, final int rowIndex) {
+        return columns.size() == 1 ? RowDataSet.getHashKey(columns.get(0).get(rowIndex)) : Wrapper.of(row(columns, rowIndex, null));
+    }
+}
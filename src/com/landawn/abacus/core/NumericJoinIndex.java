@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.landawn.abacus.core;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.landawn.abacus.util.IntList;
+
+/**
+ * Hash index for joining {@code DataSet} on one numeric column ({@code Integer/Long/Float/Double}) without boxing the row indexes.
+ * <br />
+ * The keys of the build side are stored in an open-addressing table of {@code long} keys, which is pre-sized by the number of rows so it's never resized.
+ * The rows with the same key are chained by a {@code int[] next} array, in the ascending order of row index, instead of a {@code List<Integer>} per key.
+ * <br />
+ * Two values are matched only if they have the same type and {@code equals}, same as {@code HashMap<Object, List<Integer>>}:
+ * float/double values are compared by {@code floatToIntBits/doubleToLongBits}, and {@code null} matches {@code null}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class NumericJoinIndex {
+    private static final int NONE = -1;
+
+    private final long[] slotKeys;
+    private final int[] slotHeads;
+    private final int[] next;
+    private final int mask;
+    private int nullHead = NONE;
+
+    NumericJoinIndex(final Keys keys) {
+        final int size = keys.size();
+        final int capacity = size < 2 ? 2 : Integer.highestOneBit(size - 1) << 2;
+
+        this.mask = capacity - 1;
+        this.slotKeys = new long[capacity];
+        this.slotHeads = new int[capacity];
+        this.next = new int[size];
+
+        for (int i = 0; i < capacity; i++) {
+            slotHeads[i] = NONE;
+        }
+
+        // Add the rows backwards so the chain of each key is in ascending order of row index.
+        for (int rowIndex = size - 1; rowIndex >= 0; rowIndex--) {
+            if (keys.isNull(rowIndex)) {
+                next[rowIndex] = nullHead;
+                nullHead = rowIndex;
+            } else {
+                final long key = keys.values[rowIndex];
+                int slot = hash(key) & mask;
+
+                while (slotHeads[slot] != NONE && slotKeys[slot] != key) {
+                    slot = (slot + 1) & mask;
+                }
+
+                slotKeys[slot] = key;
+                next[rowIndex] = slotHeads[slot];
+                slotHeads[slot] = rowIndex;
+            }
+        }
+    }
+
+    /**
+     *
+     * @param keys
+     * @param rowIndex
+     * @return the first row in the build side with the same key as the specified row, or {@code -1} if there is no such row.
+     */
+    int head(final Keys keys, final int rowIndex) {
+        if (keys.isNull(rowIndex)) {
+            return nullHead;
+        }
+
+        final long key = keys.values[rowIndex];
+        int slot = hash(key) & mask;
+
+        while (slotHeads[slot] != NONE) {
+            if (slotKeys[slot] == key) {
+                return slotHeads[slot];
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return NONE;
+    }
+
+    /**
+     *
+     * @param rowIndex
+     * @return the next row in the build side with the same key, or {@code -1} if there is no more.
+     */
+    int next(final int rowIndex) {
+        return next[rowIndex];
+    }
+
+    /**
+     * Joins the specified columns by the numeric index. The smaller side is used as the build side.
+     * The returned row index pairs are in the same order as the join by {@code HashMap}: by left row index, then by right row index,
+     * followed by the unmatched right rows if {@code keepUnmatchedRight} is true.
+     *
+     * @param leftColumn
+     * @param rightColumn
+     * @param keepUnmatchedLeft {@code true} for left/full join.
+     * @param keepUnmatchedRight {@code true} for full join.
+     * @return {@code [leftRowIndexes, rightRowIndexes]} with {@code -1} for the missed side,
+     *          or {@code null} if the columns are not numeric columns with the same type.
+     */
+    static int[][] join(final List<Object> leftColumn, final List<Object> rightColumn, final boolean keepUnmatchedLeft, final boolean keepUnmatchedRight) {
+        final Keys leftKeys = Keys.of(leftColumn);
+
+        if (leftKeys == null) {
+            return null;
+        }
+
+        final Keys rightKeys = Keys.of(rightColumn);
+
+        if (rightKeys == null || leftKeys.type.equals(rightKeys.type) == false) {
+            return null;
+        }
+
+        final int leftSize = leftKeys.size();
+        final int rightSize = rightKeys.size();
+
+        if (rightSize <= leftSize) {
+            final NumericJoinIndex index = new NumericJoinIndex(rightKeys);
+            final boolean[] rightMatched = keepUnmatchedRight ? new boolean[rightSize] : null;
+            final IntList lefts = new IntList(leftSize);
+            final IntList rights = new IntList(leftSize);
+
+            for (int leftRowIndex = 0; leftRowIndex < leftSize; leftRowIndex++) {
+                int rightRowIndex = index.head(leftKeys, leftRowIndex);
+
+                if (rightRowIndex == NONE) {
+                    if (keepUnmatchedLeft) {
+                        lefts.add(leftRowIndex);
+                        rights.add(NONE);
+                    }
+                } else {
+                    do {
+                        lefts.add(leftRowIndex);
+                        rights.add(rightRowIndex);
+
+                        if (rightMatched != null) {
+                            rightMatched[rightRowIndex] = true;
+                        }
+                    } while ((rightRowIndex = index.next(rightRowIndex)) != NONE);
+                }
+            }
+
+            if (rightMatched != null) {
+                for (int rightRowIndex = 0; rightRowIndex < rightSize; rightRowIndex++) {
+                    if (rightMatched[rightRowIndex] == false) {
+                        lefts.add(NONE);
+                        rights.add(rightRowIndex);
+                    }
+                }
+            }
+
+            return new int[][] { lefts.trimToSize().array(), rights.trimToSize().array() };
+        } else {
+            // Build on the left side and count the matched right rows of each left row first, so the result can be filled in the order of left row index.
+            final NumericJoinIndex index = new NumericJoinIndex(leftKeys);
+            final int[] counts = new int[leftSize];
+            int unmatchedRightCount = 0;
+
+            for (int rightRowIndex = 0; rightRowIndex < rightSize; rightRowIndex++) {
+                int leftRowIndex = index.head(rightKeys, rightRowIndex);
+
+                if (leftRowIndex == NONE) {
+                    unmatchedRightCount++;
+                } else {
+                    do {
+                        counts[leftRowIndex]++;
+                    } while ((leftRowIndex = index.next(leftRowIndex)) != NONE);
+                }
+            }
+
+            final int[] positions = new int[leftSize];
+            int total = 0;
+
+            for (int leftRowIndex = 0; leftRowIndex < leftSize; leftRowIndex++) {
+                positions[leftRowIndex] = total;
+                total += counts[leftRowIndex] == 0 ? (keepUnmatchedLeft ? 1 : 0) : counts[leftRowIndex];
+            }
+
+            int cursor = total;
+            total += keepUnmatchedRight ? unmatchedRightCount : 0;
+            final int[] leftRowIndexes = new int[total];
+            final int[] rightRowIndexes = new int[total];
+
+            if (keepUnmatchedLeft) {
+                for (int leftRowIndex = 0; leftRowIndex < leftSize; leftRowIndex++) {
+                    if (counts[leftRowIndex] == 0) {
+                        leftRowIndexes[positions[leftRowIndex]] = leftRowIndex;
+                        rightRowIndexes[positions[leftRowIndex]] = NONE;
+                    }
+                }
+            }
+
+            for (int rightRowIndex = 0; rightRowIndex < rightSize; rightRowIndex++) {
+                int leftRowIndex = index.head(rightKeys, rightRowIndex);
+
+                if (leftRowIndex == NONE) {
+                    if (keepUnmatchedRight) {
+                        leftRowIndexes[cursor] = NONE;
+                        rightRowIndexes[cursor++] = rightRowIndex;
+                    }
+                } else {
+                    do {
+                        final int pos = positions[leftRowIndex]++;
+                        leftRowIndexes[pos] = leftRowIndex;
+                        rightRowIndexes[pos] = rightRowIndex;
+                    } while ((leftRowIndex = index.next(leftRowIndex)) != NONE);
+                }
+            }
+
+            return new int[][] { leftRowIndexes, rightRowIndexes };
+        }
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * The values of a numeric column, as {@code long} keys.
+     */
+    static final class Keys {
+        final Class<?> type;
+        final long[] values;
+        final BitSet nulls;
+
+        private Keys(final Class<?> type, final long[] values, final BitSet nulls) {
+            this.type = type;
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        /**
+         *
+         * @param column
+         * @return {@code null} if not all the non-null values in the column are {@code Integer}, or {@code Long}, or {@code Float}, or {@code Double}.
+         */
+        static Keys of(final List<Object> column) {
+            final int size = column.size();
+            final long[] values = new long[size];
+            BitSet nulls = null;
+            Class<?> type = null;
+
+            if (column instanceof PrimitiveColumn && ((PrimitiveColumn) column).isPrimitive()) {
+                final PrimitiveColumn primitiveColumn = (PrimitiveColumn) column;
+                final Class<?> primitiveType = primitiveColumn.primitiveType();
+
+                for (int i = 0; i < size; i++) {
+                    if (primitiveColumn.isNull(i)) {
+                        nulls = nulls == null ? new BitSet(size) : nulls;
+                        nulls.set(i);
+                    } else if (primitiveType.equals(float.class)) {
+                        values[i] = Float.floatToIntBits(primitiveColumn.getFloat(i));
+                    } else if (primitiveType.equals(double.class)) {
+                        values[i] = Double.doubleToLongBits(primitiveColumn.getDouble(i));
+                    } else {
+                        values[i] = primitiveColumn.getLong(i);
+                    }
+                }
+
+                type = primitiveType;
+            } else {
+                Object value = null;
+
+                for (int i = 0; i < size; i++) {
+                    value = column.get(i);
+
+                    if (value == null) {
+                        nulls = nulls == null ? new BitSet(size) : nulls;
+                        nulls.set(i);
+                        continue;
+                    }
+
+                    final Class<?> cls = value.getClass();
+
+                    if (type == null) {
+                        if (cls.equals(Integer.class)) {
+                            type = int.class;
+                        } else if (cls.equals(Long.class)) {
+                            type = long.class;
+                        } else if (cls.equals(Float.class)) {
+                            type = float.class;
+                        } else if (cls.equals(Double.class)) {
+                            type = double.class;
+                        } else {
+                            return null;
+                        }
+                    } else if (PrimitiveColumn.isSupported(cls) == false || wrapperOf(type).equals(cls) == false) {
+                        return null;
+                    }
+
+                    if (type.equals(float.class)) {
+                        values[i] = Float.floatToIntBits((Float) value);
+                    } else if (type.equals(double.class)) {
+                        values[i] = Double.doubleToLongBits((Double) value);
+                    } else {
+                        values[i] = ((Number) value).longValue();
+                    }
+                }
+            }
+
+            // all nulls: the type is unknown.
+            return type == null ? null : new Keys(type, values, nulls);
+        }
+
+        int size() {
+            return values.length;
+        }
+
+        boolean isNull(final int index) {
+            return nulls != null && nulls.get(index);
+        }
+
+        private static Class<?> wrapperOf(final Class<?> primitiveType) {
+            if (primitiveType.equals(int.class)) {
+                return Integer.class;
+            } else if (primitiveType.equals(long.class)) {
+                return Long.class;
+            } else if (primitiveType.equals(float.class)) {
+                return Float.class;
+            } else {
+                return Double.class;
+            }
+        }
+    }
+}
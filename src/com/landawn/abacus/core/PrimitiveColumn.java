@@ -0,0 +1,770 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.landawn.abacus.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.landawn.abacus.util.DoubleList;
+import com.landawn.abacus.util.FloatList;
+import com.landawn.abacus.util.IntList;
+import com.landawn.abacus.util.LongList;
+
+/**
+ * A column of {@code DataSet} which stores the values of a numeric column in a primitive array ({@code IntList/LongList/FloatList/DoubleList})
+ * and the {@code null} values in a bit map, instead of a {@code List} of boxed values.
+ * It takes about 1/4 ~ 1/6 of the memory of {@code ArrayList<Integer/Long/Double>} and the values can be read by {@code getInt/getLong/...} without boxing.
+ * <br />
+ * It's still a {@code List<Object>} so all the operations on {@code DataSet} work as before:
+ * {@code get(int)} returns the boxed value with exactly the same type as it's added (e.g. {@code Integer} for {@code IntColumn}),
+ * and the column falls back to a {@code List} of boxed values if a value with another type is added or set to it.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+public abstract class PrimitiveColumn extends AbstractList<Object> implements RandomAccess {
+    /**
+     * The values after the column falls back to the boxed storage. {@code null} before that.
+     */
+    List<Object> boxed;
+
+    /**
+     * The bit is set if the value at the index is {@code null}. It's created when the first {@code null} value is added.
+     */
+    BitSet nulls;
+
+    // For Kryo
+    PrimitiveColumn() {
+    }
+
+    /**
+     * Returns a new empty column with primitive storage for the specified type,
+     * or {@code null} if the type is not one of {@code int/Integer, long/Long, float/Float, double/Double}.
+     *
+     * @param type
+     * @param initialCapacity
+     * @return
+     */
+    public static PrimitiveColumn of(final Class<?> type, final int initialCapacity) {
+        if (type == null) {
+            return null;
+        } else if (type.equals(int.class) || type.equals(Integer.class)) {
+            return new IntColumn(initialCapacity);
+        } else if (type.equals(long.class) || type.equals(Long.class)) {
+            return new LongColumn(initialCapacity);
+        } else if (type.equals(float.class) || type.equals(Float.class)) {
+            return new FloatColumn(initialCapacity);
+        } else if (type.equals(double.class) || type.equals(Double.class)) {
+            return new DoubleColumn(initialCapacity);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     *
+     * @param type
+     * @return {@code true} if the values of the specified type can be stored in a {@code PrimitiveColumn}.
+     */
+    public static boolean isSupported(final Class<?> type) {
+        return type != null && (type.equals(int.class) || type.equals(Integer.class) || type.equals(long.class) || type.equals(Long.class)
+                || type.equals(float.class) || type.equals(Float.class) || type.equals(double.class) || type.equals(Double.class));
+    }
+
+    /**
+     *
+     * @return {@code int.class/long.class/float.class/double.class}.
+     */
+    public abstract Class<?> primitiveType();
+
+    /**
+     *
+     * @return {@code true} if the values are still stored in the primitive array,
+     *          {@code false} if the column has fallen back to the boxed storage because a value with different type was added/set.
+     */
+    public boolean isPrimitive() {
+        return boxed == null;
+    }
+
+    /**
+     *
+     * @param index
+     * @return {@code true} if the value at the specified index is {@code null}.
+     */
+    public boolean isNull(final int index) {
+        if (boxed != null) {
+            return boxed.get(index) == null;
+        }
+
+        checkIndex(index);
+
+        return nulls != null && nulls.get(index);
+    }
+
+    /**
+     *
+     * @param index
+     * @return {@code 0} if the value is {@code null}.
+     */
+    public int getInt(final int index) {
+        final Number num = (Number) get(index);
+        return num == null ? 0 : num.intValue();
+    }
+
+    /**
+     *
+     * @param index
+     * @return {@code 0} if the value is {@code null}.
+     */
+    public long getLong(final int index) {
+        final Number num = (Number) get(index);
+        return num == null ? 0L : num.longValue();
+    }
+
+    /**
+     *
+     * @param index
+     * @return {@code 0} if the value is {@code null}.
+     */
+    public float getFloat(final int index) {
+        final Number num = (Number) get(index);
+        return num == null ? 0f : num.floatValue();
+    }
+
+    /**
+     *
+     * @param index
+     * @return {@code 0} if the value is {@code null}.
+     */
+    public double getDouble(final int index) {
+        final Number num = (Number) get(index);
+        return num == null ? 0d : num.doubleValue();
+    }
+
+    @Override
+    public Object get(final int index) {
+        if (boxed != null) {
+            return boxed.get(index);
+        }
+
+        checkIndex(index);
+
+        return nulls != null && nulls.get(index) ? null : valueAt(index);
+    }
+
+    @Override
+    public Object set(final int index, final Object element) {
+        if (boxed != null) {
+            return boxed.set(index, element);
+        }
+
+        final Object oldValue = get(index);
+
+        if (element == null) {
+            setValue(index, null);
+            markNull(index, true);
+        } else if (accept(element)) {
+            setValue(index, element);
+            markNull(index, false);
+        } else {
+            toBoxed().set(index, element);
+        }
+
+        return oldValue;
+    }
+
+    @Override
+    public boolean add(final Object element) {
+        if (boxed != null) {
+            modCount++;
+            return boxed.add(element);
+        }
+
+        if (element == null) {
+            final int index = size();
+            addValue(index, null);
+            markNull(index, true);
+        } else if (accept(element)) {
+            addValue(size(), element);
+        } else {
+            toBoxed().add(element);
+        }
+
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final Object element) {
+        if (boxed != null) {
+            modCount++;
+            boxed.add(index, element);
+            return;
+        }
+
+        final int size = size();
+
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (element == null || accept(element)) {
+            addValue(index, element);
+
+            if (nulls != null && index < size) {
+                for (int i = size; i > index; i--) {
+                    nulls.set(i, nulls.get(i - 1));
+                }
+
+                nulls.clear(index);
+            }
+
+            if (element == null) {
+                markNull(index, true);
+            }
+        } else {
+            toBoxed().add(index, element);
+        }
+
+        modCount++;
+    }
+
+    @Override
+    public Object remove(final int index) {
+        if (boxed != null) {
+            modCount++;
+            return boxed.remove(index);
+        }
+
+        final Object oldValue = get(index);
+        final int size = size();
+
+        removeValue(index);
+
+        if (nulls != null) {
+            for (int i = index; i < size - 1; i++) {
+                nulls.set(i, nulls.get(i + 1));
+            }
+
+            nulls.clear(size - 1);
+        }
+
+        modCount++;
+
+        return oldValue;
+    }
+
+    /**
+     * The values in a {@code PrimitiveColumn} of the same type are copied without boxing.
+     */
+    @Override
+    public boolean addAll(final Collection<?> c) {
+        if (boxed == null && c != this && c instanceof PrimitiveColumn && c.getClass().equals(getClass()) && ((PrimitiveColumn) c).isPrimitive()) {
+            final PrimitiveColumn other = (PrimitiveColumn) c;
+            final int size = valueSize();
+
+            if (other.nulls != null) {
+                for (int i = other.nulls.nextSetBit(0); i >= 0; i = other.nulls.nextSetBit(i + 1)) {
+                    markNull(size + i, true);
+                }
+            }
+
+            addValues(other);
+            modCount++;
+
+            return other.valueSize() > 0;
+        }
+
+        return super.addAll(c);
+    }
+
+    @Override
+    public int size() {
+        return boxed != null ? boxed.size() : valueSize();
+    }
+
+    @Override
+    public void clear() {
+        if (boxed != null) {
+            boxed.clear();
+        } else {
+            clearValues();
+            nulls = null;
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Move the values to the boxed storage. It's called when a value which can't be stored in the primitive array is added/set.
+     */
+    List<Object> toBoxed() {
+        if (boxed == null) {
+            final int size = valueSize();
+            final List<Object> list = new ArrayList<>(size + 1);
+
+            for (int i = 0; i < size; i++) {
+                list.add(nulls != null && nulls.get(i) ? null : valueAt(i));
+            }
+
+            boxed = list;
+            nulls = null;
+            clearValues();
+        }
+
+        return boxed;
+    }
+
+    private void markNull(final int index, final boolean isNull) {
+        if (isNull) {
+            if (nulls == null) {
+                nulls = new BitSet();
+            }
+
+            nulls.set(index);
+        } else if (nulls != null) {
+            nulls.clear(index);
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= valueSize()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + valueSize());
+        }
+    }
+
+    /**
+     *
+     * @param element which is not null.
+     * @return {@code true} if the element can be stored in the primitive array without changing its type.
+     */
+    abstract boolean accept(Object element);
+
+    abstract Object valueAt(int index);
+
+    /**
+     *
+     * @param index
+     * @param element {@code null} is stored as {@code 0}.
+     */
+    abstract void setValue(int index, Object element);
+
+    /**
+     *
+     * @param index
+     * @param element {@code null} is stored as {@code 0}.
+     */
+    abstract void addValue(int index, Object element);
+
+    abstract void removeValue(int index);
+
+    abstract int valueSize();
+
+    abstract void clearValues();
+
+    /**
+     *
+     * @param other a primitive column with the same type.
+     */
+    abstract void addValues(PrimitiveColumn other);
+
+    /**
+     * Column for {@code Integer} values.
+     */
+    public static final class IntColumn extends PrimitiveColumn {
+        private IntList values;
+
+        // For Kryo
+        IntColumn() {
+            this.values = new IntList();
+        }
+
+        public IntColumn(final int initialCapacity) {
+            this.values = new IntList(initialCapacity);
+        }
+
+        @Override
+        public Class<?> primitiveType() {
+            return int.class;
+        }
+
+        /**
+         * Adds a {@code int} value without boxing.
+         *
+         * @param value
+         */
+        public void addInt(final int value) {
+            if (boxed != null) {
+                add(value);
+            } else {
+                values.add(value);
+                modCount++;
+            }
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return boxed != null ? super.getInt(index) : values.get(index);
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return boxed != null ? super.getLong(index) : values.get(index);
+        }
+
+        @Override
+        public float getFloat(final int index) {
+            return boxed != null ? super.getFloat(index) : values.get(index);
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return boxed != null ? super.getDouble(index) : values.get(index);
+        }
+
+        @Override
+        boolean accept(final Object element) {
+            return element instanceof Integer;
+        }
+
+        @Override
+        Object valueAt(final int index) {
+            return values.get(index);
+        }
+
+        @Override
+        void setValue(final int index, final Object element) {
+            values.set(index, element == null ? 0 : (Integer) element);
+        }
+
+        @Override
+        void addValue(final int index, final Object element) {
+            values.add(index, element == null ? 0 : (Integer) element);
+        }
+
+        @Override
+        void removeValue(final int index) {
+            values.delete(index);
+        }
+
+        @Override
+        int valueSize() {
+            return values.size();
+        }
+
+        @Override
+        void clearValues() {
+            values = new IntList();
+        }
+
+        @Override
+        void addValues(final PrimitiveColumn other) {
+            values.addAll(((IntColumn) other).values);
+        }
+    }
+
+    /**
+     * Column for {@code Long} values.
+     */
+    public static final class LongColumn extends PrimitiveColumn {
+        private LongList values;
+
+        // For Kryo
+        LongColumn() {
+            this.values = new LongList();
+        }
+
+        public LongColumn(final int initialCapacity) {
+            this.values = new LongList(initialCapacity);
+        }
+
+        @Override
+        public Class<?> primitiveType() {
+            return long.class;
+        }
+
+        /**
+         * Adds a {@code long} value without boxing.
+         *
+         * @param value
+         */
+        public void addLong(final long value) {
+            if (boxed != null) {
+                add(value);
+            } else {
+                values.add(value);
+                modCount++;
+            }
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return boxed != null ? super.getInt(index) : (int) values.get(index);
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return boxed != null ? super.getLong(index) : values.get(index);
+        }
+
+        @Override
+        public float getFloat(final int index) {
+            return boxed != null ? super.getFloat(index) : values.get(index);
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return boxed != null ? super.getDouble(index) : values.get(index);
+        }
+
+        @Override
+        boolean accept(final Object element) {
+            return element instanceof Long;
+        }
+
+        @Override
+        Object valueAt(final int index) {
+            return values.get(index);
+        }
+
+        @Override
+        void setValue(final int index, final Object element) {
+            values.set(index, element == null ? 0L : (Long) element);
+        }
+
+        @Override
+        void addValue(final int index, final Object element) {
+            values.add(index, element == null ? 0L : (Long) element);
+        }
+
+        @Override
+        void removeValue(final int index) {
+            values.delete(index);
+        }
+
+        @Override
+        int valueSize() {
+            return values.size();
+        }
+
+        @Override
+        void clearValues() {
+            values = new LongList();
+        }
+
+        @Override
+        void addValues(final PrimitiveColumn other) {
+            values.addAll(((LongColumn) other).values);
+        }
+    }
+
+    /**
+     * Column for {@code Float} values.
+     */
+    public static final class FloatColumn extends PrimitiveColumn {
+        private FloatList values;
+
+        // For Kryo
+        FloatColumn() {
+            this.values = new FloatList();
+        }
+
+        public FloatColumn(final int initialCapacity) {
+            this.values = new FloatList(initialCapacity);
+        }
+
+        @Override
+        public Class<?> primitiveType() {
+            return float.class;
+        }
+
+        /**
+         * Adds a {@code float} value without boxing.
+         *
+         * @param value
+         */
+        public void addFloat(final float value) {
+            if (boxed != null) {
+                add(value);
+            } else {
+                values.add(value);
+                modCount++;
+            }
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return boxed != null ? super.getInt(index) : (int) values.get(index);
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return boxed != null ? super.getLong(index) : (long) values.get(index);
+        }
+
+        @Override
+        public float getFloat(final int index) {
+            return boxed != null ? super.getFloat(index) : values.get(index);
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return boxed != null ? super.getDouble(index) : values.get(index);
+        }
+
+        @Override
+        boolean accept(final Object element) {
+            return element instanceof Float;
+        }
+
+        @Override
+        Object valueAt(final int index) {
+            return values.get(index);
+        }
+
+        @Override
+        void setValue(final int index, final Object element) {
+            values.set(index, element == null ? 0f : (Float) element);
+        }
+
+        @Override
+        void addValue(final int index, final Object element) {
+            values.add(index, element == null ? 0f : (Float) element);
+        }
+
+        @Override
+        void removeValue(final int index) {
+            values.delete(index);
+        }
+
+        @Override
+        int valueSize() {
+            return values.size();
+        }
+
+        @Override
+        void clearValues() {
+            values = new FloatList();
+        }
+
+        @Override
+        void addValues(final PrimitiveColumn other) {
+            values.addAll(((FloatColumn) other).values);
+        }
+    }
+
+    /**
+     * Column for {@code Double} values.
+     */
+    public static final class DoubleColumn extends PrimitiveColumn {
+        private DoubleList values;
+
+        // For Kryo
+        DoubleColumn() {
+            this.values = new DoubleList();
+        }
+
+        public DoubleColumn(final int initialCapacity) {
+            this.values = new DoubleList(initialCapacity);
+        }
+
+        @Override
+        public Class<?> primitiveType() {
+            return double.class;
+        }
+
+        /**
+         * Adds a {@code double} value without boxing.
+         *
+         * @param value
+         */
+        public void addDouble(final double value) {
+            if (boxed != null) {
+                add(value);
+            } else {
+                values.add(value);
+                modCount++;
+            }
+        }
+
+        @Override
+        public int getInt(final int index) {
+            return boxed != null ? super.getInt(index) : (int) values.get(index);
+        }
+
+        @Override
+        public long getLong(final int index) {
+            return boxed != null ? super.getLong(index) : (long) values.get(index);
+        }
+
+        @Override
+        public float getFloat(final int index) {
+            return boxed != null ? super.getFloat(index) : (float) values.get(index);
+        }
+
+        @Override
+        public double getDouble(final int index) {
+            return boxed != null ? super.getDouble(index) : values.get(index);
+        }
+
+        @Override
+        boolean accept(final Object element) {
+            return element instanceof Double;
+        }
+
+        @Override
+        Object valueAt(final int index) {
+            return values.get(index);
+        }
+
+        @Override
+        void setValue(final int index, final Object element) {
+            values.set(index, element == null ? 0d : (Double) element);
+        }
+
+        @Override
+        void addValue(final int index, final Object element) {
+            values.add(index, element == null ? 0d : (Double) element);
+        }
+
+        @Override
+        void removeValue(final int index) {
+            values.delete(index);
+        }
+
+        @Override
+        int valueSize() {
+            return values.size();
+        }
+
+        @Override
+        void clearValues() {
+            values = new DoubleList();
+        }
+
+        @Override
+        void addValues(final PrimitiveColumn other) {
+            values.addAll(((DoubleColumn) other).values);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.util.concurrent.Callable;
 
 import com.landawn.abacus.DataSet;
 import com.landawn.abacus.DirtyMarker;
+import com.landawn.abacus.LazyDataSet;
 import com.landawn.abacus.PaginatedDataSet;
 import com.landawn.abacus.exception.UncheckedIOException;
 import com.landawn.abacus.metadata.EntityDefinition;
@@ -63,6 +64,7 @@ import com.landawn.abacus.util.Fn;
 import com.landawn.abacus.util.IOUtil;
 import com.landawn.abacus.util.ImmutableList;
 import com.landawn.abacus.util.Indexed;
+import com.landawn.abacus.util.IntList;
 import com.landawn.abacus.util.ListMultimap;
 import com.landawn.abacus.util.Multimap;
 import com.landawn.abacus.util.Multiset;
@@ -71,6 +73,7 @@ import com.landawn.abacus.util.ObjIterator;
 import com.landawn.abacus.util.ObjectFactory;
 import com.landawn.abacus.util.Optional;
 import com.landawn.abacus.util.Pair;
+import com.landawn.abacus.util.PropSetters;
 import com.landawn.abacus.util.Properties;
 import com.landawn.abacus.util.Sheet;
 import com.landawn.abacus.util.TriIterator;
@@ -568,7 +571,13 @@ public class RowDataSet implements DataSet, Cloneable {
 
     @Override
     public int getInt(final int columnIndex) {
-        Number rt = get(columnIndex);
+        final List<Object> column = _columnList.get(columnIndex);
+
+        if (column instanceof PrimitiveColumn) {
+            return ((PrimitiveColumn) column).getInt(_currentRowNum);
+        }
+
+        Number rt = (Number) column.get(_currentRowNum);
 
         return (rt == null) ? 0 : rt.intValue();
     }
@@ -580,7 +589,13 @@ public class RowDataSet implements DataSet, Cloneable {
 
     @Override
     public long getLong(final int columnIndex) {
-        Number rt = get(columnIndex);
+        final List<Object> column = _columnList.get(columnIndex);
+
+        if (column instanceof PrimitiveColumn) {
+            return ((PrimitiveColumn) column).getLong(_currentRowNum);
+        }
+
+        Number rt = (Number) column.get(_currentRowNum);
 
         return (rt == null) ? 0L : rt.longValue();
     }
@@ -592,7 +607,13 @@ public class RowDataSet implements DataSet, Cloneable {
 
     @Override
     public float getFloat(final int columnIndex) {
-        Number rt = get(columnIndex);
+        final List<Object> column = _columnList.get(columnIndex);
+
+        if (column instanceof PrimitiveColumn) {
+            return ((PrimitiveColumn) column).getFloat(_currentRowNum);
+        }
+
+        Number rt = (Number) column.get(_currentRowNum);
 
         return (rt == null) ? 0f : rt.floatValue();
     }
@@ -604,7 +625,13 @@ public class RowDataSet implements DataSet, Cloneable {
 
     @Override
     public double getDouble(final int columnIndex) {
-        Number rt = get(columnIndex);
+        final List<Object> column = _columnList.get(columnIndex);
+
+        if (column instanceof PrimitiveColumn) {
+            return ((PrimitiveColumn) column).getDouble(_currentRowNum);
+        }
+
+        Number rt = (Number) column.get(_currentRowNum);
 
         return (rt == null) ? 0d : rt.doubleValue();
     }
@@ -616,7 +643,13 @@ public class RowDataSet implements DataSet, Cloneable {
 
     @Override
     public boolean isNull(final int columnIndex) {
-        return get(columnIndex) == null;
+        final List<Object> column = _columnList.get(columnIndex);
+
+        if (column instanceof PrimitiveColumn) {
+            return ((PrimitiveColumn) column).isNull(_currentRowNum);
+        }
+
+        return column.get(_currentRowNum) == null;
     }
 
     @Override
@@ -930,6 +963,22 @@ public class RowDataSet implements DataSet, Cloneable {
     private void convertColumnType(final int columnIndex, final Class<?> targetType) {
         final List<Object> column = _columnList.get(columnIndex);
 
+        if (PrimitiveColumn.isSupported(targetType)) {
+            // store the converted values in primitive array.
+            final int size = size();
+            final PrimitiveColumn newColumn = PrimitiveColumn.of(targetType, size);
+
+            for (int i = 0; i < size; i++) {
+                newColumn.add(N.as(targetType, column.get(i)));
+            }
+
+            _columnList.set(columnIndex, newColumn);
+
+            modCount++;
+
+            return;
+        }
+
         Object newValue = null;
         for (int i = 0, len = size(); i < len; i++) {
             newValue = N.as(targetType, column.get(i));
@@ -1964,12 +2013,21 @@ public class RowDataSet implements DataSet, Cloneable {
             }
 
             final boolean ignoreUnknownProperty = columnNames == _columnNameList;
+            final String[] propNames = new String[columnCount];
+
+            for (int i = 0; i < columnCount; i++) {
+                propNames[i] = _columnNameList.get(columnIndexes[i]);
+            }
+
+            final PropSetters propSetters = PropSetters.of(rowClass, propNames);
             String propName = null;
             Method method = null;
+            int columnIndex = 0;
 
-            for (int columnIndex : columnIndexes) {
-                propName = _columnNameList.get(columnIndexes[columnIndex]);
-                method = ClassUtil.getPropSetMethod(rowClass, propName);
+            for (int i = 0; i < columnCount; i++) {
+                columnIndex = columnIndexes[i];
+                propName = propNames[i];
+                method = propSetters.getMethod(i);
 
                 if (method == null) {
                     method = ClassUtil.getPropGetMethod(rowClass, propName);
@@ -1987,8 +2045,10 @@ public class RowDataSet implements DataSet, Cloneable {
                         }
                     }
                 } else {
+                    final List<Object> column = _columnList.get(columnIndex);
+
                     for (int rowIndex = fromRowIndex; rowIndex < toRowIndex; rowIndex++) {
-                        ClassUtil.setPropValue(rowList.get(rowIndex - fromRowIndex), method, _columnList.get(columnIndex).get(rowIndex));
+                        propSetters.set(rowList.get(rowIndex - fromRowIndex), i, column.get(rowIndex));
                     }
                 }
             }
@@ -2085,12 +2145,21 @@ public class RowDataSet implements DataSet, Cloneable {
             }
 
             final boolean ignoreUnknownProperty = columnNames == _columnNameList;
+            final String[] propNames = new String[columnCount];
+
+            for (int i = 0; i < columnCount; i++) {
+                propNames[i] = _columnNameList.get(columnIndexes[i]);
+            }
+
+            final PropSetters propSetters = PropSetters.of(rowClass, propNames);
             String propName = null;
             Method method = null;
+            int columnIndex = 0;
 
-            for (int columnIndex : columnIndexes) {
-                propName = _columnNameList.get(columnIndexes[columnIndex]);
-                method = ClassUtil.getPropSetMethod(rowClass, propName);
+            for (int i = 0; i < columnCount; i++) {
+                columnIndex = columnIndexes[i];
+                propName = propNames[i];
+                method = propSetters.getMethod(i);
 
                 if (method == null) {
                     method = ClassUtil.getPropGetMethod(rowClass, propName);
@@ -2108,8 +2177,10 @@ public class RowDataSet implements DataSet, Cloneable {
                         }
                     }
                 } else {
+                    final List<Object> column = _columnList.get(columnIndex);
+
                     for (int rowIndex = fromRowIndex; rowIndex < toRowIndex; rowIndex++) {
-                        ClassUtil.setPropValue(rowList.get(rowIndex - fromRowIndex), method, _columnList.get(columnIndex).get(rowIndex));
+                        propSetters.set(rowList.get(rowIndex - fromRowIndex), i, column.get(rowIndex));
                     }
                 }
             }
@@ -4549,6 +4620,100 @@ public class RowDataSet implements DataSet, Cloneable {
         return result;
     }
 
+    @Override
+    public DataSet parallelGroupBy(final Collection<String> columnNames) {
+        N.checkArgNotNullOrEmpty(columnNames, "columnNames");
+
+        final int size = size();
+        final int partitionCount = HashPartitions.partitionCount(size);
+
+        if (partitionCount == 1) {
+            return groupBy(columnNames);
+        }
+
+        final int[] columnIndexes = checkColumnName(columnNames);
+        final int[] firstRowIndexes = firstRowIndexes(HashPartitions.of(columnsOf(this, columnIndexes), size, partitionCount));
+
+        return new RowDataSet(N.newArrayList(columnNames), copyOf(columnIndexes, firstRowIndexes));
+    }
+
+    @Override
+    public DataSet parallelGroupBy(final Collection<String> columnNames, final String aggregateResultColumnName,
+            final Collection<String> aggregateOnColumnNames, final Collector<? super Object[], ?, ?> collector) {
+        N.checkArgNotNullOrEmpty(columnNames, "columnNames");
+
+        final int size = size();
+        final int partitionCount = HashPartitions.partitionCount(size);
+
+        if (partitionCount == 1) {
+            return groupBy(columnNames, aggregateResultColumnName, aggregateOnColumnNames, collector);
+        }
+
+        if (columnNames.contains(aggregateResultColumnName)) {
+            throw new IllegalArgumentException("Duplicated Property name: " + aggregateResultColumnName);
+        }
+
+        final int[] columnIndexes = checkColumnName(columnNames);
+        final int[] aggColumnIndexes = checkColumnName(aggregateOnColumnNames);
+        final HashPartitions partitions = HashPartitions.of(columnsOf(this, columnIndexes), size, partitionCount);
+        final Supplier<Object> supplier = (Supplier<Object>) collector.supplier();
+        final BiConsumer<Object, Object> accumulator = (BiConsumer<Object, Object>) collector.accumulator();
+        final Function<Object, Object> finisher = (Function<Object, Object>) collector.finisher();
+        final boolean[] isFirstRow = new boolean[size];
+        final Object[] aggResults = new Object[size];
+
+        // All the rows of a group are in the same partition, so the groups are aggregated without combining.
+        HashPartitions.execute(partitionCount, new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int partition) {
+                final int[] rowIndexes = partitions.rowIndexes[partition];
+                final Map<Object, Integer> keyMap = new HashMap<>();
+                final List<Object> containers = new ArrayList<>();
+                final List<Integer> groupFirstRowIndexes = new ArrayList<>();
+                Integer groupIndex = null;
+                Object[] collectorRow = null;
+
+                for (int rowIndex : rowIndexes) {
+                    groupIndex = keyMap.get(partitions.keys[rowIndex]);
+
+                    if (groupIndex == null) {
+                        groupIndex = containers.size();
+                        keyMap.put(partitions.keys[rowIndex], groupIndex);
+                        containers.add(supplier.get());
+                        groupFirstRowIndexes.add(rowIndex);
+                        isFirstRow[rowIndex] = true;
+                    }
+
+                    collectorRow = new Object[aggColumnIndexes.length];
+
+                    for (int i = 0, len = aggColumnIndexes.length; i < len; i++) {
+                        collectorRow[i] = _columnList.get(aggColumnIndexes[i]).get(rowIndex);
+                    }
+
+                    accumulator.accept(containers.get(groupIndex), collectorRow);
+                }
+
+                for (int i = 0, len = containers.size(); i < len; i++) {
+                    aggResults[groupFirstRowIndexes.get(i)] = finisher.apply(containers.get(i));
+                }
+            }
+        });
+
+        final int[] firstRowIndexes = selectedRowIndexes(isFirstRow);
+        final List<String> newColumnNameList = new ArrayList<>(columnNames);
+        newColumnNameList.add(aggregateResultColumnName);
+        final List<List<Object>> newColumnList = copyOf(columnIndexes, firstRowIndexes);
+        final List<Object> aggColumn = new ArrayList<>(firstRowIndexes.length);
+
+        for (int rowIndex : firstRowIndexes) {
+            aggColumn.add(aggResults[rowIndex]);
+        }
+
+        newColumnList.add(aggColumn);
+
+        return new RowDataSet(newColumnNameList, newColumnList);
+    }
+
     @Override
     public Stream<DataSet> rollup(final Collection<String> columnNames) {
         return Stream.of(N.rollup(columnNames)).reversed().map(new Function<Collection<String>, DataSet>() {
@@ -5396,6 +5561,26 @@ public class RowDataSet implements DataSet, Cloneable {
         return distinctBy(columnNames, fromRowIndex, toRowIndex, Fn.identity());
     }
 
+    @Override
+    public DataSet parallelDistinct(final Collection<String> columnNames) {
+        final int size = size();
+        final int partitionCount = HashPartitions.partitionCount(size);
+
+        if (partitionCount == 1) {
+            return distinct(columnNames);
+        }
+
+        final int[] columnIndexes = checkColumnName(columnNames);
+        final int[] firstRowIndexes = firstRowIndexes(HashPartitions.of(columnsOf(this, columnIndexes), size, partitionCount));
+        final int[] allColumnIndexes = new int[_columnNameList.size()];
+
+        for (int i = 0, len = allColumnIndexes.length; i < len; i++) {
+            allColumnIndexes[i] = i;
+        }
+
+        return new RowDataSet(new ArrayList<>(_columnNameList), copyOf(allColumnIndexes, firstRowIndexes));
+    }
+
     @Override
     public <K, E extends Exception> DataSet distinctBy(final String columnName, final Try.Function<K, ?, E> keyExtractor) throws E {
         return distinctBy(columnName, 0, size(), keyExtractor);
@@ -6683,6 +6868,312 @@ public class RowDataSet implements DataSet, Cloneable {
         return join(right, onColumnNames, true);
     }
 
+    @Override
+    public DataSet parallelInnerJoin(final DataSet right, final Map<String, String> onColumnNames) {
+        return parallelJoin(right, onColumnNames, false);
+    }
+
+    @Override
+    public DataSet parallelLeftJoin(final DataSet right, final Map<String, String> onColumnNames) {
+        return parallelJoin(right, onColumnNames, true);
+    }
+
+    private DataSet parallelJoin(final DataSet right, final Map<String, String> onColumnNames, final boolean isLeftJoin) {
+        checkJoinOnColumnNames(onColumnNames);
+
+        final int partitionCount = HashPartitions.partitionCount(Math.max(size(), right.size()));
+
+        if (partitionCount == 1) {
+            return join(right, onColumnNames, isLeftJoin);
+        }
+
+        final int[] leftJoinColumnIndexes = new int[onColumnNames.size()];
+        final int[] rightJoinColumnIndexes = new int[onColumnNames.size()];
+        List<String> rightColumnNames = new ArrayList<>(right.columnNameList());
+
+        initColumnIndexes(leftJoinColumnIndexes, rightJoinColumnIndexes, right, onColumnNames, rightColumnNames);
+
+        if (onColumnNames.size() == 1) {
+            // same as: join(right, onColumnNames, isLeftJoin).
+            rightColumnNames = getRightColumnNames(right, onColumnNames.values().iterator().next());
+        }
+
+        final List<String> newColumnNameList = new ArrayList<>(_columnNameList.size() + rightColumnNames.size());
+        final List<List<Object>> newColumnList = new ArrayList<>(_columnNameList.size() + rightColumnNames.size());
+
+        initNewColumnList(newColumnNameList, newColumnList, rightColumnNames);
+
+        final int leftSize = size();
+        final int rightSize = right.size();
+        final HashPartitions leftPartitions = HashPartitions.of(columnsOf(this, leftJoinColumnIndexes), leftSize, partitionCount);
+        final HashPartitions rightPartitions = HashPartitions.of(columnsOf(right, rightJoinColumnIndexes), rightSize, partitionCount);
+        final int[] rightNext = new int[rightSize];
+        final int[] leftHead = new int[leftSize];
+        final int[] counts = new int[leftSize];
+
+        // build and probe the hash table of each partition. Each left/right row is only accessed by the thread of its partition.
+        HashPartitions.execute(partitionCount, new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int partition) {
+                final int[] rightRowIndexes = rightPartitions.rowIndexes[partition];
+                final Map<Object, Integer> rightRowIndexMap = new HashMap<>(N.initHashCapacity(rightRowIndexes.length));
+                Integer rightRowIndex = null;
+
+                // backwards, so the right rows with the same key are chained in ascending order.
+                for (int i = rightRowIndexes.length - 1; i >= 0; i--) {
+                    rightRowIndex = rightRowIndexMap.put(rightPartitions.keys[rightRowIndexes[i]], rightRowIndexes[i]);
+                    rightNext[rightRowIndexes[i]] = rightRowIndex == null ? -1 : rightRowIndex;
+                }
+
+                for (int leftRowIndex : leftPartitions.rowIndexes[partition]) {
+                    rightRowIndex = rightRowIndexMap.get(leftPartitions.keys[leftRowIndex]);
+                    leftHead[leftRowIndex] = rightRowIndex == null ? -1 : rightRowIndex;
+
+                    for (int i = leftHead[leftRowIndex]; i >= 0; i = rightNext[i]) {
+                        counts[leftRowIndex]++;
+                    }
+                }
+            }
+        });
+
+        final int[] positions = new int[leftSize];
+        int total = 0;
+
+        for (int leftRowIndex = 0; leftRowIndex < leftSize; leftRowIndex++) {
+            positions[leftRowIndex] = total;
+            total += counts[leftRowIndex] == 0 ? (isLeftJoin ? 1 : 0) : counts[leftRowIndex];
+        }
+
+        final int[] leftRowIndexes = new int[total];
+        final int[] rightRowIndexes = new int[total];
+
+        HashPartitions.execute(partitionCount, new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int partition) {
+                for (int leftRowIndex : leftPartitions.rowIndexes[partition]) {
+                    int pos = positions[leftRowIndex];
+
+                    if (leftHead[leftRowIndex] < 0) {
+                        if (isLeftJoin) {
+                            leftRowIndexes[pos] = leftRowIndex;
+                            rightRowIndexes[pos] = -1;
+                        }
+                    } else {
+                        for (int i = leftHead[leftRowIndex]; i >= 0; i = rightNext[i]) {
+                            leftRowIndexes[pos] = leftRowIndex;
+                            rightRowIndexes[pos++] = i;
+                        }
+                    }
+                }
+            }
+        });
+
+        final int leftColumnCount = _columnNameList.size();
+        final int[] rightColumnIndexes = right.getColumnIndex(rightColumnNames);
+
+        // copy the columns in parallel.
+        HashPartitions.execute(newColumnList.size(), new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int columnIndex) {
+                final boolean isLeftColumn = columnIndex < leftColumnCount;
+                final List<Object> column = isLeftColumn ? _columnList.get(columnIndex) : columnOf(right, rightColumnIndexes[columnIndex - leftColumnCount]);
+                final int[] rowIndexes = isLeftColumn ? leftRowIndexes : rightRowIndexes;
+                final List<Object> newColumn = new ArrayList<>(rowIndexes.length);
+
+                for (int rowIndex : rowIndexes) {
+                    newColumn.add(rowIndex < 0 ? null : column.get(rowIndex));
+                }
+
+                newColumnList.set(columnIndex, newColumn);
+            }
+        });
+
+        return new RowDataSet(newColumnNameList, newColumnList);
+    }
+
+    @Override
+    public DataSet sortedInnerJoin(final DataSet right, final String columnName, final String refColumnName) {
+        return sortedInnerJoin(right, N.asMap(columnName, refColumnName));
+    }
+
+    @Override
+    public DataSet sortedInnerJoin(final DataSet right, final Map<String, String> onColumnNames) {
+        return sortedJoin(right, onColumnNames, false);
+    }
+
+    @Override
+    public DataSet sortedLeftJoin(final DataSet right, final String columnName, final String refColumnName) {
+        return sortedLeftJoin(right, N.asMap(columnName, refColumnName));
+    }
+
+    @Override
+    public DataSet sortedLeftJoin(final DataSet right, final Map<String, String> onColumnNames) {
+        return sortedJoin(right, onColumnNames, true);
+    }
+
+    private DataSet sortedJoin(final DataSet right, final Map<String, String> onColumnNames, final boolean isLeftJoin) {
+        checkJoinOnColumnNames(onColumnNames);
+
+        final int[] leftJoinColumnIndexes = new int[onColumnNames.size()];
+        final int[] rightJoinColumnIndexes = new int[onColumnNames.size()];
+        List<String> rightColumnNames = new ArrayList<>(right.columnNameList());
+
+        initColumnIndexes(leftJoinColumnIndexes, rightJoinColumnIndexes, right, onColumnNames, rightColumnNames);
+
+        if (onColumnNames.size() == 1) {
+            // same as: join(right, onColumnNames, isLeftJoin).
+            rightColumnNames = getRightColumnNames(right, onColumnNames.values().iterator().next());
+        }
+
+        final List<String> newColumnNameList = new ArrayList<>(_columnNameList.size() + rightColumnNames.size());
+        final List<List<Object>> newColumnList = new ArrayList<>(_columnNameList.size() + rightColumnNames.size());
+
+        initNewColumnList(newColumnNameList, newColumnList, rightColumnNames);
+
+        final List<List<Object>> leftJoinColumns = columnsOf(this, leftJoinColumnIndexes);
+        final List<List<Object>> rightJoinColumns = columnsOf(right, rightJoinColumnIndexes);
+        final int leftSize = size();
+        final int rightSize = right.size();
+        final IntList leftRowIndexes = new IntList(Math.max(leftSize, rightSize));
+        final IntList rightRowIndexes = new IntList(Math.max(leftSize, rightSize));
+        int leftRowIndex = 0;
+        int rightRowIndex = 0;
+        int cmp = 0;
+
+        while (leftRowIndex < leftSize) {
+            cmp = rightRowIndex < rightSize ? compareRows(leftJoinColumns, leftRowIndex, rightJoinColumns, rightRowIndex) : -1;
+
+            if (cmp < 0) {
+                if (isLeftJoin) {
+                    leftRowIndexes.add(leftRowIndex);
+                    rightRowIndexes.add(-1);
+                }
+
+                checkSorted(leftJoinColumns, leftRowIndex++, leftSize, "this");
+            } else if (cmp > 0) {
+                checkSorted(rightJoinColumns, rightRowIndex++, rightSize, "right");
+            } else {
+                // the group of right rows with the same key.
+                int toRightRowIndex = rightRowIndex + 1;
+
+                while (toRightRowIndex < rightSize && compareRows(rightJoinColumns, rightRowIndex, rightJoinColumns, toRightRowIndex) == 0) {
+                    toRightRowIndex++;
+                }
+
+                do {
+                    for (int i = rightRowIndex; i < toRightRowIndex; i++) {
+                        leftRowIndexes.add(leftRowIndex);
+                        rightRowIndexes.add(i);
+                    }
+
+                    checkSorted(leftJoinColumns, leftRowIndex++, leftSize, "this");
+                } while (leftRowIndex < leftSize && compareRows(leftJoinColumns, leftRowIndex, rightJoinColumns, rightRowIndex) == 0);
+
+                rightRowIndex = toRightRowIndex - 1;
+                checkSorted(rightJoinColumns, rightRowIndex++, rightSize, "right");
+            }
+        }
+
+        join(newColumnList, right, new int[][] { leftRowIndexes.trimToSize().array(), rightRowIndexes.trimToSize().array() },
+                right.getColumnIndex(rightColumnNames));
+
+        return new RowDataSet(newColumnNameList, newColumnList);
+    }
+
+    @Override
+    public DataSet rangeJoin(final DataSet right, final String columnName, final String fromColumnName, final String toColumnName) {
+        final int leftColumnIndex = checkColumnName(columnName);
+        final int fromColumnIndex = checkRefColumnName(right, fromColumnName);
+        final int toColumnIndex = checkRefColumnName(right, toColumnName);
+        final List<String> rightColumnNames = new ArrayList<>(right.columnNameList());
+        final List<String> newColumnNameList = new ArrayList<>(_columnNameList.size() + rightColumnNames.size());
+        final List<List<Object>> newColumnList = new ArrayList<>(_columnNameList.size() + rightColumnNames.size());
+
+        initNewColumnList(newColumnNameList, newColumnList, rightColumnNames);
+
+        final List<Object> leftColumn = columnOf(this, leftColumnIndex);
+        final List<Object> fromColumn = columnOf(right, fromColumnIndex);
+        final List<Object> toColumn = columnOf(right, toColumnIndex);
+        final int leftSize = size();
+        final int rightSize = right.size();
+        final IntList leftRowIndexes = new IntList(Math.max(leftSize, rightSize));
+        final IntList rightRowIndexes = new IntList(Math.max(leftSize, rightSize));
+        // the right rows whose range may contain the current value and the following values, in ascending order of row index.
+        int[] activeRowIndexes = new int[16];
+        int activeCount = 0;
+        int rightRowIndex = 0;
+        Object value = null;
+        Object previousValue = null;
+
+        for (int leftRowIndex = 0; leftRowIndex < leftSize; leftRowIndex++) {
+            value = leftColumn.get(leftRowIndex);
+
+            if (value == null) {
+                continue;
+            } else if (previousValue != null && compareValues(previousValue, value) > 0) {
+                throw new IllegalArgumentException("This DataSet is not sorted by column: " + columnName + " at row: " + leftRowIndex);
+            }
+
+            previousValue = value;
+
+            for (; rightRowIndex < rightSize && (fromColumn.get(rightRowIndex) == null || compareValues(fromColumn.get(rightRowIndex), value) <= 0); rightRowIndex++) {
+                if (rightRowIndex > 0 && compareValues(fromColumn.get(rightRowIndex - 1), fromColumn.get(rightRowIndex)) > 0) {
+                    throw new IllegalArgumentException("The right DataSet is not sorted by column: " + fromColumnName + " at row: " + rightRowIndex);
+                }
+
+                if (fromColumn.get(rightRowIndex) != null) {
+                    if (activeCount == activeRowIndexes.length) {
+                        activeRowIndexes = Arrays.copyOf(activeRowIndexes, activeCount * 2);
+                    }
+
+                    activeRowIndexes[activeCount++] = rightRowIndex;
+                }
+            }
+
+            // the values are ascending. The ranges ended before this value can be removed.
+            final int len = activeCount;
+            activeCount = 0;
+
+            for (int i = 0; i < len; i++) {
+                final int activeRowIndex = activeRowIndexes[i];
+
+                if (toColumn.get(activeRowIndex) != null && compareValues(toColumn.get(activeRowIndex), value) >= 0) {
+                    activeRowIndexes[activeCount++] = activeRowIndex;
+                    leftRowIndexes.add(leftRowIndex);
+                    rightRowIndexes.add(activeRowIndex);
+                }
+            }
+        }
+
+        join(newColumnList, right, new int[][] { leftRowIndexes.trimToSize().array(), rightRowIndexes.trimToSize().array() },
+                right.getColumnIndex(rightColumnNames));
+
+        return new RowDataSet(newColumnNameList, newColumnList);
+    }
+
+    private static int compareRows(final List<List<Object>> columnsA, final int rowIndexA, final List<List<Object>> columnsB, final int rowIndexB) {
+        int result = 0;
+
+        for (int i = 0, len = columnsA.size(); i < len; i++) {
+            if ((result = compareValues(columnsA.get(i).get(rowIndexA), columnsB.get(i).get(rowIndexB))) != 0) {
+                return result;
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static int compareValues(final Object a, final Object b) {
+        return N.compare((Comparable) a, (Comparable) b);
+    }
+
+    private static void checkSorted(final List<List<Object>> columns, final int rowIndex, final int size, final String dataSetName) {
+        if (rowIndex + 1 < size && compareRows(columns, rowIndex, columns, rowIndex + 1) > 0) {
+            throw new IllegalArgumentException("The " + dataSetName + " DataSet is not sorted by the join columns at row: " + (rowIndex + 1));
+        }
+    }
+
     private DataSet join(final DataSet right, final Map<String, String> onColumnNames, final boolean isLeftJoin) {
         checkJoinOnColumnNames(onColumnNames);
 
@@ -6696,6 +7187,15 @@ public class RowDataSet implements DataSet, Cloneable {
 
             initNewColumnList(newColumnNameList, newColumnList, rightColumnNames);
 
+            final int[][] joinedRowIndexes = NumericJoinIndex.join(_columnList.get(leftJoinColumnIndex), columnOf(right, rightJoinColumnIndex), isLeftJoin,
+                    false);
+
+            if (joinedRowIndexes != null) {
+                join(newColumnList, right, joinedRowIndexes, right.getColumnIndex(rightColumnNames));
+
+                return new RowDataSet(newColumnNameList, newColumnList);
+            }
+
             final List<Object> leftJoinColumn = this.getColumn(leftJoinColumnIndex);
             final List<Object> rightJoinColumn = right.getColumn(rightJoinColumnIndex);
             final Map<Object, List<Integer>> joinColumnRightRowIndexMap = new HashMap<>();
@@ -6811,6 +7311,15 @@ public class RowDataSet implements DataSet, Cloneable {
 
             initNewColumnList(newColumnNameList, newColumnList, newColumnName);
 
+            final int[][] joinedRowIndexes = NumericJoinIndex.join(_columnList.get(leftJoinColumnIndex), columnOf(right, rightJoinColumnIndex), isLeftJoin,
+                    false);
+
+            if (joinedRowIndexes != null) {
+                join(newColumnList, right, newColumnClass, newColumnList.size() - 1, joinedRowIndexes);
+
+                return new RowDataSet(newColumnNameList, newColumnList);
+            }
+
             final List<Object> leftJoinColumn = this.getColumn(leftJoinColumnIndex);
             final List<Object> rightJoinColumn = right.getColumn(rightJoinColumnIndex);
             final Map<Object, List<Integer>> joinColumnRightRowIndexMap = new HashMap<>();
@@ -6906,6 +7415,145 @@ public class RowDataSet implements DataSet, Cloneable {
         }
     }
 
+    /**
+     *
+     * @param newColumnList the (empty) new columns are replaced by the joined columns.
+     * @param right
+     * @param joinedRowIndexes {@code [leftRowIndexes, rightRowIndexes]} returned by {@code NumericJoinIndex.join}. {@code -1} for the missed side.
+     * @param rightColumnIndexes
+     */
+    private void join(final List<List<Object>> newColumnList, final DataSet right, final int[][] joinedRowIndexes, final int[] rightColumnIndexes) {
+        final int[] leftRowIndexes = joinedRowIndexes[0];
+        final int[] rightRowIndexes = joinedRowIndexes[1];
+        final int leftColumnLength = _columnNameList.size();
+
+        for (int i = 0; i < leftColumnLength; i++) {
+            newColumnList.set(i, joinedColumn(_columnList.get(i), leftRowIndexes));
+        }
+
+        for (int i = 0, rightColumnLength = rightColumnIndexes.length; i < rightColumnLength; i++) {
+            newColumnList.set(leftColumnLength + i, joinedColumn(columnOf(right, rightColumnIndexes[i]), rightRowIndexes));
+        }
+    }
+
+    private void join(final List<List<Object>> newColumnList, final DataSet right, final Class<?> newColumnClass, final int newColumnIndex,
+            final int[][] joinedRowIndexes) {
+        final int[] leftRowIndexes = joinedRowIndexes[0];
+        final int[] rightRowIndexes = joinedRowIndexes[1];
+
+        for (int i = 0, leftColumnLength = _columnNameList.size(); i < leftColumnLength; i++) {
+            newColumnList.set(i, joinedColumn(_columnList.get(i), leftRowIndexes));
+        }
+
+        final List<Object> newColumn = new ArrayList<>(rightRowIndexes.length);
+
+        for (int rightRowIndex : rightRowIndexes) {
+            newColumn.add(rightRowIndex < 0 ? null : right.getRow(newColumnClass, rightRowIndex));
+        }
+
+        newColumnList.set(newColumnIndex, newColumn);
+    }
+
+    private static List<Object> joinedColumn(final List<Object> column, final int[] rowIndexes) {
+        final List<Object> newColumn = new ArrayList<>(rowIndexes.length);
+
+        for (int rowIndex : rowIndexes) {
+            newColumn.add(rowIndex < 0 ? null : column.get(rowIndex));
+        }
+
+        return newColumn;
+    }
+
+    private static List<List<Object>> columnsOf(final DataSet dataSet, final int[] columnIndexes) {
+        final List<List<Object>> columns = new ArrayList<>(columnIndexes.length);
+
+        for (int columnIndex : columnIndexes) {
+            columns.add(columnOf(dataSet, columnIndex));
+        }
+
+        return columns;
+    }
+
+    /**
+     *
+     * @param partitions
+     * @return the index of the first row of each key, in ascending order.
+     */
+    private static int[] firstRowIndexes(final HashPartitions partitions) {
+        final boolean[] isFirstRow = new boolean[partitions.keys.length];
+
+        HashPartitions.execute(partitions.partitionCount(), new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int partition) {
+                final int[] rowIndexes = partitions.rowIndexes[partition];
+                final Set<Object> keySet = new HashSet<>(N.initHashCapacity(rowIndexes.length));
+
+                for (int rowIndex : rowIndexes) {
+                    if (keySet.add(partitions.keys[rowIndex])) {
+                        isFirstRow[rowIndex] = true;
+                    }
+                }
+            }
+        });
+
+        return selectedRowIndexes(isFirstRow);
+    }
+
+    private static int[] selectedRowIndexes(final boolean[] isSelected) {
+        int count = 0;
+
+        for (boolean b : isSelected) {
+            if (b) {
+                count++;
+            }
+        }
+
+        final int[] rowIndexes = new int[count];
+
+        for (int i = 0, j = 0, len = isSelected.length; i < len; i++) {
+            if (isSelected[i]) {
+                rowIndexes[j++] = i;
+            }
+        }
+
+        return rowIndexes;
+    }
+
+    /**
+     * Copies the specified rows of the specified columns, one column per thread.
+     *
+     * @param columnIndexes
+     * @param rowIndexes
+     * @return
+     */
+    private List<List<Object>> copyOf(final int[] columnIndexes, final int[] rowIndexes) {
+        final List<List<Object>> newColumnList = new ArrayList<>(columnIndexes.length + 1);
+
+        for (int i = 0, len = columnIndexes.length; i < len; i++) {
+            newColumnList.add(null);
+        }
+
+        HashPartitions.execute(columnIndexes.length, new Try.IntConsumer<RuntimeException>() {
+            @Override
+            public void accept(final int i) {
+                final List<Object> column = _columnList.get(columnIndexes[i]);
+                final List<Object> newColumn = new ArrayList<>(rowIndexes.length);
+
+                for (int rowIndex : rowIndexes) {
+                    newColumn.add(column.get(rowIndex));
+                }
+
+                newColumnList.set(i, newColumn);
+            }
+        });
+
+        return newColumnList;
+    }
+
+    private static List<Object> columnOf(final DataSet dataSet, final int columnIndex) {
+        return dataSet instanceof RowDataSet ? ((RowDataSet) dataSet)._columnList.get(columnIndex) : dataSet.getColumn(columnIndex);
+    }
+
     private void checkJoinOnColumnNames(final Map<String, String> onColumnNames) {
         if (N.isNullOrEmpty(onColumnNames)) {
             throw new IllegalArgumentException("The joining column names can't be null or empty");
@@ -7629,6 +8277,14 @@ public class RowDataSet implements DataSet, Cloneable {
 
             initNewColumnList(newColumnNameList, newColumnList, rightColumnNames);
 
+            final int[][] joinedRowIndexes = NumericJoinIndex.join(_columnList.get(leftJoinColumnIndex), columnOf(right, rightJoinColumnIndex), true, true);
+
+            if (joinedRowIndexes != null) {
+                join(newColumnList, right, joinedRowIndexes, right.getColumnIndex(rightColumnNames));
+
+                return new RowDataSet(newColumnNameList, newColumnList);
+            }
+
             final List<Object> leftJoinColumn = this.getColumn(leftJoinColumnIndex);
             final List<Object> rightJoinColumn = right.getColumn(rightJoinColumnIndex);
             final Map<Object, List<Integer>> joinColumnRightRowIndexMap = new HashMap<>();
@@ -7782,6 +8438,14 @@ public class RowDataSet implements DataSet, Cloneable {
 
             initNewColumnList(newColumnNameList, newColumnList, newColumnName);
 
+            final int[][] joinedRowIndexes = NumericJoinIndex.join(_columnList.get(leftJoinColumnIndex), columnOf(right, rightJoinColumnIndex), true, true);
+
+            if (joinedRowIndexes != null) {
+                join(newColumnList, right, newColumnClass, newColumnList.size() - 1, joinedRowIndexes);
+
+                return new RowDataSet(newColumnNameList, newColumnList);
+            }
+
             final List<Object> leftJoinColumn = this.getColumn(leftJoinColumnIndex);
             final List<Object> rightJoinColumn = right.getColumn(rightJoinColumnIndex);
             final Map<Object, List<Integer>> joinColumnRightRowIndexMap = new HashMap<>();
@@ -8477,6 +9141,11 @@ public class RowDataSet implements DataSet, Cloneable {
         return new PaginatedRowDataSet(pageSize);
     }
 
+    @Override
+    public LazyDataSet lazy() {
+        return new LazyRowDataSet(this);
+    }
+
     //    @SuppressWarnings("rawtypes")
     //    @Override
     //    public <T extends Comparable<T>> Map<String, T> percentiles(final String columnName) {
@@ -9042,7 +9711,7 @@ public class RowDataSet implements DataSet, Cloneable {
         }
     }
 
-    private static Object getHashKey(Object obj) {
+    static Object getHashKey(Object obj) {
         return obj == null || obj.getClass().isArray() == false ? obj : Wrapper.of(obj);
     }
 
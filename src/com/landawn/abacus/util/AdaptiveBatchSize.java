@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+/**
+ * Batch size adjusted by the observed latency of {@code executeBatch}: it's doubled or halved (between {@code initialBatchSize / 8} and
+ * {@code initialBatchSize * 8}) in the direction which increases the throughput (rows per second), and halved if one batch takes more than one second.
+ * It starts from {@code initialBatchSize}. After a step makes the throughput worse, the batch size goes back and is kept for {@code HOLD_BATCH_COUNT} batches
+ * before the next step is tried in the other direction.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class AdaptiveBatchSize {
+    static final int FACTOR = 8;
+    static final long MAX_BATCH_LATENCY = 1000L * 1000 * 1000;
+    static final int HOLD_BATCH_COUNT = 8;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private int batchSize;
+    private boolean isGrowing = true;
+    private double lastThroughput = -1;
+    private int holdCount = 0;
+
+    AdaptiveBatchSize(final int initialBatchSize) {
+        N.checkArgument(initialBatchSize > 0, "'initialBatchSize'=%s must be greater than 0", initialBatchSize);
+
+        this.minBatchSize = Math.max(1, initialBatchSize / FACTOR);
+        this.maxBatchSize = (int) Math.min(Integer.MAX_VALUE / 2, (long) initialBatchSize * FACTOR);
+        this.batchSize = initialBatchSize;
+    }
+
+    int get() {
+        return batchSize;
+    }
+
+    /**
+     * Adjusts the batch size by the latency of the last batch. Only the full batches are measured.
+     *
+     * @param rowCount
+     * @param elapsedNanos
+     */
+    void update(final int rowCount, final long elapsedNanos) {
+        if (rowCount != batchSize) {
+            return;
+        }
+
+        final double throughput = rowCount / (double) Math.max(1, elapsedNanos);
+
+        if (elapsedNanos > MAX_BATCH_LATENCY) {
+            isGrowing = false;
+            holdCount = 0;
+        } else if (holdCount > 0) {
+            holdCount--;
+            lastThroughput = throughput;
+            return;
+        } else if (lastThroughput >= 0 && throughput < lastThroughput) {
+            isGrowing = !isGrowing;
+            holdCount = HOLD_BATCH_COUNT;
+        }
+
+        lastThroughput = throughput;
+
+        if (isGrowing) {
+            if (batchSize < maxBatchSize) {
+                batchSize = Math.min(maxBatchSize, batchSize * 2);
+            } else {
+                isGrowing = false;
+            }
+        } else {
+            if (batchSize > minBatchSize) {
+                batchSize = Math.max(minBatchSize, batchSize / 2);
+            } else {
+                isGrowing = true;
+            }
+        }
+    }
+}
@@ -22,7 +22,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -30,8 +29,6 @@ import java.util.Map.Entry;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.RandomAccess;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import com.landawn.abacus.annotation.NullSafe;
 
@@ -45,8 +42,6 @@ import com.landawn.abacus.annotation.NullSafe;
  */
 public final class Array {
 
-    static final AsyncExecutor parallelSortExecutor = new AsyncExecutor(64, 300L, TimeUnit.SECONDS);
-
     static volatile int CPU_CORES = IOUtil.CPU_CORES;
 
     static final int MIN_ARRAY_SORT_GRAN = 8192;
@@ -2674,103 +2669,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final char[] a, int fromIndexA, int toIndexA, final char[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (a[fromIndexA] <= b[fromIndexB]) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final byte[] array) {
@@ -2795,103 +2694,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final byte[] a, int fromIndexA, int toIndexA, final byte[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (a[fromIndexA] <= b[fromIndexB]) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final short[] array) {
@@ -2916,103 +2719,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final short[] a, int fromIndexA, int toIndexA, final short[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (a[fromIndexA] <= b[fromIndexB]) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final int[] array) {
@@ -3037,103 +2744,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final int[] a, int fromIndexA, int toIndexA, final int[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (a[fromIndexA] <= b[fromIndexB]) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final long[] array) {
@@ -3158,103 +2769,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final long[] a, int fromIndexA, int toIndexA, final long[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (a[fromIndexA] <= b[fromIndexB]) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final float[] array) {
@@ -3279,122 +2794,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final float[] a, int fromIndexA, int toIndexA, final float[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        int numOfNaN = 0;
-
-        for (int i = toIndexA - 1; i >= fromIndexA && Float.isNaN(a[i]); i--) {
-            toIndexA--;
-            numOfNaN++;
-        }
-
-        for (int i = toIndexB - 1; i >= fromIndexB && Float.isNaN(b[i]); i--) {
-            toIndexB--;
-            numOfNaN++;
-        }
-
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (Float.compare(a[fromIndexA], b[fromIndexB]) <= 0) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        } else if (fromIndexB < toIndexB && numOfNaN > 0) {
-            N.copy(b, fromIndexB, b, fromIndex, toIndexB - fromIndexB);
-            fromIndex += toIndexB - fromIndexB;
-        }
-
-        if (numOfNaN > 0) {
-            N.fill(b, fromIndex, fromIndex + numOfNaN, Float.NaN);
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final double[] array) {
@@ -3419,122 +2819,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static void merge(final double[] a, int fromIndexA, int toIndexA, final double[] b, int fromIndexB, int toIndexB, int fromIndex) {
-        int numOfNaN = 0;
-
-        for (int i = toIndexA - 1; i >= fromIndexA && Double.isNaN(a[i]); i--) {
-            toIndexA--;
-            numOfNaN++;
-        }
-
-        for (int i = toIndexB - 1; i >= fromIndexB && Double.isNaN(b[i]); i--) {
-            toIndexB--;
-            numOfNaN++;
-        }
-
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (Double.compare(a[fromIndexA], b[fromIndexB]) <= 0) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        } else if (fromIndexB < toIndexB && numOfNaN > 0) {
-            N.copy(b, fromIndexB, b, fromIndex, toIndexB - fromIndexB);
-            fromIndex += toIndexB - fromIndexB;
-        }
-
-        if (numOfNaN > 0) {
-            N.fill(b, fromIndex, fromIndex + numOfNaN, Double.NaN);
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex);
     }
 
     static void parallelSort(final Object[] a) {
@@ -3572,104 +2857,7 @@ public final class Array {
             return;
         }
 
-        final Queue<Pair<Integer, Integer>> subArrayIndexQueue = new LinkedList<>();
-        final AtomicInteger activeThreadNum = new AtomicInteger();
-        final Holder<Throwable> errorHolder = new Holder<>();
-        final int lenOfSubArray = len % CPU_CORES == 0 ? len / CPU_CORES : (len / CPU_CORES) + 1;
-
-        for (int i = 0; i < CPU_CORES; i++) {
-            final int start = fromIndex + i * lenOfSubArray;
-            final int end = toIndex - start < lenOfSubArray ? toIndex : start + lenOfSubArray;
-            subArrayIndexQueue.add(Pair.of(start, end));
-
-            activeThreadNum.incrementAndGet();
-
-            parallelSortExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        if (errorHolder.value() != null) {
-                            return;
-                        }
-
-                        Arrays.sort(a, start, end, comparator);
-                    } catch (Throwable e) {
-                        setError(errorHolder, e);
-                    } finally {
-                        activeThreadNum.decrementAndGet();
-                    }
-                }
-            });
-        }
-
-        while (activeThreadNum.get() > 0) {
-            N.sleep(1);
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-
-        while (subArrayIndexQueue.size() > 1 && errorHolder.value() == null) {
-            for (int i = 0, size = subArrayIndexQueue.size(); i < size;) {
-                final Pair<Integer, Integer> pairA = subArrayIndexQueue.poll();
-                if (++i == size) {
-                    subArrayIndexQueue.add(pairA);
-                } else {
-                    i++;
-                    final Pair<Integer, Integer> pairB = subArrayIndexQueue.poll();
-                    subArrayIndexQueue.offer(Pair.of(pairA.left, pairB.right));
-
-                    activeThreadNum.incrementAndGet();
-
-                    parallelSortExecutor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                if (errorHolder.value() != null) {
-                                    return;
-                                }
-
-                                merge(N.copyOfRange(a, pairA.left, pairA.right), 0, pairA.right - pairA.left, a, pairB.left, pairB.right, pairA.left,
-                                        comparator);
-
-                            } catch (Throwable e) {
-                                setError(errorHolder, e);
-                            } finally {
-                                activeThreadNum.decrementAndGet();
-                            }
-                        }
-                    });
-                }
-            }
-
-            while (activeThreadNum.get() > 0) {
-                N.sleep(1);
-            }
-
-            if (errorHolder.value() != null) {
-                throw N.toRuntimeException(errorHolder.value());
-            }
-        }
-
-        if (errorHolder.value() != null) {
-            throw N.toRuntimeException(errorHolder.value());
-        }
-    }
-
-    static <T> void merge(final T[] a, int fromIndexA, int toIndexA, final T[] b, int fromIndexB, int toIndexB, int fromIndex, Comparator<? super T> cmp) {
-        while (fromIndexA < toIndexA && fromIndexB < toIndexB) {
-            if (cmp.compare(a[fromIndexA], b[fromIndexB]) <= 0) {
-                b[fromIndex++] = a[fromIndexA++];
-            } else {
-                b[fromIndex++] = b[fromIndexB++];
-            }
-        }
-
-        if (fromIndexA < toIndexA) {
-            N.copy(a, fromIndexA, b, fromIndex, toIndexA - fromIndexA);
-            fromIndex += toIndexA - fromIndexA;
-        }
+        ParallelMergeSort.sort(a, fromIndex, toIndex, comparator);
     }
 
     static <T extends Comparable<? super T>> void parallelSort(final List<? extends T> c) {
@@ -3728,7 +2916,7 @@ public final class Array {
         }
     }
 
-    static void bucketSort(final int[] a) {
+    static void bucketSort(final char[] a) {
         if (N.isNullOrEmpty(a)) {
             return;
         }
@@ -3736,36 +2924,32 @@ public final class Array {
         bucketSort(a, 0, a.length);
     }
 
-    static void bucketSort(final int[] a, final int fromIndex, final int toIndex) {
+    static void bucketSort(final char[] a, final int fromIndex, final int toIndex) {
         N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
 
         if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
             return;
         }
 
-        if (toIndex - fromIndex < 32) {
-            sort(a, fromIndex, toIndex);
+        RadixSort.sort(a, fromIndex, toIndex);
+    }
+
+    static void bucketSort(final int[] a) {
+        if (N.isNullOrEmpty(a)) {
             return;
         }
 
-        final Multiset<Integer> multiset = new Multiset<>();
-
-        for (int i = fromIndex; i < toIndex; i++) {
-            multiset.add(a[i]);
-        }
+        bucketSort(a, 0, a.length);
+    }
 
-        final Map<Integer, Integer> m = multiset.toMapSortedBy(new Comparator<Map.Entry<Integer, MutableInt>>() {
-            @Override
-            public int compare(Entry<Integer, MutableInt> a, Entry<Integer, MutableInt> b) {
-                return N.compare(a.getKey().intValue(), a.getKey().intValue());
-            }
-        });
-        int idx = fromIndex;
+    static void bucketSort(final int[] a, final int fromIndex, final int toIndex) {
+        N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
 
-        for (Map.Entry<Integer, Integer> entry : m.entrySet()) {
-            N.fill(a, idx, idx + entry.getValue(), entry.getKey());
-            idx += entry.getValue();
+        if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
+            return;
         }
+
+        RadixSort.sort(a, fromIndex, toIndex);
     }
 
     static void bucketSort(final long[] a) {
@@ -3783,33 +2967,28 @@ public final class Array {
             return;
         }
 
-        if (toIndex - fromIndex < 32) {
-            sort(a, fromIndex, toIndex);
-            return;
-        }
-
-        final Multiset<Long> multiset = new Multiset<>();
+        RadixSort.sort(a, fromIndex, toIndex);
+    }
 
-        for (int i = fromIndex; i < toIndex; i++) {
-            multiset.add(a[i]);
+    static void bucketSort(final float[] a) {
+        if (N.isNullOrEmpty(a)) {
+            return;
         }
 
-        final Map<Long, Integer> m = multiset.toMapSortedBy(new Comparator<Map.Entry<Long, MutableInt>>() {
-            @Override
-            public int compare(Entry<Long, MutableInt> a, Entry<Long, MutableInt> b) {
-                return N.compare(a.getKey().longValue(), a.getKey().longValue());
-            }
-        });
+        bucketSort(a, 0, a.length);
+    }
 
-        int idx = fromIndex;
+    static void bucketSort(final float[] a, final int fromIndex, final int toIndex) {
+        N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
 
-        for (Map.Entry<Long, Integer> entry : m.entrySet()) {
-            N.fill(a, idx, idx + entry.getValue(), entry.getKey());
-            idx += entry.getValue();
+        if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
+            return;
         }
+
+        RadixSort.sort(a, fromIndex, toIndex);
     }
 
-    static void bucketSort(final float[] a) {
+    static void bucketSort(final double[] a) {
         if (N.isNullOrEmpty(a)) {
             return;
         }
@@ -3817,76 +2996,92 @@ public final class Array {
         bucketSort(a, 0, a.length);
     }
 
-    static void bucketSort(final float[] a, final int fromIndex, final int toIndex) {
+    static void bucketSort(final double[] a, final int fromIndex, final int toIndex) {
         N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
 
         if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
             return;
         }
 
-        if (toIndex - fromIndex < 32) {
-            sort(a, fromIndex, toIndex);
+        RadixSort.sort(a, fromIndex, toIndex);
+    }
+
+    static void parallelBucketSort(final int[] a) {
+        if (N.isNullOrEmpty(a)) {
             return;
         }
 
-        final Multiset<Float> multiset = new Multiset<>();
+        parallelBucketSort(a, 0, a.length);
+    }
 
-        for (int i = fromIndex; i < toIndex; i++) {
-            multiset.add(a[i]);
+    static void parallelBucketSort(final int[] a, final int fromIndex, final int toIndex) {
+        N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
+
+        if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
+            return;
         }
 
-        final Map<Float, Integer> m = multiset.toMapSortedBy(new Comparator<Map.Entry<Float, MutableInt>>() {
-            @Override
-            public int compare(Entry<Float, MutableInt> a, Entry<Float, MutableInt> b) {
-                return N.compare(a.getKey().floatValue(), a.getKey().floatValue());
-            }
-        });
-        int idx = fromIndex;
+        RadixSort.parallelSort(a, fromIndex, toIndex);
+    }
 
-        for (Map.Entry<Float, Integer> entry : m.entrySet()) {
-            N.fill(a, idx, idx + entry.getValue(), entry.getKey());
-            idx += entry.getValue();
+    static void parallelBucketSort(final long[] a) {
+        if (N.isNullOrEmpty(a)) {
+            return;
         }
+
+        parallelBucketSort(a, 0, a.length);
     }
 
-    static void bucketSort(final double[] a) {
+    static void parallelBucketSort(final long[] a, final int fromIndex, final int toIndex) {
+        N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
+
+        if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
+            return;
+        }
+
+        RadixSort.parallelSort(a, fromIndex, toIndex);
+    }
+
+    static void parallelBucketSort(final float[] a) {
         if (N.isNullOrEmpty(a)) {
             return;
         }
 
-        bucketSort(a, 0, a.length);
+        parallelBucketSort(a, 0, a.length);
     }
 
-    static void bucketSort(final double[] a, final int fromIndex, final int toIndex) {
+    static void parallelBucketSort(final float[] a, final int fromIndex, final int toIndex) {
         N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
 
         if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
             return;
         }
 
-        if (toIndex - fromIndex < 32) {
-            sort(a, fromIndex, toIndex);
+        RadixSort.parallelSort(a, fromIndex, toIndex);
+    }
+
+    static void parallelBucketSort(final double[] a) {
+        if (N.isNullOrEmpty(a)) {
             return;
         }
 
-        final Multiset<Double> multiset = new Multiset<>();
+        parallelBucketSort(a, 0, a.length);
+    }
 
-        for (int i = fromIndex; i < toIndex; i++) {
-            multiset.add(a[i]);
+    static void parallelBucketSort(final double[] a, final int fromIndex, final int toIndex) {
+        N.checkFromToIndex(fromIndex, toIndex, a == null ? 0 : a.length);
+
+        if (N.isNullOrEmpty(a) || fromIndex == toIndex) {
+            return;
         }
 
-        final Map<Double, Integer> m = multiset.toMapSortedBy(new Comparator<Map.Entry<Double, MutableInt>>() {
-            @Override
-            public int compare(Entry<Double, MutableInt> a, Entry<Double, MutableInt> b) {
-                return N.compare(a.getKey().doubleValue(), a.getKey().doubleValue());
-            }
-        });
-        int idx = fromIndex;
+        RadixSort.parallelSort(a, fromIndex, toIndex);
+    }
 
-        for (Map.Entry<Double, Integer> entry : m.entrySet()) {
-            N.fill(a, idx, idx + entry.getValue(), entry.getKey());
-            idx += entry.getValue();
-        }
+    static int[] sortIndexes(final long[] keys) {
+        N.checkArgNotNull(keys, "keys");
+
+        return RadixSort.sortIndexes(keys);
     }
 
     /**
@@ -4693,44 +3888,7 @@ public final class Array {
             return N.min(a, fromIndex, toIndex);
         }
 
-        Queue<Integer> queue = null;
-
-        if (k <= len / 2) {
-            queue = new PriorityQueue<>(k);
-
-            for (int i = fromIndex; i < toIndex; i++) {
-                if (queue.size() < k) {
-                    queue.add(a[i]);
-                } else {
-                    if (a[i] > queue.peek().intValue()) {
-                        queue.remove();
-                        queue.add(a[i]);
-                    }
-                }
-            }
-        } else {
-            k = len - k + 1;
-
-            queue = new PriorityQueue<>(k, new Comparator<Integer>() {
-                @Override
-                public int compare(final Integer o1, final Integer o2) {
-                    return o2.compareTo(o1);
-                }
-            });
-
-            for (int i = fromIndex; i < toIndex; i++) {
-                if (queue.size() < k) {
-                    queue.add(a[i]);
-                } else {
-                    if (a[i] < queue.peek().intValue()) {
-                        queue.remove();
-                        queue.add(a[i]);
-                    }
-                }
-            }
-        }
-
-        return queue.peek();
+        return Select.kthSmallest(N.copyOfRange(a, fromIndex, toIndex), 0, len, len - k);
     }
 
     static long kthLargest(final long[] a, int k) {
@@ -4749,44 +3907,7 @@ public final class Array {
             return N.min(a, fromIndex, toIndex);
         }
 
-        Queue<Long> queue = null;
-
-        if (k <= len / 2) {
-            queue = new PriorityQueue<>(k);
-
-            for (int i = fromIndex; i < toIndex; i++) {
-                if (queue.size() < k) {
-                    queue.add(a[i]);
-                } else {
-                    if (a[i] > queue.peek().longValue()) {
-                        queue.remove();
-                        queue.add(a[i]);
-                    }
-                }
-            }
-        } else {
-            k = len - k + 1;
-
-            queue = new PriorityQueue<>(k, new Comparator<Long>() {
-                @Override
-                public int compare(final Long o1, final Long o2) {
-                    return o2.compareTo(o1);
-                }
-            });
-
-            for (int i = fromIndex; i < toIndex; i++) {
-                if (queue.size() < k) {
-                    queue.add(a[i]);
-                } else {
-                    if (a[i] < queue.peek().longValue()) {
-                        queue.remove();
-                        queue.add(a[i]);
-                    }
-                }
-            }
-        }
-
-        return queue.peek();
+        return Select.kthSmallest(N.copyOfRange(a, fromIndex, toIndex), 0, len, len - k);
     }
 
     static float kthLargest(final float[] a, int k) {
@@ -4861,44 +3982,9 @@ public final class Array {
             return N.min(a, fromIndex, toIndex);
         }
 
-        Queue<Double> queue = null;
-
-        if (k <= len / 2) {
-            queue = new PriorityQueue<>(k);
-
-            for (int i = fromIndex; i < toIndex; i++) {
-                if (queue.size() < k) {
-                    queue.add(a[i]);
-                } else {
-                    if (Double.compare(a[i], queue.peek().doubleValue()) > 0) {
-                        queue.remove();
-                        queue.add(a[i]);
-                    }
-                }
-            }
-        } else {
-            k = len - k + 1;
-
-            queue = new PriorityQueue<>(k, new Comparator<Double>() {
-                @Override
-                public int compare(final Double o1, final Double o2) {
-                    return o2.compareTo(o1);
-                }
-            });
+        final long[] keys = Select.toKeys(a, fromIndex, toIndex);
 
-            for (int i = fromIndex; i < toIndex; i++) {
-                if (queue.size() < k) {
-                    queue.add(a[i]);
-                } else {
-                    if (Double.compare(a[i], queue.peek().doubleValue()) < 0) {
-                        queue.remove();
-                        queue.add(a[i]);
-                    }
-                }
-            }
-        }
-
-        return queue.peek();
+        return Select.fromKey(Select.kthSmallest(keys, 0, len, len - k));
     }
 
     static <T extends Comparable<T>> T kthLargest(final T[] a, int k) {
@@ -5055,16 +4141,6 @@ public final class Array {
         return queue.peek();
     }
 
-    static void setError(final Holder<Throwable> errorHolder, Throwable e) {
-        synchronized (errorHolder) {
-            if (errorHolder.value() == null) {
-                errorHolder.setValue(e);
-            } else {
-                errorHolder.value().addSuppressed(e);
-            }
-        }
-    }
-
     //    static double medianOfTwoSortedArrays(final int[] a, final int[] b) {
     //        final int n = a.length;
     //        final int m = b.length;
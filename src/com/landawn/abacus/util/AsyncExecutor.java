@@ -107,7 +107,7 @@ public class AsyncExecutor {
     }
 
     public CompletableFuture<Void> execute(final Runnable command) {
-        return execute(new FutureTask<Void>(command, null));
+        return execute(new CompletableFuture.Task<Void>(command, null));
     }
 
     public CompletableFuture<Void> execute(final Runnable action, final long delay) {
@@ -159,7 +159,7 @@ public class AsyncExecutor {
     }
 
     public <T> CompletableFuture<T> execute(final Callable<T> command) {
-        return execute(new FutureTask<>(command));
+        return execute(new CompletableFuture.Task<>(command));
     }
 
     public <T> CompletableFuture<T> execute(final Callable<T> action, final long delay) {
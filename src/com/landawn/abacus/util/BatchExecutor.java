@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executes the rows by batches on a single-row insert/update {@code PreparedStatement}, optionally with adaptive batch size (see {@code AdaptiveBatchSize})
+ * and multi-row insert: the rows of a batch are inserted by one {@code INSERT ... VALUES (...), (...), ...} (see {@code SQLBuilder.toMultiRowInsert}),
+ * instead of {@code addBatch/executeBatch}. The statements for the multi-row inserts are created by {@code stmtFactory} and closed by {@code close()}.
+ * <br />
+ * The parameter setter for single-row sql is used for multi-row insert by an {@code OffsetPreparedStatement},
+ * which shifts the parameter index by the position of the row. It's created once for each multi-row insert statement.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class BatchExecutor<T> {
+    /**
+     * The max number of parameters in one multi-row insert. Most databases support more (e.g. 65535 for MySQL, 32767 for PostgreSQL), except SQL Server (2100).
+     */
+    static final int MAX_PARAMETER_COUNT = 2000;
+
+    private final PreparedStatement stmt;
+    private final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter;
+    private final int fixedBatchSize;
+    private final AdaptiveBatchSize adaptiveBatchSize;
+    private final String sql;
+    private final int parameterCount;
+    private final int maxRowsPerInsert;
+    private final Try.Function<String, PreparedStatement, SQLException> stmtFactory;
+    private final Map<Integer, OffsetPreparedStatement> multiRowStmtPool = new HashMap<>();
+    private final List<Object> generatedKeys;
+    private long rowCount = 0;
+    private long updateCount = 0;
+
+    /**
+     *
+     * @param stmt the statement for the single-row sql.
+     * @param stmtSetter
+     * @param batchSize
+     * @param isAdaptiveBatchSize
+     * @param sql the single-row sql with {@code '?'} parameters, or {@code null} to disable multi-row insert.
+     * @param parameterCount the parameter count of the single-row sql.
+     * @param stmtFactory to create the statements for the multi-row sqls.
+     * @param generatedKeys the generated keys are added to it if it's not {@code null}.
+     */
+    BatchExecutor(final PreparedStatement stmt, final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter, final int batchSize,
+            final boolean isAdaptiveBatchSize, final String sql, final int parameterCount, final Try.Function<String, PreparedStatement, SQLException> stmtFactory,
+            final List<Object> generatedKeys) {
+        N.checkArgument(batchSize > 0, "'batchSize'=%s must be greater than 0", batchSize);
+
+        this.stmt = stmt;
+        this.stmtSetter = stmtSetter;
+        this.fixedBatchSize = batchSize;
+        this.adaptiveBatchSize = isAdaptiveBatchSize ? new AdaptiveBatchSize(batchSize) : null;
+        this.sql = sql == null || parameterCount == 0 || SQLBuilder.toMultiRowInsert(sql, 1) == null ? null : sql;
+        this.parameterCount = parameterCount;
+        this.maxRowsPerInsert = parameterCount == 0 ? 1 : Math.max(1, MAX_PARAMETER_COUNT / parameterCount);
+        this.stmtFactory = stmtFactory;
+        this.generatedKeys = generatedKeys;
+    }
+
+    int batchSize() {
+        return adaptiveBatchSize == null ? fixedBatchSize : adaptiveBatchSize.get();
+    }
+
+    /**
+     *
+     * @return the number of rows executed.
+     */
+    long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     *
+     * @return the sum of the update counts.
+     */
+    long updateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Executes all the rows by batches.
+     *
+     * @param iter
+     * @param batchInterval
+     * @throws SQLException
+     */
+    void execute(final Iterator<? extends T> iter, final long batchInterval) throws SQLException {
+        final List<T> batch = new ArrayList<>(batchSize());
+
+        while (iter.hasNext()) {
+            batch.add(iter.next());
+
+            if (batch.size() >= batchSize()) {
+                execute(batch);
+                batch.clear();
+
+                if (batchInterval > 0 && iter.hasNext()) {
+                    N.sleep(batchInterval);
+                }
+            }
+        }
+
+        if (batch.size() > 0) {
+            execute(batch);
+        }
+    }
+
+    /**
+     * Executes the rows as one batch.
+     *
+     * @param rows
+     * @throws SQLException
+     */
+    void execute(final List<? extends T> rows) throws SQLException {
+        final int size = rows.size();
+        final long startTime = System.nanoTime();
+
+        if (sql != null && size > 1) {
+            for (int from = 0; from < size; from += maxRowsPerInsert) {
+                executeMultiRowInsert(rows.subList(from, Math.min(size, from + maxRowsPerInsert)));
+            }
+        } else {
+            for (T row : rows) {
+                stmtSetter.accept(stmt, row);
+                stmt.addBatch();
+            }
+
+            final int[] results = stmt.executeBatch();
+            stmt.clearBatch();
+
+            for (int result : results) {
+                updateCount += result;
+            }
+
+            addGeneratedKeys(stmt);
+        }
+
+        rowCount += size;
+
+        if (adaptiveBatchSize != null) {
+            adaptiveBatchSize.update(size, System.nanoTime() - startTime);
+        }
+    }
+
+    private void executeMultiRowInsert(final List<? extends T> rows) throws SQLException {
+        final int size = rows.size();
+        OffsetPreparedStatement offsetStmt = multiRowStmtPool.get(size);
+
+        if (offsetStmt == null) {
+            offsetStmt = new OffsetPreparedStatement(stmtFactory.apply(SQLBuilder.toMultiRowInsert(sql, size)));
+            multiRowStmtPool.put(size, offsetStmt);
+        }
+
+        final PreparedStatement multiRowStmt = offsetStmt.target();
+
+        for (int i = 0; i < size; i++) {
+            offsetStmt.offset = i * parameterCount;
+            stmtSetter.accept(offsetStmt, rows.get(i));
+        }
+
+        updateCount += multiRowStmt.executeUpdate();
+
+        addGeneratedKeys(multiRowStmt);
+
+        multiRowStmt.clearParameters();
+    }
+
+    private void addGeneratedKeys(final PreparedStatement stmt) {
+        if (generatedKeys == null) {
+            return;
+        }
+
+        ResultSet rs = null;
+
+        try {
+            rs = stmt.getGeneratedKeys();
+
+            while (rs.next()) {
+                generatedKeys.add(rs.getObject(1));
+            }
+        } catch (SQLException e) {
+            // ignore. Same as executeBatchInsert in SQLExecutor: the keys are not supported by the driver or the statement.
+        } finally {
+            JdbcUtil.closeQuietly(rs);
+        }
+    }
+
+    /**
+     * Closes the statements created for the multi-row inserts.
+     */
+    void close() {
+        for (OffsetPreparedStatement offsetStmt : multiRowStmtPool.values()) {
+            JdbcUtil.closeQuietly(offsetStmt.target());
+        }
+
+        multiRowStmtPool.clear();
+    }
+}
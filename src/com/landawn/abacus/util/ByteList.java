@@ -645,12 +645,12 @@ public final class ByteList extends PrimitiveList<Byte, byte[], ByteList> {
             return new ByteList();
         }
 
-        final Multiset<Byte> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final ByteList c = new ByteList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(elementData[i]) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -677,12 +677,12 @@ public final class ByteList extends PrimitiveList<Byte, byte[], ByteList> {
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Byte> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final ByteList c = new ByteList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -711,17 +711,17 @@ public final class ByteList extends PrimitiveList<Byte, byte[], ByteList> {
             return b.copy();
         }
 
-        final Multiset<Byte> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
         final ByteList c = new ByteList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(b.elementData[i]) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -733,6 +733,21 @@ public final class ByteList extends PrimitiveList<Byte, byte[], ByteList> {
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list.
+     */
+    private static IntIntMap occurrences(final ByteList list) {
+        final IntIntMap occurrences = new IntIntMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(list.elementData[i], 1);
+        }
+
+        return occurrences;
+    }
+
     public ByteList symmetricDifference(final byte[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.landawn.abacus.core.PrimitiveColumn;
+import com.landawn.abacus.parser.JSONParser;
+import com.landawn.abacus.parser.ParserFactory;
+import com.landawn.abacus.type.Type;
+
+/**
+ * Tokenizer for the CSV lines read by {@code CSVUtil.loadCSV/importCSV}.
+ * <br />
+ * The lines are scanned in a reusable {@code char[]} buffer and the fields are kept as offsets in the buffer: no {@code String} is created for a line,
+ * or for the fields which are not read. The unquoted {@code int/long/float/double} values are parsed from the buffer and added to the {@code PrimitiveColumn} directly.
+ * <br />
+ * The lines with escaped characters, or unexpected spaces/quotations, or a different number of fields are parsed by {@code JSONParser.readString(String[], String)},
+ * same as before, so the result is always the same.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class CSVTokenizer {
+    private static final JSONParser jsonParser = ParserFactory.createJSONParser();
+
+    private static final int UNQUOTED = 0;
+    private static final int QUOTED = 1;
+    private static final int NULL = 2;
+
+    private static final int MAX_INT_DIGITS = 9;
+    private static final int MAX_LONG_DIGITS = 18;
+    // The values with more digits can't be converted exactly by one division.
+    private static final int MAX_FLOAT_DIGITS = 7;
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    private static final float[] FLOAT_POW10 = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+    private static final double[] DOUBLE_POW10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+            1e19, 1e20, 1e21, 1e22 };
+
+    private final Reader reader;
+    private int columnCount;
+    private int[] starts;
+    private int[] ends;
+    private int[] kinds;
+    /**
+     * The fields of the line which is not tokenized by this tokenizer.
+     */
+    private String[] strs;
+
+    private char[] buf = new char[8192];
+    private int pos = 0;
+    private int limit = 0;
+    private boolean eof = false;
+    private boolean skipLF = false;
+
+    private int lineStart = 0;
+    private int lineEnd = 0;
+    private boolean isTokenized = false;
+
+    private long longValue = 0;
+
+    /**
+     * The column count is set by the titles read by {@code readTitles()}.
+     *
+     * @param reader
+     */
+    CSVTokenizer(final Reader reader) {
+        this.reader = reader;
+    }
+
+    CSVTokenizer(final Reader reader, final int columnCount) {
+        this.reader = reader;
+        setColumnCount(columnCount);
+    }
+
+    private void setColumnCount(final int columnCount) {
+        this.columnCount = columnCount;
+        this.starts = new int[columnCount];
+        this.ends = new int[columnCount];
+        this.kinds = new int[columnCount];
+        this.strs = new String[columnCount];
+    }
+
+    /**
+     * Reads the title line. The number of titles is the column count of the following lines.
+     *
+     * @return
+     * @throws IOException
+     */
+    String[] readTitles() throws IOException {
+        final List<String> tmp = new ArrayList<>();
+        jsonParser.readString(tmp, readLine());
+        final String[] titles = tmp.toArray(new String[tmp.size()]);
+
+        setColumnCount(titles.length);
+
+        return titles;
+    }
+
+    /**
+     * Reads the next line, same as {@code BufferedReader.readLine()}.
+     *
+     * @return {@code null} if there is no more line.
+     * @throws IOException
+     */
+    String readLine() throws IOException {
+        return nextLine() ? new String(buf, lineStart, lineEnd - lineStart) : null;
+    }
+
+    /**
+     * Skips the next line without tokenizing it.
+     *
+     * @return {@code false} if there is no more line.
+     * @throws IOException
+     */
+    boolean skip() throws IOException {
+        return nextLine();
+    }
+
+    /**
+     * Reads and tokenizes the next line.
+     *
+     * @return {@code false} if there is no more line.
+     * @throws IOException
+     */
+    boolean next() throws IOException {
+        if (nextLine() == false) {
+            return false;
+        }
+
+        isTokenized = tokenize();
+
+        if (isTokenized == false) {
+            Arrays.fill(strs, null);
+            jsonParser.readString(strs, new String(buf, lineStart, lineEnd - lineStart));
+        }
+
+        return true;
+    }
+
+    /**
+     *
+     * @param index
+     * @return the value of the field in the current line.
+     */
+    String get(final int index) {
+        if (isTokenized == false) {
+            return strs[index];
+        }
+
+        return kinds[index] == NULL ? null : new String(buf, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * Copies the values of all the fields in the current line into the specified array.
+     *
+     * @param output
+     */
+    void get(final String[] output) {
+        for (int i = 0; i < columnCount; i++) {
+            output[i] = get(i);
+        }
+    }
+
+    /**
+     * Adds the value of the field in the current line to the specified column, without creating a {@code String} for unquoted {@code int/long/float/double} value.
+     *
+     * @param column
+     * @param type
+     * @param index
+     */
+    void addTo(final List<Object> column, final Type<?> type, final int index) {
+        if (isTokenized && kinds[index] == UNQUOTED && column instanceof PrimitiveColumn) {
+            final int start = starts[index];
+            final int end = ends[index];
+
+            if (column instanceof PrimitiveColumn.IntColumn) {
+                if (parseLong(start, end, MAX_INT_DIGITS)) {
+                    ((PrimitiveColumn.IntColumn) column).addInt((int) longValue);
+                    return;
+                }
+            } else if (column instanceof PrimitiveColumn.LongColumn) {
+                if (parseLong(start, end, MAX_LONG_DIGITS)) {
+                    ((PrimitiveColumn.LongColumn) column).addLong(longValue);
+                    return;
+                }
+            } else if (column instanceof PrimitiveColumn.FloatColumn) {
+                final int scale = parseDecimal(start, end, MAX_FLOAT_DIGITS, FLOAT_POW10.length - 1);
+
+                if (scale >= 0) {
+                    final float value = longValue / FLOAT_POW10[scale];
+                    ((PrimitiveColumn.FloatColumn) column).addFloat(buf[start] == '-' ? -value : value);
+                    return;
+                }
+            } else if (column instanceof PrimitiveColumn.DoubleColumn) {
+                final int scale = parseDecimal(start, end, MAX_DOUBLE_DIGITS, DOUBLE_POW10.length - 1);
+
+                if (scale >= 0) {
+                    final double value = longValue / DOUBLE_POW10[scale];
+                    ((PrimitiveColumn.DoubleColumn) column).addDouble(buf[start] == '-' ? -value : value);
+                    return;
+                }
+            }
+        }
+
+        column.add(type.valueOf(get(index)));
+    }
+
+    /**
+     * Parses {@code [+-]digits} into {@code longValue}.
+     *
+     * @return {@code false} if the value is not in the format or has more than {@code maxDigits} digits.
+     */
+    private boolean parseLong(int start, final int end, final int maxDigits) {
+        final boolean isNegative = buf[start] == '-';
+
+        if (isNegative || buf[start] == '+') {
+            start++;
+        }
+
+        // the values with leading '0' are decoded as octal numbers by the types.
+        if (start == end || end - start > maxDigits || (buf[start] == '0' && end - start > 1)) {
+            return false;
+        }
+
+        long value = 0;
+        char ch = 0;
+
+        for (int i = start; i < end; i++) {
+            ch = buf[i];
+
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+
+            value = value * 10 + (ch - '0');
+        }
+
+        longValue = isNegative ? -value : value;
+
+        return true;
+    }
+
+    /**
+     * Parses the absolute value of {@code [+-]digits[.digits]} into {@code longValue}, without the decimal point.
+     *
+     * @return the number of digits after the decimal point, or {@code -1} if the value is not in the format or is too long to be converted exactly.
+     */
+    private int parseDecimal(int start, final int end, final int maxDigits, final int maxScale) {
+        if (buf[start] == '-' || buf[start] == '+') {
+            start++;
+        }
+
+        if (start < end - 1 && buf[start] == '0' && buf[start + 1] != '.') {
+            return -1;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int dotIndex = -1;
+        char ch = 0;
+
+        for (int i = start; i < end; i++) {
+            ch = buf[i];
+
+            if (ch >= '0' && ch <= '9') {
+                value = value * 10 + (ch - '0');
+                digits++;
+            } else if (ch == '.' && dotIndex < 0 && i > start && i < end - 1) {
+                dotIndex = i;
+            } else {
+                return -1;
+            }
+        }
+
+        final int scale = dotIndex < 0 ? 0 : end - dotIndex - 1;
+
+        if (digits == 0 || digits > maxDigits || scale > maxScale) {
+            return -1;
+        }
+
+        longValue = value;
+
+        return scale;
+    }
+
+    /**
+     * Splits the current line into fields.
+     *
+     * @return {@code false} if the line is not in the simple format: {@code value, "value", 'value'} without escaped characters,
+     *          or the number of fields is not the column count.
+     */
+    private boolean tokenize() {
+        final char[] cbuf = buf;
+        final int end = lineEnd;
+        int i = lineStart;
+        int fieldCount = 0;
+        char ch = 0;
+
+        // the single unquoted value or the empty last value is read as null by JSONParser.
+        if (i == end || columnCount == 1) {
+            return false;
+        }
+
+        while (true) {
+            while (i < end && isWhitespace(cbuf[i])) {
+                i++;
+            }
+
+            if (fieldCount == columnCount) {
+                return false;
+            }
+
+            if (i < end && (cbuf[i] == '"' || cbuf[i] == '\'')) {
+                final char quote = cbuf[i++];
+                final int start = i;
+
+                while (i < end && (ch = cbuf[i]) != quote) {
+                    if (ch == '\\') {
+                        return false;
+                    }
+
+                    i++;
+                }
+
+                if (i == end) {
+                    return false;
+                }
+
+                starts[fieldCount] = start;
+                ends[fieldCount] = i++;
+                kinds[fieldCount] = QUOTED;
+
+                while (i < end && isWhitespace(cbuf[i])) {
+                    i++;
+                }
+
+                if (i < end && cbuf[i] != ',') {
+                    return false;
+                }
+            } else {
+                final int start = i;
+
+                while (i < end && (ch = cbuf[i]) != ',') {
+                    if (ch == '"' || ch == '\'' || ch == '\\') {
+                        return false;
+                    }
+
+                    i++;
+                }
+
+                int fieldEnd = i;
+
+                while (fieldEnd > start && isWhitespace(cbuf[fieldEnd - 1])) {
+                    fieldEnd--;
+                }
+
+                for (int j = start; j < fieldEnd; j++) {
+                    if (isWhitespace(cbuf[j])) {
+                        return false;
+                    }
+                }
+
+                starts[fieldCount] = start;
+                ends[fieldCount] = fieldEnd;
+                kinds[fieldCount] = fieldEnd - start == 4 && cbuf[start] == 'n' && cbuf[start + 1] == 'u' && cbuf[start + 2] == 'l' && cbuf[start + 3] == 'l'
+                        ? NULL : UNQUOTED;
+            }
+
+            fieldCount++;
+
+            if (i == end) {
+                if (kinds[fieldCount - 1] == UNQUOTED && ends[fieldCount - 1] == starts[fieldCount - 1]) {
+                    return false;
+                }
+
+                break;
+            }
+
+            // skip ','
+            i++;
+        }
+
+        return fieldCount == columnCount;
+    }
+
+    private static boolean isWhitespace(final char ch) {
+        return ch == ' ' || ch == '\t';
+    }
+
+    /**
+     * Moves to the next line, terminated by '\n', '\r' or "\r\n".
+     *
+     * @return {@code false} if there is no more line.
+     * @throws IOException
+     */
+    private boolean nextLine() throws IOException {
+        int i = pos;
+
+        while (true) {
+            if (i == limit) {
+                if (eof) {
+                    if (pos == limit) {
+                        return false;
+                    }
+
+                    // the last line without line terminator.
+                    lineStart = pos;
+                    lineEnd = limit;
+                    pos = limit;
+                    return true;
+                }
+
+                i -= fill();
+                continue;
+            }
+
+            final char ch = buf[i];
+
+            if (skipLF) {
+                skipLF = false;
+
+                if (ch == '\n' && i == pos) {
+                    pos = ++i;
+                    continue;
+                }
+            }
+
+            if (ch == '\n' || ch == '\r') {
+                lineStart = pos;
+                lineEnd = i;
+                pos = i + 1;
+                skipLF = ch == '\r';
+                return true;
+            }
+
+            i++;
+        }
+    }
+
+    /**
+     * Moves the unread chars to the beginning of the buffer, which is enlarged if it's full, and reads more chars.
+     *
+     * @return the number of chars the unread chars moved backward.
+     * @throws IOException
+     */
+    private int fill() throws IOException {
+        final int shift = pos;
+        final int remaining = limit - pos;
+
+        if (remaining == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length * 2);
+        } else if (shift > 0) {
+            System.arraycopy(buf, shift, buf, 0, remaining);
+        }
+
+        pos = 0;
+        limit = remaining;
+
+        final int n = reader.read(buf, limit, buf.length - limit);
+
+        if (n < 0) {
+            eof = true;
+        } else {
+            limit += n;
+        }
+
+        return shift;
+    }
+}
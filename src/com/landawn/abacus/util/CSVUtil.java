@@ -26,6 +26,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -39,6 +40,7 @@ import java.util.Map;
 import java.util.Set;
 
 import com.landawn.abacus.DataSet;
+import com.landawn.abacus.core.PrimitiveColumn;
 import com.landawn.abacus.core.RowDataSet;
 import com.landawn.abacus.dataChannel.DataChannel;
 import com.landawn.abacus.dataChannel.ResultSetChannel;
@@ -157,13 +159,10 @@ public final class CSVUtil {
             final Try.Predicate<String[], E> filter) throws E {
         N.checkArgument(offset >= 0 && count >= 0, "'offset'=%s and 'count'=%s can't be negative", offset, count);
 
-        final BufferedReader br = csvReader instanceof BufferedReader ? (BufferedReader) csvReader : ObjectFactory.createBufferedReader(csvReader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(csvReader);
 
         try {
-            List<String> tmp = new ArrayList<>();
-            String line = br.readLine();
-            jsonParser.readString(tmp, line);
-            final String[] titles = tmp.toArray(new String[tmp.size()]);
+            final String[] titles = tokenizer.readTitles();
 
             final int columnCount = titles.length;
             final Type<?>[] columnTypes = new Type<?>[columnCount];
@@ -185,19 +184,24 @@ public final class CSVUtil {
 
             final String[] strs = new String[titles.length];
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
-            while (count > 0 && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            // The values are read as String only if they're tested by the filter.
+            final boolean isFiltered = filter != null && filter != Fn.<String[]> alwaysTrue();
 
-                if (filter != null && filter.test(strs) == false) {
-                    continue;
+            while (count > 0 && tokenizer.next()) {
+                if (isFiltered) {
+                    tokenizer.get(strs);
+
+                    if (filter.test(strs) == false) {
+                        continue;
+                    }
                 }
 
                 for (int i = 0, columnIndex = 0; i < columnCount; i++) {
                     if (columnTypes[i] != null) {
-                        columnList.get(columnIndex++).add(strs[i]);
+                        columnList.get(columnIndex++).add(isFiltered ? strs[i] : tokenizer.get(i));
                     }
                 }
 
@@ -207,10 +211,6 @@ public final class CSVUtil {
             return new RowDataSet(columnNameList, columnList);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
-        } finally {
-            if (br != csvReader) {
-                ObjectFactory.recycle(br);
-            }
         }
     }
 
@@ -310,14 +310,11 @@ public final class CSVUtil {
             long offset, long count, final Try.Predicate<String[], E> filter) throws E {
         N.checkArgument(offset >= 0 && count >= 0, "'offset'=%s and 'count'=%s can't be negative", offset, count);
 
-        final BufferedReader br = csvReader instanceof BufferedReader ? (BufferedReader) csvReader : ObjectFactory.createBufferedReader(csvReader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(csvReader);
         final EntityInfo entityInfo = ParserUtil.getEntityInfo(entityClass);
 
         try {
-            List<String> tmp = new ArrayList<>();
-            String line = br.readLine();
-            jsonParser.readString(tmp, line);
-            final String[] titles = tmp.toArray(new String[tmp.size()]);
+            final String[] titles = tokenizer.readTitles();
 
             final int columnCount = titles.length;
             final Type<?>[] columnTypes = new Type<?>[columnCount];
@@ -336,7 +333,7 @@ public final class CSVUtil {
                     if (propInfo != null) {
                         columnTypes[i] = propInfo.type;
                         columnNameList.add(titles[i]);
-                        columnList.add(new ArrayList<>());
+                        columnList.add(newColumn(columnTypes[i]));
                     }
                 }
             }
@@ -346,20 +343,28 @@ public final class CSVUtil {
             }
 
             final String[] strs = new String[titles.length];
+            // The values are read as String only if they're tested by the filter.
+            final boolean isFiltered = filter != null && filter != Fn.<String[]> alwaysTrue();
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
-            while (count > 0 && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            while (count > 0 && tokenizer.next()) {
+                if (isFiltered) {
+                    tokenizer.get(strs);
 
-                if (filter != null && filter.test(strs) == false) {
-                    continue;
+                    if (filter.test(strs) == false) {
+                        continue;
+                    }
                 }
 
                 for (int i = 0, columnIndex = 0; i < columnCount; i++) {
                     if (columnTypes[i] != null) {
-                        columnList.get(columnIndex++).add(columnTypes[i].valueOf(strs[i]));
+                        if (isFiltered) {
+                            columnList.get(columnIndex++).add(columnTypes[i].valueOf(strs[i]));
+                        } else {
+                            tokenizer.addTo(columnList.get(columnIndex++), columnTypes[i], i);
+                        }
                     }
                 }
 
@@ -369,10 +374,6 @@ public final class CSVUtil {
             return new RowDataSet(columnNameList, columnList);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
-        } finally {
-            if (br != csvReader) {
-                ObjectFactory.recycle(br);
-            }
         }
     }
 
@@ -469,13 +470,10 @@ public final class CSVUtil {
             throw new IllegalArgumentException("columnTypeMap can't be null or empty");
         }
 
-        final BufferedReader br = csvReader instanceof BufferedReader ? (BufferedReader) csvReader : ObjectFactory.createBufferedReader(csvReader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(csvReader);
 
         try {
-            List<String> tmp = new ArrayList<>();
-            String line = br.readLine();
-            jsonParser.readString(tmp, line);
-            final String[] titles = tmp.toArray(new String[tmp.size()]);
+            final String[] titles = tokenizer.readTitles();
 
             final int columnCount = titles.length;
             final Type<?>[] columnTypes = new Type<?>[columnCount];
@@ -486,7 +484,7 @@ public final class CSVUtil {
                 if (columnTypeMap.containsKey(titles[i])) {
                     columnTypes[i] = columnTypeMap.get(titles[i]);
                     columnNameList.add(titles[i]);
-                    columnList.add(new ArrayList<>());
+                    columnList.add(newColumn(columnTypes[i]));
                 }
             }
 
@@ -497,20 +495,28 @@ public final class CSVUtil {
             }
 
             final String[] strs = new String[titles.length];
+            // The values are read as String only if they're tested by the filter.
+            final boolean isFiltered = filter != null && filter != Fn.<String[]> alwaysTrue();
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
-            while (count > 0 && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            while (count > 0 && tokenizer.next()) {
+                if (isFiltered) {
+                    tokenizer.get(strs);
 
-                if (filter != null && filter.test(strs) == false) {
-                    continue;
+                    if (filter.test(strs) == false) {
+                        continue;
+                    }
                 }
 
                 for (int i = 0, columnIndex = 0; i < columnCount; i++) {
                     if (columnTypes[i] != null) {
-                        columnList.get(columnIndex++).add(columnTypes[i].valueOf(strs[i]));
+                        if (isFiltered) {
+                            columnList.get(columnIndex++).add(columnTypes[i].valueOf(strs[i]));
+                        } else {
+                            tokenizer.addTo(columnList.get(columnIndex++), columnTypes[i], i);
+                        }
                     }
                 }
 
@@ -520,10 +526,6 @@ public final class CSVUtil {
             return new RowDataSet(columnNameList, columnList);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
-        } finally {
-            if (br != csvReader) {
-                ObjectFactory.recycle(br);
-            }
         }
     }
 
@@ -620,14 +622,11 @@ public final class CSVUtil {
             throw new IllegalArgumentException("columnTypeList can't be null or empty");
         }
 
-        final BufferedReader br = csvReader instanceof BufferedReader ? (BufferedReader) csvReader : ObjectFactory.createBufferedReader(csvReader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(csvReader);
         final Type<?>[] columnTypes = columnTypeList.toArray(new Type[columnTypeList.size()]);
 
         try {
-            List<String> tmp = new ArrayList<>();
-            String line = br.readLine();
-            jsonParser.readString(tmp, line);
-            final String[] titles = tmp.toArray(new String[tmp.size()]);
+            final String[] titles = tokenizer.readTitles();
 
             final int columnCount = titles.length;
             final List<String> columnNameList = new ArrayList<>(columnCount);
@@ -636,25 +635,33 @@ public final class CSVUtil {
             for (int i = 0; i < columnCount; i++) {
                 if (columnTypes[i] != null) {
                     columnNameList.add(titles[i]);
-                    columnList.add(new ArrayList<>());
+                    columnList.add(newColumn(columnTypes[i]));
                 }
             }
 
             final String[] strs = new String[titles.length];
+            // The values are read as String only if they're tested by the filter.
+            final boolean isFiltered = filter != null && filter != Fn.<String[]> alwaysTrue();
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
-            while (count > 0 && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            while (count > 0 && tokenizer.next()) {
+                if (isFiltered) {
+                    tokenizer.get(strs);
 
-                if (filter != null && filter.test(strs) == false) {
-                    continue;
+                    if (filter.test(strs) == false) {
+                        continue;
+                    }
                 }
 
                 for (int i = 0, columnIndex = 0; i < columnCount; i++) {
                     if (columnTypes[i] != null) {
-                        columnList.get(columnIndex++).add(columnTypes[i].valueOf(strs[i]));
+                        if (isFiltered) {
+                            columnList.get(columnIndex++).add(columnTypes[i].valueOf(strs[i]));
+                        } else {
+                            tokenizer.addTo(columnList.get(columnIndex++), columnTypes[i], i);
+                        }
                     }
                 }
 
@@ -664,11 +671,165 @@ public final class CSVUtil {
             return new RowDataSet(columnNameList, columnList);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Load the data from CSV by multiple threads: the file is memory-mapped and split into chunks at line boundaries, and the chunks are parsed by {@code threadNum} threads.
+     * The result is same as {@code loadCSV(csvFile, columnTypeList)}, with the rows in the same order as in the file.
+     * <br />
+     * The file is loaded by one thread if it's smaller than 64 MB, or the default charset can't be split by line boundaries in bytes (e.g. UTF-16).
+     * 
+     * @param csvFile
+     * @param columnTypeList set the column type to null to skip the column in CSV.
+     * @param threadNum
+     * @return
+     */
+    @SuppressWarnings("rawtypes")
+    public static DataSet loadCSV(final File csvFile, final List<? extends Type> columnTypeList, final int threadNum) {
+        if (N.isNullOrEmpty(columnTypeList)) {
+            throw new IllegalArgumentException("columnTypeList can't be null or empty");
+        }
+
+        return loadCSV(csvFile, columnTypeList, null, threadNum);
+    }
+
+    /**
+     * Load the data from CSV by multiple threads: the file is memory-mapped and split into chunks at line boundaries, and the chunks are parsed by {@code threadNum} threads.
+     * The result is same as {@code loadCSV(csvFile, columnTypeMap)}, with the rows in the same order as in the file.
+     * <br />
+     * The file is loaded by one thread if it's smaller than 64 MB, or the default charset can't be split by line boundaries in bytes (e.g. UTF-16).
+     * 
+     * @param csvFile
+     * @param columnTypeMap
+     * @param threadNum
+     * @return
+     */
+    @SuppressWarnings("rawtypes")
+    public static DataSet loadCSV(final File csvFile, final Map<String, ? extends Type> columnTypeMap, final int threadNum) {
+        if (N.isNullOrEmpty(columnTypeMap)) {
+            throw new IllegalArgumentException("columnTypeMap can't be null or empty");
+        }
+
+        return loadCSV(csvFile, null, columnTypeMap, threadNum);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static DataSet loadCSV(final File csvFile, final List<? extends Type> columnTypeList, final Map<String, ? extends Type> columnTypeMap,
+            final int threadNum) {
+        N.checkArgument(threadNum > 0, "'threadNum'=%s must be greater than 0", threadNum);
+
+        final Charset charset = Charset.defaultCharset();
+
+        if (threadNum == 1 || MappedChunks.isSupported(csvFile, charset) == false) {
+            return columnTypeList != null ? loadCSV(csvFile, columnTypeList) : loadCSV(csvFile, columnTypeMap);
+        }
+
+        final long titleEnd = MappedChunks.nextLine(csvFile, 0);
+        final Reader titleReader = MappedChunks.newReader(csvFile, 0, titleEnd, charset);
+        String[] titles = null;
+
+        try {
+            titles = new CSVTokenizer(titleReader).readTitles();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         } finally {
-            if (br != csvReader) {
-                ObjectFactory.recycle(br);
+            IOUtil.closeQuietly(titleReader);
+        }
+
+        final int columnCount = titles.length;
+        final Type<?>[] columnTypes = columnTypeList != null ? columnTypeList.toArray(new Type[columnTypeList.size()]) : new Type<?>[columnCount];
+        final List<String> columnNameList = new ArrayList<>(columnCount);
+        final List<Type<?>> selectColumnTypes = new ArrayList<>(columnCount);
+
+        for (int i = 0; i < columnCount; i++) {
+            if (columnTypeMap != null && columnTypeMap.containsKey(titles[i])) {
+                columnTypes[i] = columnTypeMap.get(titles[i]);
+            }
+
+            if (columnTypes[i] != null) {
+                columnNameList.add(titles[i]);
+                selectColumnTypes.add(columnTypes[i]);
             }
         }
+
+        if (columnTypeMap != null && columnNameList.size() != columnTypeMap.size()) {
+            final List<String> keys = new ArrayList<>(columnTypeMap.keySet());
+            keys.removeAll(columnNameList);
+            throw new AbacusException(keys + " are not included in titles: " + N.toString(titles));
+        }
+
+        final long[] positions = MappedChunks.split(csvFile, titleEnd, threadNum);
+        final int chunkCount = positions.length - 1;
+        final List<List<List<Object>>> chunkColumnLists = new ArrayList<>(N.repeat((List<List<Object>>) null, chunkCount));
+
+        MappedChunks.execute(chunkCount, threadNum, new Try.IntConsumer<IOException>() {
+            @Override
+            public void accept(final int chunkIndex) throws IOException {
+                final List<List<Object>> columnList = new ArrayList<>(selectColumnTypes.size());
+
+                for (Type<?> columnType : selectColumnTypes) {
+                    columnList.add(newColumn(columnType));
+                }
+
+                final Reader reader = MappedChunks.newReader(csvFile, positions[chunkIndex], positions[chunkIndex + 1], charset);
+
+                try {
+                    final CSVTokenizer tokenizer = new CSVTokenizer(reader, columnCount);
+
+                    while (tokenizer.next()) {
+                        for (int i = 0, columnIndex = 0; i < columnCount; i++) {
+                            if (columnTypes[i] != null) {
+                                tokenizer.addTo(columnList.get(columnIndex++), columnTypes[i], i);
+                            }
+                        }
+                    }
+                } finally {
+                    IOUtil.closeQuietly(reader);
+                }
+
+                chunkColumnLists.set(chunkIndex, columnList);
+            }
+        });
+
+        int rowCount = 0;
+
+        for (List<List<Object>> columnList : chunkColumnLists) {
+            rowCount += columnList.size() == 0 ? 0 : columnList.get(0).size();
+        }
+
+        final List<List<Object>> columnList = new ArrayList<>(selectColumnTypes.size());
+
+        for (int columnIndex = 0, len = selectColumnTypes.size(); columnIndex < len; columnIndex++) {
+            final List<Object> column = newColumn(selectColumnTypes.get(columnIndex), rowCount);
+
+            for (List<List<Object>> chunkColumnList : chunkColumnLists) {
+                column.addAll(chunkColumnList.get(columnIndex));
+                // release the memory of the chunk column.
+                chunkColumnList.set(columnIndex, null);
+            }
+
+            columnList.add(column);
+        }
+
+        return new RowDataSet(columnNameList, columnList);
+    }
+
+    private static List<Object> newColumn(final Type<?> columnType) {
+        return newColumn(columnType, 9);
+    }
+
+    /**
+     * The values of {@code int/long/float/double} columns are stored in primitive arrays.
+     * 
+     * @param columnType
+     * @param initialCapacity
+     * @return
+     */
+    private static List<Object> newColumn(final Type<?> columnType, final int initialCapacity) {
+        final List<Object> column = PrimitiveColumn.of(columnType.clazz(), initialCapacity);
+
+        return column == null ? new ArrayList<>(initialCapacity) : column;
     }
 
     /**
@@ -1210,24 +1371,23 @@ public final class CSVUtil {
                 batchInterval);
 
         long result = 0;
-        final BufferedReader br = ObjectFactory.createBufferedReader(reader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(reader, columnTypeList.size());
 
         try {
             if (skipTitle) {
-                br.readLine(); // skip the title line.
+                tokenizer.skip(); // skip the title line.
             }
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
             final Type<Object>[] columnTypes = columnTypeList.toArray(new Type[columnTypeList.size()]);
             final DataChannel dc = new StatementDataChannel(stmt);
             final String[] strs = new String[columnTypeList.size()];
-            String line = null;
             Type<Object> type = null;
 
-            while (result < count && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            while (result < count && tokenizer.next()) {
+                tokenizer.get(strs);
 
                 if (filter != null && filter.test(strs) == false) {
                     continue;
@@ -1265,8 +1425,6 @@ public final class CSVUtil {
             throw new UncheckedSQLException(e);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
-        } finally {
-            ObjectFactory.recycle(br);
         }
 
         return result;
@@ -1425,13 +1583,10 @@ public final class CSVUtil {
                 batchInterval);
 
         long result = 0;
-        final BufferedReader br = ObjectFactory.createBufferedReader(reader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(reader);
 
         try {
-            List<String> tmp = new ArrayList<>();
-            String line = br.readLine();
-            jsonParser.readString(tmp, line);
-            final String[] titles = tmp.toArray(new String[tmp.size()]);
+            final String[] titles = tokenizer.readTitles();
 
             final Type<Object>[] columnTypes = new Type[titles.length];
             final List<String> columnNameList = new ArrayList<>(columnTypeMap.size());
@@ -1449,7 +1604,7 @@ public final class CSVUtil {
                 throw new AbacusException(keys + " are not included in titles: " + N.toString(titles));
             }
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
             final boolean isNullOrEmptyTypes = N.isNullOrEmpty(columnTypes);
@@ -1457,8 +1612,8 @@ public final class CSVUtil {
             final String[] strs = new String[titles.length];
             Type<Object> type = null;
 
-            while (result < count && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            while (result < count && tokenizer.next()) {
+                tokenizer.get(strs);
 
                 if (filter != null && filter.test(strs) == false) {
                     continue;
@@ -1502,8 +1657,6 @@ public final class CSVUtil {
             throw new UncheckedSQLException(e);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
-        } finally {
-            ObjectFactory.recycle(br);
         }
 
         return result;
@@ -1659,19 +1812,16 @@ public final class CSVUtil {
                 batchInterval);
 
         long result = 0;
-        final BufferedReader br = ObjectFactory.createBufferedReader(reader);
+        final CSVTokenizer tokenizer = new CSVTokenizer(reader);
 
         try {
-            List<String> tmp = new ArrayList<>();
-            String line = br.readLine();
-            jsonParser.readString(tmp, line);
-            final String[] strs = new String[tmp.size()];
+            final String[] strs = new String[tokenizer.readTitles().length];
 
-            while (offset-- > 0 && br.readLine() != null) {
+            while (offset-- > 0 && tokenizer.skip()) {
             }
 
-            while (result < count && (line = br.readLine()) != null) {
-                jsonParser.readString(strs, line);
+            while (result < count && tokenizer.next()) {
+                tokenizer.get(strs);
 
                 if (filter != null && filter.test(strs) == false) {
                     continue;
@@ -1698,8 +1848,6 @@ public final class CSVUtil {
             throw new UncheckedSQLException(e);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
-        } finally {
-            ObjectFactory.recycle(br);
         }
 
         return result;
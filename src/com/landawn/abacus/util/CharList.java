@@ -675,12 +675,12 @@ public final class CharList extends PrimitiveList<Character, char[], CharList> {
             return new CharList();
         }
 
-        final Multiset<Character> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final CharList c = new CharList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(elementData[i]) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -707,12 +707,12 @@ public final class CharList extends PrimitiveList<Character, char[], CharList> {
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Character> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final CharList c = new CharList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -741,17 +741,17 @@ public final class CharList extends PrimitiveList<Character, char[], CharList> {
             return b.copy();
         }
 
-        final Multiset<Character> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
         final CharList c = new CharList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(b.elementData[i]) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -763,6 +763,21 @@ public final class CharList extends PrimitiveList<Character, char[], CharList> {
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list.
+     */
+    private static IntIntMap occurrences(final CharList list) {
+        final IntIntMap occurrences = new IntIntMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(list.elementData[i], 1);
+        }
+
+        return occurrences;
+    }
+
     public CharList symmetricDifference(final char[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
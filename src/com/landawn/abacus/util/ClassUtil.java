@@ -384,6 +384,7 @@ public final class ClassUtil {
     private static final Map<Class<?>, Map<String, Method>> entityPropSetMethodPool = new ObjectPool<>(POOL_SIZE);
     private static final Map<Class<?>, Map<String, List<Method>>> entityInlinePropGetMethodPool = new ObjectPool<>(POOL_SIZE);
     private static final Map<Class<?>, Map<String, List<Method>>> entityInlinePropSetMethodPool = new ObjectPool<>(POOL_SIZE);
+    private static final Map<Class<?>, EntityAccessor> entityAccessorPool = new ObjectPool<>(POOL_SIZE);
 
     // ...
     private static final Map<String, String> formalizedPropNamePool = new ObjectPool<>(POOL_SIZE * 2);
@@ -1754,6 +1755,15 @@ public final class ClassUtil {
      */
     @SuppressWarnings("unchecked")
     public static <T> T getPropValue(final Object entity, final Method propGetMethod) {
+        if (Reflection.isReflectASMAvailable) {
+            final EntityAccessor entityAccessor = getEntityAccessor(entity.getClass());
+            final int index = entityAccessor.getIndex(propGetMethod);
+
+            if (index >= 0) {
+                return (T) entityAccessor.get(entity, index);
+            }
+        }
+
         try {
             return (T) propGetMethod.invoke(entity);
         } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
@@ -1776,6 +1786,23 @@ public final class ClassUtil {
      * @param propValue
      */
     public static void setPropValue(final Object entity, final Method propSetMethod, Object propValue) {
+        if (Reflection.isReflectASMAvailable) {
+            final EntityAccessor entityAccessor = getEntityAccessor(entity.getClass());
+            final int index = entityAccessor.getIndex(propSetMethod);
+
+            if (index >= 0) {
+                if (propValue == null) {
+                    propValue = N.defaultValueOf(propSetMethod.getParameterTypes()[0]);
+                } else if (entityAccessor.isAssignable(index, propValue) == false) {
+                    propValue = N.as(ParserUtil.getEntityInfo(entity.getClass()).getPropInfo(getPropNameByMethod(propSetMethod)).type, propValue);
+                }
+
+                entityAccessor.set(entity, index, propValue);
+
+                return;
+            }
+        }
+
         try {
             propSetMethod.invoke(entity, propValue == null ? N.defaultValueOf(propSetMethod.getParameterTypes()[0]) : propValue);
         } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
@@ -1789,6 +1816,25 @@ public final class ClassUtil {
         }
     }
 
+    /**
+     * The property get/set methods of the specified class are invoked by the accessor generated by reflectasm, instead of {@code Method.invoke},
+     * if reflectasm is in the class path.
+     * 
+     * @param cls
+     * @return
+     * @see EntityAccessor
+     */
+    static EntityAccessor getEntityAccessor(final Class<?> cls) {
+        EntityAccessor entityAccessor = entityAccessorPool.get(cls);
+
+        if (entityAccessor == null) {
+            entityAccessor = EntityAccessor.of(cls);
+            entityAccessorPool.put(cls, entityAccessor);
+        }
+
+        return entityAccessor;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public static void setPropValueByGet(final Object entity, final Method propGetMethod, final Object propValue) {
         if (propValue == null) {
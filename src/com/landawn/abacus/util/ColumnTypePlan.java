@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.landawn.abacus.core.PrimitiveColumn;
+
+/**
+ * How the columns of a {@code ResultSet} are read into the columns of {@code DataSet}, created from {@code ResultSetMetaData} once and reused for all the rows
+ * (and cached by sql in {@code SQLExecutor}).
+ * <br />
+ * The columns whose values are {@code Integer/Long/Float/Double} by {@code getObject} (by {@code ResultSetMetaData.getColumnClassName}) are read by
+ * {@code getInt/getLong/getFloat/getDouble} and {@code wasNull}, and stored in {@code PrimitiveColumn} without boxing.
+ * Other columns are read by {@code getObject}, same as before.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class ColumnTypePlan {
+    private static final int OBJECT = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int FLOAT = 3;
+    private static final int DOUBLE = 4;
+
+    private final int[] kinds;
+
+    /**
+     * The type of the {@code PrimitiveColumn} to store the values, or {@code null} for {@code ArrayList}.
+     */
+    private final Class<?>[] columnTypes;
+
+    private ColumnTypePlan(final int[] kinds, final Class<?>[] columnTypes) {
+        this.kinds = kinds;
+        this.columnTypes = columnTypes;
+    }
+
+    static ColumnTypePlan of(final ResultSetMetaData metaData) throws SQLException {
+        final int columnCount = metaData.getColumnCount();
+        final int[] kinds = new int[columnCount];
+        final Class<?>[] columnTypes = new Class<?>[columnCount];
+        String className = null;
+
+        for (int i = 0; i < columnCount; i++) {
+            className = metaData.getColumnClassName(i + 1);
+
+            if (Integer.class.getName().equals(className)) {
+                kinds[i] = INT;
+                columnTypes[i] = int.class;
+            } else if (Long.class.getName().equals(className)) {
+                kinds[i] = LONG;
+                columnTypes[i] = long.class;
+            } else if (Float.class.getName().equals(className)) {
+                kinds[i] = FLOAT;
+                columnTypes[i] = float.class;
+            } else if (Double.class.getName().equals(className)) {
+                kinds[i] = DOUBLE;
+                columnTypes[i] = double.class;
+            } else {
+                kinds[i] = OBJECT;
+                // The values are still read by getObject if the driver doesn't provide the class name.
+                columnTypes[i] = className == null ? JdbcUtil.primitiveTypeOf(metaData.getColumnType(i + 1)) : null;
+            }
+        }
+
+        return new ColumnTypePlan(kinds, columnTypes);
+    }
+
+    int columnCount() {
+        return kinds.length;
+    }
+
+    /**
+     *
+     * @param initialCapacity
+     * @return the empty columns to add the rows by {@code addRow}.
+     */
+    List<List<Object>> newColumns(final int initialCapacity) {
+        final List<List<Object>> columnList = new ArrayList<>(kinds.length);
+
+        for (Class<?> columnType : columnTypes) {
+            columnList.add(columnType == null ? new ArrayList<>(initialCapacity) : PrimitiveColumn.of(columnType, initialCapacity));
+        }
+
+        return columnList;
+    }
+
+    /**
+     * Adds the values of the current row in the specified {@code ResultSet} to the columns.
+     *
+     * @param rs
+     * @param columnList the columns created by {@code newColumns}.
+     * @throws SQLException
+     */
+    void addRow(final ResultSet rs, final List<List<Object>> columnList) throws SQLException {
+        List<Object> column = null;
+
+        for (int i = 0, len = kinds.length; i < len; i++) {
+            column = columnList.get(i);
+
+            switch (kinds[i]) {
+                case INT: {
+                    final int value = rs.getInt(i + 1);
+
+                    if (rs.wasNull()) {
+                        column.add(null);
+                    } else {
+                        ((PrimitiveColumn.IntColumn) column).addInt(value);
+                    }
+
+                    break;
+                }
+
+                case LONG: {
+                    final long value = rs.getLong(i + 1);
+
+                    if (rs.wasNull()) {
+                        column.add(null);
+                    } else {
+                        ((PrimitiveColumn.LongColumn) column).addLong(value);
+                    }
+
+                    break;
+                }
+
+                case FLOAT: {
+                    final float value = rs.getFloat(i + 1);
+
+                    if (rs.wasNull()) {
+                        column.add(null);
+                    } else {
+                        ((PrimitiveColumn.FloatColumn) column).addFloat(value);
+                    }
+
+                    break;
+                }
+
+                case DOUBLE: {
+                    final double value = rs.getDouble(i + 1);
+
+                    if (rs.wasNull()) {
+                        column.add(null);
+                    } else {
+                        ((PrimitiveColumn.DoubleColumn) column).addDouble(value);
+                    }
+
+                    break;
+                }
+
+                default:
+                    column.add(rs.getObject(i + 1));
+            }
+        }
+    }
+
+    /**
+     * The columns are presized by the fetch size, which is usually the expected number of rows, but not more than the count.
+     *
+     * @param fetchSize
+     * @param count
+     * @return
+     */
+    static int initialCapacity(final int fetchSize, final long count) {
+        return (int) Math.max(9, Math.min(fetchSize, count));
+    }
+}
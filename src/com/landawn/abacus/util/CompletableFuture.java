@@ -13,7 +13,9 @@
  */
 package com.landawn.abacus.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -24,12 +26,16 @@ import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.landawn.abacus.logging.Logger;
 import com.landawn.abacus.logging.LoggerFactory;
 import com.landawn.abacus.util.Tuple.Tuple4;
 
 /**
+ * The actions added by <code>thenRun/thenCall/runAfterBoth/callAfterBoth/runAfterEither/callAfterEither</code> are submitted to the executor
+ * by the callbacks of the previous futures when they're done, instead of being submitted immediately and blocking a thread to wait for the previous futures.
  * 
  * @since 0.8
  * 
@@ -75,7 +81,7 @@ public class CompletableFuture<T> implements Future<T> {
     }
 
     public static <E extends Exception> CompletableFuture<Void> run(final Try.Runnable<E> action, final Executor executor) {
-        final FutureTask<Void> futureTask = new FutureTask<>(new Callable<Void>() {
+        final FutureTask<Void> futureTask = new Task<>(new Callable<Void>() {
             @Override
             public Void call() throws Exception {
                 action.run();
@@ -93,7 +99,7 @@ public class CompletableFuture<T> implements Future<T> {
     }
 
     public static <T, E extends Exception> CompletableFuture<T> call(final Try.Callable<T, E> action, final Executor executor) {
-        final FutureTask<T> futureTask = new FutureTask<>(new Callable<T>() {
+        final FutureTask<T> futureTask = new Task<>(new Callable<T>() {
             @Override
             public T call() throws Exception {
                 return action.call();
@@ -324,6 +330,16 @@ public class CompletableFuture<T> implements Future<T> {
             public boolean isAllCancelled() {
                 return super.isAllCancelled();
             }
+
+            @Override
+            void onDone(final Runnable action) {
+                CompletableFuture.this.onDone(action);
+            }
+
+            @Override
+            boolean isFailed() {
+                return CompletableFuture.this.isFailed();
+            }
         };
     }
 
@@ -642,7 +658,7 @@ public class CompletableFuture<T> implements Future<T> {
                 action.run();
                 return null;
             }
-        }, other);
+        }, other, true);
     }
 
     public <E extends Exception> CompletableFuture<Void> runAfterEither(final CompletableFuture<? extends T> other, final Try.Consumer<? super T, E> action) {
@@ -654,7 +670,7 @@ public class CompletableFuture<T> implements Future<T> {
                 action.accept(result);
                 return null;
             }
-        }, other);
+        }, other, true);
     }
 
     public <E extends Exception> CompletableFuture<Void> runAfterEither(final CompletableFuture<? extends T> other,
@@ -667,7 +683,7 @@ public class CompletableFuture<T> implements Future<T> {
                 action.accept(result.left, result.right);
                 return null;
             }
-        }, other);
+        }, other, true);
     }
 
     public <R, E extends Exception> CompletableFuture<R> callAfterEither(final CompletableFuture<?> other, final Try.Callable<R, RuntimeException> action) {
@@ -678,7 +694,7 @@ public class CompletableFuture<T> implements Future<T> {
 
                 return action.call();
             }
-        }, other);
+        }, other, true);
     }
 
     public <R, E extends Exception> CompletableFuture<R> callAfterEither(final CompletableFuture<? extends T> other,
@@ -690,7 +706,7 @@ public class CompletableFuture<T> implements Future<T> {
 
                 return action.apply(result);
             }
-        }, other);
+        }, other, true);
     }
 
     public <R, E extends Exception> CompletableFuture<R> callAfterEither(final CompletableFuture<? extends T> other,
@@ -702,7 +718,7 @@ public class CompletableFuture<T> implements Future<T> {
 
                 return action.apply(result.left, result.right);
             }
-        }, other);
+        }, other, true);
     }
 
     //    /**
@@ -893,15 +909,125 @@ public class CompletableFuture<T> implements Future<T> {
     }
 
     private <R> CompletableFuture<R> execute(final Callable<R> command, final CompletableFuture<?> other) {
-        return execute(new FutureTask<>(command), other);
+        return execute(command, other, false);
     }
 
-    private <U> CompletableFuture<U> execute(final FutureTask<U> futureTask, final CompletableFuture<?> other) {
-        asyncExecutor.execute(futureTask);
+    /**
+     * The command is submitted to the executor by the callback of this future and the specified <code>other</code> future,
+     * when both of them are done, or either of them is completed normally if <code>either</code> is true. No thread is blocked to wait for them.
+     * 
+     * @param command
+     * @param other
+     * @param either
+     * @return
+     */
+    private <R> CompletableFuture<R> execute(final Callable<R> command, final CompletableFuture<?> other, final boolean either) {
+        final Task<R> task = new Task<>(command);
 
         @SuppressWarnings("rawtypes")
         final List<CompletableFuture<?>> upFutures = other == null ? (List) Arrays.asList(this) : Arrays.asList(this, other);
-        return new CompletableFuture<>(futureTask, upFutures, asyncExecutor);
+
+        final Runnable submit = new Runnable() {
+            @Override
+            public void run() {
+                if (task.isDone()) {
+                    // cancelled before the previous futures are done.
+                    return;
+                }
+
+                try {
+                    asyncExecutor.execute(task);
+                } catch (Throwable e) {
+                    task.fail(e);
+                }
+            }
+        };
+
+        if (either) {
+            onAnyDone(upFutures, submit);
+        } else {
+            onAllDone(upFutures, submit);
+        }
+
+        return new CompletableFuture<>(task, upFutures, asyncExecutor);
+    }
+
+    /**
+     * Runs the specified action when this future is done: by the callback of the task if it's created by <code>CompletableFuture/AsyncExecutor</code>,
+     * or immediately if it's done, otherwise by a thread of the executor which waits for it.
+     * 
+     * @param action
+     */
+    void onDone(final Runnable action) {
+        if (future instanceof Task) {
+            ((Task<T>) future).onDone(action);
+        } else if (future.isDone()) {
+            action.run();
+        } else {
+            asyncExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        future.get();
+                    } catch (Exception e) {
+                        // ignore. The action will get it.
+                    } finally {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 
+     * @return true if it's known that this future is cancelled or completed with exception.
+     */
+    boolean isFailed() {
+        return future instanceof Task && ((Task<T>) future).isFailed();
+    }
+
+    /**
+     * Runs the specified action when all the specified futures are done.
+     * 
+     * @param cfs
+     * @param action
+     */
+    static void onAllDone(final Collection<? extends CompletableFuture<?>> cfs, final Runnable action) {
+        final AtomicInteger remaining = new AtomicInteger(cfs.size());
+
+        for (CompletableFuture<?> cf : cfs) {
+            cf.onDone(new Runnable() {
+                @Override
+                public void run() {
+                    if (remaining.decrementAndGet() == 0) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs the specified action when any of the specified futures is completed normally, or all of them are done.
+     * 
+     * @param cfs
+     * @param action
+     */
+    static void onAnyDone(final Collection<? extends CompletableFuture<?>> cfs, final Runnable action) {
+        final AtomicInteger remaining = new AtomicInteger(cfs.size());
+        final AtomicBoolean isTriggered = new AtomicBoolean(false);
+
+        for (final CompletableFuture<?> cf : cfs) {
+            cf.onDone(new Runnable() {
+                @Override
+                public void run() {
+                    if ((remaining.decrementAndGet() == 0 || cf.isFailed() == false) && isTriggered.compareAndSet(false, true)) {
+                        action.run();
+                    }
+                }
+            });
+        }
     }
 
     public CompletableFuture<T> delayed(long delay, TimeUnit unit) {
@@ -975,6 +1101,92 @@ public class CompletableFuture<T> implements Future<T> {
             public boolean isAllCancelled() {
                 return super.isAllCancelled();
             }
+
+            @Override
+            void onDone(final Runnable action) {
+                // the delay is applied by get() in the action.
+                CompletableFuture.this.onDone(action);
+            }
+
+            @Override
+            boolean isFailed() {
+                return CompletableFuture.this.isFailed();
+            }
         };
     }
+
+    /**
+     * The task which runs the callbacks added by <code>onDone</code> when it's done: completed, failed or cancelled.
+     * 
+     * @param <T>
+     */
+    static final class Task<T> extends FutureTask<T> {
+        private List<Runnable> callbacks = null;
+        private boolean isDone = false;
+        private volatile boolean isFailed = false;
+
+        Task(final Callable<T> callable) {
+            super(callable);
+        }
+
+        Task(final Runnable runnable, final T result) {
+            super(runnable, result);
+        }
+
+        /**
+         * The action is executed immediately by current thread if this task is done, otherwise by the thread which completes this task.
+         * 
+         * @param action
+         */
+        void onDone(final Runnable action) {
+            synchronized (this) {
+                if (isDone == false) {
+                    if (callbacks == null) {
+                        callbacks = new ArrayList<>(2);
+                    }
+
+                    callbacks.add(action);
+                    return;
+                }
+            }
+
+            action.run();
+        }
+
+        boolean isFailed() {
+            return isFailed || isCancelled();
+        }
+
+        void fail(final Throwable e) {
+            setException(e);
+        }
+
+        @Override
+        protected void setException(final Throwable t) {
+            isFailed = true;
+
+            super.setException(t);
+        }
+
+        @Override
+        protected void done() {
+            List<Runnable> tmp = null;
+
+            synchronized (this) {
+                isDone = true;
+                tmp = callbacks;
+                callbacks = null;
+            }
+
+            if (tmp != null) {
+                for (Runnable action : tmp) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        logger.error("Failed to run the action after the task is done", e);
+                    }
+                }
+            }
+        }
+    }
 }
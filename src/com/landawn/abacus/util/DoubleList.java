@@ -627,12 +627,12 @@ public final class DoubleList extends PrimitiveList<Double, double[], DoubleList
             return new DoubleList();
         }
 
-        final Multiset<Double> bOccurrences = b.toMultiset();
+        final LongLongMap bOccurrences = occurrences(b);
 
         final DoubleList c = new DoubleList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(Double.doubleToLongBits(elementData[i])) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -659,12 +659,12 @@ public final class DoubleList extends PrimitiveList<Double, double[], DoubleList
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Double> bOccurrences = b.toMultiset();
+        final LongLongMap bOccurrences = occurrences(b);
 
         final DoubleList c = new DoubleList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(Double.doubleToLongBits(elementData[i])) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -693,17 +693,17 @@ public final class DoubleList extends PrimitiveList<Double, double[], DoubleList
             return b.copy();
         }
 
-        final Multiset<Double> bOccurrences = b.toMultiset();
+        final LongLongMap bOccurrences = occurrences(b);
         final DoubleList c = new DoubleList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(Double.doubleToLongBits(elementData[i])) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(Double.doubleToLongBits(b.elementData[i])) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -715,6 +715,21 @@ public final class DoubleList extends PrimitiveList<Double, double[], DoubleList
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list, by {@code Double.doubleToLongBits}, same as {@code Double.equals}.
+     */
+    private static LongLongMap occurrences(final DoubleList list) {
+        final LongLongMap occurrences = new LongLongMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(Double.doubleToLongBits(list.elementData[i]), 1);
+        }
+
+        return occurrences;
+    }
+
     public DoubleList symmetricDifference(final double[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
@@ -807,6 +822,17 @@ public final class DoubleList extends PrimitiveList<Double, double[], DoubleList
         return toIndex - fromIndex < k ? OptionalDouble.empty() : OptionalDouble.of(N.kthLargest(elementData, fromIndex, toIndex, k));
     }
 
+    /**
+     * Returns the elements at: <code>Percentage</code> * size of this list, as if it's sorted. This list is not modified.
+     *
+     * @param percentages all the <code>Percentage</code> values if it's empty.
+     * @return
+     * @see N#selectPercentiles(double[], Percentage...)
+     */
+    public Optional<Map<Percentage, Double>> percentiles(final Percentage... percentages) {
+        return size() == 0 ? Optional.<Map<Percentage, Double>> empty() : Optional.of(N.selectPercentiles(elementData, 0, size, percentages));
+    }
+
     public double sum() {
         return sum(0, size());
     }
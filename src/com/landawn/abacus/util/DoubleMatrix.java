@@ -1044,142 +1044,7 @@ public final class DoubleMatrix extends AbstractMatrix<double[], DoubleList, Dou
     public DoubleMatrix multiply(final DoubleMatrix b) {
         N.checkArgument(this.cols == b.rows, "Illegal matrix dimensions");
 
-        final double[][] c = new double[rows][b.cols];
-        final double[][] a2 = b.a;
-
-        if (isParallelable(b.cols)) {
-            if (N.min(rows, cols, b.cols) == rows) {
-                if (N.min(cols, b.cols) == cols) {
-                    IntStream.range(0, rows).parallel().forEach(new IntConsumer() {
-                        @Override
-                        public void accept(final int i) {
-                            for (int k = 0; k < cols; k++) {
-                                for (int j = 0; j < b.cols; j++) {
-                                    c[i][j] += a[i][k] * a2[k][j];
-                                }
-                            }
-                        }
-                    });
-                } else {
-                    IntStream.range(0, rows).parallel().forEach(new IntConsumer() {
-                        @Override
-                        public void accept(final int i) {
-                            for (int j = 0; j < b.cols; j++) {
-                                for (int k = 0; k < cols; k++) {
-                                    c[i][j] += a[i][k] * a2[k][j];
-                                }
-                            }
-                        }
-                    });
-                }
-            } else if (N.min(rows, cols, b.cols) == cols) {
-                if (N.min(rows, b.cols) == rows) {
-                    IntStream.range(0, cols).parallel().forEach(new IntConsumer() {
-                        @Override
-                        public void accept(final int k) {
-                            for (int i = 0; i < rows; i++) {
-                                for (int j = 0; j < b.cols; j++) {
-                                    c[i][j] += a[i][k] * a2[k][j];
-                                }
-                            }
-                        }
-                    });
-                } else {
-                    IntStream.range(0, cols).parallel().forEach(new IntConsumer() {
-                        @Override
-                        public void accept(final int k) {
-                            for (int j = 0; j < b.cols; j++) {
-                                for (int i = 0; i < rows; i++) {
-                                    c[i][j] += a[i][k] * a2[k][j];
-                                }
-                            }
-                        }
-                    });
-                }
-            } else {
-                if (N.min(rows, cols) == rows) {
-                    IntStream.range(0, b.cols).parallel().forEach(new IntConsumer() {
-                        @Override
-                        public void accept(final int j) {
-                            for (int i = 0; i < rows; i++) {
-                                for (int k = 0; k < cols; k++) {
-                                    c[i][j] += a[i][k] * a2[k][j];
-                                }
-                            }
-                        }
-                    });
-                } else {
-                    IntStream.range(0, b.cols).parallel().forEach(new IntConsumer() {
-                        @Override
-                        public void accept(final int j) {
-                            for (int k = 0; k < cols; k++) {
-                                for (int i = 0; i < rows; i++) {
-                                    c[i][j] += a[i][k] * a2[k][j];
-                                }
-                            }
-                        }
-                    });
-                }
-            }
-        } else {
-            if (N.min(rows, cols, b.cols) == rows) {
-                if (N.min(cols, b.cols) == cols) {
-                    for (int i = 0; i < rows; i++) {
-                        for (int k = 0; k < cols; k++) {
-                            for (int j = 0; j < b.cols; j++) {
-                                c[i][j] += a[i][k] * a2[k][j];
-                            }
-                        }
-                    }
-                } else {
-                    for (int i = 0; i < rows; i++) {
-                        for (int j = 0; j < b.cols; j++) {
-                            for (int k = 0; k < cols; k++) {
-                                c[i][j] += a[i][k] * a2[k][j];
-                            }
-                        }
-                    }
-                }
-            } else if (N.min(rows, cols, b.cols) == cols) {
-                if (N.min(rows, b.cols) == rows) {
-                    for (int k = 0; k < cols; k++) {
-                        for (int i = 0; i < rows; i++) {
-                            for (int j = 0; j < b.cols; j++) {
-                                c[i][j] += a[i][k] * a2[k][j];
-                            }
-                        }
-                    }
-                } else {
-                    for (int k = 0; k < cols; k++) {
-                        for (int j = 0; j < b.cols; j++) {
-                            for (int i = 0; i < rows; i++) {
-                                c[i][j] += a[i][k] * a2[k][j];
-                            }
-                        }
-                    }
-                }
-            } else {
-                if (N.min(rows, cols) == rows) {
-                    for (int j = 0; j < b.cols; j++) {
-                        for (int i = 0; i < rows; i++) {
-                            for (int k = 0; k < cols; k++) {
-                                c[i][j] += a[i][k] * a2[k][j];
-                            }
-                        }
-                    }
-                } else {
-                    for (int j = 0; j < b.cols; j++) {
-                        for (int k = 0; k < cols; k++) {
-                            for (int i = 0; i < rows; i++) {
-                                c[i][j] += a[i][k] * a2[k][j];
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return new DoubleMatrix(c);
+        return new DoubleMatrix(MatrixMultiplier.multiply(a, b.a, rows, cols, b.cols, isParallelable(b.cols)));
     }
 
     public Matrix<Double> boxed() {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.esotericsoftware.reflectasm.MethodAccess;
+
+/**
+ * Accessor of the property get/set methods of an entity class, by the {@code MethodAccess} generated by
+ * <a href="https://github.com/EsotericSoftware/reflectasm">reflectasm</a>, which calls the methods directly by index instead of {@code Method.invoke}.
+ * It's created once for each entity class and cached by {@code ClassUtil.getEntityAccessor}, only if reflectasm is in the class path.
+ * <br />
+ * Only the public methods of public classes are accessed by it, because the generated class is loaded by another class loader.
+ * For other methods, {@code getIndex} returns -1 and the methods are still invoked by {@code Method.invoke}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class EntityAccessor {
+    private final MethodAccess methodAccess;
+    private final Map<Method, Integer> methodIndexes;
+
+    /**
+     * The parameter types of the set methods by index, wrapped if it's primitive type.
+     */
+    private final Class<?>[] parameterTypes;
+
+    private EntityAccessor(final MethodAccess methodAccess, final Map<Method, Integer> methodIndexes, final Class<?>[] parameterTypes) {
+        this.methodAccess = methodAccess;
+        this.methodIndexes = methodIndexes;
+        this.parameterTypes = parameterTypes;
+    }
+
+    static EntityAccessor of(final Class<?> cls) {
+        final Map<Method, Integer> methodIndexes = new HashMap<>();
+
+        if (isPublic(cls) == false) {
+            return new EntityAccessor(null, methodIndexes, null);
+        }
+
+        MethodAccess methodAccess = null;
+
+        try {
+            methodAccess = MethodAccess.get(cls);
+        } catch (Throwable e) {
+            // ignore. The methods are invoked by Method.invoke.
+            return new EntityAccessor(null, methodIndexes, null);
+        }
+
+        final Class<?>[] parameterTypes = new Class<?>[methodAccess.getMethodNames().length];
+
+        for (Method method : ClassUtil.getPropGetMethodList(cls).values()) {
+            addIndex(methodAccess, method, methodIndexes, null);
+        }
+
+        for (Method method : ClassUtil.getPropSetMethodList(cls).values()) {
+            addIndex(methodAccess, method, methodIndexes, parameterTypes);
+        }
+
+        return new EntityAccessor(methodAccess, methodIndexes, parameterTypes);
+    }
+
+    private static void addIndex(final MethodAccess methodAccess, final Method method, final Map<Method, Integer> methodIndexes,
+            final Class<?>[] parameterTypes) {
+        if (Modifier.isPublic(method.getModifiers()) == false || isPublic(method.getDeclaringClass()) == false) {
+            return;
+        }
+
+        int index = -1;
+
+        try {
+            index = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+        } catch (IllegalArgumentException e) {
+            // ignore. Not found.
+            return;
+        }
+
+        methodIndexes.put(method, index);
+
+        if (parameterTypes != null) {
+            final Class<?> parameterType = method.getParameterTypes()[0];
+            parameterTypes[index] = parameterType.isPrimitive() ? N.wrapperOf(parameterType) : parameterType;
+        }
+    }
+
+    private static boolean isPublic(Class<?> cls) {
+        while (cls != null) {
+            if (Modifier.isPublic(cls.getModifiers()) == false) {
+                return false;
+            }
+
+            cls = cls.getEnclosingClass();
+        }
+
+        return true;
+    }
+
+    /**
+     *
+     * @param method the property get/set method of the entity class.
+     * @return the index of the method, or -1 if the method is not accessed by this accessor.
+     */
+    int getIndex(final Method method) {
+        final Integer index = methodIndexes.get(method);
+
+        return index == null ? -1 : index.intValue();
+    }
+
+    /**
+     *
+     * @param entity
+     * @param index the index of a get method.
+     * @return
+     */
+    Object get(final Object entity, final int index) {
+        return methodAccess.invoke(entity, index);
+    }
+
+    /**
+     *
+     * @param entity
+     * @param index the index of a set method.
+     * @param value which must be an instance of the parameter type.
+     */
+    void set(final Object entity, final int index, final Object value) {
+        methodAccess.invoke(entity, index, value);
+    }
+
+    /**
+     *
+     * @param index the index of a set method.
+     * @param value
+     * @return {@code true} if the specified value can be set by the set method without conversion.
+     */
+    boolean isAssignable(final int index, final Object value) {
+        return parameterTypes[index].isInstance(value);
+    }
+}
@@ -628,12 +628,12 @@ public final class FloatList extends PrimitiveList<Float, float[], FloatList> {
             return new FloatList();
         }
 
-        final Multiset<Float> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final FloatList c = new FloatList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(Float.floatToIntBits(elementData[i])) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -660,12 +660,12 @@ public final class FloatList extends PrimitiveList<Float, float[], FloatList> {
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Float> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final FloatList c = new FloatList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(Float.floatToIntBits(elementData[i])) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -694,17 +694,17 @@ public final class FloatList extends PrimitiveList<Float, float[], FloatList> {
             return b.copy();
         }
 
-        final Multiset<Float> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
         final FloatList c = new FloatList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(Float.floatToIntBits(elementData[i])) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(Float.floatToIntBits(b.elementData[i])) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -716,6 +716,21 @@ public final class FloatList extends PrimitiveList<Float, float[], FloatList> {
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list, by {@code Float.floatToIntBits}, same as {@code Float.equals}.
+     */
+    private static IntIntMap occurrences(final FloatList list) {
+        final IntIntMap occurrences = new IntIntMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(Float.floatToIntBits(list.elementData[i]), 1);
+        }
+
+        return occurrences;
+    }
+
     public FloatList symmetricDifference(final float[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
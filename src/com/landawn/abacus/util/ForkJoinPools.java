@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The fork/join pool shared by the parallel operations: {@code Array.parallelSort}, the parallel radix sort, the matrix multiplication,
+ * the {@code reduce/collect} of parallel streams with {@code Splitor.WORK_STEALING} and the {@code DataSet.parallelXXX} operations,
+ * instead of one pool for each of them. It has one thread per cpu core. The threads are daemon threads, and the idle ones are terminated after a while.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+public final class ForkJoinPools {
+    private static final ForkJoinPool commonPool = new ForkJoinPool(Math.max(1, IOUtil.CPU_CORES));
+
+    private ForkJoinPools() {
+        // singleton.
+    }
+
+    /**
+     *
+     * @return the shared fork/join pool.
+     */
+    public static ForkJoinPool commonPool() {
+        return commonPool;
+    }
+}
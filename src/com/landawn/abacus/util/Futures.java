@@ -121,7 +121,7 @@ public final class Futures {
         N.checkArgNotNull(zipFunctionForGet);
         N.checkArgNotNull(zipFunctionTimeoutGet);
 
-        return new CompletableFuture<>(new Future<R>() {
+        return new CompletableFuture<R>(new Future<R>() {
             @Override
             public boolean cancel(boolean mayInterruptIfRunning) {
                 boolean res = true;
@@ -191,7 +191,12 @@ public final class Futures {
                     throw N.toRuntimeException(e);
                 }
             }
-        }, null, ((CompletableFuture<?>) cfs.iterator().next()).asyncExecutor);
+        }, null, ((CompletableFuture<?>) cfs.iterator().next()).asyncExecutor) {
+            @Override
+            void onDone(final Runnable action) {
+                CompletableFuture.onAllDone(cfs, action);
+            }
+        };
     }
 
     public static <T1, T2, E extends Exception> CompletableFuture<Tuple2<T1, T2>> combine(final CompletableFuture<? extends T1> cf1,
@@ -320,7 +325,7 @@ public final class Futures {
     private static <T> CompletableFuture<List<T>> allOf2(final Collection<? extends CompletableFuture<? extends T>> cfs) {
         N.checkArgument(N.notNullOrEmpty(cfs), "'cfs' can't be null or empty");
 
-        return new CompletableFuture<>(new Future<List<T>>() {
+        return new CompletableFuture<List<T>>(new Future<List<T>>() {
             @Override
             public boolean cancel(boolean mayInterruptIfRunning) {
                 boolean res = true;
@@ -392,7 +397,12 @@ public final class Futures {
 
                 return result;
             }
-        }, null, ((CompletableFuture<?>) cfs.iterator().next()).asyncExecutor);
+        }, null, ((CompletableFuture<?>) cfs.iterator().next()).asyncExecutor) {
+            @Override
+            void onDone(final Runnable action) {
+                CompletableFuture.onAllDone(cfs, action);
+            }
+        };
     }
 
     /**
@@ -421,7 +431,7 @@ public final class Futures {
     private static <T> CompletableFuture<T> anyOf2(final Collection<? extends CompletableFuture<? extends T>> cfs) {
         N.checkArgument(N.notNullOrEmpty(cfs), "'cfs' can't be null or empty");
 
-        return new CompletableFuture<>(new Future<T>() {
+        return new CompletableFuture<T>(new Future<T>() {
             @Override
             public boolean cancel(boolean mayInterruptIfRunning) {
                 boolean res = true;
@@ -499,7 +509,12 @@ public final class Futures {
 
                 return handle(result);
             }
-        }, null, ((CompletableFuture<?>) cfs.iterator().next()).asyncExecutor);
+        }, null, ((CompletableFuture<?>) cfs.iterator().next()).asyncExecutor) {
+            @Override
+            void onDone(final Runnable action) {
+                CompletableFuture.onAnyDone(cfs, action);
+            }
+        };
     }
 
     @SafeVarargs
@@ -3715,6 +3715,11 @@ public final class IOUtil {
 
     /**
      * Parse the specified files/directory line by line.
+     * <br />
+     * If there is only one file, which is bigger than 64 MB, and all the lines are parsed by multiple threads ({@code lineOffset = 0, count = Long.MAX_VALUE, processThreadNum > 1}),
+     * the file is memory-mapped and split into chunks at line boundaries, and each chunk is read and parsed by one of the {@code processThreadNum} threads.
+     * In that case, {@code readThreadNum} and {@code queueSize} are ignored: the lines are parsed by the thread which reads them, without a queue.
+     * Each chunk (up to 64 MB) is only mapped while it's parsed.
      * 
      * @param files parse all the sub files recursively if the element is a directory.
      * @param lineOffset
@@ -3732,6 +3737,12 @@ public final class IOUtil {
             return;
         }
 
+        if (files.size() == 1 && lineOffset == 0 && count == Long.MAX_VALUE && processThreadNum > 1
+                && MappedChunks.isSupported(files.get(0), Charset.defaultCharset())) {
+            parseMapped(files.get(0), processThreadNum, lineParser, onComplete);
+            return;
+        }
+
         final List<Reader> readers = new ArrayList<>(files.size());
 
         try {
@@ -3847,6 +3858,45 @@ public final class IOUtil {
         N.parse(new LineIterator(reader), lineOffset, count, processThreadNum, queueSize, lineParser, onComplete);
     }
 
+    /**
+     * Parse the lines in the chunks of the specified file by multiple threads. Each chunk is unmapped when its reader is closed.
+     * 
+     * @param file
+     * @param threadNum
+     * @param lineParser
+     * @param onComplete
+     */
+    private static <E extends Exception, E2 extends Exception> void parseMapped(final File file, final int threadNum, final Try.Consumer<String, E> lineParser,
+            final Try.Runnable<E2> onComplete) throws UncheckedIOException, E, E2 {
+        final Charset charset = Charset.defaultCharset();
+        final long[] positions = MappedChunks.split(file, 0, threadNum);
+
+        if (logger.isInfoEnabled()) {
+            logger.info("### Start to parse " + (positions.length - 1) + " chunks of file: " + file.getPath() + " by " + threadNum + " threads");
+        }
+
+        MappedChunks.execute(positions.length - 1, threadNum, new Try.IntConsumer<E>() {
+            @Override
+            public void accept(final int chunkIndex) throws E {
+                final Reader reader = MappedChunks.newReader(file, positions[chunkIndex], positions[chunkIndex + 1], charset);
+
+                try {
+                    final LineIterator iter = new LineIterator(reader);
+
+                    while (iter.hasNext()) {
+                        lineParser.accept(iter.next());
+                    }
+                } finally {
+                    closeQuietly(reader);
+                }
+            }
+        });
+
+        if (onComplete != null) {
+            onComplete.run();
+        }
+    }
+
     private static InputStream openFile(final Holder<ZipFile> outputZipFile, final File file) throws IOException {
         InputStream is = null;
 
@@ -696,12 +696,12 @@ public final class IntList extends PrimitiveList<Integer, int[], IntList> {
             return new IntList();
         }
 
-        final Multiset<Integer> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final IntList c = new IntList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(elementData[i]) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -738,12 +738,12 @@ public final class IntList extends PrimitiveList<Integer, int[], IntList> {
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Integer> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final IntList c = new IntList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -777,17 +777,17 @@ public final class IntList extends PrimitiveList<Integer, int[], IntList> {
             return b.copy();
         }
 
-        final Multiset<Integer> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
         final IntList c = new IntList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(b.elementData[i]) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -799,6 +799,21 @@ public final class IntList extends PrimitiveList<Integer, int[], IntList> {
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list.
+     */
+    private static IntIntMap occurrences(final IntList list) {
+        final IntIntMap occurrences = new IntIntMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(list.elementData[i], 1);
+        }
+
+        return occurrences;
+    }
+
     public IntList symmetricDifference(final int[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
@@ -891,6 +906,17 @@ public final class IntList extends PrimitiveList<Integer, int[], IntList> {
         return toIndex - fromIndex < k ? OptionalInt.empty() : OptionalInt.of(N.kthLargest(elementData, fromIndex, toIndex, k));
     }
 
+    /**
+     * Returns the elements at: <code>Percentage</code> * size of this list, as if it's sorted. This list is not modified.
+     *
+     * @param percentages all the <code>Percentage</code> values if it's empty.
+     * @return
+     * @see N#selectPercentiles(int[], Percentage...)
+     */
+    public Optional<Map<Percentage, Integer>> percentiles(final Percentage... percentages) {
+        return size() == 0 ? Optional.<Map<Percentage, Integer>> empty() : Optional.of(N.selectPercentiles(elementData, 0, size, percentages));
+    }
+
     public int sum() {
         return sum(0, size());
     }
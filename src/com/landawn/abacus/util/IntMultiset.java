@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+/**
+ * A multiset of primitive {@code int} values, same as {@code Multiset<Integer>} but the occurrences are counted by an {@code IntIntMap},
+ * without boxing the values or allocating any entry.
+ * <br />
+ * It's not thread-safe.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ *
+ * @see Multiset
+ * @see IntIntMap
+ */
+public final class IntMultiset {
+    private final IntIntMap valueMap;
+    private long sumOfOccurrences = 0;
+
+    public IntMultiset() {
+        this(16);
+    }
+
+    /**
+     *
+     * @param expectedSize the expected number of distinct values.
+     */
+    public IntMultiset(final int expectedSize) {
+        valueMap = new IntIntMap(expectedSize);
+    }
+
+    public static IntMultiset of(final int... a) {
+        final IntMultiset multiset = new IntMultiset(a == null ? 0 : a.length);
+
+        if (a != null) {
+            for (int e : a) {
+                multiset.add(e);
+            }
+        }
+
+        return multiset;
+    }
+
+    /**
+     *
+     * @param e
+     * @return the occurrences of the specified value. zero is returned if it's not in this set.
+     */
+    public int get(final int e) {
+        return valueMap.getOrDefault(e, 0);
+    }
+
+    public boolean contains(final int e) {
+        return valueMap.containsKey(e);
+    }
+
+    public boolean add(final int e) {
+        return add(e, 1);
+    }
+
+    public boolean add(final int e, final int occurrences) {
+        checkOccurrences(occurrences);
+
+        if (occurrences == 0) {
+            return false;
+        }
+
+        if (valueMap.addAndGet(e, occurrences) < 0) {
+            valueMap.addAndGet(e, -occurrences);
+            throw new IllegalArgumentException("The total count is out of the bound of int");
+        }
+
+        sumOfOccurrences += occurrences;
+
+        return true;
+    }
+
+    /**
+     * Removes one occurrence of the specified value.
+     *
+     * @param e
+     * @return the occurrences of the specified value before it's removed.
+     */
+    public int getAndRemove(final int e) {
+        final int result = valueMap.getAndDecrement(e);
+
+        if (result > 0) {
+            sumOfOccurrences--;
+        }
+
+        return result;
+    }
+
+    /**
+     *
+     * @param e
+     * @return the occurrences of the specified value before it's removed.
+     */
+    public int removeAllOccurrences(final int e) {
+        final int result = valueMap.getOrDefault(e, 0);
+
+        if (result > 0) {
+            valueMap.remove(e);
+            sumOfOccurrences -= result;
+        }
+
+        return result;
+    }
+
+    /**
+     *
+     * @return the distinct values in this set, in no particular order.
+     */
+    public int[] elements() {
+        return valueMap.keys();
+    }
+
+    /**
+     *
+     * @return the number of distinct values.
+     */
+    public int size() {
+        return valueMap.size();
+    }
+
+    public boolean isEmpty() {
+        return valueMap.isEmpty();
+    }
+
+    public long sumOfOccurrences() {
+        return sumOfOccurrences;
+    }
+
+    public void clear() {
+        valueMap.clear();
+        sumOfOccurrences = 0;
+    }
+
+    private static void checkOccurrences(final int occurrences) {
+        if (occurrences < 0) {
+            throw new IllegalArgumentException("The specified 'occurrences' can not be less than 0");
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return valueMap.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj == this || (obj instanceof IntMultiset && valueMap.equals(((IntMultiset) obj).valueMap));
+    }
+
+    @Override
+    public String toString() {
+        return valueMap.toString();
+    }
+}
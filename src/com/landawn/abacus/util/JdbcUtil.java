@@ -32,6 +32,7 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.math.BigInteger;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.Driver;
@@ -42,6 +43,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -50,6 +52,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -930,11 +938,14 @@ public final class JdbcUtil {
     }
 
     /**
+     * The skipped rows are still read from the database if the driver doesn't support {@code ResultSet#absolute(int)}.
+     * To read a large table page by page, {@code SQLExecutor.streamByKeyset} is much more efficient than skipping the rows by offset.
      * 
      * @param rs
      * @param n the count of row to move ahead.
      * @throws UncheckedSQLException
      * @see {@link ResultSet#absolute(int)}
+     * @see SQLExecutor#streamByKeyset(String, SQLExecutor.StatementSetter, String, Object, int, SQLExecutor.JdbcSettings, Object...)
      */
     public static void skip(final ResultSet rs, long n) throws UncheckedSQLException {
         //    N.checkArgument(offset >= 0, "'offset' can't be negative: %s", offset);
@@ -1015,32 +1026,40 @@ public final class JdbcUtil {
     public static <E extends Exception> DataSet extractData(final ResultSet rs, int offset, int count, final Try.Predicate<? super Object[], E> filter,
             final boolean closeResultSet) throws UncheckedSQLException, E {
         try {
-            // TODO [performance improvement]. it will improve performance a lot if MetaData is cached.
             final ResultSetMetaData metaData = rs.getMetaData();
             final int columnCount = metaData.getColumnCount();
             final List<String> columnNameList = new ArrayList<>(columnCount);
-            final List<List<Object>> columnList = new ArrayList<>(columnCount);
 
             for (int i = 0; i < columnCount;) {
                 columnNameList.add(metaData.getColumnLabel(++i));
-                columnList.add(new ArrayList<>());
             }
 
-            JdbcUtil.skip(rs, offset);
+            final ColumnTypePlan plan = ColumnTypePlan.of(metaData);
+            final List<List<Object>> columnList = plan.newColumns(ColumnTypePlan.initialCapacity(rs.getFetchSize(), count));
 
-            final Object[] row = new Object[columnCount];
+            JdbcUtil.skip(rs, offset);
 
-            while (count > 0 && rs.next()) {
-                for (int i = 0; i < columnCount;) {
-                    row[i] = rs.getObject(++i);
+            if (filter == null || filter == Fn.alwaysTrue()) {
+                // read by the primitive getters, without boxing.
+                while (count > 0 && rs.next()) {
+                    plan.addRow(rs, columnList);
+                    count--;
                 }
+            } else {
+                final Object[] row = new Object[columnCount];
 
-                if (filter == null || filter.test(row)) {
-                    for (int i = 0; i < columnCount; i++) {
-                        columnList.get(i).add(row[i]);
+                while (count > 0 && rs.next()) {
+                    for (int i = 0; i < columnCount;) {
+                        row[i] = rs.getObject(++i);
                     }
 
-                    count--;
+                    if (filter.test(row)) {
+                        for (int i = 0; i < columnCount; i++) {
+                            columnList.get(i).add(row[i]);
+                        }
+
+                        count--;
+                    }
                 }
             }
 
@@ -1055,6 +1074,34 @@ public final class JdbcUtil {
         }
     }
 
+    /**
+     * Numeric columns are stored in primitive arrays. The column falls back to boxed values if the driver returns a different type by {@code getObject}.
+     * 
+     * @param sqlType
+     * @return the primitive type to store the values of the specified sql type, or {@code null}.
+     */
+    static Class<?> primitiveTypeOf(final int sqlType) {
+        switch (sqlType) {
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return int.class;
+
+            case Types.BIGINT:
+                return long.class;
+
+            case Types.REAL:
+                return float.class;
+
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return double.class;
+
+            default:
+                return null;
+        }
+    }
+
     /**
      * Don’t close the specified Connection before the returned {@code Stream} is consumed/collected/terminated.
      * 
@@ -2148,6 +2195,61 @@ public final class JdbcUtil {
         }
     }
 
+    /**
+     * Imports the data from Iterator to database, with the batch size adjusted by the observed latency of {@code executeBatch} if {@code adaptiveBatchSize} is {@code true},
+     * and the rows of a batch inserted by one multi-row insert sql: {@code INSERT ... VALUES (?, ?...), (?, ?...), ...} if {@code multiRowInsert} is {@code true}.
+     * The parameters of each row are set by {@code stmtSetter} with the parameter indexes of {@code insertSQL}.
+     * 
+     * @param iter
+     * @param conn
+     * @param insertSQL
+     * @param batchSize the initial batch size if {@code adaptiveBatchSize} is {@code true}.
+     * @param batchInterval
+     * @param adaptiveBatchSize
+     * @param multiRowInsert
+     * @param stmtSetter
+     * @return
+     * @throws UncheckedSQLException
+     * @see SQLExecutor.JdbcSettings#setAdaptiveBatchSize(boolean)
+     * @see SQLExecutor.JdbcSettings#setMultiRowInsert(boolean)
+     */
+    public static <T> long importData(final Iterator<T> iter, final Connection conn, final String insertSQL, final int batchSize, final int batchInterval,
+            final boolean adaptiveBatchSize, final boolean multiRowInsert, final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter)
+            throws UncheckedSQLException {
+        N.checkArgument(batchSize > 0 && batchInterval >= 0, "'batchSize'=%s must be greater than 0 and 'batchInterval'=%s can't be negative", batchSize,
+                batchInterval);
+
+        final NamedSQL namedSQL = NamedSQL.parse(insertSQL);
+        PreparedStatement stmt = null;
+        BatchExecutor<T> batchExecutor = null;
+
+        try {
+            stmt = conn.prepareStatement(namedSQL.getPureSQL());
+
+            final Try.Function<String, PreparedStatement, SQLException> stmtFactory = new Try.Function<String, PreparedStatement, SQLException>() {
+                @Override
+                public PreparedStatement apply(final String multiRowSql) throws SQLException {
+                    return conn.prepareStatement(multiRowSql);
+                }
+            };
+
+            batchExecutor = new BatchExecutor<>(stmt, stmtSetter, batchSize, adaptiveBatchSize, multiRowInsert ? namedSQL.getPureSQL() : null,
+                    namedSQL.getParameterCount(), stmtFactory, null);
+
+            batchExecutor.execute(iter, batchInterval);
+
+            return batchExecutor.rowCount();
+        } catch (SQLException e) {
+            throw new UncheckedSQLException(e);
+        } finally {
+            if (batchExecutor != null) {
+                batchExecutor.close();
+            }
+
+            JdbcUtil.closeQuietly(stmt);
+        }
+    }
+
     public static <T> long importData(final Iterator<T> iter, final PreparedStatement stmt,
             final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter) {
         return importData(iter, 0, Long.MAX_VALUE, stmt, 200, 0, stmtSetter);
@@ -2483,6 +2585,253 @@ public final class JdbcUtil {
         return result.longValue();
     }
 
+    public static long copy(final javax.sql.DataSource sourceDataSource, final String selectSql, final javax.sql.DataSource targetDataSource,
+            final String insertSql, final int writerNum) throws UncheckedSQLException {
+        return copy(sourceDataSource, selectSql, 200, targetDataSource, insertSql, DEFAULT_STMT_SETTER, 200, writerNum, 64);
+    }
+
+    /**
+     * Copies the rows by one reader and {@code writerNum} writers. Each writer gets its own connection from {@code targetDataSource} and inserts the rows
+     * by its own {@code PreparedStatement}. The rows are passed from the reader to the writers in batches of {@code batchSize} rows,
+     * through a queue which holds at most {@code queueSize} batches. Every batch is inserted by one {@code executeBatch}.
+     * <br />
+     * The connections are closed (returned to the pool) after the copy is done. Each batch is committed by the auto-commit of the target connection.
+     * 
+     * @param sourceDataSource
+     * @param selectSql
+     * @param fetchSize
+     * @param targetDataSource
+     * @param insertSql
+     * @param stmtSetter
+     * @param batchSize
+     * @param writerNum
+     * @param queueSize the max number of the batches waiting to be inserted.
+     * @return the number of the copied rows.
+     * @throws UncheckedSQLException
+     */
+    public static long copy(final javax.sql.DataSource sourceDataSource, final String selectSql, final int fetchSize,
+            final javax.sql.DataSource targetDataSource, final String insertSql,
+            final Try.BiConsumer<? super PreparedStatement, ? super Object[], SQLException> stmtSetter, final int batchSize, final int writerNum,
+            final int queueSize) throws UncheckedSQLException {
+        return copy(sourceDataSource, selectSql, fetchSize, null, targetDataSource, insertSql, stmtSetter, batchSize, writerNum, queueSize);
+    }
+
+    /**
+     * Same as {@link #copy(javax.sql.DataSource, String, int, javax.sql.DataSource, String, Try.BiConsumer, int, int, int)}, but the rows are read
+     * by {@code readerNum} readers. The key range {@code [minKey, maxKey]} is split into {@code readerNum} ranges with (about) the same size,
+     * and each reader executes {@code selectSql} on its own connection with the lower bound (inclusive) and upper bound (exclusive) of its range
+     * as the first and second parameters. For example:
+     * 
+     * <pre>
+     * <code>
+     * JdbcUtil.copy(sourceDataSource, "SELECT * FROM account WHERE id >= ? AND id < ?", 1000, minId, maxId, 4,
+     *         targetDataSource, "INSERT INTO account VALUES (?, ?, ?)", null, 1000, 8, 64);
+     * </code>
+     * </pre>
+     * 
+     * @param sourceDataSource
+     * @param selectSql the query with two parameters for the lower bound (inclusive) and upper bound (exclusive) of the key range.
+     * @param fetchSize
+     * @param minKey
+     * @param maxKey
+     * @param readerNum
+     * @param targetDataSource
+     * @param insertSql
+     * @param stmtSetter
+     * @param batchSize
+     * @param writerNum
+     * @param queueSize the max number of the batches waiting to be inserted.
+     * @return the number of the copied rows.
+     * @throws UncheckedSQLException
+     */
+    public static long copy(final javax.sql.DataSource sourceDataSource, final String selectSql, final int fetchSize, final long minKey, final long maxKey,
+            final int readerNum, final javax.sql.DataSource targetDataSource, final String insertSql,
+            final Try.BiConsumer<? super PreparedStatement, ? super Object[], SQLException> stmtSetter, final int batchSize, final int writerNum,
+            final int queueSize) throws UncheckedSQLException {
+        N.checkArgument(minKey <= maxKey && maxKey < Long.MAX_VALUE, "'minKey'=%s can't be greater than 'maxKey'=%s, which must be less than Long.MAX_VALUE",
+                minKey, maxKey);
+        N.checkArgument(readerNum > 0, "'readerNum'=%s must be greater than 0", readerNum);
+
+        final long[] keyBounds = splitKeyRange(minKey, maxKey + 1, readerNum);
+
+        return copy(sourceDataSource, selectSql, fetchSize, keyBounds, targetDataSource, insertSql, stmtSetter, batchSize, writerNum, queueSize);
+    }
+
+    /**
+     * 
+     * @param fromKey
+     * @param toKey
+     * @param n
+     * @return the bounds of the ranges: range {@code i} is from {@code keyBounds[i]} (inclusive) to {@code keyBounds[i + 1]} (exclusive).
+     */
+    static long[] splitKeyRange(final long fromKey, final long toKey, final int n) {
+        final BigInteger from = BigInteger.valueOf(fromKey);
+        final BigInteger size = BigInteger.valueOf(toKey).subtract(from);
+        final int rangeNum = (int) Math.max(1, Math.min(n, size.min(BigInteger.valueOf(n)).longValue()));
+        final long[] keyBounds = new long[rangeNum + 1];
+
+        for (int i = 0; i < rangeNum; i++) {
+            keyBounds[i] = from.add(size.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(rangeNum))).longValue();
+        }
+
+        keyBounds[rangeNum] = toKey;
+
+        return keyBounds;
+    }
+
+    private static long copy(final javax.sql.DataSource sourceDataSource, final String selectSql, final int fetchSize, final long[] keyBounds,
+            final javax.sql.DataSource targetDataSource, final String insertSql,
+            final Try.BiConsumer<? super PreparedStatement, ? super Object[], SQLException> stmtSetter, final int batchSize, final int writerNum,
+            final int queueSize) throws UncheckedSQLException {
+        N.checkArgNotNull(sourceDataSource, "sourceDataSource");
+        N.checkArgNotNull(targetDataSource, "targetDataSource");
+        N.checkArgument(batchSize > 0 && writerNum > 0 && queueSize > 0,
+                "'batchSize'=%s, 'writerNum'=%s and 'queueSize'=%s must be greater than 0", batchSize, writerNum, queueSize);
+
+        @SuppressWarnings("rawtypes")
+        final Try.BiConsumer<? super PreparedStatement, ? super Object[], SQLException> setter = (Try.BiConsumer) (stmtSetter == null ? DEFAULT_STMT_SETTER
+                : stmtSetter);
+        final int readerNum = keyBounds == null ? 1 : keyBounds.length - 1;
+        final BlockingQueue<List<Object[]>> queue = new ArrayBlockingQueue<>(queueSize);
+        final AtomicInteger activeReaderNum = new AtomicInteger(readerNum);
+        final Holder<Throwable> errorHolder = new Holder<>();
+        final AtomicLong result = new AtomicLong();
+        final ExecutorService executorService = Executors.newFixedThreadPool(readerNum + writerNum);
+
+        try {
+            for (int i = 0; i < writerNum; i++) {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        Connection conn = null;
+                        PreparedStatement stmt = null;
+                        List<Object[]> rows = null;
+
+                        try {
+                            conn = targetDataSource.getConnection();
+                            stmt = conn.prepareStatement(insertSql);
+
+                            while (errorHolder.value() == null) {
+                                rows = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                                if (rows == null) {
+                                    if (activeReaderNum.get() == 0 && queue.isEmpty()) {
+                                        break;
+                                    }
+
+                                    continue;
+                                }
+
+                                for (Object[] row : rows) {
+                                    setter.accept(stmt, row);
+                                    stmt.addBatch();
+                                }
+
+                                stmt.executeBatch();
+                                stmt.clearBatch();
+
+                                result.addAndGet(rows.size());
+                            }
+                        } catch (Throwable e) {
+                            setError(errorHolder, e);
+                        } finally {
+                            closeQuietly(stmt, conn);
+                        }
+                    }
+                });
+            }
+
+            for (int i = 0; i < readerNum; i++) {
+                final int rangeIndex = i;
+
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        Connection conn = null;
+                        PreparedStatement stmt = null;
+                        ResultSet rs = null;
+
+                        try {
+                            conn = sourceDataSource.getConnection();
+                            stmt = conn.prepareStatement(selectSql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                            stmt.setFetchSize(fetchSize);
+
+                            if (keyBounds != null) {
+                                stmt.setLong(1, keyBounds[rangeIndex]);
+                                stmt.setLong(2, keyBounds[rangeIndex + 1]);
+                            }
+
+                            rs = stmt.executeQuery();
+
+                            final int columnCount = rs.getMetaData().getColumnCount();
+                            List<Object[]> rows = new ArrayList<>(batchSize);
+                            Object[] row = null;
+
+                            while (errorHolder.value() == null && rs.next()) {
+                                row = new Object[columnCount];
+
+                                for (int j = 0; j < columnCount; j++) {
+                                    row[j] = rs.getObject(j + 1);
+                                }
+
+                                rows.add(row);
+
+                                if (rows.size() == batchSize) {
+                                    put(queue, rows, errorHolder);
+                                    rows = new ArrayList<>(batchSize);
+                                }
+                            }
+
+                            if (rows.size() > 0) {
+                                put(queue, rows, errorHolder);
+                            }
+                        } catch (Throwable e) {
+                            setError(errorHolder, e);
+                        } finally {
+                            activeReaderNum.decrementAndGet();
+                            closeQuietly(rs, stmt, conn);
+                        }
+                    }
+                });
+            }
+
+            executorService.shutdown();
+
+            while (executorService.isTerminated() == false) {
+                executorService.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            throw N.toRuntimeException(e);
+        }
+
+        if (errorHolder.value() != null) {
+            throw N.toRuntimeException(errorHolder.value());
+        }
+
+        return result.longValue();
+    }
+
+    /**
+     * Waits until the rows are added to the queue, or any error happens in the readers/writers.
+     */
+    private static void put(final BlockingQueue<List<Object[]>> queue, final List<Object[]> rows, final Holder<Throwable> errorHolder)
+            throws InterruptedException {
+        while (errorHolder.value() == null && queue.offer(rows, 100, TimeUnit.MILLISECONDS) == false) {
+            // continue.
+        }
+    }
+
+    private static void setError(final Holder<Throwable> errorHolder, final Throwable e) {
+        synchronized (errorHolder) {
+            if (errorHolder.value() == null) {
+                errorHolder.setValue(e);
+            } else {
+                errorHolder.value().addSuppressed(e);
+            }
+        }
+    }
+
     public static boolean doesTableExist(final Connection conn, final String tableName) {
         try {
             executeQuery(conn, "SELECT 1 FROM " + tableName + " WHERE 1 > 2");
@@ -2580,6 +2929,32 @@ public final class JdbcUtil {
         }
     }
 
+    /**
+     * 
+     * @param columnLabels
+     * @param columnName
+     * @return the index of the specified column in the labels, matched ignoring case if there is no exact match.
+     * @throws IllegalArgumentException if the column is not found.
+     */
+    static int getColumnIndex(final List<String> columnLabels, final String columnName) {
+        int index = columnLabels.indexOf(columnName);
+
+        if (index < 0) {
+            for (int i = 0, size = columnLabels.size(); i < size; i++) {
+                if (columnLabels.get(i).equalsIgnoreCase(columnName)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+
+        if (index < 0) {
+            throw new IllegalArgumentException("No column found by name: " + columnName + " in " + columnLabels);
+        }
+
+        return index;
+    }
+
     static boolean isTableNotExistsException(final Throwable e) {
         if (e instanceof SQLException) {
             SQLException sqlException = (SQLException) e;
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Iterates the rows of a table page by page by keyset pagination: {@code WHERE key > :lastKey ORDER BY key}, used by {@code SQLExecutor.streamByKeyset}.
+ * Each page starts after the key of the last row in the previous page, so no row is skipped on the client or on the server side, unlike {@code offset}.
+ * <br />
+ * Once a full page is read, the next page is queried by the {@code AsyncExecutor} in background while the rows of the current page are consumed.
+ * At most two pages are held in memory. The iteration ends with the first page which has less rows than {@code pageSize}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class KeysetPageIterator extends ImmutableIterator<Object[]> implements Closeable {
+    private final Function<Object, List<Object[]>> pageLoader;
+    private final Function<Object[], Object> keyExtractor;
+    private final int pageSize;
+    private final AsyncExecutor asyncExecutor;
+    private Object nextKey;
+    private Iterator<Object[]> page = null;
+    private boolean hasNextPage = true;
+    private CompletableFuture<List<Object[]>> nextPage = null;
+    private volatile boolean isClosed = false;
+
+    /**
+     *
+     * @param pageLoader to query the rows after the specified key, at most {@code pageSize} rows, sorted by key.
+     * @param keyExtractor to get the key from a row.
+     * @param startKey the key to query the first page.
+     * @param pageSize
+     * @param asyncExecutor to query the next page in background.
+     */
+    KeysetPageIterator(final Function<Object, List<Object[]>> pageLoader, final Function<Object[], Object> keyExtractor, final Object startKey,
+            final int pageSize, final AsyncExecutor asyncExecutor) {
+        N.checkArgument(pageSize > 0, "'pageSize'=%s must be greater than 0", pageSize);
+
+        this.pageLoader = pageLoader;
+        this.keyExtractor = keyExtractor;
+        this.nextKey = startKey;
+        this.pageSize = pageSize;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while ((page == null || page.hasNext() == false) && hasNextPage && isClosed == false) {
+            setPage(nextPage == null ? pageLoader.apply(nextKey) : getNextPage());
+        }
+
+        return isClosed == false && page != null && page.hasNext();
+    }
+
+    @Override
+    public Object[] next() {
+        if (hasNext() == false) {
+            throw new NoSuchElementException();
+        }
+
+        return page.next();
+    }
+
+    private List<Object[]> getNextPage() {
+        try {
+            return nextPage.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw N.toRuntimeException(e instanceof ExecutionException ? e.getCause() : e);
+        } finally {
+            nextPage = null;
+        }
+    }
+
+    private void setPage(final List<Object[]> rows) {
+        page = rows.iterator();
+        hasNextPage = rows.size() >= pageSize;
+
+        if (hasNextPage) {
+            nextKey = keyExtractor.apply(rows.get(rows.size() - 1));
+
+            final Object key = nextKey;
+
+            nextPage = asyncExecutor.execute(new Callable<List<Object[]>>() {
+                @Override
+                public List<Object[]> call() throws Exception {
+                    return pageLoader.apply(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Cancels the query of the next page if it's not completed.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        page = null;
+
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+}
@@ -643,12 +643,12 @@ public final class LongList extends PrimitiveList<Long, long[], LongList> {
             return new LongList();
         }
 
-        final Multiset<Long> bOccurrences = b.toMultiset();
+        final LongLongMap bOccurrences = occurrences(b);
 
         final LongList c = new LongList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(elementData[i]) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -675,12 +675,12 @@ public final class LongList extends PrimitiveList<Long, long[], LongList> {
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Long> bOccurrences = b.toMultiset();
+        final LongLongMap bOccurrences = occurrences(b);
 
         final LongList c = new LongList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -709,17 +709,17 @@ public final class LongList extends PrimitiveList<Long, long[], LongList> {
             return b.copy();
         }
 
-        final Multiset<Long> bOccurrences = b.toMultiset();
+        final LongLongMap bOccurrences = occurrences(b);
         final LongList c = new LongList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(b.elementData[i]) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -731,6 +731,21 @@ public final class LongList extends PrimitiveList<Long, long[], LongList> {
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list.
+     */
+    private static LongLongMap occurrences(final LongList list) {
+        final LongLongMap occurrences = new LongLongMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(list.elementData[i], 1);
+        }
+
+        return occurrences;
+    }
+
     public LongList symmetricDifference(final long[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
@@ -823,6 +838,17 @@ public final class LongList extends PrimitiveList<Long, long[], LongList> {
         return toIndex - fromIndex < k ? OptionalLong.empty() : OptionalLong.of(N.kthLargest(elementData, fromIndex, toIndex, k));
     }
 
+    /**
+     * Returns the elements at: <code>Percentage</code> * size of this list, as if it's sorted. This list is not modified.
+     *
+     * @param percentages all the <code>Percentage</code> values if it's empty.
+     * @return
+     * @see N#selectPercentiles(long[], Percentage...)
+     */
+    public Optional<Map<Percentage, Long>> percentiles(final Percentage... percentages) {
+        return size() == 0 ? Optional.<Map<Percentage, Long>> empty() : Optional.of(N.selectPercentiles(elementData, 0, size, percentages));
+    }
+
     public long sum() {
         return sum(0, size());
     }
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive {@code long} keys to primitive {@code long} values by open addressing with linear probing,
+ * without boxing the keys/values or allocating any entry. It's used to count the occurrences of the values by {@code addAndGet/getAndDecrement}.
+ * The keys and values are stored in two parallel arrays whose length is a power of two, resized when they're {@code LOAD_FACTOR} full.
+ * {@code 0} is the mark of empty slots, so the value for key {@code 0} is held by a field.
+ * A removed key is not marked by a tombstone: the following keys in the same probe sequence are shifted back.
+ * <br />
+ * It's not thread-safe.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ *
+ * @see LongSet
+ */
+public final class LongLongMap {
+    static final float LOAD_FACTOR = LongSet.LOAD_FACTOR;
+    static final int MAX_CAPACITY = LongSet.MAX_CAPACITY;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int maxFill;
+    private boolean containsZeroKey = false;
+    private long zeroKeyValue = 0;
+    private int size = 0;
+
+    public LongLongMap() {
+        this(16);
+    }
+
+    public LongLongMap(final int expectedSize) {
+        N.checkArgument(expectedSize >= 0, "'expectedSize' can't be negative: %s", expectedSize);
+
+        init(IntSet.tableSize(expectedSize));
+    }
+
+    private void init(final int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        maxFill = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     *
+     * @param key
+     * @return the slot of the key, or {@code -(insertion slot) - 1} if the key is not found. Not called for key {@code 0}.
+     */
+    private int find(final long key) {
+        int pos = hash(key) & mask;
+        long k;
+
+        while ((k = keys[pos]) != 0) {
+            if (k == key) {
+                return pos;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return -pos - 1;
+    }
+
+    public boolean containsKey(final long key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    /**
+     *
+     * @param key
+     * @param defaultValue
+     * @return the value of the key, or {@code defaultValue} if the key is not in this map.
+     */
+    public long getOrDefault(final long key, final long defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroKeyValue : defaultValue;
+        }
+
+        final int pos = find(key);
+
+        return pos >= 0 ? values[pos] : defaultValue;
+    }
+
+    public void put(final long key, final long value) {
+        if (key == 0) {
+            zeroKeyValue = value;
+
+            if (containsZeroKey == false) {
+                containsZeroKey = true;
+                incrementSize();
+            }
+
+            return;
+        }
+
+        final int pos = find(key);
+
+        if (pos >= 0) {
+            values[pos] = value;
+        } else {
+            insert(-pos - 1, key, value);
+        }
+    }
+
+    /**
+     * Adds the delta to the value of the key. The value of an absent key is {@code 0}.
+     *
+     * @param key
+     * @param delta
+     * @return the new value.
+     */
+    public long addAndGet(final long key, final long delta) {
+        if (key == 0) {
+            if (containsZeroKey) {
+                return zeroKeyValue += delta;
+            }
+
+            containsZeroKey = true;
+            zeroKeyValue = delta;
+            incrementSize();
+            return delta;
+        }
+
+        final int pos = find(key);
+
+        if (pos >= 0) {
+            return values[pos] += delta;
+        }
+
+        insert(-pos - 1, key, delta);
+
+        return delta;
+    }
+
+    /**
+     * Decrements the value of the key by one if the key is in this map, and removes the key if the value becomes {@code 0} or less.
+     * It's the removal of one occurrence if the values are the occurrences of the keys.
+     *
+     * @param key
+     * @return the value before it's decremented, or {@code 0} if the key is not in this map.
+     */
+    public long getAndDecrement(final long key) {
+        if (key == 0) {
+            if (containsZeroKey == false) {
+                return 0;
+            }
+
+            final long result = zeroKeyValue--;
+
+            if (zeroKeyValue <= 0) {
+                containsZeroKey = false;
+                zeroKeyValue = 0;
+                size--;
+            }
+
+            return result;
+        }
+
+        final int pos = find(key);
+
+        if (pos < 0) {
+            return 0;
+        }
+
+        final long result = values[pos]--;
+
+        if (values[pos] <= 0) {
+            shiftKeys(pos);
+            size--;
+        }
+
+        return result;
+    }
+
+    /**
+     *
+     * @param key
+     * @return {@code true} if the key is removed, {@code false} if it's not in this map.
+     */
+    public boolean remove(final long key) {
+        if (key == 0) {
+            if (containsZeroKey == false) {
+                return false;
+            }
+
+            containsZeroKey = false;
+            zeroKeyValue = 0;
+            size--;
+            return true;
+        }
+
+        final int pos = find(key);
+
+        if (pos < 0) {
+            return false;
+        }
+
+        shiftKeys(pos);
+        size--;
+        return true;
+    }
+
+    private void insert(final int pos, final long key, final long value) {
+        keys[pos] = key;
+        values[pos] = value;
+
+        incrementSize();
+    }
+
+    private void incrementSize() {
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Fills the slot at {@code pos} by the next key in the same probe sequence, and so on.
+     *
+     * @param pos
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        long k;
+
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    values[last] = 0;
+                    return;
+                }
+
+                final int slot = hash(k) & mask;
+
+                if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+                    break;
+                }
+
+                pos = (pos + 1) & mask;
+            }
+
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(final int capacity) {
+        if (keys.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Too many keys: " + size);
+        }
+
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+
+        init(capacity);
+
+        for (int i = 0, len = oldKeys.length; i < len; i++) {
+            final long k = oldKeys[i];
+
+            if (k != 0) {
+                int pos = hash(k) & mask;
+
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+
+                keys[pos] = k;
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, 0);
+            containsZeroKey = false;
+            zeroKeyValue = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     *
+     * @return the keys in this map, in no particular order.
+     */
+    public long[] keys() {
+        final long[] a = new long[size];
+        int idx = 0;
+
+        if (containsZeroKey) {
+            a[idx++] = 0;
+        }
+
+        for (int i = 0, len = keys.length; i < len && idx < size; i++) {
+            if (keys[i] != 0) {
+                a[idx++] = keys[i];
+            }
+        }
+
+        return a;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = containsZeroKey ? N.hashCode(zeroKeyValue) : 0;
+
+        for (int i = 0, len = keys.length; i < len; i++) {
+            if (keys[i] != 0) {
+                h += N.hashCode(keys[i]) ^ N.hashCode(values[i]);
+            }
+        }
+
+        return h;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj instanceof LongLongMap) {
+            final LongLongMap other = (LongLongMap) obj;
+
+            if (this.size != other.size || this.containsZeroKey != other.containsZeroKey || this.zeroKeyValue != other.zeroKeyValue) {
+                return false;
+            }
+
+            for (int i = 0, len = keys.length; i < len; i++) {
+                if (keys[i] != 0) {
+                    final int pos = other.find(keys[i]);
+
+                    if (pos < 0 || other.values[pos] != values[i]) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "{}";
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append('{');
+
+        if (containsZeroKey) {
+            sb.append(0).append('=').append(zeroKeyValue);
+        }
+
+        for (int i = 0, len = keys.length; i < len; i++) {
+            if (keys[i] != 0) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+
+                sb.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+
+        sb.append('}');
+
+        return sb.toString();
+    }
+
+    private static int hash(final long k) {
+        final long h = k * 0x9E3779B97F4A7C15L;
+
+        return (int) (h ^ (h >>> 32));
+    }
+}
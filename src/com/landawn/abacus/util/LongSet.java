@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.Arrays;
+
+/**
+ * A set of primitive {@code long} values by open addressing with linear probing, without boxing the values or allocating any entry.
+ * The values are stored in a {@code long} array whose length is a power of two, resized when it's {@code LOAD_FACTOR} full.
+ * {@code 0} is the mark of empty slots, so the value {@code 0} is held by a flag.
+ * A removed value is not marked by a tombstone: the following values in the same probe sequence are shifted back.
+ * <br />
+ * It's not thread-safe.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+public final class LongSet {
+    static final float LOAD_FACTOR = IntSet.LOAD_FACTOR;
+    static final int MAX_CAPACITY = IntSet.MAX_CAPACITY;
+
+    private long[] keys;
+    private int mask;
+    private int maxFill;
+    private boolean containsZero = false;
+    private int size = 0;
+
+    public LongSet() {
+        this(16);
+    }
+
+    public LongSet(final int expectedSize) {
+        N.checkArgument(expectedSize >= 0, "'expectedSize' can't be negative: %s", expectedSize);
+
+        init(IntSet.tableSize(expectedSize));
+    }
+
+    public static LongSet of(final long... a) {
+        final LongSet set = new LongSet(a == null ? 0 : a.length);
+
+        if (a != null) {
+            for (long e : a) {
+                set.add(e);
+            }
+        }
+
+        return set;
+    }
+
+    private void init(final int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        maxFill = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     *
+     * @param e
+     * @return {@code true} if the value is added, {@code false} if it's already in this set.
+     */
+    public boolean add(final long e) {
+        if (e == 0) {
+            if (containsZero) {
+                return false;
+            }
+
+            containsZero = true;
+        } else {
+            int pos = hash(e) & mask;
+            long k;
+
+            while ((k = keys[pos]) != 0) {
+                if (k == e) {
+                    return false;
+                }
+
+                pos = (pos + 1) & mask;
+            }
+
+            keys[pos] = e;
+        }
+
+        if (++size >= maxFill) {
+            rehash(keys.length << 1);
+        }
+
+        return true;
+    }
+
+    public boolean contains(final long e) {
+        if (e == 0) {
+            return containsZero;
+        }
+
+        int pos = hash(e) & mask;
+        long k;
+
+        while ((k = keys[pos]) != 0) {
+            if (k == e) {
+                return true;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     *
+     * @param e
+     * @return {@code true} if the value is removed, {@code false} if it's not in this set.
+     */
+    public boolean remove(final long e) {
+        if (e == 0) {
+            if (containsZero == false) {
+                return false;
+            }
+
+            containsZero = false;
+            size--;
+            return true;
+        }
+
+        int pos = hash(e) & mask;
+        long k;
+
+        while ((k = keys[pos]) != 0) {
+            if (k == e) {
+                shiftKeys(pos);
+                size--;
+                return true;
+            }
+
+            pos = (pos + 1) & mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Fills the slot at {@code pos} by the next value in the same probe sequence, and so on.
+     *
+     * @param pos
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        long k;
+
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+
+                final int slot = hash(k) & mask;
+
+                if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+                    break;
+                }
+
+                pos = (pos + 1) & mask;
+            }
+
+            keys[last] = k;
+        }
+    }
+
+    private void rehash(final int capacity) {
+        if (keys.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Too many values: " + size);
+        }
+
+        final long[] oldKeys = keys;
+
+        init(capacity);
+
+        for (long k : oldKeys) {
+            if (k != 0) {
+                int pos = hash(k) & mask;
+
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+
+                keys[pos] = k;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0);
+            containsZero = false;
+            size = 0;
+        }
+    }
+
+    /**
+     *
+     * @return the values in this set, in no particular order.
+     */
+    public long[] toArray() {
+        final long[] a = new long[size];
+        int idx = 0;
+
+        if (containsZero) {
+            a[idx++] = 0;
+        }
+
+        for (int i = 0, len = keys.length; i < len && idx < size; i++) {
+            if (keys[i] != 0) {
+                a[idx++] = keys[i];
+            }
+        }
+
+        return a;
+    }
+
+    public LongList toList() {
+        return LongList.of(toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+
+        for (long k : keys) {
+            h += N.hashCode(k);
+        }
+
+        return h;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj instanceof LongSet) {
+            final LongSet other = (LongSet) obj;
+
+            if (this.size != other.size || this.containsZero != other.containsZero) {
+                return false;
+            }
+
+            for (long k : keys) {
+                if (k != 0 && other.contains(k) == false) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return size == 0 ? "[]" : N.toString(toArray());
+    }
+
+    private static int hash(final long k) {
+        final long h = k * 0x9E3779B97F4A7C15L;
+
+        return (int) (h ^ (h >>> 32));
+    }
+}
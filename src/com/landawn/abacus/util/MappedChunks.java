@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.landawn.abacus.exception.UncheckedIOException;
+
+/**
+ * Splits a large file into byte ranges (chunks) at line boundaries, so the chunks can be memory-mapped and parsed by multiple threads,
+ * instead of reading all the lines by one reader.
+ * <br />
+ * The lines are split by {@code '\n'}, so it only works for the charsets in which {@code '\n'} is one byte and never part of another char,
+ * e.g. UTF-8, ISO-8859-1, US-ASCII.
+ * <br />
+ * Each chunk is mapped only while it's read, and unmapped when its reader is closed, instead of holding the mapped file until the buffers are
+ * garbage collected (the file can't be deleted or modified on Windows until then).
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class MappedChunks {
+    /**
+     * The files smaller than 64 MB are read by one reader: there is no benefit to map and split them.
+     */
+    static final long MIN_FILE_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The chunks are not bigger than 64 MB so the threads get similar work load, and every chunk can be mapped by one {@code MappedByteBuffer}.
+     */
+    static final long MAX_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private static final Object unsafe;
+    private static final Method invokeCleaner;
+    private static final Method cleaner;
+    private static final Method clean;
+
+    static {
+        Object unsafeInstance = null;
+        Method invokeCleanerMethod = null;
+        Method cleanerMethod = null;
+        Method cleanMethod = null;
+
+        try {
+            // Java 9+
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeInstance = theUnsafe.get(null);
+            invokeCleanerMethod = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Throwable e) {
+            unsafeInstance = null;
+            invokeCleanerMethod = null;
+
+            try {
+                // Java 7/8
+                cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            } catch (Throwable e2) {
+                cleanerMethod = null;
+                cleanMethod = null;
+            }
+        }
+
+        unsafe = unsafeInstance;
+        invokeCleaner = invokeCleanerMethod;
+        cleaner = cleanerMethod;
+        clean = cleanMethod;
+    }
+
+    private MappedChunks() {
+        // singleton.
+    }
+
+    /**
+     *
+     * @param file
+     * @param charset
+     * @return {@code true} if the specified file can be split and parsed by multiple threads.
+     */
+    static boolean isSupported(final File file, final Charset charset) {
+        final byte[] bytes = "\n".getBytes(charset);
+
+        return file.isFile() && file.length() >= MIN_FILE_SIZE && bytes.length == 1 && bytes[0] == '\n';
+    }
+
+    /**
+     * Splits the file from the specified position to the end into chunks. Every chunk, except the last one, ends with {@code '\n'}.
+     *
+     * @param file
+     * @param fromPosition
+     * @param minChunkCount
+     * @return the positions of the chunks: chunk {@code i} is from {@code positions[i]} to {@code positions[i + 1]}.
+     */
+    static long[] split(final File file, final long fromPosition, final int minChunkCount) {
+        final long length = file.length();
+        final long size = length - fromPosition;
+        final int chunkCount = (int) Math.max(1, Math.max(minChunkCount, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE));
+        final long[] positions = new long[chunkCount + 1];
+
+        RandomAccessFile raf = null;
+
+        try {
+            raf = new RandomAccessFile(file, "r");
+
+            positions[0] = fromPosition;
+
+            for (int i = 1; i < chunkCount; i++) {
+                positions[i] = Math.max(positions[i - 1], nextLine(raf, fromPosition + size * i / chunkCount, length));
+            }
+
+            positions[chunkCount] = length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            IOUtil.closeQuietly(raf);
+        }
+
+        return positions;
+    }
+
+    /**
+     *
+     * @param file
+     * @param fromPosition
+     * @return the position after the first {@code '\n'} from the specified position, or the length of the file if there is no {@code '\n'}.
+     */
+    static long nextLine(final File file, final long fromPosition) {
+        RandomAccessFile raf = null;
+
+        try {
+            raf = new RandomAccessFile(file, "r");
+
+            return nextLine(raf, fromPosition + 1, raf.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            IOUtil.closeQuietly(raf);
+        }
+    }
+
+    /**
+     *
+     * @return the position after the first {@code '\n'} from {@code position - 1}, or {@code length} if there is no {@code '\n'}.
+     */
+    private static long nextLine(final RandomAccessFile raf, final long position, final long length) throws IOException {
+        final byte[] buf = new byte[8192];
+        long pos = Math.max(0, position - 1);
+        int n = 0;
+
+        while (pos < length) {
+            raf.seek(pos);
+            n = raf.read(buf, 0, (int) Math.min(buf.length, length - pos));
+
+            if (n <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < n; i++) {
+                if (buf[i] == '\n') {
+                    return pos + i + 1;
+                }
+            }
+
+            pos += n;
+        }
+
+        return length;
+    }
+
+    /**
+     * Maps the specified range of the file and returns a {@code Reader} on it. The range is unmapped when the reader is closed.
+     *
+     * @param file
+     * @param fromPosition
+     * @param toPosition
+     * @param charset
+     * @return
+     */
+    static Reader newReader(final File file, final long fromPosition, final long toPosition, final Charset charset) {
+        return new InputStreamReader(new ByteBufferInputStream(IOUtil.map(file, MapMode.READ_ONLY, fromPosition, toPosition - fromPosition)), charset);
+    }
+
+    /**
+     * Executes {@code task.accept(0)...task.accept(chunkCount - 1)} by the specified number of threads and waits until all of them are completed.
+     * The chunks are taken by the threads one by one, in order, until all the chunks are taken or any error happens.
+     *
+     * @param chunkCount
+     * @param threadNum
+     * @param task
+     */
+    static void execute(final int chunkCount, final int threadNum, final Try.IntConsumer<? extends Exception> task) {
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(chunkCount, threadNum));
+        final AtomicInteger nextChunk = new AtomicInteger();
+        final Holder<Throwable> errorHolder = new Holder<>();
+
+        try {
+            for (int i = 0, len = Math.min(chunkCount, threadNum); i < len; i++) {
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        int chunkIndex = 0;
+
+                        try {
+                            while (errorHolder.value() == null && (chunkIndex = nextChunk.getAndIncrement()) < chunkCount) {
+                                task.accept(chunkIndex);
+                            }
+                        } catch (Throwable e) {
+                            synchronized (errorHolder) {
+                                if (errorHolder.value() == null) {
+                                    errorHolder.setValue(e);
+                                } else {
+                                    errorHolder.value().addSuppressed(e);
+                                }
+                            }
+                        }
+                    }
+                });
+            }
+
+            executorService.shutdown();
+
+            while (executorService.isTerminated() == false) {
+                executorService.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            throw N.toRuntimeException(e);
+        }
+
+        if (errorHolder.value() != null) {
+            throw N.toRuntimeException(errorHolder.value());
+        }
+    }
+
+    /**
+     * Releases the memory mapped by the specified buffer without waiting for it to be garbage collected.
+     * Nothing is done if it's not supported by the JVM: the buffer is released when it's garbage collected.
+     * The buffer must not be accessed after it's unmapped.
+     *
+     * @param buffer
+     */
+    static void unmap(final MappedByteBuffer buffer) {
+        try {
+            if (invokeCleaner != null) {
+                invokeCleaner.invoke(unsafe, buffer);
+            } else if (cleaner != null && cleaner.getDeclaringClass().isInstance(buffer)) {
+                final Object bufferCleaner = cleaner.invoke(buffer);
+
+                if (bufferCleaner != null) {
+                    clean.invoke(bufferCleaner);
+                }
+            }
+        } catch (Throwable e) {
+            // ignore. It's released when it's garbage collected.
+        }
+    }
+
+    /**
+     * {@code InputStream} on the remaining bytes of a {@code ByteBuffer}. The buffer is unmapped when the stream is closed if it's a {@code MappedByteBuffer}.
+     */
+    static final class ByteBufferInputStream extends InputStream {
+        private ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkNotClosed();
+
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            checkNotClosed();
+
+            if (len == 0) {
+                return 0;
+            } else if (buffer.hasRemaining() == false) {
+                return -1;
+            }
+
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            checkNotClosed();
+
+            final int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            checkNotClosed();
+
+            return buffer.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (buffer != null) {
+                final ByteBuffer tmp = buffer;
+                buffer = null;
+
+                if (tmp instanceof MappedByteBuffer) {
+                    unmap((MappedByteBuffer) tmp);
+                }
+            }
+        }
+
+        private void checkNotClosed() throws IOException {
+            if (buffer == null) {
+                throw new IOException("Stream closed");
+            }
+        }
+    }
+}
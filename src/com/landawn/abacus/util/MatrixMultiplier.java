@@ -0,0 +1,498 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Cache-blocked matrix multiplication, used by {@code IntMatrix/LongMatrix/FloatMatrix/DoubleMatrix.multiply}.
+ * The right matrix is transposed first, so the inner loop is a dot product of two rows, both read sequentially.
+ * The result is computed by tiles of {@code BLOCK x BLOCK}, and the dot products are summed by blocks of {@code BLOCK} columns,
+ * so the rows of the left matrix and the transposed right matrix used by a tile stay in the cache while they're read {@code BLOCK} times.
+ * <br />
+ * The tiles of the result are independent. They're computed by the shared fork/join pool in parallel if {@code parallel} is {@code true},
+ * by splitting the tiles in halves recursively.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class MatrixMultiplier {
+    /**
+     * 64 x 64 values of two tiles are 64KB for {@code double}, which fit in the L2 cache.
+     */
+    static final int BLOCK = 64;
+
+    private MatrixMultiplier() {
+        // singleton.
+    }
+
+    /**
+     *
+     * @param a the left matrix: {@code rows x n}.
+     * @param b the right matrix: {@code n x cols}.
+     * @param rows
+     * @param n
+     * @param cols
+     * @param parallel
+     * @return {@code a x b}.
+     */
+    static int[][] multiply(final int[][] a, final int[][] b, final int rows, final int n, final int cols, final boolean parallel) {
+        final int[][] c = new int[rows][cols];
+
+        if (rows == 0 || n == 0 || cols == 0) {
+            return c;
+        }
+
+        final int[][] bt = new int[cols][n];
+
+        for (int k = 0; k < n; k++) {
+            final int[] bk = b[k];
+
+            for (int j = 0; j < cols; j++) {
+                bt[j][k] = bk[j];
+            }
+        }
+
+        final IntTiles tiles = new IntTiles(a, bt, c, 0, blockCount(rows), 0, blockCount(cols), n);
+
+        if (parallel) {
+            ForkJoinPools.commonPool().invoke(tiles);
+        } else {
+            tiles.multiply();
+        }
+
+        return c;
+    }
+
+    /**
+     *
+     * @param a the left matrix: {@code rows x n}.
+     * @param b the right matrix: {@code n x cols}.
+     * @param rows
+     * @param n
+     * @param cols
+     * @param parallel
+     * @return {@code a x b}.
+     */
+    static long[][] multiply(final long[][] a, final long[][] b, final int rows, final int n, final int cols, final boolean parallel) {
+        final long[][] c = new long[rows][cols];
+
+        if (rows == 0 || n == 0 || cols == 0) {
+            return c;
+        }
+
+        final long[][] bt = new long[cols][n];
+
+        for (int k = 0; k < n; k++) {
+            final long[] bk = b[k];
+
+            for (int j = 0; j < cols; j++) {
+                bt[j][k] = bk[j];
+            }
+        }
+
+        final LongTiles tiles = new LongTiles(a, bt, c, 0, blockCount(rows), 0, blockCount(cols), n);
+
+        if (parallel) {
+            ForkJoinPools.commonPool().invoke(tiles);
+        } else {
+            tiles.multiply();
+        }
+
+        return c;
+    }
+
+    /**
+     *
+     * @param a the left matrix: {@code rows x n}.
+     * @param b the right matrix: {@code n x cols}.
+     * @param rows
+     * @param n
+     * @param cols
+     * @param parallel
+     * @return {@code a x b}.
+     */
+    static float[][] multiply(final float[][] a, final float[][] b, final int rows, final int n, final int cols, final boolean parallel) {
+        final float[][] c = new float[rows][cols];
+
+        if (rows == 0 || n == 0 || cols == 0) {
+            return c;
+        }
+
+        final float[][] bt = new float[cols][n];
+
+        for (int k = 0; k < n; k++) {
+            final float[] bk = b[k];
+
+            for (int j = 0; j < cols; j++) {
+                bt[j][k] = bk[j];
+            }
+        }
+
+        final FloatTiles tiles = new FloatTiles(a, bt, c, 0, blockCount(rows), 0, blockCount(cols), n);
+
+        if (parallel) {
+            ForkJoinPools.commonPool().invoke(tiles);
+        } else {
+            tiles.multiply();
+        }
+
+        return c;
+    }
+
+    /**
+     *
+     * @param a the left matrix: {@code rows x n}.
+     * @param b the right matrix: {@code n x cols}.
+     * @param rows
+     * @param n
+     * @param cols
+     * @param parallel
+     * @return {@code a x b}.
+     */
+    static double[][] multiply(final double[][] a, final double[][] b, final int rows, final int n, final int cols, final boolean parallel) {
+        final double[][] c = new double[rows][cols];
+
+        if (rows == 0 || n == 0 || cols == 0) {
+            return c;
+        }
+
+        final double[][] bt = new double[cols][n];
+
+        for (int k = 0; k < n; k++) {
+            final double[] bk = b[k];
+
+            for (int j = 0; j < cols; j++) {
+                bt[j][k] = bk[j];
+            }
+        }
+
+        final DoubleTiles tiles = new DoubleTiles(a, bt, c, 0, blockCount(rows), 0, blockCount(cols), n);
+
+        if (parallel) {
+            ForkJoinPools.commonPool().invoke(tiles);
+        } else {
+            tiles.multiply();
+        }
+
+        return c;
+    }
+
+    private static int blockCount(final int len) {
+        return (len + BLOCK - 1) / BLOCK;
+    }
+
+    /**
+     * The tiles of the result from block row {@code bi0} (inclusive) to {@code bi1} (exclusive) and from block column {@code bj0} to {@code bj1}.
+     */
+    static final class IntTiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] a;
+        private final int[][] bt;
+        private final int[][] c;
+        private final int bi0;
+        private final int bi1;
+        private final int bj0;
+        private final int bj1;
+        private final int n;
+
+        IntTiles(final int[][] a, final int[][] bt, final int[][] c, final int bi0, final int bi1, final int bj0, final int bj1, final int n) {
+            this.a = a;
+            this.bt = bt;
+            this.c = c;
+            this.bi0 = bi0;
+            this.bi1 = bi1;
+            this.bj0 = bj0;
+            this.bj1 = bj1;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (bi1 - bi0 > 1 && bi1 - bi0 >= bj1 - bj0) {
+                final int mid = (bi0 + bi1) >>> 1;
+                invokeAll(new IntTiles(a, bt, c, bi0, mid, bj0, bj1, n), new IntTiles(a, bt, c, mid, bi1, bj0, bj1, n));
+            } else if (bj1 - bj0 > 1) {
+                final int mid = (bj0 + bj1) >>> 1;
+                invokeAll(new IntTiles(a, bt, c, bi0, bi1, bj0, mid, n), new IntTiles(a, bt, c, bi0, bi1, mid, bj1, n));
+            } else {
+                multiply();
+            }
+        }
+
+        void multiply() {
+            final int rows = c.length;
+            final int cols = bt.length;
+
+            for (int bi = bi0; bi < bi1; bi++) {
+                final int i0 = bi * BLOCK;
+                final int i1 = Math.min(rows, i0 + BLOCK);
+
+                for (int bj = bj0; bj < bj1; bj++) {
+                    final int j0 = bj * BLOCK;
+                    final int j1 = Math.min(cols, j0 + BLOCK);
+
+                    for (int k0 = 0; k0 < n; k0 += BLOCK) {
+                        final int k1 = Math.min(n, k0 + BLOCK);
+
+                        for (int i = i0; i < i1; i++) {
+                            final int[] ai = a[i];
+                            final int[] ci = c[i];
+
+                            for (int j = j0; j < j1; j++) {
+                                final int[] btj = bt[j];
+                                int sum = 0;
+
+                                for (int k = k0; k < k1; k++) {
+                                    sum += ai[k] * btj[k];
+                                }
+
+                                ci[j] += sum;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The tiles of the result from block row {@code bi0} (inclusive) to {@code bi1} (exclusive) and from block column {@code bj0} to {@code bj1}.
+     */
+    static final class LongTiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[][] a;
+        private final long[][] bt;
+        private final long[][] c;
+        private final int bi0;
+        private final int bi1;
+        private final int bj0;
+        private final int bj1;
+        private final int n;
+
+        LongTiles(final long[][] a, final long[][] bt, final long[][] c, final int bi0, final int bi1, final int bj0, final int bj1, final int n) {
+            this.a = a;
+            this.bt = bt;
+            this.c = c;
+            this.bi0 = bi0;
+            this.bi1 = bi1;
+            this.bj0 = bj0;
+            this.bj1 = bj1;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (bi1 - bi0 > 1 && bi1 - bi0 >= bj1 - bj0) {
+                final int mid = (bi0 + bi1) >>> 1;
+                invokeAll(new LongTiles(a, bt, c, bi0, mid, bj0, bj1, n), new LongTiles(a, bt, c, mid, bi1, bj0, bj1, n));
+            } else if (bj1 - bj0 > 1) {
+                final int mid = (bj0 + bj1) >>> 1;
+                invokeAll(new LongTiles(a, bt, c, bi0, bi1, bj0, mid, n), new LongTiles(a, bt, c, bi0, bi1, mid, bj1, n));
+            } else {
+                multiply();
+            }
+        }
+
+        void multiply() {
+            final int rows = c.length;
+            final int cols = bt.length;
+
+            for (int bi = bi0; bi < bi1; bi++) {
+                final int i0 = bi * BLOCK;
+                final int i1 = Math.min(rows, i0 + BLOCK);
+
+                for (int bj = bj0; bj < bj1; bj++) {
+                    final int j0 = bj * BLOCK;
+                    final int j1 = Math.min(cols, j0 + BLOCK);
+
+                    for (int k0 = 0; k0 < n; k0 += BLOCK) {
+                        final int k1 = Math.min(n, k0 + BLOCK);
+
+                        for (int i = i0; i < i1; i++) {
+                            final long[] ai = a[i];
+                            final long[] ci = c[i];
+
+                            for (int j = j0; j < j1; j++) {
+                                final long[] btj = bt[j];
+                                long sum = 0;
+
+                                for (int k = k0; k < k1; k++) {
+                                    sum += ai[k] * btj[k];
+                                }
+
+                                ci[j] += sum;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The tiles of the result from block row {@code bi0} (inclusive) to {@code bi1} (exclusive) and from block column {@code bj0} to {@code bj1}.
+     */
+    static final class FloatTiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final float[][] a;
+        private final float[][] bt;
+        private final float[][] c;
+        private final int bi0;
+        private final int bi1;
+        private final int bj0;
+        private final int bj1;
+        private final int n;
+
+        FloatTiles(final float[][] a, final float[][] bt, final float[][] c, final int bi0, final int bi1, final int bj0, final int bj1, final int n) {
+            this.a = a;
+            this.bt = bt;
+            this.c = c;
+            this.bi0 = bi0;
+            this.bi1 = bi1;
+            this.bj0 = bj0;
+            this.bj1 = bj1;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (bi1 - bi0 > 1 && bi1 - bi0 >= bj1 - bj0) {
+                final int mid = (bi0 + bi1) >>> 1;
+                invokeAll(new FloatTiles(a, bt, c, bi0, mid, bj0, bj1, n), new FloatTiles(a, bt, c, mid, bi1, bj0, bj1, n));
+            } else if (bj1 - bj0 > 1) {
+                final int mid = (bj0 + bj1) >>> 1;
+                invokeAll(new FloatTiles(a, bt, c, bi0, bi1, bj0, mid, n), new FloatTiles(a, bt, c, bi0, bi1, mid, bj1, n));
+            } else {
+                multiply();
+            }
+        }
+
+        void multiply() {
+            final int rows = c.length;
+            final int cols = bt.length;
+
+            for (int bi = bi0; bi < bi1; bi++) {
+                final int i0 = bi * BLOCK;
+                final int i1 = Math.min(rows, i0 + BLOCK);
+
+                for (int bj = bj0; bj < bj1; bj++) {
+                    final int j0 = bj * BLOCK;
+                    final int j1 = Math.min(cols, j0 + BLOCK);
+
+                    for (int k0 = 0; k0 < n; k0 += BLOCK) {
+                        final int k1 = Math.min(n, k0 + BLOCK);
+
+                        for (int i = i0; i < i1; i++) {
+                            final float[] ai = a[i];
+                            final float[] ci = c[i];
+
+                            for (int j = j0; j < j1; j++) {
+                                final float[] btj = bt[j];
+                                float sum = 0;
+
+                                for (int k = k0; k < k1; k++) {
+                                    sum += ai[k] * btj[k];
+                                }
+
+                                ci[j] += sum;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The tiles of the result from block row {@code bi0} (inclusive) to {@code bi1} (exclusive) and from block column {@code bj0} to {@code bj1}.
+     */
+    static final class DoubleTiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[][] a;
+        private final double[][] bt;
+        private final double[][] c;
+        private final int bi0;
+        private final int bi1;
+        private final int bj0;
+        private final int bj1;
+        private final int n;
+
+        DoubleTiles(final double[][] a, final double[][] bt, final double[][] c, final int bi0, final int bi1, final int bj0, final int bj1, final int n) {
+            this.a = a;
+            this.bt = bt;
+            this.c = c;
+            this.bi0 = bi0;
+            this.bi1 = bi1;
+            this.bj0 = bj0;
+            this.bj1 = bj1;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            if (bi1 - bi0 > 1 && bi1 - bi0 >= bj1 - bj0) {
+                final int mid = (bi0 + bi1) >>> 1;
+                invokeAll(new DoubleTiles(a, bt, c, bi0, mid, bj0, bj1, n), new DoubleTiles(a, bt, c, mid, bi1, bj0, bj1, n));
+            } else if (bj1 - bj0 > 1) {
+                final int mid = (bj0 + bj1) >>> 1;
+                invokeAll(new DoubleTiles(a, bt, c, bi0, bi1, bj0, mid, n), new DoubleTiles(a, bt, c, bi0, bi1, mid, bj1, n));
+            } else {
+                multiply();
+            }
+        }
+
+        void multiply() {
+            final int rows = c.length;
+            final int cols = bt.length;
+
+            for (int bi = bi0; bi < bi1; bi++) {
+                final int i0 = bi * BLOCK;
+                final int i1 = Math.min(rows, i0 + BLOCK);
+
+                for (int bj = bj0; bj < bj1; bj++) {
+                    final int j0 = bj * BLOCK;
+                    final int j1 = Math.min(cols, j0 + BLOCK);
+
+                    for (int k0 = 0; k0 < n; k0 += BLOCK) {
+                        final int k1 = Math.min(n, k0 + BLOCK);
+
+                        for (int i = i0; i < i1; i++) {
+                            final double[] ai = a[i];
+                            final double[] ci = c[i];
+
+                            for (int j = j0; j < j1; j++) {
+                                final double[] btj = bt[j];
+                                double sum = 0;
+
+                                for (int k = k0; k < k1; k++) {
+                                    sum += ai[k] * btj[k];
+                                }
+
+                                ci[j] += sum;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
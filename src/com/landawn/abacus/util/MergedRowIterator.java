@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.io.Closeable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import com.landawn.abacus.exception.UncheckedSQLException;
+
+/**
+ * K-way merge of the rows from multiple {@code RowIterator}s (one per shard), each of which is already sorted by the same order,
+ * used by {@code SQLExecutor.queryAll/streamAll} if {@code JdbcSettings.mergeOrderBy} is set.
+ * <br />
+ * Only the current row of each shard is held in memory. The next row of a shard is read only after its current row is returned,
+ * and all the shards are closed once {@code limit} rows are returned, so no more rows than {@code limit} are read from any shard.
+ * A shard is closed as soon as it's exhausted. The rows with same order values are returned in the order of the shards.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class MergedRowIterator extends ImmutableIterator<Object[]> implements Closeable {
+    private final RowIterator[] iters;
+    private final PriorityQueue<Cursor> queue;
+    private final long limit;
+    private long cnt = 0;
+    private boolean isInitialized = false;
+    private volatile boolean isClosed = false;
+
+    /**
+     *
+     * @param iters the rows of each shard, sorted by {@code orderBy}.
+     * @param columnLabels the column labels of the rows.
+     * @param orderBy the column names and directions the rows of each shard are sorted by. The column names are matched with the labels ignoring case.
+     * @param limit the max number of rows to return.
+     */
+    MergedRowIterator(final RowIterator[] iters, final List<String> columnLabels, final Map<String, SortDirection> orderBy, final long limit) {
+        N.checkArgument(N.notNullOrEmpty(orderBy), "'orderBy' can't be null or empty");
+        N.checkArgument(limit >= 0, "'limit' can't be negative: %s", limit);
+
+        final int[] columnIndexes = new int[orderBy.size()];
+        final boolean[] isDesc = new boolean[orderBy.size()];
+        int idx = 0;
+
+        for (Map.Entry<String, SortDirection> entry : orderBy.entrySet()) {
+            columnIndexes[idx] = JdbcUtil.getColumnIndex(columnLabels, entry.getKey());
+            isDesc[idx] = entry.getValue() == SortDirection.DESC;
+            idx++;
+        }
+
+        this.iters = iters;
+        this.queue = new PriorityQueue<>(Math.max(1, iters.length), new Comparator<Cursor>() {
+            @Override
+            public int compare(final Cursor a, final Cursor b) {
+                int result = 0;
+
+                for (int i = 0, len = columnIndexes.length; i < len; i++) {
+                    result = N.compare((Comparable<Object>) a.row[columnIndexes[i]], (Comparable<Object>) b.row[columnIndexes[i]]);
+
+                    if (result != 0) {
+                        return isDesc[i] ? -result : result;
+                    }
+                }
+
+                return a.index < b.index ? -1 : (a.index == b.index ? 0 : 1);
+            }
+        });
+
+        this.limit = limit;
+    }
+
+    @Override
+    public boolean hasNext() throws UncheckedSQLException {
+        if (isClosed) {
+            return false;
+        }
+
+        if (isInitialized == false) {
+            init();
+        }
+
+        if (cnt >= limit || queue.isEmpty()) {
+            close();
+
+            return false;
+        }
+
+        return true;
+    }
+
+    private void init() {
+        isInitialized = true;
+
+        if (limit == 0) {
+            return;
+        }
+
+        for (int i = 0, len = iters.length; i < len; i++) {
+            if (iters[i].hasNext()) {
+                queue.add(new Cursor(i, iters[i].next()));
+            } else {
+                iters[i].close();
+            }
+        }
+    }
+
+    @Override
+    public Object[] next() throws UncheckedSQLException {
+        if (hasNext() == false) {
+            throw new NoSuchElementException("No more rows");
+        }
+
+        final Cursor cursor = queue.poll();
+        final Object[] row = cursor.row;
+        final RowIterator iter = iters[cursor.index];
+
+        cnt++;
+
+        if (cnt < limit && iter.hasNext()) {
+            cursor.row = iter.next();
+            queue.add(cursor);
+        } else {
+            iter.close();
+        }
+
+        return row;
+    }
+
+    @Override
+    public synchronized void close() throws UncheckedSQLException {
+        if (isClosed) {
+            return;
+        }
+
+        isClosed = true;
+        queue.clear();
+
+        for (RowIterator iter : iters) {
+            IOUtil.closeQuietly(iter);
+        }
+    }
+
+    private static final class Cursor {
+        private final int index;
+        private Object[] row;
+
+        Cursor(final int index, final Object[] row) {
+            this.index = index;
+            this.row = row;
+        }
+    }
+}
@@ -11003,6 +11003,25 @@ public final class N {
     }
     */
 
+    /**
+     * Sorts the chars by radix sort, in linear time.
+     *
+     * @param a
+     */
+    public static void bucketSort(final char[] a) {
+        Array.bucketSort(a);
+    }
+
+    public static void bucketSort(final char[] a, final int fromIndex, final int toIndex) {
+        Array.bucketSort(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts the values by LSD radix sort, in linear time, with a work array of the same size.
+     * It's faster than {@code sort} for big arrays, especially if many values share the high bytes, e.g. timestamps.
+     *
+     * @param a
+     */
     public static void bucketSort(final int[] a) {
         Array.bucketSort(a);
     }
@@ -11035,6 +11054,54 @@ public final class N {
         Array.bucketSort(a, fromIndex, toIndex);
     }
 
+    /**
+     * Same as {@code bucketSort(int[])}, but the digits are counted and the values are distributed by multiple threads.
+     *
+     * @param a
+     */
+    public static void parallelBucketSort(final int[] a) {
+        Array.parallelBucketSort(a);
+    }
+
+    public static void parallelBucketSort(final int[] a, final int fromIndex, final int toIndex) {
+        Array.parallelBucketSort(a, fromIndex, toIndex);
+    }
+
+    public static void parallelBucketSort(final long[] a) {
+        Array.parallelBucketSort(a);
+    }
+
+    public static void parallelBucketSort(final long[] a, final int fromIndex, final int toIndex) {
+        Array.parallelBucketSort(a, fromIndex, toIndex);
+    }
+
+    public static void parallelBucketSort(final float[] a) {
+        Array.parallelBucketSort(a);
+    }
+
+    public static void parallelBucketSort(final float[] a, final int fromIndex, final int toIndex) {
+        Array.parallelBucketSort(a, fromIndex, toIndex);
+    }
+
+    public static void parallelBucketSort(final double[] a) {
+        Array.parallelBucketSort(a);
+    }
+
+    public static void parallelBucketSort(final double[] a, final int fromIndex, final int toIndex) {
+        Array.parallelBucketSort(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns the indexes of the keys in the order of the keys, sorted by radix sort: {@code keys[indexes[0]]} is the smallest key.
+     * The indexes of the equal keys are in ascending order. The keys are not modified.
+     *
+     * @param keys
+     * @return
+     */
+    public static int[] sortIndexes(final long[] keys) {
+        return Array.sortIndexes(keys);
+    }
+
     /**
      * Note: All the objects with same value will be replaced with first element with the same value.
      *   
@@ -16204,6 +16271,8 @@ public final class N {
             return N.EMPTY_INT_ARRAY;
         } else if (n >= toIndex - fromIndex) {
             return N.copyOfRange(a, fromIndex, toIndex);
+        } else if (cmp == null || cmp == Comparators.NATURAL_ORDER) {
+            return Select.top(a, fromIndex, toIndex, n);
         }
 
         final Comparator<? super Integer> comparator = cmp == null ? Comparators.NATURAL_ORDER : cmp;
@@ -16250,6 +16319,8 @@ public final class N {
             return N.EMPTY_LONG_ARRAY;
         } else if (n >= toIndex - fromIndex) {
             return N.copyOfRange(a, fromIndex, toIndex);
+        } else if (cmp == null || cmp == Comparators.NATURAL_ORDER) {
+            return Select.top(a, fromIndex, toIndex, n);
         }
 
         final Comparator<? super Long> comparator = cmp == null ? Comparators.NATURAL_ORDER : cmp;
@@ -16342,6 +16413,8 @@ public final class N {
             return N.EMPTY_DOUBLE_ARRAY;
         } else if (n >= toIndex - fromIndex) {
             return N.copyOfRange(a, fromIndex, toIndex);
+        } else if (cmp == null || cmp == Comparators.NATURAL_ORDER) {
+            return Select.top(a, fromIndex, toIndex, n);
         }
 
         final Comparator<? super Double> comparator = cmp == null ? Comparators.NATURAL_ORDER : cmp;
@@ -16369,6 +16442,45 @@ public final class N {
         return res;
     }
 
+    /**
+     * The elements are read once and kept in a primitive min-heap of size {@code n}, without boxing.
+     *
+     * @param iter
+     * @param n
+     * @return the n largest values, in no particular order. Or all the values if there are no more than n.
+     */
+    public static int[] top(final IntIterator iter, final int n) {
+        N.checkArgNotNegative(n, "n");
+
+        return n == 0 ? N.EMPTY_INT_ARRAY : Select.top(iter, n);
+    }
+
+    /**
+     * The elements are read once and kept in a primitive min-heap of size {@code n}, without boxing.
+     *
+     * @param iter
+     * @param n
+     * @return the n largest values, in no particular order. Or all the values if there are no more than n.
+     */
+    public static long[] top(final LongIterator iter, final int n) {
+        N.checkArgNotNegative(n, "n");
+
+        return n == 0 ? N.EMPTY_LONG_ARRAY : Select.top(iter, n);
+    }
+
+    /**
+     * The elements are read once and kept in a primitive min-heap of size {@code n}, without boxing. The values are ordered by {@code Double.compare}.
+     *
+     * @param iter
+     * @param n
+     * @return the n largest values, in no particular order. Or all the values if there are no more than n.
+     */
+    public static double[] top(final DoubleIterator iter, final int n) {
+        N.checkArgNotNegative(n, "n");
+
+        return n == 0 ? N.EMPTY_DOUBLE_ARRAY : Select.top(iter, n);
+    }
+
     public static <T extends Comparable<T>> List<T> top(final T[] a, final int n) {
         return top(a, n, N.NATURAL_ORDER);
     }
@@ -26270,6 +26382,148 @@ public final class N {
         return ImmutableMap.of(m);
     }
 
+    /**
+     * Returns the elements at: <code>Percentage</code> * length of the specified array, as if it's sorted.
+     * The elements are selected by one multi-position quickselect on a copy of the array, which is faster than sorting it. The specified array is not modified.
+     * 
+     * @param a
+     * @param percentages all the <code>Percentage</code> values if it's empty.
+     * @return
+     * @throws IllegalArgumentException if the specified <code>a</code> is null or empty.
+     * @see #percentiles(int[])
+     */
+    public static Map<Percentage, Integer> selectPercentiles(final int[] a, final Percentage... percentages) {
+        N.checkArgNotNullOrEmpty(a, "The spcified array 'a' can not be null or empty");
+
+        return selectPercentiles(a, 0, a.length, percentages);
+    }
+
+    public static Map<Percentage, Integer> selectPercentiles(final int[] a, final int fromIndex, final int toIndex, Percentage... percentages) {
+        if (N.isNullOrEmpty(a) || toIndex - fromIndex < 1) {
+            throw new IllegalArgumentException("The length of array can not be null or empty");
+        }
+
+        checkFromToIndex(fromIndex, toIndex, a.length);
+
+        if (N.isNullOrEmpty(percentages)) {
+            percentages = Percentage.values();
+        }
+
+        final int len = toIndex - fromIndex;
+        final int[] b = N.copyOfRange(a, fromIndex, toIndex);
+
+        Select.select(b, 0, len, positionsOf(len, percentages));
+
+        final Map<Percentage, Integer> m = new LinkedHashMap<>(N.initHashCapacity(percentages.length));
+
+        for (Percentage p : percentages) {
+            m.put(p, b[(int) (len * p.doubleValue())]);
+        }
+
+        return ImmutableMap.of(m);
+    }
+
+    /**
+     * Returns the elements at: <code>Percentage</code> * length of the specified array, as if it's sorted.
+     * The elements are selected by one multi-position quickselect on a copy of the array, which is faster than sorting it. The specified array is not modified.
+     * 
+     * @param a
+     * @param percentages all the <code>Percentage</code> values if it's empty.
+     * @return
+     * @throws IllegalArgumentException if the specified <code>a</code> is null or empty.
+     * @see #percentiles(long[])
+     */
+    public static Map<Percentage, Long> selectPercentiles(final long[] a, final Percentage... percentages) {
+        N.checkArgNotNullOrEmpty(a, "The spcified array 'a' can not be null or empty");
+
+        return selectPercentiles(a, 0, a.length, percentages);
+    }
+
+    public static Map<Percentage, Long> selectPercentiles(final long[] a, final int fromIndex, final int toIndex, Percentage... percentages) {
+        if (N.isNullOrEmpty(a) || toIndex - fromIndex < 1) {
+            throw new IllegalArgumentException("The length of array can not be null or empty");
+        }
+
+        checkFromToIndex(fromIndex, toIndex, a.length);
+
+        if (N.isNullOrEmpty(percentages)) {
+            percentages = Percentage.values();
+        }
+
+        final int len = toIndex - fromIndex;
+        final long[] b = N.copyOfRange(a, fromIndex, toIndex);
+
+        Select.select(b, 0, len, positionsOf(len, percentages));
+
+        final Map<Percentage, Long> m = new LinkedHashMap<>(N.initHashCapacity(percentages.length));
+
+        for (Percentage p : percentages) {
+            m.put(p, b[(int) (len * p.doubleValue())]);
+        }
+
+        return ImmutableMap.of(m);
+    }
+
+    /**
+     * Returns the elements at: <code>Percentage</code> * length of the specified array, as if it's sorted.
+     * The elements are selected by one multi-position quickselect on a copy of the array, which is faster than sorting it. The specified array is not modified.
+     * 
+     * @param a
+     * @param percentages all the <code>Percentage</code> values if it's empty.
+     * @return
+     * @throws IllegalArgumentException if the specified <code>a</code> is null or empty.
+     * @see #percentiles(double[])
+     */
+    public static Map<Percentage, Double> selectPercentiles(final double[] a, final Percentage... percentages) {
+        N.checkArgNotNullOrEmpty(a, "The spcified array 'a' can not be null or empty");
+
+        return selectPercentiles(a, 0, a.length, percentages);
+    }
+
+    public static Map<Percentage, Double> selectPercentiles(final double[] a, final int fromIndex, final int toIndex, Percentage... percentages) {
+        if (N.isNullOrEmpty(a) || toIndex - fromIndex < 1) {
+            throw new IllegalArgumentException("The length of array can not be null or empty");
+        }
+
+        checkFromToIndex(fromIndex, toIndex, a.length);
+
+        if (N.isNullOrEmpty(percentages)) {
+            percentages = Percentage.values();
+        }
+
+        final int len = toIndex - fromIndex;
+        final long[] keys = Select.toKeys(a, fromIndex, toIndex);
+        final int[] positions = positionsOf(len, percentages);
+
+        Select.select(keys, 0, len, positions);
+
+        final Map<Percentage, Double> m = new LinkedHashMap<>(N.initHashCapacity(percentages.length));
+
+        for (Percentage p : percentages) {
+            m.put(p, Select.fromKey(keys[(int) (len * p.doubleValue())]));
+        }
+
+        return ImmutableMap.of(m);
+    }
+
+    /**
+     * 
+     * @param len
+     * @param percentages
+     * @return the sorted positions of the percentages in an array with the specified length.
+     */
+    private static int[] positionsOf(final int len, final Percentage[] percentages) {
+        final int[] positions = new int[percentages.length];
+
+        for (int i = 0, size = percentages.length; i < size; i++) {
+            positions[i] = (int) (len * percentages[i].doubleValue());
+        }
+
+        Arrays.sort(positions);
+
+        return positions;
+    }
+
     /**
      * Returns the elements at: <code>Percentage</code> * length of the specified array.
      * 
@@ -0,0 +1,1138 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel merge sort by fork/join, used by {@code Array.parallelSort}. The range is split in halves recursively until it's not bigger than
+ * the granularity, the smallest ranges are sorted by {@code Arrays.sort}, and the sorted halves are merged back, level by level.
+ * <br />
+ * The merges are parallel too: the two sorted runs are split by the middle element of the longer one and the binary-searched position of it
+ * in the shorter one, into two independent merges. The halves are merged between the array and a work array of the same size alternately,
+ * so no run is copied before it's merged. The sort is stable. It's completed when {@code ForkJoinPool.invoke} returns,
+ * and the exception thrown by any task is thrown by it.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class ParallelMergeSort {
+    private ParallelMergeSort() {
+        // singleton.
+    }
+
+    /**
+     * About four ranges are sorted by each thread, so the threads which complete earlier can steal the rest.
+     *
+     * @param len
+     * @return
+     */
+    static int granularity(final int len) {
+        final int gran = len / (Math.max(1, Array.CPU_CORES) << 2);
+
+        return gran <= Array.MIN_ARRAY_SORT_GRAN ? Array.MIN_ARRAY_SORT_GRAN : gran;
+    }
+
+    static void sort(final char[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new CharSorter(a, new char[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static void sort(final byte[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new ByteSorter(a, new byte[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static void sort(final short[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new ShortSorter(a, new short[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static void sort(final int[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new IntSorter(a, new int[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static void sort(final long[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new LongSorter(a, new long[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static void sort(final float[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new FloatSorter(a, new float[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static void sort(final double[] a, final int fromIndex, final int toIndex) {
+        ForkJoinPools.commonPool().invoke(new DoubleSorter(a, new double[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex)));
+    }
+
+    static <T> void sort(final T[] a, final int fromIndex, final int toIndex, final Comparator<? super T> cmp) {
+        ForkJoinPools.commonPool().invoke(new ObjSorter<>(a, new Object[toIndex - fromIndex], fromIndex, toIndex, fromIndex, false,
+                granularity(toIndex - fromIndex), cmp));
+    }
+
+    /**
+     * Sorts {@code a[lo, hi)} into {@code a} or {@code w} (if {@code intoW} is {@code true}). {@code w[i - base]} is the work space for {@code a[i]}.
+     */
+    static final class CharSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final char[] a;
+        private final char[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        CharSorter(final char[] a, final char[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new CharSorter(a, w, lo, mid, base, !intoW, gran), new CharSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new CharMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new CharMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst} from {@code d}.
+     * The element from the first run is put first if they're equal.
+     */
+    static final class CharMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final char[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final char[] dst;
+        private final int d;
+        private final int gran;
+
+        CharMerger(final char[] src, final int lo1, final int hi1, final int lo2, final int hi2, final char[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final char pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] < pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final char pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] <= pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new CharMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new CharMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class ByteSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] a;
+        private final byte[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        ByteSorter(final byte[] a, final byte[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new ByteSorter(a, w, lo, mid, base, !intoW, gran), new ByteSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new ByteMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new ByteMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    static final class ByteMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final byte[] dst;
+        private final int d;
+        private final int gran;
+
+        ByteMerger(final byte[] src, final int lo1, final int hi1, final int lo2, final int hi2, final byte[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final byte pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] < pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final byte pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] <= pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new ByteMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new ByteMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class ShortSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final short[] a;
+        private final short[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        ShortSorter(final short[] a, final short[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new ShortSorter(a, w, lo, mid, base, !intoW, gran), new ShortSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new ShortMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new ShortMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    static final class ShortMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final short[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final short[] dst;
+        private final int d;
+        private final int gran;
+
+        ShortMerger(final short[] src, final int lo1, final int hi1, final int lo2, final int hi2, final short[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final short pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] < pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final short pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] <= pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new ShortMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new ShortMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class IntSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        IntSorter(final int[] a, final int[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new IntSorter(a, w, lo, mid, base, !intoW, gran), new IntSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new IntMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new IntMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    static final class IntMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int[] dst;
+        private final int d;
+        private final int gran;
+
+        IntMerger(final int[] src, final int lo1, final int hi1, final int lo2, final int hi2, final int[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final int pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] < pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final int pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] <= pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new IntMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new IntMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class LongSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] a;
+        private final long[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        LongSorter(final long[] a, final long[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new LongSorter(a, w, lo, mid, base, !intoW, gran), new LongSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new LongMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new LongMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    static final class LongMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final long[] dst;
+        private final int d;
+        private final int gran;
+
+        LongMerger(final long[] src, final int lo1, final int hi1, final int lo2, final int hi2, final long[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = src[i] <= src[j] ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final long pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] < pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final long pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (src[mid] <= pivot) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new LongMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new LongMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class FloatSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final float[] a;
+        private final float[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        FloatSorter(final float[] a, final float[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new FloatSorter(a, w, lo, mid, base, !intoW, gran), new FloatSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new FloatMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new FloatMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    static final class FloatMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final float[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final float[] dst;
+        private final int d;
+        private final int gran;
+
+        FloatMerger(final float[] src, final int lo1, final int hi1, final int lo2, final int hi2, final float[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = Float.compare(src[i], src[j]) <= 0 ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final float pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (Float.compare(src[mid], pivot) < 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final float pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (Float.compare(src[mid], pivot) <= 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new FloatMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new FloatMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class DoubleSorter extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a;
+        private final double[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+
+        DoubleSorter(final double[] a, final double[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort(a, lo, hi);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new DoubleSorter(a, w, lo, mid, base, !intoW, gran), new DoubleSorter(a, w, mid, hi, base, !intoW, gran));
+
+            if (intoW) {
+                new DoubleMerger(a, lo, mid, mid, hi, w, lo - base, gran).compute();
+            } else {
+                new DoubleMerger(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran).compute();
+            }
+        }
+    }
+
+    static final class DoubleMerger extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final double[] dst;
+        private final int d;
+        private final int gran;
+
+        DoubleMerger(final double[] src, final int lo1, final int hi1, final int lo2, final int hi2, final double[] dst, final int d, final int gran) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+        }
+
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = Double.compare(src[i], src[j]) <= 0 ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final double pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (Double.compare(src[mid], pivot) < 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final double pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (Double.compare(src[mid], pivot) <= 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new DoubleMerger(src, lo1, m1, lo2, m2, dst, d, gran),
+                    new DoubleMerger(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran));
+        }
+    }
+
+    static final class ObjSorter<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] a;
+        private final Object[] w;
+        private final int lo;
+        private final int hi;
+        private final int base;
+        private final boolean intoW;
+        private final int gran;
+        private final Comparator<? super T> cmp;
+
+        ObjSorter(final Object[] a, final Object[] w, final int lo, final int hi, final int base, final boolean intoW, final int gran,
+                final Comparator<? super T> cmp) {
+            this.a = a;
+            this.w = w;
+            this.lo = lo;
+            this.hi = hi;
+            this.base = base;
+            this.intoW = intoW;
+            this.gran = gran;
+            this.cmp = cmp;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void compute() {
+            if (hi - lo <= gran) {
+                Arrays.sort((T[]) a, lo, hi, cmp);
+
+                if (intoW) {
+                    System.arraycopy(a, lo, w, lo - base, hi - lo);
+                }
+
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+
+            invokeAll(new ObjSorter<>(a, w, lo, mid, base, !intoW, gran, cmp), new ObjSorter<>(a, w, mid, hi, base, !intoW, gran, cmp));
+
+            if (intoW) {
+                new ObjMerger<>(a, lo, mid, mid, hi, w, lo - base, gran, cmp).compute();
+            } else {
+                new ObjMerger<>(w, lo - base, mid - base, mid - base, hi - base, a, lo, gran, cmp).compute();
+            }
+        }
+    }
+
+    static final class ObjMerger<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] src;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final Object[] dst;
+        private final int d;
+        private final int gran;
+        private final Comparator<? super T> cmp;
+
+        ObjMerger(final Object[] src, final int lo1, final int hi1, final int lo2, final int hi2, final Object[] dst, final int d, final int gran,
+                final Comparator<? super T> cmp) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.d = d;
+            this.gran = gran;
+            this.cmp = cmp;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void compute() {
+            if ((hi1 - lo1) + (hi2 - lo2) <= gran || lo1 == hi1 || lo2 == hi2) {
+                int i = lo1, j = lo2, k = d;
+
+                while (i < hi1 && j < hi2) {
+                    dst[k++] = cmp.compare((T) src[i], (T) src[j]) <= 0 ? src[i++] : src[j++];
+                }
+
+                if (i < hi1) {
+                    System.arraycopy(src, i, dst, k, hi1 - i);
+                } else if (j < hi2) {
+                    System.arraycopy(src, j, dst, k, hi2 - j);
+                }
+
+                return;
+            }
+
+            int m1 = 0, m2 = 0;
+
+            if (hi1 - lo1 >= hi2 - lo2) {
+                // the elements in the second run less than the pivot go before it.
+                m1 = (lo1 + hi1) >>> 1;
+                final Object pivot = src[m1];
+                int low = lo2, high = hi2;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (cmp.compare((T) src[mid], (T) pivot) < 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m2 = low;
+            } else {
+                // the elements in the first run equal to the pivot go before it.
+                m2 = (lo2 + hi2) >>> 1;
+                final Object pivot = src[m2];
+                int low = lo1, high = hi1;
+
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+
+                    if (cmp.compare((T) src[mid], (T) pivot) <= 0) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+
+                m1 = low;
+            }
+
+            invokeAll(new ObjMerger<>(src, lo1, m1, lo2, m2, dst, d, gran, cmp),
+                    new ObjMerger<>(src, m1, hi1, m2, hi2, dst, d + (m1 - lo1) + (m2 - lo2), gran, cmp));
+        }
+    }
+}
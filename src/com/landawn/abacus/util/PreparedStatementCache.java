@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * LRU cache of the {@code PreparedStatement}s per {@code Connection}, used by {@code SQLExecutor} if {@code JdbcSettings.statementCacheSize} is set.
+ * <br />
+ * A cached statement is taken out of the cache by {@code get} and put back by {@code release}, so it's never used by two threads at the same time.
+ * The connections are weakly referenced: the statements of a connection are dropped with the connection.
+ * The statements returned to the cache are not closed until they are evicted, or the cache is cleared.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class PreparedStatementCache {
+    private final int maxSizePerConnection;
+
+    private final Map<Connection, LinkedHashMap<String, PreparedStatement>> pool = new WeakHashMap<>();
+
+    /**
+     * The statements taken out of the cache (or created to be cached) and not released yet.
+     */
+    private final Map<PreparedStatement, Entry> borrowedStatements = new WeakHashMap<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    PreparedStatementCache(final int maxSizePerConnection) {
+        N.checkArgument(maxSizePerConnection > 0, "'maxSizePerConnection'=%s must be greater than 0", maxSizePerConnection);
+
+        this.maxSizePerConnection = maxSizePerConnection;
+    }
+
+    /**
+     *
+     * @param conn
+     * @param key the sql and the settings of the statement.
+     * @return the cached statement, or {@code null} if there is no available statement in the cache. The returned statement should be released by
+     *         {@code release} or closed after it's used.
+     */
+    synchronized PreparedStatement get(final Connection conn, final String key) {
+        final LinkedHashMap<String, PreparedStatement> stmts = pool.get(conn);
+        final PreparedStatement stmt = stmts == null ? null : stmts.remove(key);
+
+        if (stmt != null && isClosed(stmt) == false) {
+            hitCount++;
+            borrowedStatements.put(stmt, new Entry(conn, key));
+
+            return stmt;
+        }
+
+        missCount++;
+
+        return null;
+    }
+
+    /**
+     * Marks the statement created after a miss of {@code get} to be put into the cache by {@code release}.
+     *
+     * @param conn
+     * @param key
+     * @param stmt
+     */
+    synchronized void add(final Connection conn, final String key, final PreparedStatement stmt) {
+        borrowedStatements.put(stmt, new Entry(conn, key));
+    }
+
+    /**
+     * Puts the statement back into the cache, after its parameters and batch are cleared.
+     *
+     * @param stmt
+     * @return {@code true} if the statement is put back into the cache, otherwise {@code false} if the statement is not from this cache and should be closed by the caller.
+     */
+    boolean release(final PreparedStatement stmt) {
+        Entry entry = null;
+
+        synchronized (this) {
+            entry = borrowedStatements.remove(stmt);
+        }
+
+        if (entry == null) {
+            return false;
+        }
+
+        try {
+            stmt.clearParameters();
+            stmt.clearBatch();
+        } catch (SQLException e) {
+            return false;
+        }
+
+        final List<PreparedStatement> evictedStmts = new ArrayList<>();
+        PreparedStatement evicted = null;
+
+        synchronized (this) {
+            LinkedHashMap<String, PreparedStatement> stmts = pool.get(entry.conn);
+
+            if (stmts == null) {
+                removeClosedConnections(evictedStmts);
+
+                stmts = new LinkedHashMap<>(N.initHashCapacity(Math.min(maxSizePerConnection, 64)), 0.75f, true);
+                pool.put(entry.conn, stmts);
+            }
+
+            evicted = stmts.put(entry.key, stmt);
+
+            if (evicted == null && stmts.size() > maxSizePerConnection) {
+                final Iterator<PreparedStatement> iter = stmts.values().iterator();
+                evicted = iter.next();
+                iter.remove();
+            }
+
+            if (evicted != null) {
+                evictionCount++;
+                evictedStmts.add(evicted);
+            }
+        }
+
+        for (PreparedStatement e : evictedStmts) {
+            JdbcUtil.closeQuietly(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * The statements of the closed connections are useless. The connection could be closed without being garbage collected,
+     * because the cached statements usually reference it.
+     */
+    private void removeClosedConnections(final List<PreparedStatement> evictedStmts) {
+        final Iterator<Map.Entry<Connection, LinkedHashMap<String, PreparedStatement>>> iter = pool.entrySet().iterator();
+        Map.Entry<Connection, LinkedHashMap<String, PreparedStatement>> e = null;
+
+        while (iter.hasNext()) {
+            e = iter.next();
+
+            if (isClosed(e.getKey())) {
+                evictedStmts.addAll(e.getValue().values());
+                iter.remove();
+            }
+        }
+    }
+
+    /**
+     * Closes and removes all the statements in the cache.
+     */
+    void clear() {
+        final List<PreparedStatement> stmts = new ArrayList<>();
+
+        synchronized (this) {
+            for (LinkedHashMap<String, PreparedStatement> m : pool.values()) {
+                stmts.addAll(m.values());
+            }
+
+            pool.clear();
+        }
+
+        for (PreparedStatement stmt : stmts) {
+            JdbcUtil.closeQuietly(stmt);
+        }
+    }
+
+    synchronized int size() {
+        int size = 0;
+
+        for (LinkedHashMap<String, PreparedStatement> m : pool.values()) {
+            size += m.size();
+        }
+
+        return size;
+    }
+
+    synchronized long hitCount() {
+        return hitCount;
+    }
+
+    synchronized long missCount() {
+        return missCount;
+    }
+
+    synchronized long evictionCount() {
+        return evictionCount;
+    }
+
+    private static boolean isClosed(final PreparedStatement stmt) {
+        try {
+            return stmt.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static boolean isClosed(final Connection conn) {
+        try {
+            return conn.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static final class Entry {
+        private final Connection conn;
+        private final String key;
+
+        Entry(final Connection conn, final String key) {
+            this.conn = conn;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.lang.reflect.Method;
+
+import com.landawn.abacus.parser.ParserUtil;
+import com.landawn.abacus.type.Type;
+
+/**
+ * The property set methods of an entity class for a list of property/column names, resolved once before the rows are mapped.
+ * The {@code EntityAccessor} of the class, the index of each set method in it and the property types for conversion are looked up here,
+ * so {@code set} invokes the method by index without any lookup by class, method or property name.
+ * Methods which are not accessed by the {@code EntityAccessor} are invoked by {@code ClassUtil.setPropValue(Object, Method, Object)}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+public final class PropSetters {
+    private final Method[] methods;
+    private final EntityAccessor entityAccessor;
+    private final int[] indexes;
+    private final Type<Object>[] types;
+    private final Object[] defaultValues;
+
+    private PropSetters(final Method[] methods, final EntityAccessor entityAccessor, final int[] indexes, final Type<Object>[] types,
+            final Object[] defaultValues) {
+        this.methods = methods;
+        this.entityAccessor = entityAccessor;
+        this.indexes = indexes;
+        this.types = types;
+        this.defaultValues = defaultValues;
+    }
+
+    /**
+     *
+     * @param cls entity class.
+     * @param propNames the property/column names. The set method of a {@code null} or unknown name is {@code null}.
+     * @return
+     */
+    public static PropSetters of(final Class<?> cls, final String[] propNames) {
+        final int len = propNames.length;
+        final Method[] methods = new Method[len];
+        final int[] indexes = new int[len];
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final Type<Object>[] types = new Type[len];
+        final Object[] defaultValues = new Object[len];
+        final EntityAccessor entityAccessor = Reflection.isReflectASMAvailable ? ClassUtil.getEntityAccessor(cls) : null;
+
+        for (int i = 0; i < len; i++) {
+            methods[i] = propNames[i] == null ? null : ClassUtil.getPropSetMethod(cls, propNames[i]);
+            indexes[i] = methods[i] == null || entityAccessor == null ? -1 : entityAccessor.getIndex(methods[i]);
+
+            if (indexes[i] >= 0) {
+                types[i] = ParserUtil.getEntityInfo(cls).getPropInfo(ClassUtil.getPropNameByMethod(methods[i])).type;
+                defaultValues[i] = N.defaultValueOf(methods[i].getParameterTypes()[0]);
+            }
+        }
+
+        return new PropSetters(methods, entityAccessor, indexes, types, defaultValues);
+    }
+
+    /**
+     *
+     * @param i the position of the property name.
+     * @return the set method, or {@code null} if the property has no set method.
+     */
+    public Method getMethod(final int i) {
+        return methods[i];
+    }
+
+    /**
+     * Set the specified value to the property at position {@code i}. It must have a set method.
+     *
+     * @param entity
+     * @param i the position of the property name.
+     * @param propValue
+     * @see ClassUtil#setPropValue(Object, Method, Object)
+     */
+    public void set(final Object entity, final int i, Object propValue) {
+        final int index = indexes[i];
+
+        if (index >= 0) {
+            if (propValue == null) {
+                propValue = defaultValues[i];
+            } else if (entityAccessor.isAssignable(index, propValue) == false) {
+                propValue = N.as(types[i], propValue);
+            }
+
+            entityAccessor.set(entity, index, propValue);
+        } else {
+            ClassUtil.setPropValue(entity, methods[i], propValue);
+        }
+    }
+}
@@ -0,0 +1,698 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+
+import com.landawn.abacus.util.function.IntConsumer;
+
+/**
+ * LSD (least significant digit first) radix sort by 8-bit digits, used by {@code Array.bucketSort/parallelBucketSort}.
+ * The values are distributed between the array and a work array of the same size, one pass for each digit, so the sort is stable and takes linear time.
+ * The counts of all the digits are computed by one scan at first, and the pass of a digit is skipped if all the values have the same digit,
+ * e.g. the high bytes of the timestamps in a few days.
+ * <br />
+ * The sign bit is flipped for {@code int/long}. {@code float/double} values are mapped to the keys with the same order as {@code Float/Double.compare}:
+ * {@code -0.0} is before {@code 0.0} and {@code NaN} is at the end, same as {@code Arrays.sort}.
+ * <br />
+ * The parallel sort splits the range into one chunk for each CPU core. The digits are counted by chunks in parallel, and the values of each chunk
+ * are moved to the positions calculated from the counts of the preceding chunks in parallel, so the result is same as the sequential sort.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class RadixSort {
+    /**
+     * The ranges shorter than it are sorted by {@code Arrays.sort}.
+     */
+    static final int MIN_LENGTH = 256;
+
+    /**
+     * The ranges shorter than it are sorted by the sequential radix sort.
+     */
+    static final int MIN_PARALLEL_LENGTH = 1 << 16;
+
+    private static final int BITS = 8;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+
+    private RadixSort() {
+        // singleton.
+    }
+
+    static void sort(final char[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_LENGTH) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        final int[][] counts = new int[2][RADIX];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            final char c = a[i];
+            counts[0][c & MASK]++;
+            counts[1][c >>> BITS]++;
+        }
+
+        char[] src = a;
+        char[] dst = new char[len];
+        int srcFrom = fromIndex;
+        int dstFrom = 0;
+
+        for (int d = 0; d < 2; d++) {
+            final int[] count = counts[d];
+
+            if (isTrivial(count, len)) {
+                continue;
+            }
+
+            final int shift = d * BITS;
+
+            toOffsets(count, dstFrom);
+
+            for (int i = srcFrom, end = srcFrom + len; i < end; i++) {
+                final char c = src[i];
+                dst[count[(c >>> shift) & MASK]++] = c;
+            }
+
+            final char[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = tmpFrom;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcFrom, a, fromIndex, len);
+        }
+    }
+
+    static void sort(final int[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_LENGTH) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        sort(a, fromIndex, toIndex, new int[len], RADIX >>> 1);
+    }
+
+    static void sort(final long[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_LENGTH) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        sort(a, fromIndex, toIndex, new long[len], RADIX >>> 1);
+    }
+
+    static void sort(final float[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_LENGTH) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        final int[] keys = new int[len];
+
+        for (int i = 0; i < len; i++) {
+            keys[i] = toKey(a[fromIndex + i]);
+        }
+
+        sort(keys, 0, len, new int[len], 0);
+
+        for (int i = 0; i < len; i++) {
+            a[fromIndex + i] = fromKey(keys[i]);
+        }
+    }
+
+    static void sort(final double[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_LENGTH) {
+            Arrays.sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        final long[] keys = new long[len];
+
+        for (int i = 0; i < len; i++) {
+            keys[i] = toKey(a[fromIndex + i]);
+        }
+
+        sort(keys, 0, len, new long[len], 0);
+
+        for (int i = 0; i < len; i++) {
+            a[fromIndex + i] = fromKey(keys[i]);
+        }
+    }
+
+    /**
+     *
+     * @param a
+     * @param fromIndex
+     * @param toIndex
+     * @param buf the work array, at least {@code toIndex - fromIndex} long.
+     * @param signFlip {@code 0x80} to flip the sign bit of the highest digit for signed values, or {@code 0} for unsigned keys.
+     */
+    private static void sort(final int[] a, final int fromIndex, final int toIndex, final int[] buf, final int signFlip) {
+        final int len = toIndex - fromIndex;
+        final int[][] counts = new int[4][RADIX];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int v = a[i];
+            counts[0][v & MASK]++;
+            counts[1][(v >>> 8) & MASK]++;
+            counts[2][(v >>> 16) & MASK]++;
+            counts[3][(v >>> 24) ^ signFlip]++;
+        }
+
+        int[] src = a;
+        int[] dst = buf;
+        int srcFrom = fromIndex;
+        int dstFrom = 0;
+
+        for (int d = 0; d < 4; d++) {
+            final int[] count = counts[d];
+
+            if (isTrivial(count, len)) {
+                continue;
+            }
+
+            final int shift = d * BITS;
+            final int flip = d == 3 ? signFlip : 0;
+
+            toOffsets(count, dstFrom);
+
+            for (int i = srcFrom, end = srcFrom + len; i < end; i++) {
+                final int v = src[i];
+                dst[count[((v >>> shift) & MASK) ^ flip]++] = v;
+            }
+
+            final int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = tmpFrom;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcFrom, a, fromIndex, len);
+        }
+    }
+
+    private static void sort(final long[] a, final int fromIndex, final int toIndex, final long[] buf, final int signFlip) {
+        final int len = toIndex - fromIndex;
+        final int[][] counts = new int[8][RADIX];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            final long v = a[i];
+            counts[0][(int) (v & MASK)]++;
+            counts[1][(int) ((v >>> 8) & MASK)]++;
+            counts[2][(int) ((v >>> 16) & MASK)]++;
+            counts[3][(int) ((v >>> 24) & MASK)]++;
+            counts[4][(int) ((v >>> 32) & MASK)]++;
+            counts[5][(int) ((v >>> 40) & MASK)]++;
+            counts[6][(int) ((v >>> 48) & MASK)]++;
+            counts[7][(int) (v >>> 56) ^ signFlip]++;
+        }
+
+        long[] src = a;
+        long[] dst = buf;
+        int srcFrom = fromIndex;
+        int dstFrom = 0;
+
+        for (int d = 0; d < 8; d++) {
+            final int[] count = counts[d];
+
+            if (isTrivial(count, len)) {
+                continue;
+            }
+
+            final int shift = d * BITS;
+            final int flip = d == 7 ? signFlip : 0;
+
+            toOffsets(count, dstFrom);
+
+            for (int i = srcFrom, end = srcFrom + len; i < end; i++) {
+                final long v = src[i];
+                dst[count[((int) (v >>> shift) & MASK) ^ flip]++] = v;
+            }
+
+            final long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            final int tmpFrom = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = tmpFrom;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcFrom, a, fromIndex, len);
+        }
+    }
+
+    /**
+     * Returns the indexes of the keys in the order of the keys, e.g. {@code keys[indexes[0]]} is the smallest key.
+     * The indexes of the equal keys are in ascending order. The keys are not modified.
+     *
+     * @param keys
+     * @return
+     */
+    static int[] sortIndexes(final long[] keys) {
+        final int len = keys.length;
+        int[] srcIndexes = new int[len];
+
+        for (int i = 0; i < len; i++) {
+            srcIndexes[i] = i;
+        }
+
+        if (len < 2) {
+            return srcIndexes;
+        }
+
+        final int signFlip = RADIX >>> 1;
+        final int[][] counts = new int[8][RADIX];
+
+        for (int i = 0; i < len; i++) {
+            final long v = keys[i];
+            counts[0][(int) (v & MASK)]++;
+            counts[1][(int) ((v >>> 8) & MASK)]++;
+            counts[2][(int) ((v >>> 16) & MASK)]++;
+            counts[3][(int) ((v >>> 24) & MASK)]++;
+            counts[4][(int) ((v >>> 32) & MASK)]++;
+            counts[5][(int) ((v >>> 40) & MASK)]++;
+            counts[6][(int) ((v >>> 48) & MASK)]++;
+            counts[7][(int) (v >>> 56) ^ signFlip]++;
+        }
+
+        int lastPass = -1;
+
+        for (int d = 0; d < 8; d++) {
+            if (isTrivial(counts[d], len) == false) {
+                lastPass = d;
+            }
+        }
+
+        // The keys are moved together with the indexes to the work arrays, except for the last pass. The input keys are only read.
+        long[] srcKeys = keys;
+        long[] keyBuf = null;
+        long[] keyBuf2 = null;
+        int[] dstIndexes = new int[len];
+
+        for (int d = 0; d <= lastPass; d++) {
+            final int[] count = counts[d];
+
+            if (isTrivial(count, len)) {
+                continue;
+            }
+
+            final int shift = d * BITS;
+            final int flip = d == 7 ? signFlip : 0;
+
+            toOffsets(count, 0);
+
+            if (d == lastPass) {
+                for (int i = 0; i < len; i++) {
+                    dstIndexes[count[((int) (srcKeys[i] >>> shift) & MASK) ^ flip]++] = srcIndexes[i];
+                }
+            } else {
+                if (keyBuf == null) {
+                    keyBuf = new long[len];
+                } else if (keyBuf2 == null) {
+                    keyBuf2 = new long[len];
+                }
+
+                final long[] dstKeys = srcKeys == keyBuf ? keyBuf2 : keyBuf;
+
+                for (int i = 0; i < len; i++) {
+                    final long v = srcKeys[i];
+                    final int pos = count[((int) (v >>> shift) & MASK) ^ flip]++;
+                    dstKeys[pos] = v;
+                    dstIndexes[pos] = srcIndexes[i];
+                }
+
+                srcKeys = dstKeys;
+            }
+
+            final int[] tmp = srcIndexes;
+            srcIndexes = dstIndexes;
+            dstIndexes = tmp;
+        }
+
+        return srcIndexes;
+    }
+
+    static void parallelSort(final int[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_PARALLEL_LENGTH || Array.CPU_CORES == 1) {
+            sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        parallelSort(a, fromIndex, toIndex, new int[len], RADIX >>> 1);
+    }
+
+    static void parallelSort(final long[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_PARALLEL_LENGTH || Array.CPU_CORES == 1) {
+            sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        parallelSort(a, fromIndex, toIndex, new long[len], RADIX >>> 1);
+    }
+
+    static void parallelSort(final float[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_PARALLEL_LENGTH || Array.CPU_CORES == 1) {
+            sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        final int[] keys = new int[len];
+        final int chunkCount = chunkCount(len);
+        final int chunkSize = chunkSize(len, chunkCount);
+
+        forEachChunk(chunkCount, new IntConsumer() {
+            @Override
+            public void accept(final int chunk) {
+                for (int i = chunk * chunkSize, end = Math.min(len, i + chunkSize); i < end; i++) {
+                    keys[i] = toKey(a[fromIndex + i]);
+                }
+            }
+        });
+
+        parallelSort(keys, 0, len, new int[len], 0);
+
+        forEachChunk(chunkCount, new IntConsumer() {
+            @Override
+            public void accept(final int chunk) {
+                for (int i = chunk * chunkSize, end = Math.min(len, i + chunkSize); i < end; i++) {
+                    a[fromIndex + i] = fromKey(keys[i]);
+                }
+            }
+        });
+    }
+
+    static void parallelSort(final double[] a, final int fromIndex, final int toIndex) {
+        final int len = toIndex - fromIndex;
+
+        if (len < MIN_PARALLEL_LENGTH || Array.CPU_CORES == 1) {
+            sort(a, fromIndex, toIndex);
+            return;
+        }
+
+        final long[] keys = new long[len];
+        final int chunkCount = chunkCount(len);
+        final int chunkSize = chunkSize(len, chunkCount);
+
+        forEachChunk(chunkCount, new IntConsumer() {
+            @Override
+            public void accept(final int chunk) {
+                for (int i = chunk * chunkSize, end = Math.min(len, i + chunkSize); i < end; i++) {
+                    keys[i] = toKey(a[fromIndex + i]);
+                }
+            }
+        });
+
+        parallelSort(keys, 0, len, new long[len], 0);
+
+        forEachChunk(chunkCount, new IntConsumer() {
+            @Override
+            public void accept(final int chunk) {
+                for (int i = chunk * chunkSize, end = Math.min(len, i + chunkSize); i < end; i++) {
+                    a[fromIndex + i] = fromKey(keys[i]);
+                }
+            }
+        });
+    }
+
+    private static void parallelSort(final int[] a, final int fromIndex, final int toIndex, final int[] buf, final int signFlip) {
+        final int len = toIndex - fromIndex;
+        final int chunkCount = chunkCount(len);
+        final int chunkSize = chunkSize(len, chunkCount);
+        final int[][] counts = new int[chunkCount][];
+
+        int[] src = a;
+        int[] dst = buf;
+        int srcFrom = fromIndex;
+        int dstFrom = 0;
+
+        for (int d = 0; d < 4; d++) {
+            final int shift = d * BITS;
+            final int flip = d == 3 ? signFlip : 0;
+            final int[] fsrc = src;
+            final int[] fdst = dst;
+            final int fsrcFrom = srcFrom;
+
+            forEachChunk(chunkCount, new IntConsumer() {
+                @Override
+                public void accept(final int chunk) {
+                    final int[] count = new int[RADIX];
+
+                    for (int i = fsrcFrom + chunk * chunkSize, end = Math.min(fsrcFrom + len, i + chunkSize); i < end; i++) {
+                        count[((fsrc[i] >>> shift) & MASK) ^ flip]++;
+                    }
+
+                    counts[chunk] = count;
+                }
+            });
+
+            if (toOffsets(counts, dstFrom, len) == false) {
+                continue;
+            }
+
+            forEachChunk(chunkCount, new IntConsumer() {
+                @Override
+                public void accept(final int chunk) {
+                    final int[] count = counts[chunk];
+
+                    for (int i = fsrcFrom + chunk * chunkSize, end = Math.min(fsrcFrom + len, i + chunkSize); i < end; i++) {
+                        final int v = fsrc[i];
+                        fdst[count[((v >>> shift) & MASK) ^ flip]++] = v;
+                    }
+                }
+            });
+
+            src = fdst;
+            dst = fsrc;
+            srcFrom = dstFrom;
+            dstFrom = fsrcFrom;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcFrom, a, fromIndex, len);
+        }
+    }
+
+    private static void parallelSort(final long[] a, final int fromIndex, final int toIndex, final long[] buf, final int signFlip) {
+        final int len = toIndex - fromIndex;
+        final int chunkCount = chunkCount(len);
+        final int chunkSize = chunkSize(len, chunkCount);
+        final int[][] counts = new int[chunkCount][];
+
+        long[] src = a;
+        long[] dst = buf;
+        int srcFrom = fromIndex;
+        int dstFrom = 0;
+
+        for (int d = 0; d < 8; d++) {
+            final int shift = d * BITS;
+            final int flip = d == 7 ? signFlip : 0;
+            final long[] fsrc = src;
+            final long[] fdst = dst;
+            final int fsrcFrom = srcFrom;
+
+            forEachChunk(chunkCount, new IntConsumer() {
+                @Override
+                public void accept(final int chunk) {
+                    final int[] count = new int[RADIX];
+
+                    for (int i = fsrcFrom + chunk * chunkSize, end = Math.min(fsrcFrom + len, i + chunkSize); i < end; i++) {
+                        count[((int) (fsrc[i] >>> shift) & MASK) ^ flip]++;
+                    }
+
+                    counts[chunk] = count;
+                }
+            });
+
+            if (toOffsets(counts, dstFrom, len) == false) {
+                continue;
+            }
+
+            forEachChunk(chunkCount, new IntConsumer() {
+                @Override
+                public void accept(final int chunk) {
+                    final int[] count = counts[chunk];
+
+                    for (int i = fsrcFrom + chunk * chunkSize, end = Math.min(fsrcFrom + len, i + chunkSize); i < end; i++) {
+                        final long v = fsrc[i];
+                        fdst[count[((int) (v >>> shift) & MASK) ^ flip]++] = v;
+                    }
+                }
+            });
+
+            src = fdst;
+            dst = fsrc;
+            srcFrom = dstFrom;
+            dstFrom = fsrcFrom;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcFrom, a, fromIndex, len);
+        }
+    }
+
+    /**
+     * Maps the float value to an int key whose unsigned order is the order of {@code Float.compare}.
+     * All the {@code NaN} values are mapped to the key of {@code Float.NaN}.
+     *
+     * @param f
+     * @return
+     */
+    private static int toKey(final float f) {
+        final int bits = Float.floatToIntBits(f);
+
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    private static float fromKey(final int key) {
+        return Float.intBitsToFloat(key ^ ((~key >> 31) | Integer.MIN_VALUE));
+    }
+
+    private static long toKey(final double d) {
+        final long bits = Double.doubleToLongBits(d);
+
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    private static double fromKey(final long key) {
+        return Double.longBitsToDouble(key ^ ((~key >> 63) | Long.MIN_VALUE));
+    }
+
+    /**
+     *
+     * @param count
+     * @param len
+     * @return {@code true} if all the values have the same digit.
+     */
+    private static boolean isTrivial(final int[] count, final int len) {
+        for (int c : count) {
+            if (c != 0) {
+                return c == len;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces the counts with the start positions of the digits.
+     *
+     * @param count
+     * @param fromIndex
+     */
+    private static void toOffsets(final int[] count, final int fromIndex) {
+        int pos = fromIndex;
+
+        for (int i = 0; i < RADIX; i++) {
+            final int c = count[i];
+            count[i] = pos;
+            pos += c;
+        }
+    }
+
+    /**
+     * Replaces the counts of each chunk with the start positions of the digits in the chunk: after the positions of the smaller digits
+     * and of the same digit in the preceding chunks.
+     *
+     * @param counts
+     * @param fromIndex
+     * @param len
+     * @return {@code false} if all the values have the same digit and the pass can be skipped.
+     */
+    private static boolean toOffsets(final int[][] counts, final int fromIndex, final int len) {
+        for (int i = 0; i < RADIX; i++) {
+            int total = 0;
+
+            for (int[] count : counts) {
+                total += count[i];
+            }
+
+            if (total == len) {
+                return false;
+            } else if (total > 0) {
+                break;
+            }
+        }
+
+        int pos = fromIndex;
+
+        for (int i = 0; i < RADIX; i++) {
+            for (int[] count : counts) {
+                final int c = count[i];
+                count[i] = pos;
+                pos += c;
+            }
+        }
+
+        return true;
+    }
+
+    private static int chunkCount(final int len) {
+        return Math.max(1, Math.min(Array.CPU_CORES, len / MIN_LENGTH));
+    }
+
+    private static int chunkSize(final int len, final int chunkCount) {
+        return len % chunkCount == 0 ? len / chunkCount : len / chunkCount + 1;
+    }
+
+    private static void forEachChunk(final int chunkCount, final IntConsumer action) {
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunkCount];
+
+        for (int i = 0; i < chunkCount; i++) {
+            final int chunk = i;
+
+            tasks[i] = ForkJoinTask.adapt(new Runnable() {
+                @Override
+                public void run() {
+                    action.accept(chunk);
+                }
+            });
+        }
+
+        ForkJoinPools.commonPool().invoke(ForkJoinTask.adapt(new Runnable() {
+            @Override
+            public void run() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        }));
+    }
+}
@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.landawn.abacus.util;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free {@code BlockingQueue} backed by a ring buffer, which can be used to replace {@code ArrayBlockingQueue}
+ * when there are many producer threads (MPSC) or one producer and one consumer thread (SPSC) and the lock in {@code ArrayBlockingQueue} becomes the bottleneck.
+ * <br />
+ * Each slot in the ring buffer has a sequence number to tell if it's ready to be written or read, so producers and consumers only compete on one CAS respectively
+ * (Refer to Dmitry Vyukov's bounded MPMC queue). It's also safe to be used by multiple consumer threads.
+ * <br />
+ * The capacity is rounded up to the next power of 2.
+ * The blocking operations: {@code put/take/offer(e, timeout, unit)/poll(timeout, unit)} wait by the specified {@code WaitStrategy} since there is no lock/condition to signal.
+ * <br />
+ * {@code null} elements are not permitted. {@code remove(Object)} replaces the element with a removed mark in its slot, which is skipped by the consumers.
+ * {@code iterator()} returns a weakly consistent iterator over a snapshot of the elements, which never throws {@code ConcurrentModificationException}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+public final class RingBuffer<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The mark set to the slot of the element removed by {@code remove(Object)}.
+     */
+    private static final Object REMOVED = new Object();
+
+    private final int mask;
+    private final AtomicReferenceArray<Object> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final WaitStrategy waitStrategy;
+
+    /**
+     *
+     * @param capacity will be rounded up to the next power of 2.
+     */
+    public RingBuffer(final int capacity) {
+        this(capacity, WaitStrategy.PARK);
+    }
+
+    /**
+     *
+     * @param capacity will be rounded up to the next power of 2.
+     * @param waitStrategy the way to wait by the blocking operations when the ring buffer is full/empty.
+     */
+    public RingBuffer(final int capacity, final WaitStrategy waitStrategy) {
+        N.checkArgument(capacity > 0 && capacity <= MAX_CAPACITY, "'capacity' must be bigger than 0 and not bigger than %s. It can't be: %s", MAX_CAPACITY,
+                capacity);
+        N.checkArgNotNull(waitStrategy, "waitStrategy");
+
+        final int size = capacity < 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.waitStrategy = waitStrategy;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(final E e) {
+        N.checkArgNotNull(e);
+
+        long pos = tail.get();
+
+        while (true) {
+            final int index = (int) (pos & mask);
+            final long diff = sequences.get(index) - pos;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    elements.lazySet(index, e);
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+
+                pos = tail.get();
+            } else if (diff < 0) {
+                // full.
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long pos = head.get();
+
+        while (true) {
+            final int index = (int) (pos & mask);
+            final long diff = sequences.get(index) - (pos + 1);
+
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    // exchanged (instead of read and cleared) so the element can't be removed by remove(Object) after it's read.
+                    final Object e = elements.getAndSet(index, null);
+                    sequences.lazySet(index, pos + mask + 1);
+
+                    if (e != REMOVED) {
+                        return (E) e;
+                    }
+                }
+
+                pos = head.get();
+            } else if (diff < 0) {
+                // empty.
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        long pos = head.get();
+
+        while (true) {
+            final int index = (int) (pos & mask);
+            final long diff = sequences.get(index) - (pos + 1);
+
+            if (diff < 0) {
+                return null;
+            }
+
+            final Object e = elements.get(index);
+
+            // make sure the element is not taken by another consumer thread before it's read.
+            if (diff == 0 && head.get() == pos && e != null) {
+                if (e != REMOVED) {
+                    return (E) e;
+                }
+
+                // consume the removed mark.
+                if (head.compareAndSet(pos, pos + 1)) {
+                    elements.getAndSet(index, null);
+                    sequences.lazySet(index, pos + mask + 1);
+                }
+            }
+
+            pos = head.get();
+        }
+    }
+
+    @Override
+    public void put(final E e) throws InterruptedException {
+        N.checkArgNotNull(e);
+
+        int idles = 0;
+
+        while (offer(e) == false) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            waitStrategy.idle(idles++, Long.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public boolean offer(final E e, final long timeout, final TimeUnit unit) throws InterruptedException {
+        N.checkArgNotNull(e);
+
+        if (offer(e)) {
+            return true;
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long remaining = 0;
+        int idles = 0;
+
+        while (offer(e) == false) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            } else if ((remaining = deadline - System.nanoTime()) <= 0) {
+                return false;
+            }
+
+            waitStrategy.idle(idles++, remaining);
+        }
+
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e = null;
+        int idles = 0;
+
+        while ((e = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            waitStrategy.idle(idles++, Long.MAX_VALUE);
+        }
+
+        return e;
+    }
+
+    @Override
+    public E poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        E e = poll();
+
+        if (e != null) {
+            return e;
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long remaining = 0;
+        int idles = 0;
+
+        while ((e = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            } else if ((remaining = deadline - System.nanoTime()) <= 0) {
+                return null;
+            }
+
+            waitStrategy.idle(idles++, remaining);
+        }
+
+        return e;
+    }
+
+    /**
+     * Drains the available elements into the specified array, without waiting.
+     * It's the batch version of {@code poll()}, to reduce the calls across the thread boundary.
+     *
+     * @param a
+     * @return the number of elements drained, which are set to {@code a[0]...a[n - 1]}.
+     */
+    public int drainTo(final Object[] a) {
+        int n = 0;
+        E e = null;
+
+        while (n < a.length && (e = poll()) != null) {
+            a[n++] = e;
+        }
+
+        return n;
+    }
+
+    @Override
+    public int drainTo(final Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(final Collection<? super E> c, final int maxElements) {
+        N.checkArgNotNull(c);
+
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        int n = 0;
+        E e = null;
+
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+
+        return n;
+    }
+
+    /**
+     * The returned value is an estimate if the ring buffer is updated by other threads concurrently.
+     * The removed elements are counted until their slots are passed by the consumers.
+     */
+    @Override
+    public int size() {
+        while (true) {
+            final long h = head.get();
+            final long t = tail.get();
+
+            if (h == head.get()) {
+                final long size = t - h;
+                return size <= 0 ? 0 : (size > capacity() ? capacity() : (int) size);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity() - size();
+    }
+
+    /**
+     *
+     * @return the capacity rounded up to the power of 2.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // continue.
+        }
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        for (int i = 0, len = capacity(); i < len; i++) {
+            if (o.equals(elements.get(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the first element which is equal to the specified object, by replacing it with a removed mark in its slot.
+     * The slot is released when it's passed by the consumers.
+     */
+    @Override
+    public boolean remove(final Object o) {
+        return remove(o, false);
+    }
+
+    private boolean remove(final Object o, final boolean identity) {
+        if (o == null) {
+            return false;
+        }
+
+        for (long pos = head.get(), t = tail.get(); pos < t; pos++) {
+            final int index = (int) (pos & mask);
+
+            if (sequences.get(index) == pos + 1) {
+                final Object e = elements.get(index);
+
+                // the element can't be taken by consumers once it's replaced, and the replacement fails once it's taken.
+                if (e != null && e != REMOVED && (identity ? e == o : o.equals(e)) && elements.compareAndSet(index, e, REMOVED)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in the ring buffer when it's called, from head to tail.
+     * It never throws {@code ConcurrentModificationException}. {@code Iterator.remove()} is supported.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        final List<E> snapshot = snapshot();
+
+        return new Iterator<E>() {
+            private int cursor = 0;
+            private E last = null;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.size();
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= snapshot.size()) {
+                    throw new NoSuchElementException();
+                }
+
+                return last = snapshot.get(cursor++);
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+
+                RingBuffer.this.remove(last, true);
+                last = null;
+            }
+        };
+    }
+
+    private List<E> snapshot() {
+        final long t = tail.get();
+        long pos = head.get();
+        final List<E> snapshot = new ArrayList<>(t - pos > 0 ? (int) N.min(t - pos, capacity()) : 0);
+
+        for (; pos < t; pos++) {
+            final int index = (int) (pos & mask);
+
+            if (sequences.get(index) == pos + 1) {
+                final Object e = elements.get(index);
+
+                // make sure the element is not taken and replaced by a later element.
+                if (e != null && e != REMOVED && sequences.get(index) == pos + 1) {
+                    snapshot.add((E) e);
+                }
+            }
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public E element() {
+        final E e = peek();
+
+        if (e == null) {
+            throw new NoSuchElementException();
+        }
+
+        return e;
+    }
+
+    @Override
+    public String toString() {
+        return "{capacity=" + capacity() + ", size=" + size() + ", waitStrategy=" + waitStrategy + "}";
+    }
+
+    /**
+     * The way to wait by the blocking operations when the ring buffer is full (for producers) or empty (for consumers).
+     */
+    public static enum WaitStrategy {
+        /**
+         * Busy spin. The lowest latency, but it keeps the cpu core busy. Only for the case that there are more cpu cores than the producer/consumer threads.
+         */
+        SPIN {
+            @Override
+            void idle(final int idles, final long maxNanos) {
+                // busy spin.
+            }
+        },
+
+        /**
+         * Spin with {@code Thread.yield()}.
+         */
+        YIELD {
+            @Override
+            void idle(final int idles, final long maxNanos) {
+                Thread.yield();
+            }
+        },
+
+        /**
+         * Spin with {@code Thread.yield()} for a while, then park the thread for a short time ({@code LockSupport.parkNanos}) between the retries. It's the default strategy.
+         */
+        PARK {
+            @Override
+            void idle(final int idles, final long maxNanos) {
+                if (idles < 64) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(maxNanos < PARK_NANOS ? maxNanos : PARK_NANOS);
+                }
+            }
+        };
+
+        static final long PARK_NANOS = 100_000;
+
+        abstract void idle(int idles, long maxNanos);
+    }
+}
@@ -221,6 +221,109 @@ public abstract class SQLBuilder {
         }
     }
 
+    /**
+     * Rewrites the single-row insert sql: {@code INSERT INTO account (first_name, last_name) VALUES (?, ?)} to the multi-row insert sql:
+     * {@code INSERT INTO account (first_name, last_name) VALUES (?, ?), (?, ?), ...}, for the drivers which don't do it for the batch insert.
+     * The parameters of row {@code i} are the parameters {@code i * n + 1 ... i * n + n} of the returned sql, {@code n} is the parameter count of the input sql.
+     * 
+     * @param insertSql the sql with {@code '?'} parameters.
+     * @param rowCount
+     * @return {@code null} if the specified sql is not a single-row {@code INSERT ... VALUES (...)}, or there are {@code '?'} parameters after the values.
+     */
+    @Beta
+    public static String toMultiRowInsert(final String insertSql, final int rowCount) {
+        N.checkArgument(rowCount > 0, "'rowCount'=%s must be greater than 0", rowCount);
+
+        final int len = insertSql.length();
+        int fromIndex = 0;
+
+        while (fromIndex < len && Character.isWhitespace(insertSql.charAt(fromIndex))) {
+            fromIndex++;
+        }
+
+        if (insertSql.regionMatches(true, fromIndex, WD.INSERT, 0, WD.INSERT.length()) == false) {
+            return null;
+        }
+
+        int valuesStart = -1;
+        int valuesEnd = -1;
+        char quote = 0;
+        char ch = 0;
+
+        for (int i = fromIndex; i < len; i++) {
+            ch = insertSql.charAt(i);
+
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '\'' || ch == '"' || ch == '`') {
+                quote = ch;
+            } else if (valuesStart < 0) {
+                if ((ch == 'V' || ch == 'v') && insertSql.regionMatches(true, i, WD.VALUES, 0, WD.VALUES.length())
+                        && (i == 0 || Character.isLetterOrDigit(insertSql.charAt(i - 1)) == false)) {
+                    int j = i + WD.VALUES.length();
+
+                    while (j < len && Character.isWhitespace(insertSql.charAt(j))) {
+                        j++;
+                    }
+
+                    if (j < len && insertSql.charAt(j) == _PARENTHESES_L) {
+                        valuesStart = j;
+                        i = j;
+
+                        int depth = 0;
+
+                        for (; i < len; i++) {
+                            ch = insertSql.charAt(i);
+
+                            if (quote != 0) {
+                                if (ch == quote) {
+                                    quote = 0;
+                                }
+                            } else if (ch == '\'' || ch == '"' || ch == '`') {
+                                quote = ch;
+                            } else if (ch == _PARENTHESES_L) {
+                                depth++;
+                            } else if (ch == _PARENTHESES_R && --depth == 0) {
+                                valuesEnd = i + 1;
+                                break;
+                            }
+                        }
+
+                        if (valuesEnd < 0) {
+                            return null;
+                        }
+                    }
+                }
+            } else if (ch == WD._QUESTION_MARK) {
+                // the parameters after the values can't be repeated for each row.
+                return null;
+            }
+        }
+
+        if (valuesEnd < 0) {
+            return null;
+        }
+
+        final String values = insertSql.substring(valuesStart, valuesEnd);
+        final StringBuilder sb = ObjectFactory.createStringBuilder();
+
+        try {
+            sb.append(insertSql, 0, valuesEnd);
+
+            for (int i = 1; i < rowCount; i++) {
+                sb.append(WD.COMMA_SPACE).append(values);
+            }
+
+            sb.append(insertSql, valuesEnd, len);
+
+            return sb.toString();
+        } finally {
+            ObjectFactory.recycle(sb);
+        }
+    }
+
     static Collection<String> getPropNamesByClass(final Class<?> entityClass, final boolean includeSubEntityProperties, final Set<String> excludedPropNames) {
         Set<String> subEntityPropNames = null;
 
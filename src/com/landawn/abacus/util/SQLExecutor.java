@@ -39,6 +39,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -71,6 +72,7 @@ import com.landawn.abacus.util.SQLBuilder.NE3;
 import com.landawn.abacus.util.SQLBuilder.SP;
 import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.stream.IntStream;
 import com.landawn.abacus.util.stream.Stream;
 
 /**
@@ -297,6 +299,7 @@ public final class SQLExecutor implements Closeable {
                 final int columnCount = columnLabels.length;
                 final boolean isMap = Map.class.isAssignableFrom(cls);
                 final boolean isDirtyMarker = N.isDirtyMarker(cls);
+                final PropSetters propSetters = isMap ? null : PropSetters.of(cls, columnLabels);
 
                 while ((count-- > 0) && rs.next()) {
                     final Object entity = N.newInstance(cls);
@@ -308,18 +311,12 @@ public final class SQLExecutor implements Closeable {
                             m.put(columnLabels[i], rs.getObject(i + 1));
                         }
                     } else {
-                        //    Method method = null;
-                        //
-                        //    for (int i = 0; i < columnCount; i++) {
-                        //        method = N.getPropSetMethod(cls, columnLabelList.get(i));
-                        //
-                        //        if (method != null) {
-                        //            N.setPropValue(entity, method, rs.getObject(i + 1));
-                        //        }
-                        //    }
-
                         for (int i = 0; i < columnCount; i++) {
-                            ClassUtil.setPropValue(entity, columnLabels[i], rs.getObject(i + 1), true);
+                            if (propSetters.getMethod(i) == null) {
+                                ClassUtil.setPropValue(entity, columnLabels[i], rs.getObject(i + 1), true);
+                            } else {
+                                propSetters.set(entity, i, rs.getObject(i + 1));
+                            }
                         }
 
                         if (isDirtyMarker) {
@@ -335,11 +332,20 @@ public final class SQLExecutor implements Closeable {
         }
     };
 
+    /**
+     * The set methods are resolved once for all the rows, so the values are set by {@code ClassUtil.setPropValue(Object, Method, Object)},
+     * which uses the generated accessor of the entity class.
+     *
+     * @param cls
+     * @param columnLabels
+     * @return the set method of each column, or {@code null} if the column is not a property of the class, or is a nested property: {@code a.b}.
+     */
     private static final int factor = Math.min(Math.max(1, IOUtil.MAX_MEMORY_IN_MB / 1024), 8);
     private static final int CACHED_SQL_LENGTH = 1024 * factor;
     private static final int SQL_CACHE_SIZE = 1000 * factor;
 
     private static final Map<String, List<String>> _sqlColumnLabelPool = new ConcurrentHashMap<>();
+    private static final Map<String, ColumnTypePlan> _sqlColumnTypePlanPool = new ConcurrentHashMap<>();
     private final Map<String, List<String>> _tableColumnNamePool = new ConcurrentHashMap<>();
 
     private final DataSource _ds;
@@ -355,6 +361,7 @@ public final class SQLExecutor implements Closeable {
     private final DBVersion _dbVersion;
     private final IsolationLevel _defaultIsolationLevel;
     private final AsyncSQLExecutor _asyncSQLExecutor;
+    private final PreparedStatementCache _stmtCache;
 
     private final Map<Class<?>, Mapper<?>> mapperPool = new ConcurrentHashMap<>();
 
@@ -499,6 +506,7 @@ public final class SQLExecutor implements Closeable {
 
         _jdbcSettings.freeze();
 
+        this._stmtCache = _jdbcSettings.getStatementCacheSize() > 0 ? new PreparedStatementCache(_jdbcSettings.getStatementCacheSize()) : null;
         this._sqlMapper = sqlMapper;
         this._namingPolicy = namingPolicy == null ? NamingPolicy.LOWER_CASE_WITH_UNDERSCORE : namingPolicy;
         this._asyncExecutor = asyncExecutor == null ? new AsyncExecutor(64, 300, TimeUnit.SECONDS) : asyncExecutor;
@@ -643,6 +651,18 @@ public final class SQLExecutor implements Closeable {
         return _dbVersion;
     }
 
+    /**
+     * 
+     * @return the statistics of the {@code PreparedStatement} cache, or {@code null} if it's not enabled by {@code JdbcSettings.setStatementCacheSize}.
+     */
+    public StatementCacheStats statementCacheStats() {
+        if (_stmtCache == null) {
+            return null;
+        }
+
+        return new StatementCacheStats(_stmtCache.hitCount(), _stmtCache.missCount(), _stmtCache.evictionCount(), _stmtCache.size());
+    }
+
     @SafeVarargs
     public final <T> T insert(final String sql, final Object... parameters) {
         return insert(null, sql, null, null, parameters);
@@ -876,7 +896,9 @@ public final class SQLExecutor implements Closeable {
 
             stmt = prepareStatement(ds, localConn, namedSQL, statementSetter, jdbcSettings, Statement.RETURN_GENERATED_KEYS, true, parametersList);
 
-            if (len <= batchSize) {
+            if (jdbcSettings.isAdaptiveBatchSize() || jdbcSettings.isMultiRowInsert()) {
+                executeBatch(ds, localConn, namedSQL, stmt, statementSetter, jdbcSettings, Statement.RETURN_GENERATED_KEYS, parametersList, resultIdList);
+            } else if (len <= batchSize) {
                 for (int i = 0; i < len; i++) {
                     statementSetter.setParameters(namedSQL, stmt, parametersList.get(i));
                     stmt.addBatch();
@@ -1190,7 +1212,9 @@ public final class SQLExecutor implements Closeable {
 
             int result = 0;
 
-            if (len <= batchSize) {
+            if (jdbcSettings.isAdaptiveBatchSize() || jdbcSettings.isMultiRowInsert()) {
+                result += executeBatch(ds, localConn, namedSQL, stmt, statementSetter, jdbcSettings, Statement.NO_GENERATED_KEYS, parametersList, null);
+            } else if (len <= batchSize) {
                 for (int i = 0; i < len; i++) {
                     statementSetter.setParameters(namedSQL, stmt, parametersList.get(i));
                     stmt.addBatch();
@@ -1255,6 +1279,47 @@ public final class SQLExecutor implements Closeable {
         }
     }
 
+    /**
+     * Executes the batch insert/update by {@code BatchExecutor}, with the adaptive batch size and/or multi-row insert enabled in {@code jdbcSettings}.
+     * 
+     * @return the sum of the update counts.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> int executeBatch(final DataSource ds, final Connection localConn, final NamedSQL namedSQL, final PreparedStatement stmt,
+            final StatementSetter statementSetter, final JdbcSettings jdbcSettings, final int autoGeneratedKeys, final List<?> parametersList,
+            final List<T> resultIdList) throws SQLException {
+        if (_isReadOnly) {
+            throw new AbacusException("This SQL Executor is configured for read-only");
+        }
+
+        final String sql = jdbcSettings.isMultiRowInsert() ? ds.getSliceSelector().select(null, namedSQL.getPureSQL(), parametersList, null) : null;
+
+        final Try.BiConsumer<PreparedStatement, Object, SQLException> stmtSetter = new Try.BiConsumer<PreparedStatement, Object, SQLException>() {
+            @Override
+            public void accept(final PreparedStatement stmt, final Object parameters) throws SQLException {
+                statementSetter.setParameters(namedSQL, stmt, parameters);
+            }
+        };
+
+        final Try.Function<String, PreparedStatement, SQLException> stmtFactory = new Try.Function<String, PreparedStatement, SQLException>() {
+            @Override
+            public PreparedStatement apply(final String multiRowSql) throws SQLException {
+                return prepareStatement(localConn, multiRowSql, jdbcSettings, autoGeneratedKeys);
+            }
+        };
+
+        final BatchExecutor<Object> batchExecutor = new BatchExecutor<>(stmt, stmtSetter, getBatchSize(jdbcSettings), jdbcSettings.isAdaptiveBatchSize(), sql,
+                namedSQL.getParameterCount(), stmtFactory, (List<Object>) resultIdList);
+
+        try {
+            batchExecutor.execute(parametersList.iterator(), 0);
+        } finally {
+            batchExecutor.close();
+        }
+
+        return (int) batchExecutor.updateCount();
+    }
+
     protected int executeBatchUpdate(final NamedSQL namedSQL, final PreparedStatement stmt) throws SQLException {
         if (_isReadOnly) {
             throw new AbacusException("This SQL Executor is configured for read-only");
@@ -2089,9 +2154,14 @@ public final class SQLExecutor implements Closeable {
 
         if (N.isNullOrEmpty(jdbcSettings.getQueryWithDataSources())) {
             return query(conn, sql, statementSetter, jdbcSettings, parameters);
-        } else {
+        } else if (N.notNullOrEmpty(jdbcSettings.getMergeOrderBy())) {
+            final List<String> columnNames = new ArrayList<>();
 
-            final JdbcSettings newJdbcSettings = jdbcSettings.copy().setOffset(0).setCount(Long.MAX_VALUE);
+            try (final Stream<Object[]> s = streamMerged(null, columnNames, N.asList(sql), statementSetter, jdbcSettings, parameters)) {
+                return toDataSet(columnNames, s);
+            }
+        } else {
+            final JdbcSettings newJdbcSettings = toShardJdbcSettings(jdbcSettings);
             final List<String> columnNames = new ArrayList<>();
 
             try (final Stream<Object[]> s = streamAlll(columnNames, sql, statementSetter, newJdbcSettings, parameters)) {
@@ -2136,9 +2206,16 @@ public final class SQLExecutor implements Closeable {
             jdbcSettings = _jdbcSettings.copy();
         }
 
-        final JdbcSettings newJdbcSettings = jdbcSettings.copy().setOffset(0).setCount(Long.MAX_VALUE);
         final List<String> columnNames = new ArrayList<>();
 
+        if (N.notNullOrEmpty(jdbcSettings.getMergeOrderBy())) {
+            try (final Stream<Object[]> s = streamMerged(null, columnNames, sqls, statementSetter, jdbcSettings, parameters)) {
+                return toDataSet(columnNames, s);
+            }
+        }
+
+        final JdbcSettings newJdbcSettings = toShardJdbcSettings(jdbcSettings);
+
         try (final Stream<Object[]> s = (newJdbcSettings.isQueryInParallel() ? Stream.of(sqls).parallel(sqls.size()) : Stream.of(sqls))
                 .flatMap(new Function<String, Stream<Object[]>>() {
                     @Override
@@ -2194,6 +2271,94 @@ public final class SQLExecutor implements Closeable {
                 });
     }
 
+    /**
+     * No shard needs to return more rows than {@code offset + count}: the limit is pushed down to each shard by {@code count} and {@code maxRows}.
+     *
+     * @param jdbcSettings
+     * @return
+     */
+    private static JdbcSettings toShardJdbcSettings(final JdbcSettings jdbcSettings) {
+        final long limit = jdbcSettings.getCount() > Long.MAX_VALUE - jdbcSettings.getOffset() ? Long.MAX_VALUE
+                : jdbcSettings.getOffset() + jdbcSettings.getCount();
+
+        final JdbcSettings newJdbcSettings = jdbcSettings.copy().setOffset(0).setCount(limit);
+
+        if (limit > 0 && limit < Integer.MAX_VALUE && (newJdbcSettings.getMaxRows() <= 0 || newJdbcSettings.getMaxRows() > limit)) {
+            newJdbcSettings.setMaxRows((int) limit);
+        }
+
+        return newJdbcSettings;
+    }
+
+    /**
+     * Merges the rows of all the shards (every sql on every data source), which are sorted by {@code JdbcSettings.mergeOrderBy}, without loading them
+     * into memory. The queries are executed in parallel if {@code JdbcSettings.queryInParallel} is {@code true}.
+     *
+     * @param targetClass {@code null} for {@code Object[]}
+     * @param columnNames the column labels are added to it if it's not {@code null}.
+     * @param sqls
+     * @param statementSetter
+     * @param jdbcSettings
+     * @param parameters
+     * @return
+     * @see MergedRowIterator
+     */
+    private <T> Stream<T> streamMerged(final Class<T> targetClass, final List<String> columnNames, final List<String> sqls,
+            final StatementSetter statementSetter, final JdbcSettings jdbcSettings, final Object... parameters) {
+        final Collection<String> dataSources = N.isNullOrEmpty(jdbcSettings.getQueryWithDataSources()) ? N.asList(jdbcSettings.getQueryWithDataSource())
+                : jdbcSettings.getQueryWithDataSources();
+        final JdbcSettings newJdbcSettings = toShardJdbcSettings(jdbcSettings).setQueryWithDataSources(null);
+        final List<String> shardSqls = new ArrayList<>(sqls.size() * dataSources.size());
+        final List<String> shardDataSources = new ArrayList<>(sqls.size() * dataSources.size());
+
+        for (String sql : sqls) {
+            for (String dataSource : dataSources) {
+                shardSqls.add(sql);
+                shardDataSources.add(dataSource);
+            }
+        }
+
+        final int shardCount = shardSqls.size();
+        final RowIterator[] iters = new RowIterator[shardCount];
+        MergedRowIterator mergedIter = null;
+        List<String> columnLabels = null;
+
+        try {
+            final IntStream indexes = IntStream.range(0, shardCount);
+
+            (newJdbcSettings.isQueryInParallel() && shardCount > 1 ? indexes.parallel(shardCount) : indexes).forEach(new Try.IntConsumer<RuntimeException>() {
+                @Override
+                public void accept(final int i) {
+                    iters[i] = iterate(shardSqls.get(i), statementSetter, newJdbcSettings.copy().setQueryWithDataSource(shardDataSources.get(i)), parameters);
+                }
+            });
+
+            columnLabels = iters[0].columnLabels();
+            mergedIter = new MergedRowIterator(iters, columnLabels, jdbcSettings.getMergeOrderBy(), newJdbcSettings.getCount());
+        } finally {
+            if (mergedIter == null) {
+                for (RowIterator iter : iters) {
+                    IOUtil.closeQuietly(iter);
+                }
+            }
+        }
+
+        if (columnNames != null) {
+            columnNames.addAll(columnLabels);
+        }
+
+        final MergedRowIterator iter = mergedIter;
+        final Stream<Object[]> s = skipAndLimit(Stream.of(iter), jdbcSettings);
+
+        return (targetClass == null ? (Stream<T>) s : s.map(this.<T> newMapper(targetClass, columnLabels.toArray(new String[columnLabels.size()]))))
+                .onClose(new Runnable() {
+                    @Override
+                    public void run() {
+                        IOUtil.closeQuietly(iter);
+                    }
+                });
+    }
+
     private <T> Stream<T> skipAndLimit(Stream<T> s, JdbcSettings jdbcSettings) {
         if (jdbcSettings.getOffset() > 0) {
             s = s.skip(jdbcSettings.getOffset());
@@ -2366,48 +2531,50 @@ public final class SQLExecutor implements Closeable {
         try {
             final NamedSQL namedSQL = getNamedSQL(sql);
             final ResultSet rs = iterator.resultSet();
-            final String[] columnLabels = getColumnLabelList(namedSQL.getPureSQL(), rs).toArray(new String[0]);
-            final int columnCount = columnLabels.length;
-            final boolean isMap = Map.class.isAssignableFrom(targetClass);
-            final boolean isDirtyMarker = N.isDirtyMarker(targetClass);
-
-            return new Function<Object[], T>() {
-                @SuppressWarnings("deprecation")
-                @Override
-                public T apply(Object[] a) {
-                    if (isMap) {
-                        final Map<String, Object> m = (Map<String, Object>) N.newInstance(targetClass);
+            return newMapper(targetClass, getColumnLabelList(namedSQL.getPureSQL(), rs).toArray(new String[0]));
+        } catch (SQLException e) {
+            IOUtil.closeQuietly(iterator);
+            throw new UncheckedSQLException(e);
+        }
+    }
 
-                        for (int i = 0; i < columnCount; i++) {
-                            m.put(columnLabels[i], a[i]);
-                        }
+    private <T> Function<Object[], T> newMapper(final Class<? extends T> targetClass, final String[] columnLabels) {
+        final int columnCount = columnLabels.length;
+        final boolean isMap = Map.class.isAssignableFrom(targetClass);
+        final boolean isDirtyMarker = N.isDirtyMarker(targetClass);
+        final PropSetters propSetters = isMap ? null : PropSetters.of(targetClass, columnLabels);
 
-                        return (T) m;
-                    } else {
-                        final Object entity = N.newInstance(targetClass);
+        return new Function<Object[], T>() {
+            @SuppressWarnings("deprecation")
+            @Override
+            public T apply(Object[] a) {
+                if (isMap) {
+                    final Map<String, Object> m = (Map<String, Object>) N.newInstance(targetClass);
 
-                        for (int i = 0; i < columnCount; i++) {
-                            if (columnLabels[i] == null) {
-                                continue;
-                            }
+                    for (int i = 0; i < columnCount; i++) {
+                        m.put(columnLabels[i], a[i]);
+                    }
 
-                            if (ClassUtil.setPropValue(entity, columnLabels[i], a[i], true) == false) {
-                                columnLabels[i] = null;
-                            }
-                        }
+                    return (T) m;
+                } else {
+                    final Object entity = N.newInstance(targetClass);
 
-                        if (isDirtyMarker) {
-                            ((DirtyMarker) entity).markDirty(false);
+                    for (int i = 0; i < columnCount; i++) {
+                        if (propSetters.getMethod(i) != null) {
+                            propSetters.set(entity, i, a[i]);
+                        } else if (columnLabels[i] != null && ClassUtil.setPropValue(entity, columnLabels[i], a[i], true) == false) {
+                            columnLabels[i] = null;
                         }
+                    }
 
-                        return (T) entity;
+                    if (isDirtyMarker) {
+                        ((DirtyMarker) entity).markDirty(false);
                     }
+
+                    return (T) entity;
                 }
-            };
-        } catch (SQLException e) {
-            IOUtil.closeQuietly(iterator);
-            throw new UncheckedSQLException(e);
-        }
+            }
+        };
     }
 
     @SafeVarargs
@@ -2507,9 +2674,11 @@ public final class SQLExecutor implements Closeable {
 
         if (N.isNullOrEmpty(jdbcSettings.getQueryWithDataSources())) {
             return stream2(targetClass, sql, statementSetter, jdbcSettings, parameters);
+        } else if (N.notNullOrEmpty(jdbcSettings.getMergeOrderBy())) {
+            return streamMerged(targetClass, null, N.asList(sql), statementSetter, jdbcSettings, parameters).tried();
         } else {
             final Collection<String> dataSources = jdbcSettings.getQueryWithDataSources();
-            final JdbcSettings newJdbcSettings = jdbcSettings.copy().setOffset(0).setCount(Long.MAX_VALUE).setQueryWithDataSources(null);
+            final JdbcSettings newJdbcSettings = toShardJdbcSettings(jdbcSettings).setQueryWithDataSources(null);
 
             final Stream<T> s = (newJdbcSettings.isQueryInParallel() ? Stream.of(dataSources).parallel(dataSources.size()) : Stream.of(dataSources))
                     .flatMap(new Function<String, Stream<T>>() {
@@ -2621,7 +2790,11 @@ public final class SQLExecutor implements Closeable {
             jdbcSettings = _jdbcSettings.copy();
         }
 
-        final JdbcSettings newJdbcSettings = jdbcSettings.copy().setOffset(0).setCount(Long.MAX_VALUE);
+        if (N.notNullOrEmpty(jdbcSettings.getMergeOrderBy())) {
+            return streamMerged(targetClass, null, sqls, statementSetter, jdbcSettings, parameters).tried();
+        }
+
+        final JdbcSettings newJdbcSettings = toShardJdbcSettings(jdbcSettings);
 
         final Stream<T> s = (newJdbcSettings.isQueryInParallel() ? Stream.of(sqls).parallel(sqls.size()) : Stream.of(sqls))
                 .flatMap(new Function<String, Stream<T>>() {
@@ -2634,6 +2807,157 @@ public final class SQLExecutor implements Closeable {
         return skipAndLimit(s, jdbcSettings).tried();
     }
 
+    @SafeVarargs
+    public final Try<Stream<Object[]>> streamByKeyset(final String sql, final String keyColumnName, final Object startKey, final int pageSize,
+            final Object... parameters) {
+        return streamByKeyset(sql, null, keyColumnName, startKey, pageSize, null, parameters);
+    }
+
+    /**
+     * Streams the rows of a large table page by page by keyset pagination, instead of skipping rows by {@code offset}.
+     * The sql must be sorted by the key column ascending and query the rows after the key specified by the last parameter. For example:
+     * 
+     * <pre>
+     * <code>
+     * sqlExecutor.streamByKeyset("SELECT * FROM account WHERE status = ? AND id > ? ORDER BY id", "id", 0, 1000, "active");
+     * </code>
+     * </pre>
+     * 
+     * The first page is queried with {@code startKey}, and each next page with the key of the last row in the previous page.
+     * At most {@code pageSize} rows are read for each page (by {@code maxRows}). The next page is queried in background (by the {@code AsyncExecutor} of this
+     * {@code SQLExecutor}) while the current page is consumed. Every page is queried by a separated connection, not in the transaction of current thread.
+     * <br />
+     * The {@code offset/count} in the {@code JdbcSettings} are applied to the rows in the stream.
+     * Remember to close the returned <code>Stream</code> to cancel the query of the next page.
+     * 
+     * @param sql
+     * @param statementSetter
+     * @param keyColumnName the label of the key column in the result, which must be unique. The value of it in the last row of each page is used as the
+     *            last parameter to query the next page.
+     * @param startKey the key to query the first page. Only the rows after it are returned.
+     * @param pageSize
+     * @param jdbcSettings
+     * @param parameters the parameters before the key parameter.
+     * @return
+     */
+    @SafeVarargs
+    public final Try<Stream<Object[]>> streamByKeyset(final String sql, final StatementSetter statementSetter, final String keyColumnName,
+            final Object startKey, final int pageSize, final JdbcSettings jdbcSettings, final Object... parameters) {
+        return streamByKeyset2(null, sql, statementSetter, keyColumnName, startKey, pageSize, jdbcSettings, parameters);
+    }
+
+    @SafeVarargs
+    public final <T> Try<Stream<T>> streamByKeyset(final Class<T> targetClass, final String sql, final String keyColumnName, final Object startKey,
+            final int pageSize, final Object... parameters) {
+        return streamByKeyset(targetClass, sql, null, keyColumnName, startKey, pageSize, null, parameters);
+    }
+
+    /**
+     * 
+     * @param targetClass
+     * @param sql
+     * @param statementSetter
+     * @param keyColumnName
+     * @param startKey
+     * @param pageSize
+     * @param jdbcSettings
+     * @param parameters
+     * @return
+     * @see #streamByKeyset(String, StatementSetter, String, Object, int, JdbcSettings, Object...)
+     */
+    @SafeVarargs
+    public final <T> Try<Stream<T>> streamByKeyset(final Class<T> targetClass, final String sql, final StatementSetter statementSetter,
+            final String keyColumnName, final Object startKey, final int pageSize, final JdbcSettings jdbcSettings, final Object... parameters) {
+        N.checkArgNotNull(targetClass);
+
+        return streamByKeyset2(targetClass, sql, statementSetter, keyColumnName, startKey, pageSize, jdbcSettings, parameters);
+    }
+
+    private <T> Try<Stream<T>> streamByKeyset2(final Class<T> targetClass, final String sql, final StatementSetter statementSetter,
+            final String keyColumnName, final Object startKey, final int pageSize, JdbcSettings jdbcSettings, final Object... parameters) {
+        N.checkArgNotNull(keyColumnName, "keyColumnName");
+        N.checkArgNotNull(startKey, "startKey");
+        N.checkArgument(pageSize > 0, "'pageSize'=%s must be greater than 0", pageSize);
+
+        if (jdbcSettings == null) {
+            jdbcSettings = _jdbcSettings.copy();
+        }
+
+        final JdbcSettings pageJdbcSettings = jdbcSettings.copy().setOffset(0).setCount(pageSize).setMaxRows(pageSize).setQueryWithDataSources(null);
+
+        if (pageJdbcSettings.getFetchSize() <= 0 || pageJdbcSettings.getFetchSize() > pageSize) {
+            pageJdbcSettings.setFetchSize(pageSize);
+        }
+
+        final List<String> columnLabels = new ArrayList<>();
+
+        final Function<Object, List<Object[]>> pageLoader = new Function<Object, List<Object[]>>() {
+            @Override
+            public List<Object[]> apply(final Object key) {
+                final Object[] newParameters = N.isNullOrEmpty(parameters) ? new Object[1] : Arrays.copyOf(parameters, parameters.length + 1);
+                newParameters[newParameters.length - 1] = key;
+
+                final RowIterator iter = iterate(sql, statementSetter, pageJdbcSettings, newParameters);
+
+                try {
+                    synchronized (columnLabels) {
+                        if (columnLabels.size() == 0) {
+                            columnLabels.addAll(iter.columnLabels());
+                        }
+                    }
+
+                    final List<Object[]> rows = new ArrayList<>(pageSize);
+
+                    while (iter.hasNext()) {
+                        rows.add(iter.next());
+                    }
+
+                    return rows;
+                } finally {
+                    IOUtil.closeQuietly(iter);
+                }
+            }
+        };
+
+        final Function<Object[], Object> keyExtractor = new Function<Object[], Object>() {
+            private int keyColumnIndex = -1;
+
+            @Override
+            public Object apply(final Object[] row) {
+                if (keyColumnIndex < 0) {
+                    synchronized (columnLabels) {
+                        keyColumnIndex = JdbcUtil.getColumnIndex(columnLabels, keyColumnName);
+                    }
+                }
+
+                return row[keyColumnIndex];
+            }
+        };
+
+        final KeysetPageIterator iter = new KeysetPageIterator(pageLoader, keyExtractor, startKey, pageSize, _asyncExecutor);
+        final Stream<Object[]> s = skipAndLimit(Stream.of(iter), jdbcSettings);
+
+        return (targetClass == null ? (Stream<T>) s : s.map(new Function<Object[], T>() {
+            private Function<Object[], T> mapper = null;
+
+            @Override
+            public T apply(final Object[] a) {
+                if (mapper == null) {
+                    synchronized (columnLabels) {
+                        mapper = newMapper(targetClass, columnLabels.toArray(new String[columnLabels.size()]));
+                    }
+                }
+
+                return mapper.apply(a);
+            }
+        })).onClose(new Runnable() {
+            @Override
+            public void run() {
+                IOUtil.closeQuietly(iter);
+            }
+        }).tried();
+    }
+
     /**
      * Execute the sql with the specified parameters.
      * 
@@ -2938,7 +3262,19 @@ public final class SQLExecutor implements Closeable {
     }
 
     protected void closeQuietly(final ResultSet rs, final PreparedStatement stmt, final Connection localConn, final Connection inputConn) {
-        JdbcUtil.closeQuietly(rs, stmt, inputConn == null ? localConn : null);
+        if (_stmtCache == null || stmt == null) {
+            JdbcUtil.closeQuietly(rs, stmt, inputConn == null ? localConn : null);
+        } else {
+            JdbcUtil.closeQuietly(rs);
+
+            if (_stmtCache.release(stmt) == false) {
+                JdbcUtil.closeQuietly(stmt);
+            }
+
+            if (inputConn == null) {
+                JdbcUtil.closeQuietly(localConn);
+            }
+        }
     }
 
     /**
@@ -2946,6 +3282,10 @@ public final class SQLExecutor implements Closeable {
      */
     @Override
     public void close() throws IOException {
+        if (_stmtCache != null) {
+            _stmtCache.clear();
+        }
+
         try {
             if (_ds != null && _ds.isClosed() == false) {
                 _ds.close();
@@ -3097,6 +3437,41 @@ public final class SQLExecutor implements Closeable {
         }
 
         PreparedStatement stmt = null;
+        String cacheKey = null;
+
+        if (_stmtCache != null && sql.length() <= CACHED_SQL_LENGTH) {
+            cacheKey = getStatementCacheKey(sql, jdbcSettings, autoGeneratedKeys);
+            stmt = _stmtCache.get(localConn, cacheKey);
+        }
+
+        if (stmt == null) {
+            stmt = prepareStatement(localConn, sql, jdbcSettings, autoGeneratedKeys);
+
+            if (cacheKey != null) {
+                _stmtCache.add(localConn, cacheKey, stmt);
+            }
+        }
+
+        if (isBatch || N.isNullOrEmpty(parameters)) {
+            // ignore
+        } else {
+            statementSetter.setParameters(namedSQL, stmt, parameters);
+        }
+
+        if ((jdbcSettings != null) && jdbcSettings.isLogSQL() && logger.isInfoEnabled()) {
+            if (N.isNullOrEmpty(parameters)) {
+                logger.info(sql);
+            } else {
+                logger.info(sql + " {" + N.deepToString(parameters) + "}");
+            }
+        }
+
+        return stmt;
+    }
+
+    private PreparedStatement prepareStatement(final Connection localConn, final String sql, final JdbcSettings jdbcSettings, final int autoGeneratedKeys)
+            throws SQLException {
+        PreparedStatement stmt = null;
 
         if (jdbcSettings == null) {
             stmt = localConn.prepareStatement(sql);
@@ -3152,21 +3527,21 @@ public final class SQLExecutor implements Closeable {
             }
         }
 
-        if (isBatch || N.isNullOrEmpty(parameters)) {
-            // ignore
-        } else {
-            statementSetter.setParameters(namedSQL, stmt, parameters);
-        }
+        return stmt;
+    }
 
-        if ((jdbcSettings != null) && jdbcSettings.isLogSQL() && logger.isInfoEnabled()) {
-            if (N.isNullOrEmpty(parameters)) {
-                logger.info(sql);
-            } else {
-                logger.info(sql + " {" + N.deepToString(parameters) + "}");
-            }
+    /**
+     * The statements are cached by sql and the settings used to create them, because the settings are not reset when they're reused.
+     */
+    private static String getStatementCacheKey(final String sql, final JdbcSettings jdbcSettings, final int autoGeneratedKeys) {
+        if (jdbcSettings == null) {
+            return sql;
         }
 
-        return stmt;
+        return sql + "\n" + autoGeneratedKeys + ", " + jdbcSettings.getAutoGeneratedKeys() + ", " + N.toString(jdbcSettings.getColumnIndexes()) + ", "
+                + N.toString(jdbcSettings.getColumnNames()) + ", " + jdbcSettings.getResultSetType() + ", " + jdbcSettings.getResultSetConcurrency() + ", "
+                + jdbcSettings.getResultSetHoldability() + ", " + jdbcSettings.getFetchSize() + ", " + jdbcSettings.getMaxRows() + ", "
+                + jdbcSettings.getMaxFieldSize() + ", " + jdbcSettings.getFetchDirection() + ", " + jdbcSettings.getQueryTimeout();
     }
 
     /**
@@ -3195,6 +3570,33 @@ public final class SQLExecutor implements Closeable {
         return labelList;
     }
 
+    /**
+     * The plan to read the columns is created from {@code ResultSetMetaData} only once for the same sql.
+     * 
+     * @param sql
+     * @param rs
+     * @return
+     * @throws SQLException
+     */
+    static ColumnTypePlan getColumnTypePlan(final String sql, final ResultSet rs) throws SQLException {
+        ColumnTypePlan plan = N.notNullOrEmpty(sql) ? _sqlColumnTypePlanPool.get(sql) : null;
+
+        if (plan == null) {
+            plan = ColumnTypePlan.of(rs.getMetaData());
+
+            if (N.notNullOrEmpty(sql) && sql.length() <= CACHED_SQL_LENGTH) {
+                if (_sqlColumnTypePlanPool.size() >= SQL_CACHE_SIZE) {
+                    final List<String> tmp = new ArrayList<>(_sqlColumnTypePlanPool.keySet());
+                    Maps.removeKeys(_sqlColumnTypePlanPool, tmp.subList(0, (int) (tmp.size() * 0.25)));
+                }
+
+                _sqlColumnTypePlanPool.put(sql, plan);
+            }
+        }
+
+        return plan;
+    }
+
     protected static boolean isEntityOrMapParameter(final NamedSQL namedSQL, final Object... parameters) {
         Map<Integer, String> namedParameters = namedSQL.getNamedParameters();
 
@@ -5852,24 +6254,24 @@ public final class SQLExecutor implements Closeable {
             final List<String> columnLabelList = getColumnLabelList(namedSQL, rs);
             final int columnCount = columnLabelList.size();
             final List<String> columnNameList = new ArrayList<>(columnCount);
-            final List<List<Object>> columnList = new ArrayList<>(columnCount);
 
             for (int i = 0; i < columnCount; i++) {
                 columnNameList.add(columnLabelList.get(i));
-                columnList.add(new ArrayList<>());
             }
 
             long offset = jdbcSettings.getOffset();
             long count = jdbcSettings.getCount();
 
+            final ColumnTypePlan plan = getColumnTypePlan(namedSQL.getPureSQL(), rs);
+            final int fetchSize = jdbcSettings.getFetchSize() > 0 ? jdbcSettings.getFetchSize() : rs.getFetchSize();
+            final List<List<Object>> columnList = plan.newColumns(ColumnTypePlan.initialCapacity(fetchSize, count));
+
             while ((offset-- > 0) && rs.next()) {
             }
 
             if (offset <= 0) {
                 while ((count-- > 0) && rs.next()) {
-                    for (int i = 0; i < columnCount;) {
-                        columnList.get(i).add(rs.getObject(++i));
-                    }
+                    plan.addRow(rs, columnList);
                 }
             }
 
@@ -5933,6 +6335,10 @@ public final class SQLExecutor implements Closeable {
         private Collection<String> queryWithDataSources;
         private boolean queryInParallel = false;
         private IsolationLevel isolationLevel = null;
+        private int statementCacheSize = 0;
+        private boolean adaptiveBatchSize = false;
+        private boolean multiRowInsert = false;
+        private Map<String, SortDirection> mergeOrderBy = null;
 
         private boolean fozen = false;
 
@@ -5964,6 +6370,10 @@ public final class SQLExecutor implements Closeable {
             copy.queryWithDataSource = this.queryWithDataSource;
             copy.queryWithDataSources = this.queryWithDataSources == null ? null : new ArrayList<>(this.queryWithDataSources);
             copy.queryInParallel = this.queryInParallel;
+            copy.statementCacheSize = this.statementCacheSize;
+            copy.adaptiveBatchSize = this.adaptiveBatchSize;
+            copy.multiRowInsert = this.multiRowInsert;
+            copy.mergeOrderBy = this.mergeOrderBy == null ? null : new LinkedHashMap<>(this.mergeOrderBy);
 
             return copy;
         }
@@ -6216,6 +6626,97 @@ public final class SQLExecutor implements Closeable {
             return this;
         }
 
+        public int getStatementCacheSize() {
+            return statementCacheSize;
+        }
+
+        /**
+         * The max number of the {@code PreparedStatement}s cached for each connection by the {@code SQLExecutor} created with this {@code JdbcSettings}.
+         * The statements are not closed after the execution and reused for the same sql on the same connection. Default is 0: not cached.
+         * It's only used when it's set to the {@code JdbcSettings} of {@code SQLExecutor} and doesn't work for the one passed to a query/update.
+         * 
+         * @param statementCacheSize
+         * @return
+         * @see SQLExecutor#statementCacheStats()
+         */
+        public JdbcSettings setStatementCacheSize(final int statementCacheSize) {
+            assertNotFrozen();
+
+            this.statementCacheSize = statementCacheSize;
+
+            return this;
+        }
+
+        public boolean isAdaptiveBatchSize() {
+            return adaptiveBatchSize;
+        }
+
+        /**
+         * If it's {@code true}, the batch size of {@code batchInsert/batchUpdate} starts from {@code batchSize} and is doubled or halved
+         * (between {@code batchSize / 8} and {@code batchSize * 8}) by the observed latency of {@code executeBatch} to get the best throughput.
+         * 
+         * @param adaptiveBatchSize
+         * @return
+         */
+        public JdbcSettings setAdaptiveBatchSize(final boolean adaptiveBatchSize) {
+            assertNotFrozen();
+
+            this.adaptiveBatchSize = adaptiveBatchSize;
+
+            return this;
+        }
+
+        public boolean isMultiRowInsert() {
+            return multiRowInsert;
+        }
+
+        /**
+         * If it's {@code true}, the rows of a batch in {@code batchInsert/batchUpdate} with sql: {@code INSERT ... VALUES (?, ?...)} are inserted by one
+         * multi-row insert sql: {@code INSERT ... VALUES (?, ?...), (?, ?...), ...}, for the drivers which don't rewrite the batch insert
+         * (e.g. MySQL without {@code rewriteBatchedStatements=true}). At most 2000 parameters are set to one statement.
+         * The generated keys of all the rows are returned only if the driver supports it for multi-row insert.
+         * 
+         * @param multiRowInsert
+         * @return
+         * @see SQLBuilder#toMultiRowInsert(String, int)
+         */
+        public JdbcSettings setMultiRowInsert(final boolean multiRowInsert) {
+            assertNotFrozen();
+
+            this.multiRowInsert = multiRowInsert;
+
+            return this;
+        }
+
+        public Map<String, SortDirection> getMergeOrderBy() {
+            return mergeOrderBy;
+        }
+
+        /**
+         * The order by columns of the query in {@code queryAll/streamAll} with multiple data sources (set by {@code setQueryWithDataSources}) or multiple sqls.
+         * If it's set, the rows from all the data sources/sqls, each of which must be sorted by the same order in the sql, are merged by the order as they're read,
+         * instead of being concatenated. The {@code offset/count} is applied to the merged rows, and each data source/sql only reads {@code offset + count} rows
+         * at most, by {@code count} and {@code maxRows}. The queries are closed as soon as {@code offset + count} rows are merged or the stream is closed.
+         * 
+         * <pre>
+         * <code>
+         * // top 100 across all the shards. Only about 100 rows are read from each shard.
+         * JdbcSettings.create().setQueryWithDataSources(shards).setQueryInParallel(true).setMergeOrderBy(N.asLinkedHashMap("score", SortDirection.DESC)).setCount(100);
+         * sqlExecutor.queryAll("SELECT id, score FROM account ORDER BY score DESC", jdbcSettings);
+         * </code>
+         * </pre>
+         * 
+         * @param mergeOrderBy the column labels in the result and the directions, in the same order as the {@code ORDER BY} in the sql.
+         * @return
+         */
+        public JdbcSettings setMergeOrderBy(final Map<String, SortDirection> mergeOrderBy) {
+            assertNotFrozen();
+
+            this.mergeOrderBy = mergeOrderBy;
+
+            return this;
+        }
+
         void freeze() {
             fozen = true;
         }
@@ -6250,6 +6751,10 @@ public final class SQLExecutor implements Closeable {
             result = (prime * result) + ((queryWithDataSources == null) ? 0 : queryWithDataSources.hashCode());
             result = (prime * result) + (queryInParallel ? 1231 : 1237);
             result = (prime * result) + ((isolationLevel == null) ? 0 : isolationLevel.hashCode());
+            result = (prime * result) + statementCacheSize;
+            result = (prime * result) + (adaptiveBatchSize ? 1231 : 1237);
+            result = (prime * result) + (multiRowInsert ? 1231 : 1237);
+            result = (prime * result) + ((mergeOrderBy == null) ? 0 : mergeOrderBy.hashCode());
 
             return result;
         }
@@ -6271,7 +6776,9 @@ public final class SQLExecutor implements Closeable {
                         && N.equals(resultSetHoldability, other.resultSetHoldability) && N.equals(offset, other.offset) && N.equals(count, other.count)
                         && N.equals(generatedIdPropName, other.generatedIdPropName) && N.equals(queryWithDataSource, other.queryWithDataSource)
                         && N.equals(queryWithDataSources, other.queryWithDataSources) && N.equals(queryInParallel, other.queryInParallel)
-                        && N.equals(isolationLevel, other.isolationLevel);
+                        && N.equals(isolationLevel, other.isolationLevel) && N.equals(statementCacheSize, other.statementCacheSize)
+                        && N.equals(adaptiveBatchSize, other.adaptiveBatchSize) && N.equals(multiRowInsert, other.multiRowInsert)
+                        && N.equals(mergeOrderBy, other.mergeOrderBy);
             }
 
             return false;
@@ -6284,7 +6791,54 @@ public final class SQLExecutor implements Closeable {
                     + maxFieldSize + ", fetchSize=" + fetchSize + ", fetchDirection=" + fetchDirection + ", resultSetType=" + resultSetType
                     + ", resultSetConcurrency=" + resultSetConcurrency + ", resultSetHoldability=" + resultSetHoldability + ", offset=" + offset + ", count="
                     + count + ", generatedIdPropName=" + generatedIdPropName + ", queryWithDataSource=" + queryWithDataSource + ", queryWithDataSources="
-                    + queryWithDataSources + ", queryInParallel=" + queryInParallel + ", isolationLevel=" + isolationLevel + "}";
+                    + queryWithDataSources + ", queryInParallel=" + queryInParallel + ", isolationLevel=" + isolationLevel + ", statementCacheSize="
+                    + statementCacheSize + ", adaptiveBatchSize=" + adaptiveBatchSize + ", multiRowInsert=" + multiRowInsert
+                    + ", mergeOrderBy=" + mergeOrderBy + "}";
+        }
+    }
+
+    /**
+     * Statistics of the {@code PreparedStatement} cache in {@code SQLExecutor}.
+     * 
+     * @see SQLExecutor#statementCacheStats()
+     * @see JdbcSettings#setStatementCacheSize(int)
+     */
+    public static final class StatementCacheStats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        StatementCacheStats(final long hitCount, final long missCount, final long evictionCount, final int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * 
+         * @return the number of the statements in the cache now.
+         */
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "{hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", size=" + size + "}";
         }
     }
 
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util;
+
+import java.util.Arrays;
+
+/**
+ * Selection of the kth smallest values and the top n values from primitive arrays, without boxing,
+ * used by {@code N.kthLargest/median/top/selectPercentiles}.
+ * <br />
+ * The kth smallest value is found by introselect: quickselect with median-of-three pivot and three-way partition (so the duplicated values
+ * don't make it quadratic), which falls back to {@code Arrays.sort} on the remaining range if it doesn't converge in {@code 2 * log2(n)} partitions.
+ * Multiple positions are selected together: the range is partitioned once and only the parts which contain any of the positions are partitioned further,
+ * so selecting {@code m} positions takes {@code O(n * log(m))} instead of {@code O(n * log(n))} by sorting.
+ * <br />
+ * The top n values are kept in a primitive min-heap of size n, from arrays or from the primitive iterators of the streams.
+ * {@code double} values are selected by the keys with the same order as {@code Double.compare}.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class Select {
+    /**
+     * The ranges shorter than it are sorted.
+     */
+    private static final int SORT_THRESHOLD = 16;
+
+    private Select() {
+        // singleton.
+    }
+
+    /**
+     * The array is partially reordered.
+     *
+     * @param a
+     * @param fromIndex
+     * @param toIndex
+     * @param k the position in the array, from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     * @return the value at position {@code k} if the range was sorted.
+     */
+    static int kthSmallest(final int[] a, final int fromIndex, final int toIndex, final int k) {
+        select(a, fromIndex, toIndex - 1, new int[] { k }, 0, 1, maxDepth(toIndex - fromIndex));
+
+        return a[k];
+    }
+
+    static long kthSmallest(final long[] a, final int fromIndex, final int toIndex, final int k) {
+        select(a, fromIndex, toIndex - 1, new int[] { k }, 0, 1, maxDepth(toIndex - fromIndex));
+
+        return a[k];
+    }
+
+    /**
+     * Moves the values which would be at the specified positions if the range was sorted to the positions. The array is partially reordered.
+     *
+     * @param a
+     * @param fromIndex
+     * @param toIndex
+     * @param positions sorted positions in the range.
+     */
+    static void select(final int[] a, final int fromIndex, final int toIndex, final int[] positions) {
+        select(a, fromIndex, toIndex - 1, positions, 0, positions.length, maxDepth(toIndex - fromIndex));
+    }
+
+    static void select(final long[] a, final int fromIndex, final int toIndex, final int[] positions) {
+        select(a, fromIndex, toIndex - 1, positions, 0, positions.length, maxDepth(toIndex - fromIndex));
+    }
+
+    private static int maxDepth(final int len) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(len));
+    }
+
+    /**
+     *
+     * @param a
+     * @param lo inclusive
+     * @param hi inclusive
+     * @param positions
+     * @param from the first position to select, inclusive.
+     * @param to the last position to select, exclusive.
+     * @param depth
+     */
+    private static void select(final int[] a, int lo, int hi, final int[] positions, int from, int to, int depth) {
+        while (from < to && lo < hi) {
+            if (hi - lo < SORT_THRESHOLD || depth-- == 0) {
+                Arrays.sort(a, lo, hi + 1);
+                return;
+            }
+
+            final int pivot = median(a[lo], a[(lo + hi) >>> 1], a[hi]);
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+
+            // a[lo, lt) < pivot, a[lt, gt] == pivot, a(gt, hi] > pivot.
+            while (i <= gt) {
+                final int v = a[i];
+
+                if (v < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                } else if (v > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                } else {
+                    i++;
+                }
+            }
+
+            final int leftTo = lowerBound(positions, from, to, lt);
+            final int rightFrom = lowerBound(positions, leftTo, to, gt + 1);
+
+            // recurse into the smaller side, loop on the other.
+            if (leftTo - from <= to - rightFrom) {
+                select(a, lo, lt - 1, positions, from, leftTo, depth);
+                lo = gt + 1;
+                from = rightFrom;
+            } else {
+                select(a, gt + 1, hi, positions, rightFrom, to, depth);
+                hi = lt - 1;
+                to = leftTo;
+            }
+        }
+    }
+
+    private static void select(final long[] a, int lo, int hi, final int[] positions, int from, int to, int depth) {
+        while (from < to && lo < hi) {
+            if (hi - lo < SORT_THRESHOLD || depth-- == 0) {
+                Arrays.sort(a, lo, hi + 1);
+                return;
+            }
+
+            final long pivot = median(a[lo], a[(lo + hi) >>> 1], a[hi]);
+            int lt = lo;
+            int gt = hi;
+            int i = lo;
+
+            // a[lo, lt) < pivot, a[lt, gt] == pivot, a(gt, hi] > pivot.
+            while (i <= gt) {
+                final long v = a[i];
+
+                if (v < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                } else if (v > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                } else {
+                    i++;
+                }
+            }
+
+            final int leftTo = lowerBound(positions, from, to, lt);
+            final int rightFrom = lowerBound(positions, leftTo, to, gt + 1);
+
+            // recurse into the smaller side, loop on the other.
+            if (leftTo - from <= to - rightFrom) {
+                select(a, lo, lt - 1, positions, from, leftTo, depth);
+                lo = gt + 1;
+                from = rightFrom;
+            } else {
+                select(a, gt + 1, hi, positions, rightFrom, to, depth);
+                hi = lt - 1;
+                to = leftTo;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the first index in {@code positions[from, to)} whose value is not less than {@code key}.
+     */
+    private static int lowerBound(final int[] positions, int from, int to, final int key) {
+        while (from < to) {
+            final int mid = (from + to) >>> 1;
+
+            if (positions[mid] < key) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+
+        return from;
+    }
+
+    private static int median(final int a, final int b, final int c) {
+        return a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+    }
+
+    private static long median(final long a, final long b, final long c) {
+        return a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+    }
+
+    /**
+     *
+     * @param a
+     * @param fromIndex
+     * @param toIndex
+     * @param n less than {@code toIndex - fromIndex}.
+     * @return the n largest values, in no particular order.
+     */
+    static int[] top(final int[] a, final int fromIndex, final int toIndex, final int n) {
+        final int[] heap = N.copyOfRange(a, fromIndex, fromIndex + n);
+
+        heapify(heap);
+
+        for (int i = fromIndex + n; i < toIndex; i++) {
+            if (a[i] > heap[0]) {
+                siftDown(heap, 0, a[i], n);
+            }
+        }
+
+        return heap;
+    }
+
+    static long[] top(final long[] a, final int fromIndex, final int toIndex, final int n) {
+        final long[] heap = N.copyOfRange(a, fromIndex, fromIndex + n);
+
+        heapify(heap);
+
+        for (int i = fromIndex + n; i < toIndex; i++) {
+            if (a[i] > heap[0]) {
+                siftDown(heap, 0, a[i], n);
+            }
+        }
+
+        return heap;
+    }
+
+    static double[] top(final double[] a, final int fromIndex, final int toIndex, final int n) {
+        final long[] heap = toKeys(a, fromIndex, fromIndex + n);
+
+        heapify(heap);
+
+        for (int i = fromIndex + n; i < toIndex; i++) {
+            final long key = toKey(a[i]);
+
+            if (key > heap[0]) {
+                siftDown(heap, 0, key, n);
+            }
+        }
+
+        return fromKeys(heap);
+    }
+
+    /**
+     * The elements are read once. The heap grows up to size n as the elements are read, so {@code n} can be larger than the number of elements.
+     *
+     * @param iter
+     * @param n
+     * @return the n largest values, in no particular order. Or all the values if there are no more than n.
+     */
+    static int[] top(final IntIterator iter, final int n) {
+        int[] heap = new int[Math.min(n, SORT_THRESHOLD)];
+        int size = 0;
+
+        while (size < n && iter.hasNext()) {
+            if (size == heap.length) {
+                heap = N.copyOf(heap, (int) Math.min(n, heap.length * 2L));
+            }
+
+            heap[size++] = iter.nextInt();
+        }
+
+        if (size < n) {
+            return size == heap.length ? heap : N.copyOf(heap, size);
+        }
+
+        heapify(heap);
+
+        int next = 0;
+
+        while (iter.hasNext()) {
+            next = iter.nextInt();
+
+            if (next > heap[0]) {
+                siftDown(heap, 0, next, n);
+            }
+        }
+
+        return heap;
+    }
+
+    static long[] top(final LongIterator iter, final int n) {
+        long[] heap = new long[Math.min(n, SORT_THRESHOLD)];
+        int size = 0;
+
+        while (size < n && iter.hasNext()) {
+            if (size == heap.length) {
+                heap = N.copyOf(heap, (int) Math.min(n, heap.length * 2L));
+            }
+
+            heap[size++] = iter.nextLong();
+        }
+
+        if (size < n) {
+            return size == heap.length ? heap : N.copyOf(heap, size);
+        }
+
+        heapify(heap);
+
+        long next = 0;
+
+        while (iter.hasNext()) {
+            next = iter.nextLong();
+
+            if (next > heap[0]) {
+                siftDown(heap, 0, next, n);
+            }
+        }
+
+        return heap;
+    }
+
+    static double[] top(final DoubleIterator iter, final int n) {
+        long[] heap = new long[Math.min(n, SORT_THRESHOLD)];
+        int size = 0;
+
+        while (size < n && iter.hasNext()) {
+            if (size == heap.length) {
+                heap = N.copyOf(heap, (int) Math.min(n, heap.length * 2L));
+            }
+
+            heap[size++] = toKey(iter.nextDouble());
+        }
+
+        if (size < n) {
+            return fromKeys(size == heap.length ? heap : N.copyOf(heap, size));
+        }
+
+        heapify(heap);
+
+        long key = 0;
+
+        while (iter.hasNext()) {
+            key = toKey(iter.nextDouble());
+
+            if (key > heap[0]) {
+                siftDown(heap, 0, key, n);
+            }
+        }
+
+        return fromKeys(heap);
+    }
+
+    private static void heapify(final int[] heap) {
+        for (int i = (heap.length >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, i, heap[i], heap.length);
+        }
+    }
+
+    private static void heapify(final long[] heap) {
+        for (int i = (heap.length >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, i, heap[i], heap.length);
+        }
+    }
+
+    /**
+     * Puts the value at position {@code pos} of the min-heap and moves it down to keep the heap order.
+     */
+    private static void siftDown(final int[] heap, int pos, final int value, final int size) {
+        final int half = size >>> 1;
+
+        while (pos < half) {
+            int child = (pos << 1) + 1;
+
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+
+            if (value <= heap[child]) {
+                break;
+            }
+
+            heap[pos] = heap[child];
+            pos = child;
+        }
+
+        heap[pos] = value;
+    }
+
+    private static void siftDown(final long[] heap, int pos, final long value, final int size) {
+        final int half = size >>> 1;
+
+        while (pos < half) {
+            int child = (pos << 1) + 1;
+
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+
+            if (value <= heap[child]) {
+                break;
+            }
+
+            heap[pos] = heap[child];
+            pos = child;
+        }
+
+        heap[pos] = value;
+    }
+
+    /**
+     * Maps the double value to a long key whose order is the order of {@code Double.compare}.
+     * All the {@code NaN} values are mapped to the key of {@code Double.NaN}. The mapping is its own inverse.
+     *
+     * @param d
+     * @return
+     */
+    static long toKey(final double d) {
+        final long bits = Double.doubleToLongBits(d);
+
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static double fromKey(final long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    private static double[] fromKeys(final long[] keys) {
+        final double[] a = new double[keys.length];
+
+        for (int i = 0, len = keys.length; i < len; i++) {
+            a[i] = fromKey(keys[i]);
+        }
+
+        return a;
+    }
+
+    static long[] toKeys(final double[] a, final int fromIndex, final int toIndex) {
+        final long[] keys = new long[toIndex - fromIndex];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            keys[i - fromIndex] = toKey(a[i]);
+        }
+
+        return keys;
+    }
+}
@@ -643,12 +643,12 @@ public final class ShortList extends PrimitiveList<Short, short[], ShortList> {
             return new ShortList();
         }
 
-        final Multiset<Short> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final ShortList c = new ShortList(N.min(9, size(), b.size()));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(elementData[i]) > 0) {
                 c.add(elementData[i]);
             }
         }
@@ -675,12 +675,12 @@ public final class ShortList extends PrimitiveList<Short, short[], ShortList> {
             return of(N.copyOfRange(elementData, 0, size()));
         }
 
-        final Multiset<Short> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
 
         final ShortList c = new ShortList(N.min(size(), N.max(9, size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
@@ -709,17 +709,17 @@ public final class ShortList extends PrimitiveList<Short, short[], ShortList> {
             return b.copy();
         }
 
-        final Multiset<Short> bOccurrences = b.toMultiset();
+        final IntIntMap bOccurrences = occurrences(b);
         final ShortList c = new ShortList(N.max(9, Math.abs(size() - b.size())));
 
         for (int i = 0, len = size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(elementData[i]) < 1) {
+            if (bOccurrences.getAndDecrement(elementData[i]) < 1) {
                 c.add(elementData[i]);
             }
         }
 
         for (int i = 0, len = b.size(); i < len; i++) {
-            if (bOccurrences.getAndRemove(b.elementData[i]) > 0) {
+            if (bOccurrences.getAndDecrement(b.elementData[i]) > 0) {
                 c.add(b.elementData[i]);
             }
 
@@ -731,6 +731,21 @@ public final class ShortList extends PrimitiveList<Short, short[], ShortList> {
         return c;
     }
 
+    /**
+     *
+     * @param list
+     * @return the occurrences of the elements in the specified list.
+     */
+    private static IntIntMap occurrences(final ShortList list) {
+        final IntIntMap occurrences = new IntIntMap(list.size());
+
+        for (int i = 0, len = list.size(); i < len; i++) {
+            occurrences.addAndGet(list.elementData[i], 1);
+        }
+
+        return occurrences;
+    }
+
     public ShortList symmetricDifference(final short[] a) {
         if (N.isNullOrEmpty(a)) {
             return of(N.copyOfRange(elementData, 0, size()));
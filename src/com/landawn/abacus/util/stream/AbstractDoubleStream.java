@@ -960,23 +960,35 @@ abstract class AbstractDoubleStream extends DoubleStream {
 
     @Override
     public Optional<Map<Percentage, Double>> percentiles() {
-        final double[] a = sorted().toArray();
+        final double[] a = toArray();
 
         if (a.length == 0) {
             return Optional.empty();
         }
 
-        return Optional.of(N.percentiles(a));
+        return Optional.of(N.selectPercentiles(a));
     }
 
     @Override
     public Pair<DoubleSummaryStatistics, Optional<Map<Percentage, Double>>> summarizze() {
-        final double[] a = sorted().toArray();
+        final double[] a = toArray();
 
         if (N.isNullOrEmpty(a)) {
             return Pair.of(new DoubleSummaryStatistics(), Optional.<Map<Percentage, Double>> empty());
         } else {
-            return Pair.of(new DoubleSummaryStatistics(a.length, sum(a), a[0], a[a.length - 1]), Optional.of(N.percentiles(a)));
+            // same as the first and last elements after sorted: by Double.compare.
+            double min = a[0];
+            double max = a[0];
+
+            for (double e : a) {
+                if (Double.compare(e, min) < 0) {
+                    min = e;
+                } else if (Double.compare(e, max) > 0) {
+                    max = e;
+                }
+            }
+
+            return Pair.of(new DoubleSummaryStatistics(a.length, sum(a), min, max), Optional.of(N.selectPercentiles(a)));
         }
     }
 
@@ -15,11 +15,9 @@
 package com.landawn.abacus.util.stream;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.landawn.abacus.util.Fn;
@@ -27,6 +25,7 @@ import com.landawn.abacus.util.IndexedInt;
 import com.landawn.abacus.util.IntIterator;
 import com.landawn.abacus.util.IntList;
 import com.landawn.abacus.util.IntMatrix;
+import com.landawn.abacus.util.IntSet;
 import com.landawn.abacus.util.IntSummaryStatistics;
 import com.landawn.abacus.util.Joiner;
 import com.landawn.abacus.util.Multiset;
@@ -353,7 +352,7 @@ abstract class AbstractIntStream extends IntStream {
 
     @Override
     public IntStream distinct() {
-        final Set<Object> set = new HashSet<>();
+        final IntSet set = new IntSet();
 
         return newStream(this.sequential().filter(new IntPredicate() {
             @Override
@@ -896,23 +895,23 @@ abstract class AbstractIntStream extends IntStream {
 
     @Override
     public Optional<Map<Percentage, Integer>> percentiles() {
-        final int[] a = sorted().toArray();
+        final int[] a = toArray();
 
         if (a.length == 0) {
             return Optional.empty();
         }
 
-        return Optional.of(N.percentiles(a));
+        return Optional.of(N.selectPercentiles(a));
     }
 
     @Override
     public Pair<IntSummaryStatistics, Optional<Map<Percentage, Integer>>> summarizze() {
-        final int[] a = sorted().toArray();
+        final int[] a = toArray();
 
         if (N.isNullOrEmpty(a)) {
             return Pair.of(new IntSummaryStatistics(), Optional.<Map<Percentage, Integer>> empty());
         } else {
-            return Pair.of(new IntSummaryStatistics(a.length, sum(a), a[0], a[a.length - 1]), Optional.of(N.percentiles(a)));
+            return Pair.of(new IntSummaryStatistics(a.length, sum(a), N.min(a), N.max(a)), Optional.of(N.selectPercentiles(a)));
         }
     }
 
@@ -15,11 +15,9 @@
 package com.landawn.abacus.util.stream;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Random;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.landawn.abacus.util.Fn;
@@ -28,6 +26,7 @@ import com.landawn.abacus.util.Joiner;
 import com.landawn.abacus.util.LongIterator;
 import com.landawn.abacus.util.LongList;
 import com.landawn.abacus.util.LongMatrix;
+import com.landawn.abacus.util.LongSet;
 import com.landawn.abacus.util.LongSummaryStatistics;
 import com.landawn.abacus.util.Multiset;
 import com.landawn.abacus.util.MutableLong;
@@ -352,7 +351,7 @@ abstract class AbstractLongStream extends LongStream {
 
     @Override
     public LongStream distinct() {
-        final Set<Object> set = new HashSet<>();
+        final LongSet set = new LongSet();
 
         return newStream(this.sequential().filter(new LongPredicate() {
             @Override
@@ -895,23 +894,23 @@ abstract class AbstractLongStream extends LongStream {
 
     @Override
     public Optional<Map<Percentage, Long>> percentiles() {
-        final long[] a = sorted().toArray();
+        final long[] a = toArray();
 
         if (a.length == 0) {
             return Optional.empty();
         }
 
-        return Optional.of(N.percentiles(a));
+        return Optional.of(N.selectPercentiles(a));
     }
 
     @Override
     public Pair<LongSummaryStatistics, Optional<Map<Percentage, Long>>> summarizze() {
-        final long[] a = sorted().toArray();
+        final long[] a = toArray();
 
         if (N.isNullOrEmpty(a)) {
             return Pair.of(new LongSummaryStatistics(), Optional.<Map<Percentage, Long>> empty());
         } else {
-            return Pair.of(new LongSummaryStatistics(a.length, sum(a), a[0], a[a.length - 1]), Optional.of(N.percentiles(a)));
+            return Pair.of(new LongSummaryStatistics(a.length, sum(a), N.min(a), N.max(a)), Optional.of(N.selectPercentiles(a)));
         }
     }
 
@@ -50,6 +50,7 @@ import com.landawn.abacus.util.Fn;
 import com.landawn.abacus.util.IOUtil;
 import com.landawn.abacus.util.Indexed;
 import com.landawn.abacus.util.Iterators;
+import com.landawn.abacus.util.JdbcUtil;
 import com.landawn.abacus.util.Joiner;
 import com.landawn.abacus.util.ListMultimap;
 import com.landawn.abacus.util.Matrix;
@@ -2447,6 +2448,12 @@ abstract class AbstractStream<T> extends Stream<T> {
         }
     }
 
+    @Override
+    public long persist(final Connection conn, final String insertSQL, final int batchSize, final int batchInterval, final boolean adaptiveBatchSize,
+            final boolean multiRowInsert, final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter) {
+        return JdbcUtil.importData(iterator(), conn, insertSQL, batchSize, batchInterval, adaptiveBatchSize, multiRowInsert, stmtSetter);
+    }
+
     @Override
     public long persist(final PreparedStatement stmt, final int batchSize, final int batchInterval,
             final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter) {
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteIterator;
 import com.landawn.abacus.util.ByteList;
 import com.landawn.abacus.util.ByteSummaryStatistics;
@@ -1465,8 +1466,8 @@ class ArrayByteStream extends AbstractByteStream {
     }
 
     @Override
-    public ByteStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+    public ByteStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.DoubleIterator;
 import com.landawn.abacus.util.DoubleList;
 import com.landawn.abacus.util.DoubleSummaryStatistics;
@@ -1211,7 +1212,8 @@ class ArrayDoubleStream extends AbstractDoubleStream {
             private void init() {
                 if (initialized == false) {
                     initialized = true;
-                    aar = N.top(elements, fromIndex, toIndex, n, comparator);
+                    aar = isSameComparator(comparator, DOUBLE_COMPARATOR) ? N.top(elements, fromIndex, toIndex, n)
+                            : N.top(elements, fromIndex, toIndex, n, comparator);
                     to = aar.length;
                 }
             }
@@ -1740,8 +1742,8 @@ class ArrayDoubleStream extends AbstractDoubleStream {
     }
 
     @Override
-    public DoubleStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelArrayDoubleStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+    public DoubleStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelArrayDoubleStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
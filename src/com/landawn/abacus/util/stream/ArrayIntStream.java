@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteIterator;
 import com.landawn.abacus.util.CharIterator;
 import com.landawn.abacus.util.DoubleIterator;
@@ -1548,7 +1549,8 @@ class ArrayIntStream extends AbstractIntStream {
             private void init() {
                 if (initialized == false) {
                     initialized = true;
-                    aar = N.top(elements, fromIndex, toIndex, n, comparator);
+                    aar = isSameComparator(comparator, INT_COMPARATOR) ? N.top(elements, fromIndex, toIndex, n)
+                            : N.top(elements, fromIndex, toIndex, n, comparator);
                     to = aar.length;
                 }
             }
@@ -2217,8 +2219,8 @@ class ArrayIntStream extends AbstractIntStream {
     }
 
     @Override
-    public IntStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelArrayIntStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+    public IntStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelArrayIntStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.DoubleIterator;
 import com.landawn.abacus.util.FloatIterator;
 import com.landawn.abacus.util.IntIterator;
@@ -1212,7 +1213,8 @@ class ArrayLongStream extends AbstractLongStream {
             private void init() {
                 if (initialized == false) {
                     initialized = true;
-                    aar = N.top(elements, fromIndex, toIndex, n, comparator);
+                    aar = isSameComparator(comparator, LONG_COMPARATOR) ? N.top(elements, fromIndex, toIndex, n)
+                            : N.top(elements, fromIndex, toIndex, n, comparator);
                     to = aar.length;
                 }
             }
@@ -1839,8 +1841,8 @@ class ArrayLongStream extends AbstractLongStream {
     }
 
     @Override
-    public LongStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelArrayLongStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+    public LongStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelArrayLongStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
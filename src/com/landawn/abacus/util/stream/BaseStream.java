@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ImmutableList;
 import com.landawn.abacus.util.ImmutableSet;
 import com.landawn.abacus.util.IntList;
@@ -1062,6 +1063,17 @@ public interface BaseStream<T, A, P, C, PL, OT, IT, ITER, S extends BaseStream<T
      * </code></pre>       
      *        Using <code>splitor.ARRAY</code> only when F (the per-element function (usually a lambda)) is very tiny and the cost of synchronization on the target array/iterator is too big to it.
      *        For the F involving IO or taking 'long' to complete, choose <code>splitor.ITERATOR</code>. Default value is <code>splitor.ITERATOR</code>.
+     *        <br />
+     *        If splitor is <code>splitor.CHUNKED</code>, each thread gets the elements from the target iterator in chunks (16 elements at first, doubled after each full chunk, up to 4096)
+     *        with the target iterator synchronized once per chunk, and the results of intermediate operations are passed back to the downstream in batches.
+     *        Choose <code>splitor.CHUNKED</code> when the stream is composed by iterator and F is tiny. For the stream composed by array, it works the same as <code>splitor.ARRAY</code>.
+     *        <br />
+     *        If splitor is <code>splitor.WORK_STEALING</code> and target stream composed by array, <code>reduce/collect</code> split the target array in halves recursively
+     *        into about 8 ranges per thread, which are executed by the shared <code>ForkJoinPools.commonPool()</code> (idle threads steal the ranges from busy threads),
+     *        not by the <code>asyncExecutor</code> of the stream, and no more than <code>maxThreadNum</code> ranges are executed at the same time,
+     *        and the partial results are combined as a tree in parallel, in the order of the elements. Choose <code>splitor.WORK_STEALING</code> when the cost of F is skewed
+     *        or the partial results are big, e.g. maps. <code>collect(Collector)</code> is executed in parallel for all collectors, not only concurrent and unordered ones.
+     *        For other operations, it works the same as <code>splitor.ARRAY</code> for array and <code>splitor.ITERATOR</code> for iterator.
      * @return
      * @see Nth
      * @see com.landawn.abacus.util.Profiler#run(int, int, int, String, Runnable)
@@ -1070,6 +1082,32 @@ public interface BaseStream<T, A, P, C, PL, OT, IT, ITER, S extends BaseStream<T
      */
     S parallel(int maxThreadNum, Splitor splitor);
 
+    /**
+     * Returns an equivalent stream that is parallel, whose tasks are executed by the specified <code>asyncExecutor</code>, instead of the default executor.
+     * May return itself if the stream was already parallel with the same <code>maxThreadNum</code> and <code>asyncExecutor</code> as the specified ones.
+     * 
+     * @param maxThreadNum
+     * @param asyncExecutor the default executor is used if it's null.
+     * @return
+     * @see #parallel(int, Splitor)
+     * @see StreamExecutor
+     */
+    S parallel(int maxThreadNum, AsyncExecutor asyncExecutor);
+
+    /**
+     * Returns an equivalent stream that is parallel, whose tasks are executed by the specified <code>asyncExecutor</code>, instead of the default executor.
+     * May return itself if the stream was already parallel with the same <code>maxThreadNum</code>, <code>splitor</code> and <code>asyncExecutor</code>
+     * as the specified ones.
+     * 
+     * @param maxThreadNum
+     * @param splitor
+     * @param asyncExecutor the default executor is used if it's null.
+     * @return
+     * @see #parallel(int, Splitor)
+     * @see StreamExecutor
+     */
+    S parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor);
+
     /**
      * Return the underlying <code>maxThreadNum</code> if the stream is parallel, otherwise <code>1</code> is returned.
      * 
@@ -1125,6 +1163,6 @@ public interface BaseStream<T, A, P, C, PL, OT, IT, ITER, S extends BaseStream<T
     //    <SS extends BaseStream> SS p_s(int maxThreadNum, Function<? super S, SS> op);
 
     public static enum Splitor {
-        ARRAY, ITERATOR;
+        ARRAY, ITERATOR, CHUNKED, WORK_STEALING;
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2016 HaiYang Li
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.landawn.abacus.util.stream;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A worker-local view of an iterator which is shared by multiple threads.
+ * Elements are pulled from the shared iterator in chunks, under one lock on the shared iterator per chunk, instead of one lock per element.
+ * <br />
+ * The chunk size starts with {@code minChunkSize} and is doubled every time a full chunk is read, until it reaches {@code maxChunkSize}.
+ * So short streams are still spread across all the workers, while long streams are read with very few lock acquisitions.
+ * With {@code minChunkSize = maxChunkSize = 1}, the elements are read one by one under the lock, as the workers of the other splitors do.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class ChunkedIterator<T> extends ObjIteratorEx<T> {
+    static final int MIN_CHUNK_SIZE = 16;
+    static final int MAX_CHUNK_SIZE = 4096;
+
+    private final Iterator<? extends T> source;
+    private final int maxChunkSize;
+    private int chunkSize;
+    private Object[] chunk;
+    private int cursor = 0;
+    private int size = 0;
+
+    /**
+     *
+     * @param source the iterator shared by the workers. It's locked by itself when a chunk is read.
+     */
+    ChunkedIterator(final Iterator<? extends T> source) {
+        this(source, MIN_CHUNK_SIZE, MAX_CHUNK_SIZE);
+    }
+
+    /**
+     *
+     * @param source the iterator shared by the workers. It's locked by itself when a chunk is read.
+     * @param minChunkSize
+     * @param maxChunkSize
+     */
+    ChunkedIterator(final Iterator<? extends T> source, final int minChunkSize, final int maxChunkSize) {
+        if (minChunkSize < 1 || maxChunkSize < minChunkSize) {
+            throw new IllegalArgumentException("Invalid chunk size: minChunkSize=" + minChunkSize + ", maxChunkSize=" + maxChunkSize);
+        }
+
+        this.source = source;
+        this.chunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (cursor >= size) {
+            readChunk();
+        }
+
+        return cursor < size;
+    }
+
+    @Override
+    public T next() {
+        if (cursor >= size && hasNext() == false) {
+            throw new NoSuchElementException();
+        }
+
+        final T result = (T) chunk[cursor];
+        chunk[cursor++] = null;
+        return result;
+    }
+
+    /**
+     * Returns the number of elements left in the chunk which is currently being consumed.
+     * {@code 0} is returned when the current chunk is used up, and the next call to {@code hasNext()/next()} will read a new chunk from the source.
+     *
+     * @return
+     */
+    int remaining() {
+        return size - cursor;
+    }
+
+    /**
+     *
+     * @return the size of the next chunk to read from the source.
+     */
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    private void readChunk() {
+        if (chunk == null || chunk.length < chunkSize) {
+            chunk = new Object[chunkSize];
+        }
+
+        cursor = 0;
+        size = 0;
+
+        synchronized (source) {
+            while (size < chunkSize && source.hasNext()) {
+                chunk[size++] = source.next();
+            }
+        }
+
+        if (size == chunkSize && chunkSize < maxChunkSize) {
+            chunkSize = chunkSize > maxChunkSize / 2 ? maxChunkSize : chunkSize * 2;
+        }
+    }
+}
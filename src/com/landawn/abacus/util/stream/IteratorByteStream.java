@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteIterator;
 import com.landawn.abacus.util.ByteList;
 import com.landawn.abacus.util.ByteSummaryStatistics;
@@ -1195,8 +1196,8 @@ class IteratorByteStream extends AbstractByteStream {
     }
 
     @Override
-    public ByteStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelIteratorByteStream(elements, sorted, maxThreadNum, splitor, closeHandlers);
+    public ByteStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelIteratorByteStream(elements, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -30,6 +30,7 @@ import java.util.Spliterators;
 import java.util.stream.StreamSupport;
 
 import com.landawn.abacus.util.Array;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.DoubleIterator;
 import com.landawn.abacus.util.DoubleList;
 import com.landawn.abacus.util.DoubleSummaryStatistics;
@@ -957,7 +958,9 @@ class IteratorDoubleStream extends AbstractDoubleStream {
                             queue.offer(elements.nextDouble());
                         }
 
-                        aar = Array.unbox(N.EMPTY_DOUBLE_OBJ_ARRAY);
+                        aar = Array.unbox(queue.toArray(N.EMPTY_DOUBLE_OBJ_ARRAY));
+                    } else if (isSameComparator(comparator, DOUBLE_COMPARATOR)) {
+                        aar = N.top(elements, n);
                     } else {
                         final Queue<Double> heap = new PriorityQueue<>(n, comparator);
 
@@ -1350,9 +1353,9 @@ class IteratorDoubleStream extends AbstractDoubleStream {
             return OptionalDouble.empty();
         }
 
-        final Optional<Double> optional = boxed().kthLargest(k, DOUBLE_COMPARATOR);
+        final double[] a = elements.toArray();
 
-        return optional.isPresent() ? OptionalDouble.of(optional.get()) : OptionalDouble.empty();
+        return k > a.length ? OptionalDouble.empty() : OptionalDouble.of(N.kthLargest(a, k));
     }
 
     @Override
@@ -1475,8 +1478,8 @@ class IteratorDoubleStream extends AbstractDoubleStream {
     }
 
     @Override
-    public DoubleStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelIteratorDoubleStream(elements, sorted, maxThreadNum, splitor, closeHandlers);
+    public DoubleStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelIteratorDoubleStream(elements, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -26,6 +26,7 @@ import java.util.Queue;
 import java.util.Set;
 
 import com.landawn.abacus.util.Array;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.DoubleIterator;
 import com.landawn.abacus.util.FloatIterator;
 import com.landawn.abacus.util.FloatList;
@@ -1471,8 +1472,8 @@ class IteratorFloatStream extends AbstractFloatStream {
     }
 
     @Override
-    public FloatStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelIteratorFloatStream(elements, sorted, maxThreadNum, splitor, closeHandlers);
+    public FloatStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelIteratorFloatStream(elements, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
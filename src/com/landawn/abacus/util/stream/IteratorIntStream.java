@@ -30,6 +30,7 @@ import java.util.Spliterators;
 import java.util.stream.StreamSupport;
 
 import com.landawn.abacus.util.Array;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteIterator;
 import com.landawn.abacus.util.CharIterator;
 import com.landawn.abacus.util.DoubleIterator;
@@ -1241,7 +1242,9 @@ class IteratorIntStream extends AbstractIntStream {
                             queue.offer(elements.nextInt());
                         }
 
-                        aar = Array.unbox(N.EMPTY_INT_OBJ_ARRAY);
+                        aar = Array.unbox(queue.toArray(N.EMPTY_INT_OBJ_ARRAY));
+                    } else if (isSameComparator(comparator, INT_COMPARATOR)) {
+                        aar = N.top(elements, n);
                     } else {
                         final Queue<Integer> heap = new PriorityQueue<>(n, comparator);
 
@@ -1634,9 +1637,9 @@ class IteratorIntStream extends AbstractIntStream {
             return OptionalInt.empty();
         }
 
-        final Optional<Integer> optional = boxed().kthLargest(k, INT_COMPARATOR);
+        final int[] a = elements.toArray();
 
-        return optional.isPresent() ? OptionalInt.of(optional.get()) : OptionalInt.empty();
+        return k > a.length ? OptionalInt.empty() : OptionalInt.of(N.kthLargest(a, k));
     }
 
     @Override
@@ -1860,8 +1863,8 @@ class IteratorIntStream extends AbstractIntStream {
     }
 
     @Override
-    public IntStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelIteratorIntStream(elements, sorted, maxThreadNum, splitor, closeHandlers);
+    public IntStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelIteratorIntStream(elements, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -30,6 +30,7 @@ import java.util.Spliterators;
 import java.util.stream.StreamSupport;
 
 import com.landawn.abacus.util.Array;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.DoubleIterator;
 import com.landawn.abacus.util.FloatIterator;
 import com.landawn.abacus.util.Fn;
@@ -958,7 +959,9 @@ class IteratorLongStream extends AbstractLongStream {
                             queue.offer(elements.nextLong());
                         }
 
-                        aar = Array.unbox(N.EMPTY_LONG_OBJ_ARRAY);
+                        aar = Array.unbox(queue.toArray(N.EMPTY_LONG_OBJ_ARRAY));
+                    } else if (isSameComparator(comparator, LONG_COMPARATOR)) {
+                        aar = N.top(elements, n);
                     } else {
                         final Queue<Long> heap = new PriorityQueue<>(n, comparator);
 
@@ -1351,9 +1354,9 @@ class IteratorLongStream extends AbstractLongStream {
             return OptionalLong.empty();
         }
 
-        final Optional<Long> optional = boxed().kthLargest(k, LONG_COMPARATOR);
+        final long[] a = elements.toArray();
 
-        return optional.isPresent() ? OptionalLong.of(optional.get()) : OptionalLong.empty();
+        return k > a.length ? OptionalLong.empty() : OptionalLong.of(N.kthLargest(a, k));
     }
 
     @Override
@@ -1552,8 +1555,8 @@ class IteratorLongStream extends AbstractLongStream {
     }
 
     @Override
-    public LongStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelIteratorLongStream(elements, sorted, maxThreadNum, splitor, closeHandlers);
+    public LongStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelIteratorLongStream(elements, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -26,6 +26,7 @@ import java.util.Queue;
 import java.util.Set;
 
 import com.landawn.abacus.util.Array;
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.Fn;
 import com.landawn.abacus.util.IntIterator;
 import com.landawn.abacus.util.LongMultiset;
@@ -1313,8 +1314,8 @@ class IteratorShortStream extends AbstractShortStream {
     }
 
     @Override
-    public ShortStream parallel(int maxThreadNum, Splitor splitor) {
-        return new ParallelIteratorShortStream(elements, sorted, maxThreadNum, splitor, closeHandlers);
+    public ShortStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        return new ParallelIteratorShortStream(elements, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
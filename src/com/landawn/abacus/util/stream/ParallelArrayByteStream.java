@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteSummaryStatistics;
 import com.landawn.abacus.util.CompletableFuture;
 import com.landawn.abacus.util.Holder;
@@ -60,15 +61,17 @@ import com.landawn.abacus.util.function.ToIntFunction;
 final class ParallelArrayByteStream extends ArrayByteStream {
     private final int maxThreadNum;
     private final Splitor splitor;
+    private final AsyncExecutor asyncExecutor;
     private volatile ArrayByteStream sequential;
     private volatile Stream<Byte> boxed;
 
     ParallelArrayByteStream(final byte[] values, final int fromIndex, final int toIndex, final boolean sorted, int maxThreadNum, Splitor splitor,
-            final Collection<Runnable> closeHandlers) {
+            final AsyncExecutor asyncExecutor, final Collection<Runnable> closeHandlers) {
         super(values, fromIndex, toIndex, sorted, closeHandlers);
 
         this.maxThreadNum = checkMaxThreadNum(maxThreadNum);
         this.splitor = splitor == null ? DEFAULT_SPLITOR : splitor;
+        this.asyncExecutor = asyncExecutor == null ? StreamBase.asyncExecutor : asyncExecutor;
     }
 
     @Override
@@ -84,7 +87,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -100,7 +103,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -116,7 +119,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -132,7 +135,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -148,7 +151,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -168,7 +171,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
     @Override
     public ByteStream flatMap(final ByteFunction<? extends ByteStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorByteStream(sequential().flatMap(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorByteStream(sequential().flatMap(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final ByteStream stream = boxed().flatMapToByte(new Function<Byte, ByteStream>() {
@@ -178,13 +181,13 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, null);
+        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, asyncExecutor, null);
     }
 
     @Override
     public IntStream flatMapToInt(final ByteFunction<? extends IntStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final IntStream stream = boxed().flatMapToInt(new Function<Byte, IntStream>() {
@@ -194,13 +197,13 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         });
 
-        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, null);
+        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, asyncExecutor, null);
     }
 
     @Override
     public <T> Stream<T> flatMapToObj(final ByteFunction<? extends Stream<T>> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().flatMapToObj(mapper), false, null, maxThreadNum, splitor, null);
+            return new ParallelIteratorStream<>(sequential().flatMapToObj(mapper), false, null, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         return boxed().flatMap(new Function<Byte, Stream<T>>() {
@@ -224,7 +227,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             }
         }).sequential().mapToByte(ToByteFunction.UNBOX);
 
-        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -238,7 +241,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final List<CompletableFuture<Void>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -343,7 +346,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final List<CompletableFuture<Byte>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -432,7 +435,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final List<CompletableFuture<Byte>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -538,7 +541,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final List<CompletableFuture<R>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -818,7 +821,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(false);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -891,7 +894,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(true);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -964,7 +967,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(true);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1037,7 +1040,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Pair<Integer, Byte>> resultHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1125,7 +1128,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Pair<Integer, Byte>> resultHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1213,7 +1216,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Object> resultHolder = Holder.of(NONE);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1293,7 +1296,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         Stream<Byte> tmp = boxed;
 
         if (tmp == null) {
-            tmp = new ParallelIteratorStream<Byte>(iterator(), sorted, sorted ? BYTE_COMPARATOR : null, maxThreadNum, splitor, closeHandlers);
+            tmp = new ParallelIteratorStream<Byte>(iterator(), sorted, sorted ? BYTE_COMPARATOR : null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
             boxed = tmp;
         }
 
@@ -1302,38 +1305,39 @@ final class ParallelArrayByteStream extends ArrayByteStream {
 
     @Override
     public ByteStream append(ByteStream stream) {
-        return new ParallelIteratorByteStream(ByteStream.concat(this, stream), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(ByteStream.concat(this, stream), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public ByteStream prepend(ByteStream stream) {
-        return new ParallelIteratorByteStream(ByteStream.concat(stream, this), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(ByteStream.concat(stream, this), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public ByteStream merge(final ByteStream b, final ByteBiFunction<Nth> nextSelector) {
-        return new ParallelIteratorByteStream(ByteStream.merge(this, b, nextSelector), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(ByteStream.merge(this, b, nextSelector), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public ByteStream zipWith(ByteStream b, ByteBiFunction<Byte> zipFunction) {
-        return new ParallelIteratorByteStream(ByteStream.zip(this, b, zipFunction), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(ByteStream.zip(this, b, zipFunction), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public ByteStream zipWith(ByteStream b, ByteStream c, ByteTriFunction<Byte> zipFunction) {
-        return new ParallelIteratorByteStream(ByteStream.zip(this, b, c, zipFunction), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(ByteStream.zip(this, b, c, zipFunction), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public ByteStream zipWith(ByteStream b, byte valueForNoneA, byte valueForNoneB, ByteBiFunction<Byte> zipFunction) {
-        return new ParallelIteratorByteStream(ByteStream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(ByteStream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public ByteStream zipWith(ByteStream b, ByteStream c, byte valueForNoneA, byte valueForNoneB, byte valueForNoneC, ByteTriFunction<Byte> zipFunction) {
         return new ParallelIteratorByteStream(ByteStream.zip(this, b, c, valueForNoneA, valueForNoneB, valueForNoneC, zipFunction), false, maxThreadNum,
-                splitor, closeHandlers);
+                splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1354,12 +1358,12 @@ final class ParallelArrayByteStream extends ArrayByteStream {
     }
 
     @Override
-    public ByteStream parallel(int maxThreadNum, Splitor splitor) {
-        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor) {
+    public ByteStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor && this.asyncExecutor == asyncExecutor) {
             return this;
         }
 
-        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1373,7 +1377,7 @@ final class ParallelArrayByteStream extends ArrayByteStream {
             return this;
         }
 
-        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1381,13 +1385,18 @@ final class ParallelArrayByteStream extends ArrayByteStream {
         return splitor;
     }
 
+    @Override
+    AsyncExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
     @Override
     public ByteStream splitor(BaseStream.Splitor splitor) {
         if (this.splitor == splitor) {
             return this;
         }
 
-        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1400,6 +1409,6 @@ final class ParallelArrayByteStream extends ArrayByteStream {
 
         newCloseHandlers.add(closeHandler);
 
-        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelArrayByteStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, newCloseHandlers);
     }
 }
@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.CharSummaryStatistics;
 import com.landawn.abacus.util.CompletableFuture;
 import com.landawn.abacus.util.Holder;
@@ -60,15 +61,17 @@ import com.landawn.abacus.util.function.ToIntFunction;
 final class ParallelArrayCharStream extends ArrayCharStream {
     private final int maxThreadNum;
     private final Splitor splitor;
+    private final AsyncExecutor asyncExecutor;
     private volatile ArrayCharStream sequential;
     private volatile Stream<Character> boxed;
 
     ParallelArrayCharStream(final char[] values, final int fromIndex, final int toIndex, final boolean sorted, int maxThreadNum, Splitor splitor,
-            final Collection<Runnable> closeHandlers) {
+            final AsyncExecutor asyncExecutor, final Collection<Runnable> closeHandlers) {
         super(values, sorted, closeHandlers);
 
         this.maxThreadNum = checkMaxThreadNum(maxThreadNum);
         this.splitor = splitor == null ? DEFAULT_SPLITOR : splitor;
+        this.asyncExecutor = asyncExecutor == null ? StreamBase.asyncExecutor : asyncExecutor;
     }
 
     @Override
@@ -84,7 +87,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -100,7 +103,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -116,7 +119,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -132,7 +135,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -148,7 +151,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -168,7 +171,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
     @Override
     public CharStream flatMap(final CharFunction<? extends CharStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorCharStream(sequential().flatMap(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorCharStream(sequential().flatMap(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final CharStream stream = boxed().flatMapToChar(new Function<Character, CharStream>() {
@@ -178,13 +181,13 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, null);
+        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, asyncExecutor, null);
     }
 
     @Override
     public IntStream flatMapToInt(final CharFunction<? extends IntStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final IntStream stream = boxed().flatMapToInt(new Function<Character, IntStream>() {
@@ -194,13 +197,13 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         });
 
-        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, null);
+        return new ParallelIteratorIntStream(stream, false, maxThreadNum, splitor, asyncExecutor, null);
     }
 
     @Override
     public <T> Stream<T> flatMapToObj(final CharFunction<? extends Stream<T>> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().flatMapToObj(mapper), false, null, maxThreadNum, splitor, null);
+            return new ParallelIteratorStream<>(sequential().flatMapToObj(mapper), false, null, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         return boxed().flatMap(new Function<Character, Stream<T>>() {
@@ -224,7 +227,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             }
         }).sequential().mapToChar(ToCharFunction.UNBOX);
 
-        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(stream, false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -238,7 +241,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final List<CompletableFuture<Void>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -343,7 +346,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final List<CompletableFuture<Character>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -432,7 +435,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final List<CompletableFuture<Character>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -538,7 +541,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final List<CompletableFuture<R>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -818,7 +821,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(false);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -891,7 +894,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(true);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -964,7 +967,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(true);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1037,7 +1040,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Pair<Integer, Character>> resultHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1125,7 +1128,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Pair<Integer, Character>> resultHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1213,7 +1216,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Object> resultHolder = Holder.of(NONE);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1293,7 +1296,8 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         Stream<Character> tmp = boxed;
 
         if (tmp == null) {
-            tmp = new ParallelIteratorStream<Character>(iterator(), sorted, sorted ? CHAR_COMPARATOR : null, maxThreadNum, splitor, closeHandlers);
+            tmp = new ParallelIteratorStream<Character>(iterator(), sorted, sorted ? CHAR_COMPARATOR : null, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
             boxed = tmp;
         }
 
@@ -1302,38 +1306,39 @@ final class ParallelArrayCharStream extends ArrayCharStream {
 
     @Override
     public CharStream append(CharStream stream) {
-        return new ParallelIteratorCharStream(CharStream.concat(this, stream), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(CharStream.concat(this, stream), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public CharStream prepend(CharStream stream) {
-        return new ParallelIteratorCharStream(CharStream.concat(stream, this), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(CharStream.concat(stream, this), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public CharStream merge(final CharStream b, final CharBiFunction<Nth> nextSelector) {
-        return new ParallelIteratorCharStream(CharStream.merge(this, b, nextSelector), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(CharStream.merge(this, b, nextSelector), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public CharStream zipWith(CharStream b, CharBiFunction<Character> zipFunction) {
-        return new ParallelIteratorCharStream(CharStream.zip(this, b, zipFunction), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(CharStream.zip(this, b, zipFunction), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public CharStream zipWith(CharStream b, CharStream c, CharTriFunction<Character> zipFunction) {
-        return new ParallelIteratorCharStream(CharStream.zip(this, b, c, zipFunction), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(CharStream.zip(this, b, c, zipFunction), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public CharStream zipWith(CharStream b, char valueForNoneA, char valueForNoneB, CharBiFunction<Character> zipFunction) {
-        return new ParallelIteratorCharStream(CharStream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(CharStream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public CharStream zipWith(CharStream b, CharStream c, char valueForNoneA, char valueForNoneB, char valueForNoneC, CharTriFunction<Character> zipFunction) {
         return new ParallelIteratorCharStream(CharStream.zip(this, b, c, valueForNoneA, valueForNoneB, valueForNoneC, zipFunction), false, maxThreadNum,
-                splitor, closeHandlers);
+                splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1354,12 +1359,12 @@ final class ParallelArrayCharStream extends ArrayCharStream {
     }
 
     @Override
-    public CharStream parallel(int maxThreadNum, Splitor splitor) {
-        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor) {
+    public CharStream parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor && this.asyncExecutor == asyncExecutor) {
             return this;
         }
 
-        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1373,7 +1378,7 @@ final class ParallelArrayCharStream extends ArrayCharStream {
             return this;
         }
 
-        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1381,13 +1386,18 @@ final class ParallelArrayCharStream extends ArrayCharStream {
         return splitor;
     }
 
+    @Override
+    AsyncExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
     @Override
     public CharStream splitor(BaseStream.Splitor splitor) {
         if (this.splitor == splitor) {
             return this;
         }
 
-        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -1400,6 +1410,6 @@ final class ParallelArrayCharStream extends ArrayCharStream {
 
         newCloseHandlers.add(closeHandler);
 
-        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelArrayCharStream(elements, fromIndex, toIndex, sorted, maxThreadNum, splitor, asyncExecutor, newCloseHandlers);
     }
 }
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteIterator;
 import com.landawn.abacus.util.CharIterator;
 import com.landawn.abacus.util.CompletableFuture;
@@ -71,14 +72,16 @@ import com.landawn.abacus.util.function.TriFunction;
 final class ParallelArrayStream<T> extends ArrayStream<T> {
     private final int maxThreadNum;
     private final Splitor splitor;
+    private final AsyncExecutor asyncExecutor;
     private volatile ArrayStream<T> sequential;
 
     ParallelArrayStream(final T[] values, final int fromIndex, final int toIndex, final boolean sorted, Comparator<? super T> comparator, int maxThreadNum,
-            Splitor splitor, final Collection<Runnable> closeHandlers) {
+            Splitor splitor, final AsyncExecutor asyncExecutor, final Collection<Runnable> closeHandlers) {
         super(values, fromIndex, toIndex, sorted, comparator, closeHandlers);
 
         this.maxThreadNum = checkMaxThreadNum(maxThreadNum);
         this.splitor = splitor == null ? DEFAULT_SPLITOR : splitor;
+        this.asyncExecutor = asyncExecutor == null ? StreamBase.asyncExecutor : asyncExecutor;
     }
 
     @Override
@@ -90,7 +93,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<Iterator<T>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -173,7 +176,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -225,7 +229,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -298,7 +303,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -310,7 +316,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<Iterator<R>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -370,7 +376,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     //    @Override
@@ -533,7 +540,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
     @Override
     public <R> Stream<R> slidingMap(final BiFunction<? super T, ? super T, R> mapper, final int increment, final boolean ignoreNotPaired) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
         }
 
         final int windowSize = 2;
@@ -574,13 +582,15 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public <R> Stream<R> slidingMap(final TriFunction<? super T, ? super T, ? super T, R> mapper, final int increment, final boolean ignoreNotPaired) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
         }
 
         final int windowSize = 3;
@@ -622,7 +632,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -653,7 +664,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
 
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
             return new ParallelIteratorStream<>(sequential().mapLastOrElse(mapperForLast, mapperForElse).iterator(), false, null, maxThreadNum, splitor,
-                    closeHandlers);
+                    asyncExecutor, closeHandlers);
         }
 
         if (fromIndex == toIndex) {
@@ -677,7 +688,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Character>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -737,7 +748,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -749,7 +761,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Byte>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -809,7 +821,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -821,7 +834,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Short>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -881,7 +894,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -893,7 +907,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Integer>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -953,7 +967,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -965,7 +980,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Long>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1025,7 +1040,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -1037,7 +1053,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Float>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1097,7 +1113,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -1109,7 +1126,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Double>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1169,19 +1186,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public <R> Stream<R> flatMap(final Function<? super T, ? extends Stream<? extends R>> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().flatMap(mapper), false, null, maxThreadNum, splitor, null);
+            return new ParallelIteratorStream<>(sequential().flatMap(mapper), false, null, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<R>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1320,19 +1338,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public CharStream flatMapToChar(final Function<? super T, ? extends CharStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorCharStream(sequential().flatMapToChar(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorCharStream(sequential().flatMapToChar(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Character>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1472,19 +1491,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public ByteStream flatMapToByte(final Function<? super T, ? extends ByteStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorByteStream(sequential().flatMapToByte(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorByteStream(sequential().flatMapToByte(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Byte>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1624,19 +1644,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public ShortStream flatMapToShort(final Function<? super T, ? extends ShortStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorShortStream(sequential().flatMapToShort(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorShortStream(sequential().flatMapToShort(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Short>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1776,19 +1797,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public IntStream flatMapToInt(final Function<? super T, ? extends IntStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Integer>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -1928,19 +1950,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public LongStream flatMapToLong(final Function<? super T, ? extends LongStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorLongStream(sequential().flatMapToLong(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorLongStream(sequential().flatMapToLong(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Long>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2080,19 +2103,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public FloatStream flatMapToFloat(final Function<? super T, ? extends FloatStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorFloatStream(sequential().flatMapToFloat(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorFloatStream(sequential().flatMapToFloat(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Float>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2232,19 +2256,20 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public DoubleStream flatMapToDouble(final Function<? super T, ? extends DoubleStream> mapper) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorDoubleStream(sequential().flatMapToDouble(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorDoubleStream(sequential().flatMapToDouble(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<ObjIteratorEx<Double>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2384,7 +2409,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         });
 
-        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
@@ -2396,7 +2422,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<Iterator<T>> iters = new ArrayList<>(threadNum);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2459,7 +2485,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             }
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -2473,7 +2500,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final List<CompletableFuture<Void>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2648,7 +2675,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final List<CompletableFuture<M>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2755,7 +2782,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final List<CompletableFuture<Map<K, A>>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -2902,7 +2929,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final List<CompletableFuture<M>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3018,7 +3045,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final List<CompletableFuture<T>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3104,11 +3131,34 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             return super.reduce(accumulator);
         }
 
+        if (splitor == Splitor.WORK_STEALING) {
+            final Holder<Throwable> eHolder = new Holder<>();
+
+            return Optional.of(RangeTask.invoke(maxThreadNum, fromIndex, toIndex, new RangeTask.Leaf<T>() {
+                @Override
+                public T apply(final int from, final int to) {
+                    int cursor = from;
+                    T result = elements[cursor++];
+
+                    try {
+                        while (cursor < to && eHolder.value() == null) {
+                            result = accumulator.apply(result, elements[cursor++]);
+                        }
+                    } catch (Throwable e) {
+                        setError(eHolder, e);
+                        throw N.toRuntimeException(e);
+                    }
+
+                    return result;
+                }
+            }, accumulator, eHolder));
+        }
+
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<CompletableFuture<T>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3211,11 +3261,34 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             return super.reduce(identity, accumulator, combiner);
         }
 
+        if (splitor == Splitor.WORK_STEALING) {
+            final Holder<Throwable> eHolder = new Holder<>();
+
+            return RangeTask.invoke(maxThreadNum, fromIndex, toIndex, new RangeTask.Leaf<U>() {
+                @Override
+                public U apply(final int from, final int to) {
+                    int cursor = from;
+                    U result = identity;
+
+                    try {
+                        while (cursor < to && eHolder.value() == null) {
+                            result = accumulator.apply(result, elements[cursor++]);
+                        }
+                    } catch (Throwable e) {
+                        setError(eHolder, e);
+                        throw N.toRuntimeException(e);
+                    }
+
+                    return result;
+                }
+            }, combiner, eHolder);
+        }
+
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<CompletableFuture<U>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3303,11 +3376,40 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             return super.collect(supplier, accumulator, combiner);
         }
 
+        if (splitor == Splitor.WORK_STEALING) {
+            final Holder<Throwable> eHolder = new Holder<>();
+
+            return RangeTask.invoke(maxThreadNum, fromIndex, toIndex, new RangeTask.Leaf<R>() {
+                @Override
+                public R apply(final int from, final int to) {
+                    int cursor = from;
+                    final R container = supplier.get();
+
+                    try {
+                        while (cursor < to && eHolder.value() == null) {
+                            accumulator.accept(container, elements[cursor++]);
+                        }
+                    } catch (Throwable e) {
+                        setError(eHolder, e);
+                        throw N.toRuntimeException(e);
+                    }
+
+                    return container;
+                }
+            }, new BinaryOperator<R>() {
+                @Override
+                public R apply(final R a, final R b) {
+                    combiner.accept(a, b);
+                    return a;
+                }
+            }, eHolder);
+        }
+
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<CompletableFuture<R>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3389,8 +3491,10 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
 
     @Override
     public <R, A> R collect(Collector<? super T, A, R> collector) {
-        if (maxThreadNum <= 1 || collector.characteristics().contains(Collector.Characteristics.CONCURRENT) == false
-                || collector.characteristics().contains(Collector.Characteristics.UNORDERED) == false) {
+        // The partial results are combined in the order of the range by Splitor.WORK_STEALING. So it works for all the collectors.
+        if (maxThreadNum <= 1 || toIndex - fromIndex <= 1 || (splitor != Splitor.WORK_STEALING
+                && (collector.characteristics().contains(Collector.Characteristics.CONCURRENT) == false
+                        || collector.characteristics().contains(Collector.Characteristics.UNORDERED) == false))) {
             return sequential().collect(collector);
         }
 
@@ -3399,11 +3503,34 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final BinaryOperator<A> combiner = collector.combiner();
         final Function<A, R> finisher = collector.finisher();
 
+        if (splitor == Splitor.WORK_STEALING) {
+            final Holder<Throwable> eHolder = new Holder<>();
+
+            return finisher.apply(RangeTask.invoke(maxThreadNum, fromIndex, toIndex, new RangeTask.Leaf<A>() {
+                @Override
+                public A apply(final int from, final int to) {
+                    int cursor = from;
+                    final A container = supplier.get();
+
+                    try {
+                        while (cursor < to && eHolder.value() == null) {
+                            accumulator.accept(container, elements[cursor++]);
+                        }
+                    } catch (Throwable e) {
+                        setError(eHolder, e);
+                        throw N.toRuntimeException(e);
+                    }
+
+                    return container;
+                }
+            }, combiner, eHolder));
+        }
+
         final int threadNum = N.min(maxThreadNum, (toIndex - fromIndex));
         final List<CompletableFuture<A>> futureList = new ArrayList<>(threadNum);
         final Holder<Throwable> eHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3520,7 +3647,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(false);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3595,7 +3722,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(true);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3670,7 +3797,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean result = MutableBoolean.of(true);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3745,7 +3872,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Pair<Integer, T>> resultHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3835,7 +3962,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<Pair<Integer, T>> resultHolder = new Holder<>();
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -3925,7 +4052,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         final Holder<Throwable> eHolder = new Holder<>();
         final Holder<T> resultHolder = Holder.of((T) NONE);
 
-        if (splitor == Splitor.ARRAY) {
+        if (splitor != Splitor.ITERATOR) {
             final int sliceSize = (toIndex - fromIndex) / threadNum + ((toIndex - fromIndex) % threadNum == 0 ? 0 : 1);
 
             for (int i = 0; i < threadNum; i++) {
@@ -4005,7 +4132,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
     @Override
     public Stream<T> intersection(final Function<? super T, ?> mapper, final Collection<?> c) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().intersection(mapper, c).iterator(), sorted, cmp, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(sequential().intersection(mapper, c).iterator(), sorted, cmp, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
         }
 
         final Multiset<?> multiset = Multiset.from(c);
@@ -4025,7 +4153,8 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
     @Override
     public Stream<T> difference(final Function<? super T, ?> mapper, final Collection<?> c) {
         if (maxThreadNum <= 1 || toIndex - fromIndex <= 1) {
-            return new ParallelIteratorStream<>(sequential().intersection(mapper, c).iterator(), sorted, cmp, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(sequential().intersection(mapper, c).iterator(), sorted, cmp, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
         }
 
         final Multiset<?> multiset = Multiset.from(c);
@@ -4044,39 +4173,40 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
 
     @Override
     public Stream<T> append(Stream<T> stream) {
-        return new ParallelIteratorStream<>(Stream.concat(this, stream), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.concat(this, stream), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public Stream<T> prepend(Stream<T> stream) {
-        return new ParallelIteratorStream<>(Stream.concat(stream, this), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.concat(stream, this), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public Stream<T> merge(final Stream<? extends T> b, final BiFunction<? super T, ? super T, Nth> nextSelector) {
-        return new ParallelIteratorStream<>(Stream.merge(this, b, nextSelector), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.merge(this, b, nextSelector), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public <T2, R> Stream<R> zipWith(Stream<T2> b, BiFunction<? super T, ? super T2, R> zipFunction) {
-        return new ParallelIteratorStream<>(Stream.zip(this, b, zipFunction), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.zip(this, b, zipFunction), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public <T2, T3, R> Stream<R> zipWith(Stream<T2> b, Stream<T3> c, TriFunction<? super T, ? super T2, ? super T3, R> zipFunction) {
-        return new ParallelIteratorStream<>(Stream.zip(this, b, c, zipFunction), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.zip(this, b, c, zipFunction), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public <T2, R> Stream<R> zipWith(Stream<T2> b, T valueForNoneA, T2 valueForNoneB, BiFunction<? super T, ? super T2, R> zipFunction) {
-        return new ParallelIteratorStream<>(Stream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public <T2, T3, R> Stream<R> zipWith(Stream<T2> b, Stream<T3> c, T valueForNoneA, T2 valueForNoneB, T3 valueForNoneC,
             TriFunction<? super T, ? super T2, ? super T3, R> zipFunction) {
         return new ParallelIteratorStream<>(Stream.zip(this, b, c, valueForNoneA, valueForNoneB, valueForNoneC, zipFunction), false, null, maxThreadNum,
-                splitor, closeHandlers);
+                splitor, asyncExecutor, closeHandlers);
     }
 
     //    @Override
@@ -4206,12 +4336,12 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
     }
 
     @Override
-    public Stream<T> parallel(int maxThreadNum, Splitor splitor) {
-        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor) {
+    public Stream<T> parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor && this.asyncExecutor == asyncExecutor) {
             return this;
         }
 
-        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -4225,7 +4355,7 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
             return this;
         }
 
-        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -4233,13 +4363,18 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
         return splitor;
     }
 
+    @Override
+    AsyncExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
     @Override
     public Stream<T> splitor(BaseStream.Splitor splitor) {
         if (this.splitor == splitor) {
             return this;
         }
 
-        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, closeHandlers);
+        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -4252,6 +4387,6 @@ final class ParallelArrayStream<T> extends ArrayStream<T> {
 
         newCloseHandlers.add(closeHandler);
 
-        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelArrayStream<>(elements, fromIndex, toIndex, sorted, cmp, maxThreadNum, splitor, asyncExecutor, newCloseHandlers);
     }
 }
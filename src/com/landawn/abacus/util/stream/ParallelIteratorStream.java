@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
+import com.landawn.abacus.util.AsyncExecutor;
 import com.landawn.abacus.util.ByteIterator;
 import com.landawn.abacus.util.CharIterator;
 import com.landawn.abacus.util.CompletableFuture;
@@ -73,19 +74,21 @@ import com.landawn.abacus.util.stream.ObjIteratorEx.QueuedIterator;
 final class ParallelIteratorStream<T> extends IteratorStream<T> {
     private final int maxThreadNum;
     private final Splitor splitor;
+    private final AsyncExecutor asyncExecutor;
     private volatile IteratorStream<T> sequential;
 
     ParallelIteratorStream(final Iterator<? extends T> values, final boolean sorted, final Comparator<? super T> comparator, final int maxThreadNum,
-            final Splitor splitor, final Collection<Runnable> closeHandlers) {
+            final Splitor splitor, final AsyncExecutor asyncExecutor, final Collection<Runnable> closeHandlers) {
         super(values, sorted, comparator, closeHandlers);
 
         this.maxThreadNum = checkMaxThreadNum(maxThreadNum);
         this.splitor = splitor == null ? DEFAULT_SPLITOR : splitor;
+        this.asyncExecutor = asyncExecutor == null ? StreamBase.asyncExecutor : asyncExecutor;
     }
 
     ParallelIteratorStream(final Stream<T> stream, final boolean sorted, final Comparator<? super T> comparator, final int maxThreadNum, final Splitor splitor,
-            final Set<Runnable> closeHandlers) {
-        this(stream.iterator(), sorted, comparator, maxThreadNum, splitor, mergeCloseHandlers(stream, closeHandlers));
+            final AsyncExecutor asyncExecutor, final Set<Runnable> closeHandlers) {
+        this(stream.iterator(), sorted, comparator, maxThreadNum, splitor, asyncExecutor, mergeCloseHandlers(stream, closeHandlers));
     }
 
     @Override
@@ -94,6 +97,22 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.filter(predicate);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return chunked(new Stage<T, T>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super T> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            if (predicate.test(t)) {
+                                downstream.accept(t);
+                            }
+                        }
+                    };
+                }
+            });
+        }
+
         final List<Iterator<T>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -135,7 +154,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -185,7 +205,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -256,7 +277,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -265,6 +287,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.map(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return chunked(new Stage<T, R>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super R> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.apply(t));
+                        }
+                    };
+                }
+            });
+        }
+
         final List<Iterator<R>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -297,7 +333,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     //    @Override
@@ -403,7 +440,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
     @Override
     public <R> Stream<R> slidingMap(final BiFunction<? super T, ? super T, R> mapper, final int increment, final boolean ignoreNotPaired) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
         }
 
         final int windowSize = 2;
@@ -470,13 +508,15 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public <R> Stream<R> slidingMap(final TriFunction<? super T, ? super T, ? super T, R> mapper, final int increment, final boolean ignoreNotPaired) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(sequential().slidingMap(mapper, increment).iterator(), false, null, maxThreadNum, splitor, asyncExecutor,
+                    closeHandlers);
         }
 
         final int windowSize = 3;
@@ -554,7 +594,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -623,7 +664,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -632,6 +674,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToChar(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorCharStream(chunked(new Stage<T, Character>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Character> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsChar(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Character>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -664,7 +720,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -673,6 +730,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToByte(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorByteStream(chunked(new Stage<T, Byte>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Byte> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsByte(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Byte>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -705,7 +776,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -714,6 +786,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToShort(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorShortStream(chunked(new Stage<T, Short>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Short> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsShort(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Short>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -746,7 +832,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -755,6 +842,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToInt(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorIntStream(chunked(new Stage<T, Integer>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Integer> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsInt(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Integer>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -787,7 +888,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -796,6 +898,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToLong(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorLongStream(chunked(new Stage<T, Long>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Long> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsLong(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Long>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -828,7 +944,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -837,6 +954,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToFloat(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorFloatStream(chunked(new Stage<T, Float>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Float> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsFloat(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Float>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -869,7 +1000,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -878,6 +1010,20 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.mapToDouble(mapper);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return new ParallelIteratorDoubleStream(chunked(new Stage<T, Double>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super Double> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            downstream.accept(mapper.applyAsDouble(t));
+                        }
+                    };
+                }
+            }), false, maxThreadNum, splitor, asyncExecutor, closeHandlers);
+        }
+
         final List<Iterator<Double>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -910,13 +1056,34 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public <R> Stream<R> flatMap(final Function<? super T, ? extends Stream<? extends R>> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorStream<>(sequential().flatMap(mapper), false, null, maxThreadNum, splitor, null);
+            return new ParallelIteratorStream<>(sequential().flatMap(mapper), false, null, maxThreadNum, splitor, asyncExecutor, null);
+        }
+
+        if (splitor == Splitor.CHUNKED) {
+            return chunked(new Stage<T, R>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super R> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            try (final Stream<? extends R> s = mapper.apply(t)) {
+                                final Iterator<? extends R> iter = s.iterator();
+
+                                while (iter.hasNext()) {
+                                    downstream.accept(iter.next());
+                                }
+                            }
+                        }
+                    };
+                }
+            });
         }
 
         final List<ObjIteratorEx<R>> iters = new ArrayList<>(maxThreadNum);
@@ -995,13 +1162,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public CharStream flatMapToChar(final Function<? super T, ? extends CharStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorCharStream(sequential().flatMapToChar(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorCharStream(sequential().flatMapToChar(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Character>> iters = new ArrayList<>(maxThreadNum);
@@ -1080,13 +1248,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorCharStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public ByteStream flatMapToByte(final Function<? super T, ? extends ByteStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorByteStream(sequential().flatMapToByte(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorByteStream(sequential().flatMapToByte(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Byte>> iters = new ArrayList<>(maxThreadNum);
@@ -1165,13 +1334,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorByteStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public ShortStream flatMapToShort(final Function<? super T, ? extends ShortStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorShortStream(sequential().flatMapToShort(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorShortStream(sequential().flatMapToShort(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Short>> iters = new ArrayList<>(maxThreadNum);
@@ -1250,13 +1420,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorShortStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public IntStream flatMapToInt(final Function<? super T, ? extends IntStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorIntStream(sequential().flatMapToInt(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Integer>> iters = new ArrayList<>(maxThreadNum);
@@ -1335,13 +1506,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorIntStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public LongStream flatMapToLong(final Function<? super T, ? extends LongStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorLongStream(sequential().flatMapToLong(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorLongStream(sequential().flatMapToLong(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Long>> iters = new ArrayList<>(maxThreadNum);
@@ -1420,13 +1592,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorLongStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public FloatStream flatMapToFloat(final Function<? super T, ? extends FloatStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorFloatStream(sequential().flatMapToFloat(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorFloatStream(sequential().flatMapToFloat(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Float>> iters = new ArrayList<>(maxThreadNum);
@@ -1505,13 +1678,14 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorFloatStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
     public DoubleStream flatMapToDouble(final Function<? super T, ? extends DoubleStream> mapper) {
         if (maxThreadNum <= 1) {
-            return new ParallelIteratorDoubleStream(sequential().flatMapToDouble(mapper), false, maxThreadNum, splitor, null);
+            return new ParallelIteratorDoubleStream(sequential().flatMapToDouble(mapper), false, maxThreadNum, splitor, asyncExecutor, null);
         }
 
         final List<ObjIteratorEx<Double>> iters = new ArrayList<>(maxThreadNum);
@@ -1590,7 +1764,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             }
         });
 
-        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size()), false, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorDoubleStream(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, maxThreadNum, splitor, asyncExecutor,
+                newCloseHandlers);
     }
 
     @Override
@@ -1599,6 +1774,21 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return super.peek(action);
         }
 
+        if (splitor == Splitor.CHUNKED) {
+            return chunked(new Stage<T, T>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super T> downstream) {
+                    return new Consumer<T>() {
+                        @Override
+                        public void accept(T t) {
+                            action.accept(t);
+                            downstream.accept(t);
+                        }
+                    };
+                }
+            });
+        }
+
         final List<Iterator<T>> iters = new ArrayList<>(maxThreadNum);
 
         for (int i = 0; i < maxThreadNum; i++) {
@@ -1632,7 +1822,8 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             });
         }
 
-        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size()), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.parallelConcatt(iters, iters.size(), asyncExecutor), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
@@ -1649,17 +1840,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             futureList.add(asyncExecutor.execute(new Runnable() {
                 @Override
                 public void run() {
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             action.accept(next);
                         }
@@ -1845,17 +2031,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public M call() {
                     M map = mapFactory.get();
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             Collectors.merge(map, keyExtractor.apply(next), valueMapper.apply(next), mergeFunction);
                         }
@@ -1923,17 +2104,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                     Map<K, A> map = (Map) mapFactory.get();
                     K key = null;
                     A value = null;
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             key = N.checkArgNotNull(classifier.apply(next), "element cannot be mapped to a null key");
                             value = map.get(key);
@@ -2022,17 +2198,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public M call() {
                     M map = mapFactory.get();
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             map.put(keyExtractor.apply(next), valueMapper.apply(next));
                         }
@@ -2105,17 +2276,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public T call() {
                     T result = identity;
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             result = accumulator.apply(result, next);
                         }
@@ -2163,17 +2329,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public T call() {
                     T result = (T) NONE;
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             result = result == NONE ? next : accumulator.apply(result, next);
                         }
@@ -2225,17 +2386,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public U call() {
                     U result = identity;
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             result = accumulator.apply(result, next);
                         }
@@ -2285,17 +2441,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public R call() {
                     final R container = supplier.get();
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             accumulator.accept(container, next);
                         }
@@ -2349,17 +2500,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
                 @Override
                 public A call() {
                     A container = supplier.get();
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             accumulator.accept(container, next);
                         }
@@ -2444,17 +2590,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             futureList.add(asyncExecutor.execute(new Runnable() {
                 @Override
                 public void run() {
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (result.isFalse() && eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (result.isFalse() && eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             if (predicate.test(next)) {
                                 result.setTrue();
@@ -2487,17 +2628,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             futureList.add(asyncExecutor.execute(new Runnable() {
                 @Override
                 public void run() {
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (result.isTrue() && eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (result.isTrue() && eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             if (predicate.test(next) == false) {
                                 result.setFalse();
@@ -2530,17 +2666,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             futureList.add(asyncExecutor.execute(new Runnable() {
                 @Override
                 public void run() {
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (result.isTrue() && eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (result.isTrue() && eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             if (predicate.test(next)) {
                                 result.setFalse();
@@ -2671,17 +2802,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             futureList.add(asyncExecutor.execute(new Runnable() {
                 @Override
                 public void run() {
+                    final ChunkedIterator<T> iter = workerIterator();
                     T next = null;
 
                     try {
-                        while (resultHolder.value() == NONE && eHolder.value() == null) {
-                            synchronized (elements) {
-                                if (elements.hasNext()) {
-                                    next = elements.next();
-                                } else {
-                                    break;
-                                }
-                            }
+                        while (resultHolder.value() == NONE && eHolder.value() == null && iter.hasNext()) {
+                            next = iter.next();
 
                             if (predicate.test(next)) {
                                 synchronized (resultHolder) {
@@ -2752,45 +2878,47 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
         if (iter instanceof QueuedIterator && ((QueuedIterator<? extends T>) iter).max() >= queueSize) {
             return this;
         } else {
-            return new ParallelIteratorStream<>(Stream.parallelConcatt(Arrays.asList(iter), 1, queueSize), sorted, cmp, maxThreadNum, splitor, closeHandlers);
+            return new ParallelIteratorStream<>(Stream.parallelConcatt(Arrays.asList(iter), 1, queueSize, asyncExecutor), sorted, cmp, maxThreadNum, splitor,
+                    asyncExecutor, closeHandlers);
         }
     }
 
     @Override
     public Stream<T> append(Stream<T> stream) {
-        return new ParallelIteratorStream<>(Stream.concat(this, stream), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.concat(this, stream), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public Stream<T> prepend(Stream<T> stream) {
-        return new ParallelIteratorStream<>(Stream.concat(stream, this), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.concat(stream, this), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public Stream<T> merge(final Stream<? extends T> b, final BiFunction<? super T, ? super T, Nth> nextSelector) {
-        return new ParallelIteratorStream<>(Stream.merge(this, b, nextSelector), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.merge(this, b, nextSelector), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public <T2, R> Stream<R> zipWith(Stream<T2> b, BiFunction<? super T, ? super T2, R> zipFunction) {
-        return new ParallelIteratorStream<>(Stream.zip(this, b, zipFunction), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.zip(this, b, zipFunction), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public <T2, T3, R> Stream<R> zipWith(Stream<T2> b, Stream<T3> c, TriFunction<? super T, ? super T2, ? super T3, R> zipFunction) {
-        return new ParallelIteratorStream<>(Stream.zip(this, b, c, zipFunction), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.zip(this, b, c, zipFunction), false, null, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
     public <T2, R> Stream<R> zipWith(Stream<T2> b, T valueForNoneA, T2 valueForNoneB, BiFunction<? super T, ? super T2, R> zipFunction) {
-        return new ParallelIteratorStream<>(Stream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, null, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(Stream.zip(this, b, valueForNoneA, valueForNoneB, zipFunction), false, null, maxThreadNum, splitor, asyncExecutor,
+                closeHandlers);
     }
 
     @Override
     public <T2, T3, R> Stream<R> zipWith(Stream<T2> b, Stream<T3> c, T valueForNoneA, T2 valueForNoneB, T3 valueForNoneC,
             TriFunction<? super T, ? super T2, ? super T3, R> zipFunction) {
         return new ParallelIteratorStream<>(Stream.zip(this, b, c, valueForNoneA, valueForNoneB, valueForNoneC, zipFunction), false, null, maxThreadNum,
-                splitor, closeHandlers);
+                splitor, asyncExecutor, closeHandlers);
     }
 
     //    @Override
@@ -2873,12 +3001,12 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
     }
 
     @Override
-    public Stream<T> parallel(int maxThreadNum, Splitor splitor) {
-        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor) {
+    public Stream<T> parallel(int maxThreadNum, Splitor splitor, AsyncExecutor asyncExecutor) {
+        if (this.maxThreadNum == checkMaxThreadNum(maxThreadNum) && this.splitor == splitor && this.asyncExecutor == asyncExecutor) {
             return this;
         }
 
-        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -2892,7 +3020,7 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
             return this;
         }
 
-        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -2900,13 +3028,18 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
         return splitor;
     }
 
+    @Override
+    AsyncExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
     @Override
     public Stream<T> splitor(Splitor splitor) {
         if (this.splitor == splitor) {
             return this;
         }
 
-        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, closeHandlers);
+        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, asyncExecutor, closeHandlers);
     }
 
     @Override
@@ -2919,6 +3052,238 @@ final class ParallelIteratorStream<T> extends IteratorStream<T> {
 
         newCloseHandlers.add(closeHandler);
 
-        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, newCloseHandlers);
+        return new ParallelIteratorStream<>(elements, sorted, cmp, maxThreadNum, splitor, asyncExecutor, newCloseHandlers);
+    }
+
+    /**
+     * Returns the iterator used by a worker thread to read the elements: chunk by chunk if the splitor is {@code Splitor.CHUNKED},
+     * otherwise one by one, under the lock of {@code elements}.
+     * 
+     * @return
+     */
+    private ChunkedIterator<T> workerIterator() {
+        return splitor == Splitor.CHUNKED ? new ChunkedIterator<T>(elements) : new ChunkedIterator<T>(elements, 1, 1);
+    }
+
+    /**
+     * Executes the specified stateless stage by {@code maxThreadNum} threads. Each thread reads the elements chunk by chunk, 
+     * and the results of each chunk are passed back to the returned stream as one batch.
+     * <br />
+     * If this stream is the (not started) result of another stateless stage, the specified stage is fused with it,
+     * so the elements are only passed through the queue between the threads once for the whole chain of stateless stages.
+     * 
+     * @param stage
+     * @return
+     */
+    private <R> ParallelIteratorStream<R> chunked(final Stage<? super T, R> stage) {
+        Pipeline<?, R> pipeline = null;
+
+        if (elements instanceof Pipeline) {
+            pipeline = ((Pipeline<?, T>) elements).fuse(stage, maxThreadNum, asyncExecutor);
+        }
+
+        if (pipeline == null) {
+            pipeline = new Pipeline<>(elements, stage, maxThreadNum, asyncExecutor);
+        }
+
+        final Pipeline<?, R> tmp = pipeline;
+        final Set<Runnable> newCloseHandlers = N.isNullOrEmpty(closeHandlers) ? new LocalLinkedHashSet<Runnable>(1)
+                : new LocalLinkedHashSet<Runnable>(closeHandlers);
+
+        newCloseHandlers.add(new Runnable() {
+            @Override
+            public void run() {
+                tmp.close();
+            }
+        });
+
+        return new ParallelIteratorStream<>(pipeline, false, null, maxThreadNum, splitor, asyncExecutor, newCloseHandlers);
+    }
+
+    /**
+     * Returns the specified stream if its elements are the results of a pipeline which is not started yet and it has the same {@code maxThreadNum},
+     * {@code splitor} and {@code asyncExecutor}.
+     * It's used by the parallel primitive streams to keep the boxed stream they're created from, so the following stateless operations can still be fused into the pipeline.
+     * 
+     * @param stream
+     * @param maxThreadNum
+     * @param splitor
+     * @param asyncExecutor
+     * @return {@code null} if the specified stream can't be fused.
+     */
+    static <T> Stream<T> fusible(final Stream<T> stream, final int maxThreadNum, final Splitor splitor, final AsyncExecutor asyncExecutor) {
+        if (stream instanceof ParallelIteratorStream && stream.maxThreadNum() == maxThreadNum && stream.splitor() == splitor) {
+            final ParallelIteratorStream<T> tmp = (ParallelIteratorStream<T>) stream;
+
+            if (tmp.sorted == false && tmp.asyncExecutor == asyncExecutor && tmp.elements instanceof Pipeline && ((Pipeline<?,
+                    T>) tmp.elements).isStarted() == false) {
+                return stream;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * A stateless operation which can be executed chunk by chunk.
+     * 
+     * @param <T>
+     * @param <R>
+     */
+    static abstract class Stage<T, R> {
+        /**
+         * Returns a consumer which pushes the result(s) of each element it accepts to the specified {@code downstream}. 
+         * It's called once by each worker thread.
+         * 
+         * @param downstream
+         * @return
+         */
+        abstract Consumer<T> sink(Consumer<? super R> downstream);
+
+        /**
+         * Returns a stage which executes this stage and then the specified {@code next} stage on each element, in the same thread.
+         * 
+         * @param next
+         * @return
+         */
+        <U> Stage<T, U> andThen(final Stage<? super R, U> next) {
+            final Stage<T, R> prev = this;
+
+            return new Stage<T, U>() {
+                @Override
+                Consumer<T> sink(final Consumer<? super U> downstream) {
+                    return prev.sink(next.sink(downstream));
+                }
+            };
+        }
+    }
+
+    /**
+     * The results of a chain of stateless stages which are executed in one pass by the worker threads.
+     * The worker threads are not started until the results are read, so the following stateless stage can still be fused into it by {@code fuse}.
+     * 
+     * @param <S> the type of the source elements
+     * @param <R> the type of the results
+     */
+    static final class Pipeline<S, R> extends ObjIteratorEx<R> {
+        private final Iterator<S> source;
+        private final Stage<? super S, R> stage;
+        private final int threadNum;
+        private final AsyncExecutor asyncExecutor;
+        private Stream<R> results = null;
+        private Iterator<R> iter = null;
+        private boolean fused = false;
+
+        Pipeline(final Iterator<S> source, final Stage<? super S, R> stage, final int threadNum, final AsyncExecutor asyncExecutor) {
+            this.source = source;
+            this.stage = stage;
+            this.threadNum = threadNum;
+            this.asyncExecutor = asyncExecutor;
+        }
+
+        /**
+         * 
+         * @param next
+         * @param threadNum
+         * @param asyncExecutor
+         * @return a new pipeline which executes this pipeline and then the specified {@code next} stage, 
+         * or {@code null} if this pipeline has been started or fused.
+         */
+        synchronized <U> Pipeline<S, U> fuse(final Stage<? super R, U> next, final int threadNum, final AsyncExecutor asyncExecutor) {
+            if (results != null || fused) {
+                return null;
+            }
+
+            fused = true;
+
+            return new Pipeline<>(source, stage.andThen(next), threadNum, asyncExecutor);
+        }
+
+        synchronized boolean isStarted() {
+            return results != null || fused;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (iter == null) {
+                start();
+            }
+
+            return iter.hasNext();
+        }
+
+        @Override
+        public R next() {
+            if (iter == null) {
+                start();
+            }
+
+            return iter.next();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (results != null) {
+                results.close();
+            }
+        }
+
+        private synchronized void start() {
+            if (fused) {
+                throw new IllegalStateException("The stream has been fused into the downstream operation");
+            } else if (results != null) {
+                return;
+            }
+
+            final List<Iterator<List<R>>> iters = new ArrayList<>(threadNum);
+
+            for (int i = 0; i < threadNum; i++) {
+                iters.add(new ObjIteratorEx<List<R>>() {
+                    private final ChunkedIterator<S> chunkedIter = new ChunkedIterator<>(source);
+                    private List<R> batch = new ArrayList<>();
+                    private boolean hasNext = false;
+
+                    private final Consumer<? super S> sink = stage.sink(new Consumer<R>() {
+                        @Override
+                        public void accept(R r) {
+                            batch.add(r);
+                        }
+                    });
+
+                    @Override
+                    public boolean hasNext() {
+                        if (hasNext == false) {
+                            while (chunkedIter.hasNext()) {
+                                do {
+                                    sink.accept(chunkedIter.next());
+                                } while (chunkedIter.remaining() > 0);
+
+                                if (batch.size() > 0) {
+                                    hasNext = true;
+                                    break;
+                                }
+                            }
+                        }
+
+                        return hasNext;
+                    }
+
+                    @Override
+                    public List<R> next() {
+                        if (hasNext == false && hasNext() == false) {
+                            throw new NoSuchElementException();
+                        }
+
+                        final List<R> result = batch;
+                        batch = new ArrayList<>(result.size());
+                        hasNext = false;
+                        return result;
+                    }
+                });
+            }
+
+            results = Stream.parallelConcatt(iters, iters.size(), asyncExecutor).flattMap(Fn.<List<R>> identity());
+            iter = results.iterator();
+        }
     }
 }
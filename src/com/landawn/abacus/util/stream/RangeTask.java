@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util.stream;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+
+import com.landawn.abacus.util.ForkJoinPools;
+import com.landawn.abacus.util.Holder;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.BinaryOperator;
+
+/**
+ * Fork/join task for <code>Splitor.WORK_STEALING</code>: the range is split in halves recursively until it's not longer than the leaf size,
+ * the leaves are computed by the threads of <code>ForkJoinPools.commonPool()</code> (idle threads steal the forked halves from the busy threads),
+ * and the results of two halves are combined by the thread which forked the right half, after it computes the left half and joins the right one.
+ * So the partial results are combined as a tree in parallel, in the order of the range, instead of one by one in the calling thread.
+ * <br />
+ * The range is split into about <code>maxThreadNum * LEAF_NUM_PER_THREAD</code> leaves. If <code>maxThreadNum</code> is less than the parallelism
+ * of the shared pool, a leaf is computed only after it gets one of the <code>maxThreadNum</code> permits of the call, so no more than
+ * <code>maxThreadNum</code> leaves of one call are computed at the same time. The pool threads waiting for a permit don't take other tasks.
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+final class RangeTask<R> extends RecursiveTask<R> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The range is split into about <code>maxThreadNum * LEAF_NUM_PER_THREAD</code> leaves, so that the threads can steal the leaves
+     * from each other when the cost of the elements is skewed.
+     */
+    static final int LEAF_NUM_PER_THREAD = 8;
+
+    private final int fromIndex;
+    private final int toIndex;
+    private final int leafSize;
+    private final Leaf<R> leaf;
+    private final BinaryOperator<R> combiner;
+
+    /**
+     * {@code null} if the parallelism of the call is not less than the parallelism of the pool.
+     */
+    private final Semaphore permits;
+
+    private RangeTask(final int fromIndex, final int toIndex, final int leafSize, final Leaf<R> leaf, final BinaryOperator<R> combiner,
+            final Semaphore permits) {
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.leafSize = leafSize;
+        this.leaf = leaf;
+        this.combiner = combiner;
+        this.permits = permits;
+    }
+
+    /**
+     *
+     * @param maxThreadNum to decide the number of leaves, and the max number of leaves computed at the same time.
+     * @param fromIndex
+     * @param toIndex must be greater than <code>fromIndex</code>.
+     * @param leaf to compute the result of a sub range. It should stop if the specified <code>eHolder</code> is set by other leaves.
+     * @param combiner to combine the results of the left range and the right range.
+     * @param eHolder the error thrown by the leaves is set to it.
+     * @return
+     */
+    static <R> R invoke(final int maxThreadNum, final int fromIndex, final int toIndex, final Leaf<R> leaf, final BinaryOperator<R> combiner,
+            final Holder<Throwable> eHolder) {
+        final int leafSize = N.max(1, (toIndex - fromIndex) / (maxThreadNum * LEAF_NUM_PER_THREAD));
+        final ForkJoinPool pool = ForkJoinPools.commonPool();
+        final Semaphore permits = maxThreadNum < pool.getParallelism() ? new Semaphore(maxThreadNum) : null;
+
+        try {
+            return pool.invoke(new RangeTask<>(fromIndex, toIndex, leafSize, leaf, combiner, permits));
+        } catch (RuntimeException | Error e) {
+            if (eHolder.value() != null) {
+                throw N.toRuntimeException(eHolder.value());
+            }
+
+            throw e;
+        }
+    }
+
+    @Override
+    protected R compute() {
+        if (toIndex - fromIndex <= leafSize) {
+            if (permits == null) {
+                return leaf.apply(fromIndex, toIndex);
+            }
+
+            // The leaf doesn't fork or join, so the permit is always released.
+            permits.acquireUninterruptibly();
+
+            try {
+                return leaf.apply(fromIndex, toIndex);
+            } finally {
+                permits.release();
+            }
+        }
+
+        final int mid = (fromIndex + toIndex) >>> 1;
+        final RangeTask<R> left = new RangeTask<>(fromIndex, mid, leafSize, leaf, combiner, permits);
+        final RangeTask<R> right = new RangeTask<>(mid, toIndex, leafSize, leaf, combiner, permits);
+
+        right.fork();
+
+        final R leftResult = left.compute();
+
+        return combiner.apply(leftResult, right.join());
+    }
+
+    static interface Leaf<R> {
+        /**
+         *
+         * @param fromIndex
+         * @param toIndex greater than <code>fromIndex</code>.
+         * @return
+         */
+        R apply(int fromIndex, int toIndex);
+    }
+}
@@ -46,7 +46,6 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -89,6 +88,7 @@ import com.landawn.abacus.util.Optional;
 import com.landawn.abacus.util.OptionalDouble;
 import com.landawn.abacus.util.Pair;
 import com.landawn.abacus.util.Percentage;
+import com.landawn.abacus.util.RingBuffer;
 import com.landawn.abacus.util.RowIterator;
 import com.landawn.abacus.util.ShortIterator;
 import com.landawn.abacus.util.StringUtil;
@@ -2091,6 +2091,22 @@ public abstract class Stream<T>
     public abstract long persist(final Connection conn, final String insertSQL, final int batchSize, final int batchInterval,
             final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter);
 
+    /**
+     * 
+     * @param conn
+     * @param insertSQL
+     * @param batchSize the initial batch size if {@code adaptiveBatchSize} is {@code true}.
+     * @param batchInterval
+     * @param adaptiveBatchSize the batch size is adjusted by the observed latency of {@code executeBatch}.
+     * @param multiRowInsert the elements of a batch are inserted by one multi-row insert sql: {@code INSERT ... VALUES (?, ?...), (?, ?...), ...}.
+     * @param stmtSetter
+     * @return
+     * @see com.landawn.abacus.util.JdbcUtil#importData(java.util.Iterator, Connection, String, int, int, boolean, boolean, Try.BiConsumer)
+     */
+    @SequentialOnly
+    public abstract long persist(final Connection conn, final String insertSQL, final int batchSize, final int batchInterval, final boolean adaptiveBatchSize,
+            final boolean multiRowInsert, final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter);
+
     @SequentialOnly
     public abstract long persist(final PreparedStatement stmt, final int batchSize, final int batchInterval,
             final Try.BiConsumer<? super PreparedStatement, ? super T, SQLException> stmtSetter);
@@ -4037,6 +4053,10 @@ public abstract class Stream<T>
         return parallelConcatt(c, readThreadNum, calculateQueueSize(c.size()));
     }
 
+    static <T> Stream<T> parallelConcatt(final Collection<? extends Iterator<? extends T>> c, final int readThreadNum, final AsyncExecutor asyncExecutor) {
+        return parallelConcatt(c, readThreadNum, calculateQueueSize(c.size()), asyncExecutor);
+    }
+
     /**
      * Returns a Stream with elements from a temporary queue which is filled by reading the elements from the specified iterators in parallel.
      * 
@@ -4054,68 +4074,96 @@ public abstract class Stream<T>
      * @return
      */
     public static <T> Stream<T> parallelConcatt(final Collection<? extends Iterator<? extends T>> c, final int readThreadNum, final int queueSize) {
+        return parallelConcatt(c, readThreadNum, queueSize, asyncExecutor);
+    }
+
+    /**
+     * 
+     * @param c
+     * @param readThreadNum
+     * @param queueSize
+     * @param asyncExecutor the executor of the parallel stream which calls it.
+     * @return
+     */
+    static <T> Stream<T> parallelConcatt(final Collection<? extends Iterator<? extends T>> c, final int readThreadNum, final int queueSize,
+            final AsyncExecutor asyncExecutor) {
         if (N.isNullOrEmpty(c)) {
             return Stream.empty();
         }
 
-        final AtomicInteger threadCounter = new AtomicInteger(c.size());
-        final ArrayBlockingQueue<T> queue = new ArrayBlockingQueue<>(queueSize);
+        final int threadNum = Math.min(c.size(), readThreadNum);
+        final AtomicInteger threadCounter = new AtomicInteger(threadNum);
+        final RingBuffer<T> queue = new RingBuffer<>(queueSize);
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
 
         final Iterator<? extends Iterator<? extends T>> iterators = c.iterator();
-        final int threadNum = Math.min(c.size(), readThreadNum);
 
-        for (int i = 0; i < threadNum; i++) {
-            asyncExecutor.execute(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        while (onGoing.value()) {
-                            Iterator<? extends T> iter = null;
+        final Runnable producer = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (onGoing.value()) {
+                        Iterator<? extends T> iter = null;
 
-                            synchronized (iterators) {
-                                if (iterators.hasNext()) {
-                                    iter = iterators.next();
-                                } else {
-                                    break;
-                                }
+                        synchronized (iterators) {
+                            if (iterators.hasNext()) {
+                                iter = iterators.next();
+                            } else {
+                                break;
                             }
+                        }
 
-                            T next = null;
+                        T next = null;
 
-                            while (onGoing.value() && iter.hasNext()) {
-                                next = iter.next();
+                        while (onGoing.value() && iter.hasNext()) {
+                            next = iter.next();
 
-                                if (next == null) {
-                                    next = (T) NONE;
-                                }
+                            if (next == null) {
+                                next = (T) NONE;
+                            }
 
-                                if (queue.offer(next) == false) {
-                                    while (onGoing.value()) {
-                                        if (queue.offer(next, 100, TimeUnit.MILLISECONDS)) {
-                                            break;
-                                        }
+                            if (queue.offer(next) == false) {
+                                while (onGoing.value()) {
+                                    if (queue.offer(next, 100, TimeUnit.MILLISECONDS)) {
+                                        break;
                                     }
                                 }
                             }
                         }
-                    } catch (Throwable e) {
-                        setError(eHolder, e, onGoing);
-                    } finally {
-                        threadCounter.decrementAndGet();
                     }
+                } catch (Throwable e) {
+                    setError(eHolder, e, onGoing);
+                } finally {
+                    threadCounter.decrementAndGet();
                 }
-            });
+            }
+        };
+
+        int producerNum = 0;
+
+        while (producerNum < threadNum && tryExecute(asyncExecutor, N.asList(producer))) {
+            producerNum++;
+        }
+
+        if (producerNum == 0) {
+            // the executor is full. The iterators are read by the consumer.
+            return concatt(c);
         }
 
+        threadCounter.addAndGet(producerNum - threadNum);
+
         return of(new QueuedIterator<T>(queueSize) {
+            // elements are drained from the queue in batch.
+            final Object[] batch = new Object[N.min(queueSize, 64)];
+            int cursor = 0;
+            int size = 0;
             T next = null;
 
             @Override
             public boolean hasNext() {
                 try {
-                    if (next == null && (next = queue.poll()) == null) {
+                    if (next == null && (next = poll()) == null) {
                         while (onGoing.value() && (threadCounter.get() > 0 || queue.size() > 0)) { // (queue.size() > 0 || counter.get() > 0) is wrong. has to check counter first
                             if ((next = queue.poll(1, TimeUnit.MILLISECONDS)) != null) {
                                 break;
@@ -4143,6 +4191,21 @@ public abstract class Stream<T>
                 next = null;
                 return result;
             }
+
+            private T poll() {
+                if (cursor == size) {
+                    cursor = 0;
+                    size = queue.drainTo(batch);
+
+                    if (size == 0) {
+                        return null;
+                    }
+                }
+
+                final T result = (T) batch[cursor];
+                batch[cursor++] = null;
+                return result;
+            }
         }).onClose(new Runnable() {
             @Override
             public void run() {
@@ -7086,12 +7149,14 @@ public abstract class Stream<T>
             final BiFunction<? super A, ? super B, R> zipFunction, final int queueSize) {
         final AtomicInteger threadCounterA = new AtomicInteger(1);
         final AtomicInteger threadCounterB = new AtomicInteger(1);
-        final BlockingQueue<A> queueA = new ArrayBlockingQueue<>(queueSize);
-        final BlockingQueue<B> queueB = new ArrayBlockingQueue<>(queueSize);
+        final BlockingQueue<A> queueA = new RingBuffer<>(queueSize);
+        final BlockingQueue<B> queueB = new RingBuffer<>(queueSize);
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
 
-        readToQueue(a, b, asyncExecutor, threadCounterA, threadCounterB, queueA, queueB, eHolder, onGoing);
+        if (readToQueue(a, b, asyncExecutor, threadCounterA, threadCounterB, queueA, queueB, eHolder, onGoing) == false) {
+            return zip(a, b, zipFunction);
+        }
 
         return of(new QueuedIterator<R>(queueSize) {
             A nextA = null;
@@ -7187,13 +7252,15 @@ public abstract class Stream<T>
         final AtomicInteger threadCounterA = new AtomicInteger(1);
         final AtomicInteger threadCounterB = new AtomicInteger(1);
         final AtomicInteger threadCounterC = new AtomicInteger(1);
-        final BlockingQueue<A> queueA = new ArrayBlockingQueue<>(queueSize);
-        final BlockingQueue<B> queueB = new ArrayBlockingQueue<>(queueSize);
-        final BlockingQueue<C> queueC = new ArrayBlockingQueue<>(queueSize);
+        final BlockingQueue<A> queueA = new RingBuffer<>(queueSize);
+        final BlockingQueue<B> queueB = new RingBuffer<>(queueSize);
+        final BlockingQueue<C> queueC = new RingBuffer<>(queueSize);
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
 
-        readToQueue(a, b, c, asyncExecutor, threadCounterA, threadCounterB, threadCounterC, queueA, queueB, queueC, eHolder, onGoing);
+        if (readToQueue(a, b, c, asyncExecutor, threadCounterA, threadCounterB, threadCounterC, queueA, queueB, queueC, eHolder, onGoing) == false) {
+            return zip(a, b, c, zipFunction);
+        }
 
         return of(new QueuedIterator<R>(queueSize) {
             A nextA = null;
@@ -7429,11 +7496,13 @@ public abstract class Stream<T>
 
         final int len = c.size();
         final AtomicInteger[] counters = new AtomicInteger[len];
-        final BlockingQueue<Object>[] queues = new ArrayBlockingQueue[len];
+        final BlockingQueue<Object>[] queues = new RingBuffer[len];
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
 
-        readToQueue(c, queueSize, asyncExecutor, counters, queues, eHolder, onGoing);
+        if (readToQueue(c, queueSize, asyncExecutor, counters, queues, eHolder, onGoing) == false) {
+            return zipp(c, zipFunction);
+        }
 
         return of(new QueuedIterator<R>(queueSize) {
             Object[] next = null;
@@ -7732,12 +7801,14 @@ public abstract class Stream<T>
             final BiFunction<? super A, ? super B, R> zipFunction, final int queueSize) {
         final AtomicInteger threadCounterA = new AtomicInteger(1);
         final AtomicInteger threadCounterB = new AtomicInteger(1);
-        final BlockingQueue<A> queueA = new ArrayBlockingQueue<>(queueSize);
-        final BlockingQueue<B> queueB = new ArrayBlockingQueue<>(queueSize);
+        final BlockingQueue<A> queueA = new RingBuffer<>(queueSize);
+        final BlockingQueue<B> queueB = new RingBuffer<>(queueSize);
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
 
-        readToQueue(a, b, asyncExecutor, threadCounterA, threadCounterB, queueA, queueB, eHolder, onGoing);
+        if (readToQueue(a, b, asyncExecutor, threadCounterA, threadCounterB, queueA, queueB, eHolder, onGoing) == false) {
+            return zip(a, b, valueForNoneA, valueForNoneB, zipFunction);
+        }
 
         return of(new QueuedIterator<R>(queueSize) {
             A nextA = null;
@@ -7850,13 +7921,15 @@ public abstract class Stream<T>
         final AtomicInteger threadCounterA = new AtomicInteger(1);
         final AtomicInteger threadCounterB = new AtomicInteger(1);
         final AtomicInteger threadCounterC = new AtomicInteger(1);
-        final BlockingQueue<A> queueA = new ArrayBlockingQueue<>(queueSize);
-        final BlockingQueue<B> queueB = new ArrayBlockingQueue<>(queueSize);
-        final BlockingQueue<C> queueC = new ArrayBlockingQueue<>(queueSize);
+        final BlockingQueue<A> queueA = new RingBuffer<>(queueSize);
+        final BlockingQueue<B> queueB = new RingBuffer<>(queueSize);
+        final BlockingQueue<C> queueC = new RingBuffer<>(queueSize);
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
 
-        readToQueue(a, b, c, asyncExecutor, threadCounterA, threadCounterB, threadCounterC, queueA, queueB, queueC, eHolder, onGoing);
+        if (readToQueue(a, b, c, asyncExecutor, threadCounterA, threadCounterB, threadCounterC, queueA, queueB, queueC, eHolder, onGoing) == false) {
+            return zip(a, b, c, valueForNoneA, valueForNoneB, valueForNoneC, zipFunction);
+        }
 
         return of(new QueuedIterator<R>(queueSize) {
             A nextA = null;
@@ -8123,9 +8196,11 @@ public abstract class Stream<T>
         final Holder<Throwable> eHolder = new Holder<>();
         final MutableBoolean onGoing = MutableBoolean.of(true);
         final AtomicInteger[] counters = new AtomicInteger[len];
-        final BlockingQueue<Object>[] queues = new ArrayBlockingQueue[len];
+        final BlockingQueue<Object>[] queues = new RingBuffer[len];
 
-        readToQueue(c, queueSize, asyncExecutor, counters, queues, eHolder, onGoing);
+        if (readToQueue(c, queueSize, asyncExecutor, counters, queues, eHolder, onGoing) == false) {
+            return zipp(c, valuesForNone, zipFunction);
+        }
 
         return of(new QueuedIterator<R>(queueSize) {
             Object[] next = null;
@@ -8607,10 +8682,12 @@ public abstract class Stream<T>
                 nextSelector);
     }
 
-    private static <B, A> void readToQueue(final Iterator<? extends A> a, final Iterator<? extends B> b, final AsyncExecutor asyncExecutor,
+    private static <B, A> boolean readToQueue(final Iterator<? extends A> a, final Iterator<? extends B> b, final AsyncExecutor asyncExecutor,
             final AtomicInteger threadCounterA, final AtomicInteger threadCounterB, final BlockingQueue<A> queueA, final BlockingQueue<B> queueB,
             final Holder<Throwable> eHolder, final MutableBoolean onGoing) {
-        asyncExecutor.execute(new Runnable() {
+        final List<Runnable> producers = new ArrayList<>();
+
+        producers.add(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -8635,7 +8712,7 @@ public abstract class Stream<T>
             }
         });
 
-        asyncExecutor.execute(new Runnable() {
+        producers.add(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -8659,13 +8736,17 @@ public abstract class Stream<T>
                 }
             }
         });
+
+        return tryExecute(asyncExecutor, producers);
     }
 
-    private static <B, C, A> void readToQueue(final Iterator<? extends A> a, final Iterator<? extends B> b, final Iterator<? extends C> c,
+    private static <B, C, A> boolean readToQueue(final Iterator<? extends A> a, final Iterator<? extends B> b, final Iterator<? extends C> c,
             final AsyncExecutor asyncExecutor, final AtomicInteger threadCounterA, final AtomicInteger threadCounterB, final AtomicInteger threadCounterC,
             final BlockingQueue<A> queueA, final BlockingQueue<B> queueB, final BlockingQueue<C> queueC, final Holder<Throwable> eHolder,
             final MutableBoolean onGoing) {
-        asyncExecutor.execute(new Runnable() {
+        final List<Runnable> producers = new ArrayList<>();
+
+        producers.add(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -8690,7 +8771,7 @@ public abstract class Stream<T>
             }
         });
 
-        asyncExecutor.execute(new Runnable() {
+        producers.add(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -8715,7 +8796,7 @@ public abstract class Stream<T>
             }
         });
 
-        asyncExecutor.execute(new Runnable() {
+        producers.add(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -8739,21 +8820,25 @@ public abstract class Stream<T>
                 }
             }
         });
+
+        return tryExecute(asyncExecutor, producers);
     }
 
-    private static void readToQueue(final Collection<? extends Iterator<?>> c, final int queueSize, final AsyncExecutor asyncExecutor,
+    private static boolean readToQueue(final Collection<? extends Iterator<?>> c, final int queueSize, final AsyncExecutor asyncExecutor,
             final AtomicInteger[] counters, final BlockingQueue<Object>[] queues, final Holder<Throwable> eHolder, final MutableBoolean onGoing) {
+        final List<Runnable> producers = new ArrayList<>();
+
         int idx = 0;
 
         for (Iterator<?> e : c) {
             counters[idx] = new AtomicInteger(1);
-            queues[idx] = new ArrayBlockingQueue<>(queueSize);
+            queues[idx] = new RingBuffer<>(queueSize);
 
             final Iterator<?> iter = e;
             final AtomicInteger count = counters[idx];
             final BlockingQueue<Object> queue = queues[idx];
 
-            asyncExecutor.execute(new Runnable() {
+            producers.add(new Runnable() {
                 @Override
                 public void run() {
                     try {
@@ -8780,6 +8865,8 @@ public abstract class Stream<T>
 
             idx++;
         }
+
+        return tryExecute(asyncExecutor, producers);
     }
 
     public static abstract class StreamEx<T> extends Stream<T> {
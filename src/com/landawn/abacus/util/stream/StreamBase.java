@@ -25,11 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import com.landawn.abacus.logging.Logger;
 import com.landawn.abacus.logging.LoggerFactory;
@@ -90,12 +86,9 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     static final Object NONE = new Object();
 
-    // public static final int MAX_THREAD_POOL_SIZE = 8192;
-    static final int MAX_THREAD_POOL_SIZE = Integer.MAX_VALUE;
+    static final int MAX_THREAD_POOL_SIZE = Integer.getInteger("abacus.stream.maxThreadPoolSize", 8192);
     static final int MAX_THREAD_NUM_PER_OPERATION = 1024;
 
-    static final int CORE_THREAD_POOL_SIZE = 64;
-
     static final int DEFAULT_MAX_THREAD_NUM = IOUtil.CPU_CORES;
     static final int DEFAULT_READING_THREAD_NUM = 8;
 
@@ -249,32 +242,11 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
         clsNum.put(FloatList.class, idx++);
         clsNum.put(DoubleList.class, idx++); // 15
     }
-    static final AsyncExecutor asyncExecutor;
-
-    static {
-        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(CORE_THREAD_POOL_SIZE, MAX_THREAD_POOL_SIZE, 0L, TimeUnit.SECONDS,
-                new LinkedBlockingQueue<Runnable>(1));
-
-        asyncExecutor = new AsyncExecutor(threadPoolExecutor) {
-            @Override
-            public CompletableFuture<Void> execute(final Runnable command) {
-                //    if (threadPoolExecutor.getActiveCount() >= MAX_THREAD_POOL_SIZE) {
-                //        throw new RejectedExecutionException("Task is rejected due to exceed max thread pool size: " + MAX_THREAD_POOL_SIZE);
-                //    }
-
-                return super.execute(command);
-            }
-
-            @Override
-            public <T> CompletableFuture<T> execute(final Callable<T> command) {
-                //    if (threadPoolExecutor.getActiveCount() >= MAX_THREAD_POOL_SIZE) {
-                //        throw new RejectedExecutionException("Task is rejected due to exceed max thread pool size: " + MAX_THREAD_POOL_SIZE);
-                //    }
-
-                return super.execute(command);
-            }
-        };
-    }
+    /**
+     * The executor used by the parallel streams by default. It's set by {@code StreamExecutor.setDefault}.
+     * In parallel streams, it's hidden by the executor of the stream.
+     */
+    static volatile AsyncExecutor asyncExecutor = StreamExecutor.createDefault(MAX_THREAD_POOL_SIZE);
     @SuppressWarnings("rawtypes")
     static final BinaryOperator reducingCombiner = new BinaryOperator() {
         @Override
@@ -665,6 +637,24 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
         return parallel(DEFAULT_MAX_THREAD_NUM, splitor);
     }
 
+    @Override
+    public S parallel(int maxThreadNum, Splitor splitor) {
+        return parallel(maxThreadNum, splitor, asyncExecutor());
+    }
+
+    @Override
+    public S parallel(int maxThreadNum, AsyncExecutor asyncExecutor) {
+        return parallel(maxThreadNum, splitor(), asyncExecutor);
+    }
+
+    /**
+     * 
+     * @return the executor of this stream if it's parallel, otherwise the default executor.
+     */
+    AsyncExecutor asyncExecutor() {
+        return asyncExecutor;
+    }
+
     @Override
     public int maxThreadNum() {
         // throw new UnsupportedOperationException();
@@ -766,7 +756,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected CharStream newStream(final char[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayCharStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayCharStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayCharStream(a, sorted, closeHandlers);
         }
@@ -774,7 +764,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected CharStream newStream(final char[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayCharStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayCharStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayCharStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -782,7 +772,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected CharStream newStream(final CharIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorCharStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorCharStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorCharStream(iter, sorted, closeHandlers);
         }
@@ -790,7 +780,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected ByteStream newStream(final byte[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayByteStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayByteStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayByteStream(a, sorted, closeHandlers);
         }
@@ -798,7 +788,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected ByteStream newStream(final byte[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayByteStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayByteStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayByteStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -806,7 +796,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected ByteStream newStream(final ByteIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorByteStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorByteStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorByteStream(iter, sorted, closeHandlers);
         }
@@ -814,7 +804,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected ShortStream newStream(final short[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayShortStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayShortStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayShortStream(a, sorted, closeHandlers);
         }
@@ -822,7 +812,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected ShortStream newStream(final short[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayShortStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayShortStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayShortStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -830,7 +820,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected ShortStream newStream(final ShortIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorShortStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorShortStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorShortStream(iter, sorted, closeHandlers);
         }
@@ -838,7 +828,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected IntStream newStream(final int[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayIntStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayIntStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayIntStream(a, sorted, closeHandlers);
         }
@@ -846,7 +836,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected IntStream newStream(final int[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayIntStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayIntStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayIntStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -854,7 +844,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected IntStream newStream(final IntIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorIntStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorIntStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorIntStream(iter, sorted, closeHandlers);
         }
@@ -862,7 +852,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected LongStream newStream(final long[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayLongStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayLongStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayLongStream(a, sorted, closeHandlers);
         }
@@ -870,7 +860,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected LongStream newStream(final long[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayLongStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayLongStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayLongStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -878,7 +868,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected LongStream newStream(final LongIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorLongStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorLongStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorLongStream(iter, sorted, closeHandlers);
         }
@@ -886,7 +876,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected FloatStream newStream(final float[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayFloatStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayFloatStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayFloatStream(a, sorted, closeHandlers);
         }
@@ -894,7 +884,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected FloatStream newStream(final float[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayFloatStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayFloatStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayFloatStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -902,7 +892,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected FloatStream newStream(final FloatIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorFloatStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorFloatStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorFloatStream(iter, sorted, closeHandlers);
         }
@@ -910,7 +900,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected DoubleStream newStream(final double[] a, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayDoubleStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayDoubleStream(a, 0, a.length, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayDoubleStream(a, sorted, closeHandlers);
         }
@@ -918,7 +908,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected DoubleStream newStream(final double[] a, final int fromIndex, final int toIndex, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelArrayDoubleStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayDoubleStream(a, fromIndex, toIndex, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new ArrayDoubleStream(a, fromIndex, toIndex, sorted, closeHandlers);
         }
@@ -926,7 +916,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected DoubleStream newStream(final DoubleIterator iter, final boolean sorted) {
         if (this.isParallel()) {
-            return new ParallelIteratorDoubleStream(iter, sorted, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorDoubleStream(iter, sorted, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorDoubleStream(iter, sorted, closeHandlers);
         }
@@ -938,7 +928,8 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected <E> Stream<E> newStream(final E[] a, final int fromIndex, final int toIndex, final boolean sorted, final Comparator<? super E> comparator) {
         if (this.isParallel()) {
-            return new ParallelArrayStream<>(a, fromIndex, toIndex, sorted, comparator, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelArrayStream<>(a, fromIndex, toIndex, sorted, comparator, this.maxThreadNum(), this.splitor(), this.asyncExecutor(),
+                    closeHandlers);
         } else {
             return new ArrayStream<>(a, fromIndex, toIndex, sorted, comparator, closeHandlers);
         }
@@ -946,7 +937,7 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
 
     protected <E> Stream<E> newStream(final Iterator<E> iter, final boolean sorted, final Comparator<? super E> comparator) {
         if (this.isParallel()) {
-            return new ParallelIteratorStream<>(iter, sorted, comparator, this.maxThreadNum(), this.splitor(), closeHandlers);
+            return new ParallelIteratorStream<>(iter, sorted, comparator, this.maxThreadNum(), this.splitor(), this.asyncExecutor(), closeHandlers);
         } else {
             return new IteratorStream<>(iter, sorted, comparator, closeHandlers);
         }
@@ -1058,6 +1049,27 @@ abstract class StreamBase<T, A, P, C, PL, OT, IT, ITER, S extends StreamBase<T,
         }
     }
 
+    /**
+     * Submits the tasks which read the elements into a queue drained by the caller, all or none of them.
+     * They can't be executed by the calling thread, which would fill the queue before it's drained,
+     * or wait for the executor, which may be full of the tasks of the upstream waiting for the caller to drain their queue.
+     *
+     * @param asyncExecutor
+     * @param producers
+     * @return {@code false} if none of them is submitted because the executor is full. The elements should be read by the caller directly.
+     */
+    static boolean tryExecute(final AsyncExecutor asyncExecutor, final List<? extends Runnable> producers) {
+        if (asyncExecutor instanceof StreamExecutor) {
+            return ((StreamExecutor) asyncExecutor).tryExecute(producers);
+        }
+
+        for (Runnable producer : producers) {
+            asyncExecutor.execute(producer);
+        }
+
+        return true;
+    }
+
     static int checkMaxThreadNum(int maxThreadNum) {
         //    if (maxThreadNum < 1 || maxThreadNum > MAX_THREAD_NUM_PER_OPERATION) {
         //        throw new IllegalArgumentException("'maxThreadNum' must not less than 1 or exceeded: " + MAX_THREAD_NUM_PER_OPERATION);
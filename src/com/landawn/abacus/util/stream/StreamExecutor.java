@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2015, Haiyang Li.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.landawn.abacus.util.stream;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.landawn.abacus.util.AsyncExecutor;
+import com.landawn.abacus.util.N;
+
+/**
+ * The executor for the tasks of parallel streams, with back-pressure and metrics.
+ * At most {@code maxTaskNum} tasks can be submitted and not completed at the same time, instead of creating more threads or queuing the tasks without limit.
+ * <ul>
+ * <li>The tasks of the terminal operations, which the caller waits for, are executed by the calling thread when the executor is full.
+ * So the caller slows down until the executor catches up. If {@code rejectWhenFull} is {@code true}, they're rejected by
+ * {@code RejectedExecutionException} instead, which is thrown by the operation of the parallel stream.</li>
+ * <li>The tasks which read the elements into a queue for the next stage (e.g. {@code map/filter} of a parallel stream, {@code Stream.parallelZip})
+ * are never executed by the calling thread, because the queue is drained after they're submitted. When the executor is full, fewer or none of them
+ * are submitted, and the elements are read by the next stage directly.</li>
+ * </ul>
+ * The submitted tasks must be started without waiting for other tasks to complete, because the tasks which fill a queue wait for the tasks which drain it.
+ * So {@code maxTaskNum} must not be greater than the number of threads of the executor service.
+ * <br />
+ * The executor used by all the parallel streams by default is set by {@link #setDefault(AsyncExecutor)}. It's a thread pool with at most
+ * {@code 8192} threads (system property {@code abacus.stream.maxThreadPoolSize}), or virtual threads if system property {@code abacus.stream.virtualThreads}
+ * is {@code true} and they're supported by the JVM. A parallel stream can be executed by other executors by {@link BaseStream#parallel(int, AsyncExecutor)}.
+ *
+ * <pre>
+ * <code>
+ * final StreamExecutor executor = StreamExecutor.of(Executors.newFixedThreadPool(16), 16);
+ * stream.parallel(16, executor).map(...).toList();
+ * logger.info("active: " + executor.activeCount() + ", queued: " + executor.queuedCount() + ", rejected: " + executor.rejectedCount());
+ * </code>
+ * </pre>
+ *
+ * @since 1.2.17
+ *
+ * @author Haiyang Li
+ */
+public final class StreamExecutor extends AsyncExecutor {
+    private final MeteredExecutorService executorService;
+
+    private StreamExecutor(final MeteredExecutorService executorService) {
+        super(executorService);
+
+        this.executorService = executorService;
+    }
+
+    /**
+     *
+     * @param executorService
+     * @return
+     */
+    public static StreamExecutor of(final ExecutorService executorService) {
+        return of(executorService, Integer.MAX_VALUE);
+    }
+
+    /**
+     *
+     * @param executorService
+     * @param maxTaskNum the max number of tasks submitted and not completed. It must not be greater than the number of threads of the executor service.
+     * @return
+     */
+    public static StreamExecutor of(final ExecutorService executorService, final int maxTaskNum) {
+        return of(executorService, maxTaskNum, false);
+    }
+
+    /**
+     *
+     * @param executorService
+     * @param maxTaskNum the max number of tasks submitted and not completed. It must not be greater than the number of threads of the executor service.
+     * @param rejectWhenFull if {@code true}, more tasks of terminal operations are rejected by {@code RejectedExecutionException}.
+     *            Otherwise they're executed by the thread which submits them.
+     * @return
+     */
+    public static StreamExecutor of(final ExecutorService executorService, final int maxTaskNum, final boolean rejectWhenFull) {
+        N.checkArgNotNull(executorService, "executorService");
+        N.checkArgument(maxTaskNum > 0, "'maxTaskNum'=%s must be greater than 0", maxTaskNum);
+
+        return new StreamExecutor(new MeteredExecutorService(executorService, maxTaskNum, rejectWhenFull));
+    }
+
+    /**
+     * A thread pool which creates at most {@code maxThreadNum} threads, one for each task submitted and not completed.
+     * The threads are created when they're needed and terminated after they're idle for 180 seconds.
+     *
+     * @param maxThreadNum
+     * @return
+     */
+    public static StreamExecutor newThreadPool(final int maxThreadNum) {
+        N.checkArgument(maxThreadNum > 0, "'maxThreadNum'=%s must be greater than 0", maxThreadNum);
+
+        // A task is only queued when all the threads are created and one of them is completing its task, so it's started without waiting.
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxThreadNum, maxThreadNum, 180L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+        return of(threadPoolExecutor, maxThreadNum);
+    }
+
+    /**
+     * Each task is executed by a new virtual thread.
+     *
+     * @param maxTaskNum the max number of tasks submitted and not completed.
+     * @return
+     * @throws UnsupportedOperationException if virtual threads are not supported by the JVM.
+     * @see #isVirtualThreadSupported()
+     */
+    public static StreamExecutor newVirtualThreadExecutor(final int maxTaskNum) {
+        final ExecutorService executorService = newVirtualThreadPerTaskExecutor();
+
+        if (executorService == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by the JVM: " + System.getProperty("java.version"));
+        }
+
+        return of(executorService, maxTaskNum);
+    }
+
+    /**
+     *
+     * @return {@code true} if virtual threads are supported by the JVM (Java 21+).
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (Exception e) {
+            throw N.toRuntimeException(e);
+        }
+    }
+
+    static AsyncExecutor createDefault(final int maxThreadNum) {
+        if (Boolean.parseBoolean(System.getProperty("abacus.stream.virtualThreads")) && isVirtualThreadSupported()) {
+            return newVirtualThreadExecutor(maxThreadNum);
+        }
+
+        return newThreadPool(maxThreadNum);
+    }
+
+    /**
+     *
+     * @return the executor used by parallel streams by default.
+     */
+    public static AsyncExecutor getDefault() {
+        return StreamBase.asyncExecutor;
+    }
+
+    /**
+     * Sets the executor used by the parallel streams created after this call, by default.
+     *
+     * @param asyncExecutor
+     */
+    public static void setDefault(final AsyncExecutor asyncExecutor) {
+        N.checkArgNotNull(asyncExecutor, "asyncExecutor");
+
+        StreamBase.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Submits the specified tasks if the executor can take all of them, otherwise none of them is submitted.
+     * They're never executed by the calling thread or rejected because the executor is full.
+     *
+     * @param commands
+     * @return {@code false} if the executor is full.
+     */
+    boolean tryExecute(final Collection<? extends Runnable> commands) {
+        return executorService.tryExecute(commands);
+    }
+
+    /**
+     *
+     * @return the number of tasks being executed.
+     */
+    public int activeCount() {
+        return executorService.activeCount.get();
+    }
+
+    /**
+     *
+     * @return the number of tasks submitted and not started yet.
+     */
+    public int queuedCount() {
+        return executorService.queuedCount.get();
+    }
+
+    /**
+     *
+     * @return the number of tasks completed, including the ones completed with exception.
+     */
+    public long completedCount() {
+        return executorService.completedCount.get();
+    }
+
+    /**
+     *
+     * @return the number of tasks of terminal operations executed by the threads which submit them because the executor is full.
+     */
+    public long callerRunCount() {
+        return executorService.callerRunCount.get();
+    }
+
+    /**
+     *
+     * @return the number of tasks rejected.
+     */
+    public long rejectedCount() {
+        return executorService.rejectedCount.get();
+    }
+
+    /**
+     *
+     * @return the max number of tasks submitted and not completed.
+     */
+    public int maxTaskNum() {
+        return executorService.maxTaskNum;
+    }
+
+    @Override
+    public String toString() {
+        return "{activeCount=" + activeCount() + ", queuedCount=" + queuedCount() + ", completedCount=" + completedCount() + ", callerRunCount="
+                + callerRunCount() + ", rejectedCount=" + rejectedCount() + ", maxTaskNum=" + maxTaskNum() + "}";
+    }
+
+    /**
+     * Counts the tasks executed by the target executor service. A task holds one of the {@code maxTaskNum} permits from it's submitted until it's completed.
+     * The tasks submitted by {@code execute} when there is no permit are executed by the thread which submits them,
+     * or rejected if {@code rejectWhenFull} is {@code true}.
+     * The permits of the tasks dropped by {@code shutdownNow} are released there.
+     */
+    private static final class MeteredExecutorService extends AbstractExecutorService {
+        private final ExecutorService executorService;
+        private final int maxTaskNum;
+        private final boolean rejectWhenFull;
+        private final Semaphore permits;
+        private final AtomicInteger activeCount = new AtomicInteger();
+        private final AtomicInteger queuedCount = new AtomicInteger();
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong callerRunCount = new AtomicLong();
+        private final AtomicLong rejectedCount = new AtomicLong();
+
+        MeteredExecutorService(final ExecutorService executorService, final int maxTaskNum, final boolean rejectWhenFull) {
+            this.executorService = executorService;
+            this.maxTaskNum = maxTaskNum;
+            this.rejectWhenFull = rejectWhenFull;
+            this.permits = new Semaphore(maxTaskNum);
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            if (permits.tryAcquire()) {
+                executeWithPermit(command);
+            } else if (rejectWhenFull) {
+                rejectedCount.incrementAndGet();
+                throw new RejectedExecutionException("Task is rejected due to exceed max task number: " + maxTaskNum);
+            } else {
+                callerRunCount.incrementAndGet();
+                run(command);
+            }
+        }
+
+        boolean tryExecute(final Collection<? extends Runnable> commands) {
+            if (permits.tryAcquire(commands.size()) == false) {
+                return false;
+            }
+
+            int submitted = 0;
+
+            try {
+                for (Runnable command : commands) {
+                    submitted++;
+                    executeWithPermit(command);
+                }
+            } finally {
+                if (submitted < commands.size()) {
+                    permits.release(commands.size() - submitted);
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * The permit is acquired by the caller, and released if the task is rejected by the target executor service.
+         */
+        private void executeWithPermit(final Runnable command) {
+            queuedCount.incrementAndGet();
+
+            try {
+                executorService.execute(new MeteredTask(command));
+            } catch (RejectedExecutionException e) {
+                queuedCount.decrementAndGet();
+                permits.release();
+                rejectedCount.incrementAndGet();
+
+                throw e;
+            }
+        }
+
+        private void run(final Runnable command) {
+            activeCount.incrementAndGet();
+
+            try {
+                command.run();
+            } finally {
+                activeCount.decrementAndGet();
+                completedCount.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            executorService.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            final List<Runnable> droppedTasks = executorService.shutdownNow();
+            final List<Runnable> result = new ArrayList<>(droppedTasks.size());
+
+            for (Runnable task : droppedTasks) {
+                if (task instanceof MeteredTask) {
+                    queuedCount.decrementAndGet();
+                    permits.release();
+                    result.add(((MeteredTask) task).command);
+                } else {
+                    result.add(task);
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executorService.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executorService.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+            return executorService.awaitTermination(timeout, unit);
+        }
+
+        private final class MeteredTask implements Runnable {
+            private final Runnable command;
+
+            MeteredTask(final Runnable command) {
+                this.command = command;
+            }
+
+            @Override
+            public void run() {
+                queuedCount.decrementAndGet();
+
+                try {
+                    MeteredExecutorService.this.run(command);
+                } finally {
+                    permits.release();
+                }
+            }
+        }
+    }
+}